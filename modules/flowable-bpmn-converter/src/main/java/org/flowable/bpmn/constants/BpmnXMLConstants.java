@@ -61,6 +61,7 @@ public interface BpmnXMLConstants {
     public static final String ELEMENT_PROCESS = "process";
     public static final String ATTRIBUTE_PROCESS_EXECUTABLE = "isExecutable";
     public static final String ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING = "isEagerExecutionFetching";
+    public static final String ATTRIBUTE_PROCESS_EAGER_VARIABLE_FETCHING = "isEagerVariableFetching";
     public static final String ELEMENT_POTENTIAL_STARTER = "potentialStarter";
     public static final String ATTRIBUTE_PROCESS_CANDIDATE_USERS = "candidateStarterUsers";
     public static final String ATTRIBUTE_PROCESS_CANDIDATE_GROUPS = "candidateStarterGroups";
@@ -111,6 +112,7 @@ public interface BpmnXMLConstants {
     public static final String ATTRIBUTE_ACTIVITY_EXCLUSIVE = "exclusive";
     public static final String ATTRIBUTE_ACTIVITY_ISFORCOMPENSATION = "isForCompensation";
     public static final String ATTRIBUTE_ACTIVITY_TRIGGERABLE = "triggerable";
+    public static final String ATTRIBUTE_ACTIVITY_JOB_PRIORITY = "jobPriority";
 
     public static final String ELEMENT_IMPORT = "import";
     public static final String ATTRIBUTE_IMPORT_TYPE = "importType";
@@ -72,6 +72,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
     protected static final List<ExtensionAttribute> defaultActivityAttributes = Arrays.asList(
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_ASYNCHRONOUS),
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_EXCLUSIVE),
+            new ExtensionAttribute(ATTRIBUTE_ACTIVITY_JOB_PRIORITY),
             new ExtensionAttribute(ATTRIBUTE_DEFAULT),
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_ISFORCOMPENSATION));
 
@@ -82,6 +83,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
         boolean async = parseAsync(xtr);
         boolean triggerable = parseTriggerable(xtr);
         boolean notExclusive = parseNotExclusive(xtr);
+        String jobPriority = BpmnXMLUtil.getAttributeValue(ATTRIBUTE_ACTIVITY_JOB_PRIORITY, xtr);
         String defaultFlow = xtr.getAttributeValue(null, ATTRIBUTE_DEFAULT);
         boolean isForCompensation = parseForCompensation(xtr);
 
@@ -109,6 +111,9 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
                 FlowNode flowNode = (FlowNode) currentFlowElement;
                 flowNode.setAsynchronous(async);
                 flowNode.setNotExclusive(notExclusive);
+                if (StringUtils.isNotEmpty(jobPriority)) {
+                    flowNode.setJobPriority(jobPriority);
+                }
 
                 if (currentFlowElement instanceof Activity) {
 
@@ -168,6 +173,9 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
                     writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_EXCLUSIVE, ATTRIBUTE_VALUE_FALSE, xtw);
                 }
             }
+            if (StringUtils.isNotEmpty(flowNode.getJobPriority())) {
+                writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_JOB_PRIORITY, flowNode.getJobPriority(), xtw);
+            }
 
             if (baseElement instanceof Activity) {
                 final Activity activity = (Activity) baseElement;
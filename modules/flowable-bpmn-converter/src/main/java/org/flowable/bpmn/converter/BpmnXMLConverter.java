@@ -17,11 +17,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -110,6 +112,9 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    protected static final Map<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+    protected static volatile XMLInputFactory xmlInputFactory;
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -224,27 +229,57 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+            xsdUrl = classloader.getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+        if (xsdUrl == null) {
+            xsdUrl = BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new XMLException("BPMN XSD could not be found");
         }
+        return getOrCompileSchema(xsdUrl);
+    }
+
+    /**
+     * Compiled schemas are immutable and thread-safe, so they are compiled once per XSD location and shared by all converter instances.
+     */
+    protected static Schema getOrCompileSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = SCHEMA_CACHE.get(schemaKey);
+        if (schema == null) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = SCHEMA_CACHE.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
-        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    /**
+     * Returns the shared {@link XMLInputFactory}, created and configured (no external entities or DTDs) when first needed.
+     * The factory is not changed afterwards, so it can be used to create stream readers from multiple threads.
+     */
+    protected static XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            synchronized (BpmnXMLConverter.class) {
+                xif = xmlInputFactory;
+                if (xif == null) {
+                    xif = createXmlInputFactory();
+                    xmlInputFactory = xif;
+                }
+            }
+        }
+        return xif;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+    protected static XMLInputFactory createXmlInputFactory() {
         XMLInputFactory xif = XMLInputFactory.newInstance();
 
         if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
@@ -258,6 +293,15 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
             xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         }
+        return xif;
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
+        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
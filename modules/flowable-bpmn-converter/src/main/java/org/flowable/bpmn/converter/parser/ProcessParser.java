@@ -56,6 +56,11 @@ public class ProcessParser implements BpmnXMLConstants {
                 process.setEnableEagerExecutionTreeFetching(
                         Boolean.parseBoolean(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING, xtr)));
             }
+
+            if (StringUtils.isNotEmpty(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_EAGER_VARIABLE_FETCHING, xtr))) {
+                process.setEnableEagerVariableFetching(
+                        Boolean.parseBoolean(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_EAGER_VARIABLE_FETCHING, xtr)));
+            }
             
             BpmnXMLUtil.addCustomAttributes(xtr, process, ProcessExport.defaultProcessAttributes);
 
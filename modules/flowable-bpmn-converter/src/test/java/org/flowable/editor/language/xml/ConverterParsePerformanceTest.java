@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.io.InputStreamSource;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks that the compiled BPMN schema and the XML input factory are shared between conversions and logs the average parse time per model,
+ * which is dominated by schema compilation when the schema isn't cached.
+ */
+public class ConverterParsePerformanceTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConverterParsePerformanceTest.class);
+
+    protected static final List<String> MODELS = Arrays.asList("completemodel.bpmn", "callactivity.bpmn", "subprocessmodel.bpmn", "usertaskmodel.bpmn");
+    protected static final int ITERATIONS = 25;
+
+    @Test
+    public void testSchemaIsCompiledOnce() throws Exception {
+        TestBpmnXMLConverter converter = new TestBpmnXMLConverter();
+        Schema schema = converter.getSchema();
+        assertNotNull(schema);
+        assertSame(schema, converter.getSchema());
+        assertSame(schema, new TestBpmnXMLConverter().getSchema());
+    }
+
+    @Test
+    public void testParseTimePerModel() throws Exception {
+        // Warm up
+        for (String model : MODELS) {
+            parse(model);
+        }
+
+        for (String model : MODELS) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertNotNull(parse(model));
+            }
+            long averageMicros = (System.nanoTime() - start) / ITERATIONS / 1000;
+            LOGGER.info("Parsing and validating {} took {} microseconds on average over {} iterations", model, averageMicros, ITERATIONS);
+        }
+    }
+
+    @Test
+    public void testConcurrentParsing() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BpmnModel>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String model = MODELS.get(i % MODELS.size());
+                futures.add(executorService.submit(() -> parse(model)));
+            }
+
+            for (Future<BpmnModel> future : futures) {
+                BpmnModel bpmnModel = future.get();
+                assertNotNull(bpmnModel);
+                assertFalse(bpmnModel.getProcesses().isEmpty());
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected BpmnModel parse(String resource) throws Exception {
+        try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(resource)) {
+            return new BpmnXMLConverter().convertToBpmnModel(new InputStreamSource(inputStream), true, false, "UTF-8");
+        }
+    }
+
+    protected static class TestBpmnXMLConverter extends BpmnXMLConverter {
+
+        public Schema getSchema() throws Exception {
+            return createSchema();
+        }
+    }
+}
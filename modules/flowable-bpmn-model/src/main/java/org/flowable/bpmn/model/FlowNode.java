@@ -25,6 +25,7 @@ public abstract class FlowNode extends FlowElement {
 
     protected boolean asynchronous;
     protected boolean notExclusive;
+    protected String jobPriority;
 
     protected List<SequenceFlow> incomingFlows = new ArrayList<>();
     protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
@@ -60,6 +61,14 @@ public abstract class FlowNode extends FlowElement {
         this.notExclusive = notExclusive;
     }
 
+    public String getJobPriority() {
+        return jobPriority;
+    }
+
+    public void setJobPriority(String jobPriority) {
+        this.jobPriority = jobPriority;
+    }
+
     public Object getBehavior() {
         return behavior;
     }
@@ -88,5 +97,6 @@ public abstract class FlowNode extends FlowElement {
         super.setValues(otherNode);
         setAsynchronous(otherNode.isAsynchronous());
         setNotExclusive(otherNode.isNotExclusive());
+        setJobPriority(otherNode.getJobPriority());
     }
 }
@@ -45,6 +45,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     
     // Performance settings
     protected boolean enableEagerExecutionTreeFetching;
+    protected boolean enableEagerVariableFetching;
 
     public Process() {
 
@@ -392,6 +393,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         }
         
         enableEagerExecutionTreeFetching = otherElement.enableEagerExecutionTreeFetching;
+        enableEagerVariableFetching = otherElement.enableEagerVariableFetching;
 
         eventListeners = new ArrayList<>();
         if (otherElement.getEventListeners() != null && !otherElement.getEventListeners().isEmpty()) {
@@ -456,4 +458,12 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isEnableEagerVariableFetching() {
+        return enableEagerVariableFetching;
+    }
+
+    public void setEnableEagerVariableFetching(boolean enableEagerVariableFetching) {
+        this.enableEagerVariableFetching = enableEagerVariableFetching;
+    }
+
 }
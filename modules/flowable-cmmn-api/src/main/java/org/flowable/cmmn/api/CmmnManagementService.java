@@ -158,6 +158,17 @@ public interface CmmnManagementService {
      */
     void setJobRetries(String jobId, int retries);
 
+    /**
+     * Sets the priority of a job. Jobs with a higher priority are acquired by the async executor before jobs with a lower priority.
+     * The job can be an executable, timer, suspended or deadletter job: the priority is kept when the job moves between those states.
+     * 
+     * @param jobId
+     *            id of the job to modify, cannot be null.
+     * @param priority
+     *            the new priority of the job.
+     */
+    void setJobPriority(String jobId, int priority);
+
     /**
      * Sets the number of retries that a timer job has left.
      * 
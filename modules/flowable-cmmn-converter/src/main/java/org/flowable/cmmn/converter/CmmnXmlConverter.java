@@ -17,12 +17,14 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -81,6 +83,9 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     protected static Map<String, BaseCmmnXmlConverter> elementConverters = new HashMap<>();
     protected static Map<String, BaseCmmnXmlConverter> textConverters = new HashMap<>();
 
+    protected static final Map<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+    protected static volatile XMLInputFactory xmlInputFactory;
+
     protected ClassLoader classloader;
 
     static {
@@ -143,17 +148,7 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     public CmmnModel convertToCmmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-
-        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
-            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
-            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        }
-        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
-            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        }
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (encoding == null) {
             encoding = DEFAULT_ENCODING;
@@ -250,22 +245,73 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(XSD_LOCATION));
+            xsdUrl = classloader.getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(XSD_LOCATION));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(XSD_LOCATION);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new CmmnXMLException("CMND XSD could not be found");
         }
+        return getOrCompileSchema(xsdUrl);
+    }
+
+    /**
+     * Compiled schemas are immutable and thread-safe, so they are compiled once per XSD location and shared by all converter instances.
+     */
+    protected static Schema getOrCompileSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = SCHEMA_CACHE.get(schemaKey);
+        if (schema == null) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = SCHEMA_CACHE.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
+    /**
+     * Returns the shared {@link XMLInputFactory}, created and configured (no external entities or DTDs) when first needed.
+     * The factory is not changed afterwards, so it can be used to create stream readers from multiple threads.
+     */
+    protected static XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            synchronized (CmmnXmlConverter.class) {
+                xif = xmlInputFactory;
+                if (xif == null) {
+                    xif = createXmlInputFactory();
+                    xmlInputFactory = xif;
+                }
+            }
+        }
+        return xif;
+    }
+
+    protected static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xif = XMLInputFactory.newInstance();
+
+        if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
+            xif.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        }
+
+        if (xif.isPropertySupported(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)) {
+            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        }
+
+        if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
+            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        }
+        return xif;
+    }
+
     public byte[] convertToXML(CmmnModel model) {
         return convertToXML(model, DEFAULT_ENCODING);
     }
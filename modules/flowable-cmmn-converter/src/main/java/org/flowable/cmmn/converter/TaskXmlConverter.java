@@ -131,5 +131,11 @@ public class TaskXmlConverter extends PlanItemDefinitiomXmlConverter {
         if (StringUtils.isNotEmpty(isExclusiveString)) {
             task.setExclusive(Boolean.valueOf(isExclusiveString));
         }
+
+        String jobPriority = xtr.getAttributeValue(CmmnXmlConstants.FLOWABLE_EXTENSIONS_NAMESPACE,
+                CmmnXmlConstants.ATTRIBUTE_JOB_PRIORITY);
+        if (StringUtils.isNotEmpty(jobPriority)) {
+            task.setJobPriority(jobPriority);
+        }
     }
 }
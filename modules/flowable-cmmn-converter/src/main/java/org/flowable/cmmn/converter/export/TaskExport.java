@@ -47,6 +47,9 @@ public class TaskExport extends AbstractPlanItemDefinitionExport<Task> {
         if (task.isExclusive()) {
             xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_IS_EXCLUSIVE, String.valueOf(task.isAsync()));
         }
+        if (StringUtils.isNotEmpty(task.getJobPriority())) {
+            xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_JOB_PRIORITY, task.getJobPriority());
+        }
     }
 
     @Override
@@ -12,12 +12,18 @@
  */
 package org.flowable.cmmn.engine.configurator.impl.cmmn;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstanceBuilder;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 
 /**
@@ -66,4 +72,26 @@ public class DefaultCaseInstanceService implements CaseInstanceService {
         cmmnEngineConfiguration.getCmmnRuntimeService().terminateCaseInstance(caseInstanceId);
     }
 
+    @Override
+    public void terminateCaseInstancesForExecutionIds(Collection<String> executionIds) {
+        if (executionIds.isEmpty()) {
+            return;
+        }
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceQueryImpl caseInstanceQuery = new CaseInstanceQueryImpl(commandContext);
+            caseInstanceQuery.caseInstanceCallbackIds(new HashSet<>(executionIds)).caseInstanceCallbackType(CallbackTypes.EXECUTION_CHILD_CASE);
+
+            CaseInstanceEntityManager caseInstanceEntityManager = CommandContextUtil.getCaseInstanceEntityManager(commandContext);
+            for (CaseInstance caseInstance : caseInstanceQuery.executeList(commandContext)) {
+                // The callback would trigger the case task execution, which is deleted together with its process instance
+                CaseInstanceEntity caseInstanceEntity = caseInstanceEntityManager.findById(caseInstance.getId());
+                caseInstanceEntity.setCallbackId(null);
+                caseInstanceEntity.setCallbackType(null);
+                CommandContextUtil.getAgenda(commandContext).planManualTerminateCaseInstanceOperation(caseInstanceEntity.getId());
+            }
+            return null;
+        });
+    }
+
 }
@@ -18,12 +18,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstanceState;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.repository.Deployment;
@@ -133,6 +135,39 @@ public class CaseTaskTest extends AbstractProcessEngineIntegrationTest {
         }
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/CaseTaskTest.testCaseTask.cmmn")
+    public void testBulkDeleteProcessInstanceWithCaseTask() {
+        Deployment deployment = processEngineRepositoryService.createDeployment()
+            .addClasspathResource("org/flowable/cmmn/test/caseTaskProcess.bpmn20.xml")
+            .deploy();
+
+        try {
+            ProcessInstance processInstance = processEngineRuntimeService.startProcessInstanceByKey("caseTask");
+            Task processTask = processEngineTaskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            processEngineTaskService.complete(processTask.getId());
+
+            Execution execution = processEngineRuntimeService.createExecutionQuery().onlyChildExecutions()
+                .processInstanceId(processInstance.getId())
+                .singleResult();
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceQuery().caseInstanceCallbackId(execution.getId())
+                .caseInstanceCallbackType(CallbackTypes.EXECUTION_CHILD_CASE)
+                .singleResult();
+            assertThat(caseInstance).isNotNull();
+
+            processEngineRuntimeService.bulkDeleteProcessInstances(Collections.singletonList(processInstance.getId()), "bulk delete");
+
+            assertThat(processEngineRuntimeService.createProcessInstanceQuery().count()).isZero();
+            assertThat(cmmnRuntimeService.createCaseInstanceQuery().count()).isZero();
+            assertThat(cmmnTaskService.createTaskQuery().count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult().getState())
+                .isEqualTo(CaseInstanceState.TERMINATED);
+
+        } finally {
+            processEngineRepositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/cmmn/test/CaseTaskTest.testCaseTask.cmmn")
     public void testDeleteCaseTaskShouldNotBePossible() {
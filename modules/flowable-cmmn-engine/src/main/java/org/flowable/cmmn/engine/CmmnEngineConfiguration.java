@@ -344,6 +344,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
+    /**
+     * If true, the expressions of each plan item (sentry conditions, item control rules, listeners, human task properties, ...) are analyzed
+     * when the case definition is cached. When the criteria of a plan item instance are evaluated or when it is activated, the variables
+     * those expressions reference are fetched upfront with one query per scope, instead of separately when each expression is evaluated.
+     */
+    protected boolean enableVariablePrefetching;
+
     protected CmmnParser cmmnParser;
     protected List<CmmnParseHandler> preCmmnParseHandlers;
     protected List<CmmnParseHandler> postCmmnParseHandlers;
@@ -399,6 +406,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     // Entitylink support
     protected EntityLinkServiceConfiguration entityLinkServiceConfiguration;
     protected boolean enableEntityLinks;
+    protected boolean enableCompactEntityLinkHierarchy;
+    protected boolean enableEntityLinkHierarchyPath = true;
 
     // Task support
     protected TaskServiceConfiguration taskServiceConfiguration;
@@ -1390,6 +1399,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableCompactEntityLinkHierarchy(this.enableEntityLinks && this.enableCompactEntityLinkHierarchy);
 
         this.taskServiceConfiguration.init();
 
@@ -1428,6 +1438,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.entityLinkServiceConfiguration.setClock(this.clock);
             this.entityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
             this.entityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+            this.entityLinkServiceConfiguration.setEnableCompactHierarchy(this.enableCompactEntityLinkHierarchy);
+            this.entityLinkServiceConfiguration.setEnableHierarchyPath(this.enableEntityLinkHierarchyPath);
     
             this.entityLinkServiceConfiguration.init();
     
@@ -2177,6 +2189,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableVariablePrefetching() {
+        return enableVariablePrefetching;
+    }
+
+    public CmmnEngineConfiguration setEnableVariablePrefetching(boolean enableVariablePrefetching) {
+        this.enableVariablePrefetching = enableVariablePrefetching;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -3200,6 +3221,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableCompactEntityLinkHierarchy() {
+        return enableCompactEntityLinkHierarchy;
+    }
+
+    public CmmnEngineConfiguration setEnableCompactEntityLinkHierarchy(boolean enableCompactEntityLinkHierarchy) {
+        this.enableCompactEntityLinkHierarchy = enableCompactEntityLinkHierarchy;
+        return this;
+    }
+
+    public boolean isEnableEntityLinkHierarchyPath() {
+        return enableEntityLinkHierarchyPath;
+    }
+
+    public CmmnEngineConfiguration setEnableEntityLinkHierarchyPath(boolean enableEntityLinkHierarchyPath) {
+        this.enableEntityLinkHierarchyPath = enableEntityLinkHierarchyPath;
+        return this;
+    }
+
     public Map<String, HistoryJobHandler> getHistoryJobHandlers() {
         return historyJobHandlers;
     }
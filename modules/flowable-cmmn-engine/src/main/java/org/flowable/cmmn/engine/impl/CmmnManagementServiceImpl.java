@@ -44,6 +44,7 @@ import org.flowable.job.service.impl.cmd.JobType;
 import org.flowable.job.service.impl.cmd.MoveDeadLetterJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveJobToDeadLetterJobCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerToExecutableJobCmd;
+import org.flowable.job.service.impl.cmd.SetJobPriorityCmd;
 import org.flowable.job.service.impl.cmd.SetJobRetriesCmd;
 import org.flowable.job.service.impl.cmd.SetTimerJobRetriesCmd;
 
@@ -128,6 +129,11 @@ public class CmmnManagementServiceImpl extends CommonEngineServiceImpl<CmmnEngin
         commandExecutor.execute(new SetJobRetriesCmd(jobId, retries));
     }
 
+    @Override
+    public void setJobPriority(String jobId, int priority) {
+        commandExecutor.execute(new SetJobPriorityCmd(jobId, priority));
+    }
+
     @Override
     public void setTimerJobRetries(String jobId, int retries) {
         commandExecutor.execute(new SetTimerJobRetriesCmd(jobId, retries));
@@ -12,8 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.agenda;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.flowable.cmmn.engine.impl.agenda.operation.ActivateAsyncPlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.ActivatePlanItemInstanceOperation;
@@ -40,30 +44,48 @@ import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.agenda.AbstractAgenda;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The agenda keeps the planned operations in two lanes:
+ * <ul>
+ * <li>the regular lane (the inherited operations list), containing all operations except the criteria evaluations.</li>
+ * <li>the evaluation lane, starting with an {@link EvaluateCriteriaOperation} and containing everything planned after it that isn't a regular {@link CmmnOperation}.</li>
+ * </ul>
+ * The operation to evaluate the criteria is the most expensive operation. As such, regular operations are always executed before it,
+ * as these can trigger new evaluations. Planned evaluations for the same plan item lifecycle event of a case instance are coalesced:
+ * the pending one is removed and the new one is added to the end, as it will do the same thing at a later point in the execution.
+ *
+ * Planning and taking operations is O(1) for both lanes.
+ *
  * @author Joram Barrez
  */
 public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngineAgenda {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCmmnEngineAgenda.class);
 
+    // Keyed by the coalescing key for evaluations of a lifecycle event, or by the operation itself otherwise. Linked because insertion order is important.
+    protected LinkedHashMap<Object, Runnable> evaluationOperations = new LinkedHashMap<>();
+
+    // Number of planned operations per operation type, logged when the agenda is closed
+    protected Map<String, Integer> plannedOperationCounts = new HashMap<>();
+
     public DefaultCmmnEngineAgenda(CommandContext commandContext) {
         super(commandContext);
     }
 
     public void addOperation(CmmnOperation operation, String caseInstanceId) {
         
-        int operationIndex = getOperationIndex(operation);
-        if (operationIndex >= 0) {
-            operations.add(operationIndex, operation);
+        if (operation instanceof EvaluateCriteriaOperation) {
+            evaluationOperations.put(operation, operation);
         } else {
             operations.addLast(operation);
         }
+        countPlannedOperation(operation);
         
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Planned {}", operation);
@@ -73,27 +95,92 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
             CommandContextUtil.addInvolvedCaseInstanceId(commandContext, caseInstanceId);
         }
     }
-    
+
     /**
-     * Returns the index in the list of operations where the {@link CmmnOperation} should be inserted.
-     * Returns a negative value if the element should be added to the end of the list. 
+     * Generic operations are executed in the order they are planned, which means after any already planned evaluation.
      */
-    protected int getOperationIndex(CmmnOperation operation) {
-        
-        // The operation to evaluate the criteria is the most expensive operation.
-        // As such, when it's planned it is always 
-        // - moved to the end of the operations list
-        // - checked for duplicates to avoid duplicate evaluations (see the add method for it)
-        // - other operations are always planned before, as these can trigger new evaluation operations
-        
-        if (!operations.isEmpty() && !(operation instanceof EvaluateCriteriaOperation)) {
-            for (int i=0; i<operations.size(); i++) {
-                if (operations.get(i) instanceof EvaluateCriteriaOperation) {
-                    return i;
-                }
+    @Override
+    public void planOperation(Runnable operation) {
+        if (evaluationOperations.isEmpty()) {
+            operations.addLast(operation);
+        } else {
+            evaluationOperations.put(operation, operation);
+        }
+        countPlannedOperation(operation);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Operation {} added to agenda", operation.getClass());
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return operations.isEmpty() && evaluationOperations.isEmpty();
+    }
+
+    @Override
+    public Runnable getNextOperation() {
+        assertOperationsNotEmpty();
+        if (!operations.isEmpty()) {
+            return operations.poll();
+        }
+
+        Iterator<Runnable> evaluationOperationsIterator = evaluationOperations.values().iterator();
+        Runnable operation = evaluationOperationsIterator.next();
+        evaluationOperationsIterator.remove();
+        moveLeadingGenericOperationsToRegularLane();
+
+        return operation;
+    }
+
+    /**
+     * Generic operations that were planned after an evaluation that isn't in the evaluation lane anymore,
+     * are moved to the regular lane, so they are executed before regular operations that are planned later on.
+     */
+    protected void moveLeadingGenericOperationsToRegularLane() {
+        Iterator<Runnable> evaluationOperationsIterator = evaluationOperations.values().iterator();
+        while (evaluationOperationsIterator.hasNext()) {
+            Runnable operation = evaluationOperationsIterator.next();
+            if (operation instanceof EvaluateCriteriaOperation) {
+                break;
             }
+            operations.addLast(operation);
+            evaluationOperationsIterator.remove();
+        }
+    }
+
+    @Override
+    public Runnable peekOperation() {
+        assertOperationsNotEmpty();
+        if (!operations.isEmpty()) {
+            return operations.peek();
+        }
+        return evaluationOperations.values().iterator().next();
+    }
+
+    @Override
+    protected void assertOperationsNotEmpty() {
+        if (isEmpty()) {
+            throw new FlowableException("Unable to peek empty agenda.");
+        }
+    }
+
+    protected void countPlannedOperation(Runnable operation) {
+        plannedOperationCounts.merge(operation.getClass().getSimpleName(), 1, Integer::sum);
+    }
+
+    @Override
+    public void close() {
+        if (LOGGER.isDebugEnabled() && !plannedOperationCounts.isEmpty()) {
+            LOGGER.debug("Planned agenda operations: {}", plannedOperationCounts);
         }
-        return -1;
+    }
+
+    /**
+     * @return the number of operations planned on this agenda, by simple class name of the operation
+     */
+    public Map<String, Integer> getPlannedOperationCounts() {
+        return Collections.unmodifiableMap(plannedOperationCounts);
     }
 
     @Override
@@ -123,39 +210,47 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
     
     protected void internalPlanEvaluateCriteria(String caseInstanceEntityId, PlanItemLifeCycleEvent planItemLifeCycleEvent, boolean evaluateCaseInstanceCompleted) {
         
-        // To avoid too many evaluations of the 'same situation', the currently planned operations are looked at
-        // and when one is found that matches the pattern of one that is now to be planned, it is removed as the new one will
-        // do the same thing at a later point in the execution.
-        
-        Iterator<Runnable> plannedOperations = operations.iterator();
-        boolean found = false;
-        while (!found && plannedOperations.hasNext()) {
-            Runnable operation = plannedOperations.next();
-            if (operation instanceof EvaluateCriteriaOperation) {
-                EvaluateCriteriaOperation evaluateCriteriaOperation = (EvaluateCriteriaOperation) operation;
-                if (evaluateCriteriaOperation.getCaseInstanceEntityId() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getTransition() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getPlanItem() != null
-                        && planItemLifeCycleEvent != null
-                        && evaluateCriteriaOperation.getCaseInstanceEntityId().equals(caseInstanceEntityId)
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getTransition().equals(planItemLifeCycleEvent.getTransition())
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getPlanItem().getId().equals(planItemLifeCycleEvent.getPlanItem().getId())
-                        && evaluateCriteriaOperation.isEvaluateCaseInstanceCompleted() == evaluateCaseInstanceCompleted) {
-                    LOGGER.debug("Deferred criteria evaluation for case instance with id '{}' to later in the execution. Plan item = {}, Plan item definition = {}, transition = {}",
-                        caseInstanceEntityId,
-                        planItemLifeCycleEvent.getPlanItem().getId(),
-                        planItemLifeCycleEvent.getPlanItem().getPlanItemDefinition(),
-                        planItemLifeCycleEvent.getTransition());
-                    plannedOperations.remove();
-                    found = true;
-                }
-            }
-        }
+        // To avoid too many evaluations of the 'same situation', a pending evaluation for the same lifecycle event
+        // is removed, as the new one will do the same thing at a later point in the execution.
         
         EvaluateCriteriaOperation evaluateCriteriaOperation = new EvaluateCriteriaOperation(commandContext, caseInstanceEntityId, planItemLifeCycleEvent);
         evaluateCriteriaOperation.setEvaluateCaseInstanceCompleted(evaluateCaseInstanceCompleted);
-        addOperation(evaluateCriteriaOperation, caseInstanceEntityId);
+
+        EvaluationKey evaluationKey = createEvaluationKey(caseInstanceEntityId, planItemLifeCycleEvent, evaluateCaseInstanceCompleted);
+        if (evaluationKey == null) {
+            addOperation(evaluateCriteriaOperation, caseInstanceEntityId);
+            return;
+        }
+
+        if (evaluationOperations.remove(evaluationKey) != null) {
+            LOGGER.debug("Deferred criteria evaluation for case instance with id '{}' to later in the execution. Plan item = {}, Plan item definition = {}, transition = {}",
+                caseInstanceEntityId,
+                planItemLifeCycleEvent.getPlanItem().getId(),
+                planItemLifeCycleEvent.getPlanItem().getPlanItemDefinition(),
+                planItemLifeCycleEvent.getTransition());
+            moveLeadingGenericOperationsToRegularLane();
+        }
+
+        evaluationOperations.put(evaluationKey, evaluateCriteriaOperation);
+        countPlannedOperation(evaluateCriteriaOperation);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Planned {}", evaluateCriteriaOperation);
+        }
+
+        CommandContextUtil.addInvolvedCaseInstanceId(commandContext, caseInstanceEntityId);
+    }
+
+    /**
+     * @return the key under which evaluations that can be coalesced are planned, or null when the evaluation can't be coalesced
+     */
+    protected EvaluationKey createEvaluationKey(String caseInstanceEntityId, PlanItemLifeCycleEvent planItemLifeCycleEvent, boolean evaluateCaseInstanceCompleted) {
+        if (caseInstanceEntityId == null || planItemLifeCycleEvent == null
+                || planItemLifeCycleEvent.getTransition() == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return null;
+        }
+        return new EvaluationKey(caseInstanceEntityId, planItemLifeCycleEvent.getTransition(),
+                planItemLifeCycleEvent.getPlanItem().getId(), evaluateCaseInstanceCompleted);
     }
     
     @Override
@@ -254,4 +349,40 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
         addOperation(new TerminateCaseInstanceOperation(commandContext, caseInstanceEntityId, false, exitCriterionId), caseInstanceEntityId);
     }
 
+    protected static class EvaluationKey {
+
+        protected String caseInstanceId;
+        protected String transition;
+        protected String planItemId;
+        protected boolean evaluateCaseInstanceCompleted;
+
+        public EvaluationKey(String caseInstanceId, String transition, String planItemId, boolean evaluateCaseInstanceCompleted) {
+            this.caseInstanceId = caseInstanceId;
+            this.transition = transition;
+            this.planItemId = planItemId;
+            this.evaluateCaseInstanceCompleted = evaluateCaseInstanceCompleted;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            EvaluationKey that = (EvaluationKey) o;
+            return evaluateCaseInstanceCompleted == that.evaluateCaseInstanceCompleted
+                    && caseInstanceId.equals(that.caseInstanceId)
+                    && transition.equals(that.transition)
+                    && Objects.equals(planItemId, that.planItemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(caseInstanceId, transition, planItemId, evaluateCaseInstanceCompleted);
+        }
+
+    }
+
 }
@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 
 /**
  * @author Dennis Federico
@@ -63,6 +64,7 @@ public class ActivateAsyncPlanItemInstanceOperation extends AbstractChangePlanIt
         job.setScopeType(ScopeTypes.CMMN);
         job.setJobHandlerConfiguration(entryCriterionId);
         job.setTenantId(planItemInstanceEntity.getTenantId());
+        JobPriorityUtil.applyJobPriority(job, task.getJobPriority(), CommandContextUtil.getExpressionManager(commandContext), planItemInstanceEntity);
         jobService.createAsyncJob(job, task.isExclusive());
         jobService.scheduleAsyncJob(job);
     }
@@ -45,6 +45,8 @@ public class ActivatePlanItemInstanceOperation extends AbstractPlanItemInstanceO
                 planItemInstanceEntity.setEntryCriterionId(entryCriterionId);
             }
 
+            prefetchVariables(planItemInstanceEntity, planItemInstanceEntity.getCaseDefinitionId(), planItemInstanceEntity.getPlanItem().getId());
+
             // Evaluate manual activation rule. If one is defined and it evaluates to true, the plan item becomes enabled.
             // Otherwise, the plan item instance is started and becomes active
             boolean isManuallyActivated = evaluateManualActivationRule();
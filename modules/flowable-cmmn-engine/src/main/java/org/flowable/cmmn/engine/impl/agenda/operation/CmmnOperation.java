@@ -14,11 +14,14 @@ package org.flowable.cmmn.engine.impl.agenda.operation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceContainer;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
@@ -28,6 +31,8 @@ import org.flowable.cmmn.model.PlanItemDefinition;
 import org.flowable.cmmn.model.Stage;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 /**
  * @author Joram Barrez
@@ -61,6 +66,24 @@ public abstract class CmmnOperation implements Runnable {
     protected Stage getPlanModel(CaseInstanceEntity caseInstanceEntity) {
         return CaseDefinitionUtil.getCase(caseInstanceEntity.getCaseDefinitionId()).getPlanModel();
     }
+
+    /**
+     * Fetches the variables referenced by the expressions of the given plan item (or plan model) upfront, when variable prefetching is enabled.
+     */
+    protected void prefetchVariables(VariableScope variableScope, String caseDefinitionId, String planItemId) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        if (!cmmnEngineConfiguration.isEnableVariablePrefetching() || !(variableScope instanceof VariableScopeImpl) || caseDefinitionId == null) {
+            return;
+        }
+
+        CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinitionId);
+        if (cacheEntry != null && cacheEntry.getPlanItemVariableNames() != null) {
+            Set<String> variableNames = cacheEntry.getPlanItemVariableNames().get(planItemId);
+            if (variableNames != null) {
+                ((VariableScopeImpl) variableScope).prefetchVariables(variableNames);
+            }
+        }
+    }
     
     
     protected List<PlanItemInstanceEntity> createPlanItemInstancesForNewStage(CommandContext commandContext, List<PlanItem> planItems, String caseDefinitionId,
@@ -83,7 +83,10 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
             return;
         }
 
-        String satisfiedExitCriterion = evaluateExitCriteria(caseInstanceEntity, getPlanModel(caseInstanceEntity));
+        Stage planModel = getPlanModel(caseInstanceEntity);
+        prefetchVariables(caseInstanceEntity, caseInstanceEntity.getCaseDefinitionId(), planModel.getId());
+
+        String satisfiedExitCriterion = evaluateExitCriteria(caseInstanceEntity, planModel);
         if (satisfiedExitCriterion != null) {
             CommandContextUtil.getAgenda(commandContext).planTerminateCaseInstanceOperation(caseInstanceEntity.getId(), satisfiedExitCriterion);
 
@@ -129,6 +132,10 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
             PlanItem planItem = planItemInstanceEntity.getPlanItem();
             String state = planItemInstanceEntity.getState();
 
+            if (!PlanItemInstanceState.END_STATES.contains(state)) {
+                prefetchVariables(planItemInstanceEntity, planItemInstanceEntity.getCaseDefinitionId(), planItem.getId());
+            }
+
             if (PlanItemInstanceState.EVALUATE_ENTRY_CRITERIA_STATES.contains(state)) {
                 
                 String satisfiedEntryCriterion = evaluateEntryCriteria(planItemInstanceEntity, planItem);
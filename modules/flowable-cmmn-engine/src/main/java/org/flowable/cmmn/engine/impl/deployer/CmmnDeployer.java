@@ -251,6 +251,9 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            if (cmmnEngineConfiguration.isEnableVariablePrefetching() && caze != null) {
+                cacheEntry.setPlanItemVariableNames(new PlanItemVariableNamesCollector().collectVariableNames(caze));
+            }
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.deployer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseTask;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.FieldExtension;
+import org.flowable.cmmn.model.FlowableListener;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.IOParameter;
+import org.flowable.cmmn.model.ImplementationType;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemControl;
+import org.flowable.cmmn.model.PlanItemDefinition;
+import org.flowable.cmmn.model.PlanItemRule;
+import org.flowable.cmmn.model.ProcessTask;
+import org.flowable.cmmn.model.ServiceTask;
+import org.flowable.cmmn.model.Stage;
+import org.flowable.cmmn.model.TaskWithFieldExtensions;
+import org.flowable.cmmn.model.TimerEventListener;
+import org.flowable.common.engine.impl.el.ExpressionVariableNamesUtil;
+
+/**
+ * Determines, for every plan item of a case, the names of the variables that are possibly read when its criteria are evaluated
+ * or when it is activated. The plan model itself (exit criteria and auto complete condition) is included under its own id.
+ * The result is kept in the case definition cache entry, so the variables can be fetched in one go
+ * instead of one query per variable (or per scope).
+ *
+ * Only expressions of the case model are analyzed: variables accessed from Java code (delegates, scripts, ...) are fetched on demand as before.
+ */
+public class PlanItemVariableNamesCollector {
+
+    public Map<String, Set<String>> collectVariableNames(Case caze) {
+        Map<String, Set<String>> planItemVariableNames = new HashMap<>();
+
+        Stage planModel = caze.getPlanModel();
+        Set<String> planModelVariableNames = new LinkedHashSet<>();
+        collectCriteriaVariableNames(planModel.getExitCriteria(), planModelVariableNames);
+        addExpression(planModel.getAutoCompleteCondition(), planModelVariableNames);
+        if (!planModelVariableNames.isEmpty()) {
+            planItemVariableNames.put(planModel.getId(), planModelVariableNames);
+        }
+
+        collectVariableNames(planModel, planItemVariableNames);
+        return planItemVariableNames;
+    }
+
+    protected void collectVariableNames(PlanFragment planFragment, Map<String, Set<String>> planItemVariableNames) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            Set<String> variableNames = new LinkedHashSet<>();
+            collectPlanItemVariableNames(planItem, variableNames);
+            if (!variableNames.isEmpty()) {
+                planItemVariableNames.put(planItem.getId(), variableNames);
+            }
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                collectVariableNames((PlanFragment) planItem.getPlanItemDefinition(), planItemVariableNames);
+            }
+        }
+    }
+
+    protected void collectPlanItemVariableNames(PlanItem planItem, Set<String> variableNames) {
+        collectCriteriaVariableNames(planItem.getEntryCriteria(), variableNames);
+        collectCriteriaVariableNames(planItem.getExitCriteria(), variableNames);
+        collectItemControlVariableNames(planItem.getItemControl(), variableNames);
+
+        PlanItemDefinition planItemDefinition = planItem.getPlanItemDefinition();
+        if (planItemDefinition == null) {
+            return;
+        }
+
+        collectItemControlVariableNames(planItemDefinition.getDefaultControl(), variableNames);
+        collectListenerVariableNames(planItemDefinition.getLifecycleListeners(), variableNames);
+
+        if (planItemDefinition instanceof TaskWithFieldExtensions) {
+            collectFieldExtensionVariableNames(((TaskWithFieldExtensions) planItemDefinition).getFieldExtensions(), variableNames);
+        }
+
+        if (planItemDefinition instanceof ServiceTask) {
+            ServiceTask serviceTask = (ServiceTask) planItemDefinition;
+            if (ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION.equals(serviceTask.getImplementationType())
+                    || ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(serviceTask.getImplementationType())) {
+                addExpression(serviceTask.getImplementation(), variableNames);
+            }
+
+        } else if (planItemDefinition instanceof HumanTask) {
+            HumanTask humanTask = (HumanTask) planItemDefinition;
+            addExpression(humanTask.getName(), variableNames);
+            addExpression(humanTask.getAssignee(), variableNames);
+            addExpression(humanTask.getOwner(), variableNames);
+            addExpression(humanTask.getPriority(), variableNames);
+            addExpression(humanTask.getFormKey(), variableNames);
+            addExpression(humanTask.getDueDate(), variableNames);
+            addExpression(humanTask.getCategory(), variableNames);
+            addExpressions(humanTask.getCandidateUsers(), variableNames);
+            addExpressions(humanTask.getCandidateGroups(), variableNames);
+            collectListenerVariableNames(humanTask.getTaskListeners(), variableNames);
+
+        } else if (planItemDefinition instanceof ProcessTask) {
+            ProcessTask processTask = (ProcessTask) planItemDefinition;
+            addExpression(processTask.getProcessRefExpression(), variableNames);
+            collectInParameterVariableNames(processTask.getInParameters(), variableNames);
+
+        } else if (planItemDefinition instanceof CaseTask) {
+            addExpression(((CaseTask) planItemDefinition).getCaseRef(), variableNames);
+
+        } else if (planItemDefinition instanceof TimerEventListener) {
+            addExpression(((TimerEventListener) planItemDefinition).getTimerExpression(), variableNames);
+
+        } else if (planItemDefinition instanceof Stage) {
+            addExpression(((Stage) planItemDefinition).getAutoCompleteCondition(), variableNames);
+        }
+    }
+
+    protected void collectCriteriaVariableNames(List<Criterion> criteria, Set<String> variableNames) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            if (criterion.getSentry() != null && criterion.getSentry().getSentryIfPart() != null) {
+                addExpression(criterion.getSentry().getSentryIfPart().getCondition(), variableNames);
+            }
+        }
+    }
+
+    protected void collectItemControlVariableNames(PlanItemControl planItemControl, Set<String> variableNames) {
+        if (planItemControl == null) {
+            return;
+        }
+
+        collectRuleVariableNames(planItemControl.getRequiredRule(), variableNames);
+        collectRuleVariableNames(planItemControl.getRepetitionRule(), variableNames);
+        collectRuleVariableNames(planItemControl.getManualActivationRule(), variableNames);
+        collectRuleVariableNames(planItemControl.getCompletionNeutralRule(), variableNames);
+    }
+
+    protected void collectRuleVariableNames(PlanItemRule planItemRule, Set<String> variableNames) {
+        if (planItemRule != null) {
+            addExpression(planItemRule.getCondition(), variableNames);
+        }
+    }
+
+    protected void collectInParameterVariableNames(List<IOParameter> inParameters, Set<String> variableNames) {
+        if (inParameters == null) {
+            return;
+        }
+
+        for (IOParameter inParameter : inParameters) {
+            if (inParameter.getSource() != null) {
+                variableNames.add(inParameter.getSource());
+            }
+            addExpression(inParameter.getSourceExpression(), variableNames);
+        }
+    }
+
+    protected void collectListenerVariableNames(List<FlowableListener> listeners, Set<String> variableNames) {
+        if (listeners == null) {
+            return;
+        }
+
+        for (FlowableListener listener : listeners) {
+            if (ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION.equals(listener.getImplementationType())
+                    || ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(listener.getImplementationType())) {
+                addExpression(listener.getImplementation(), variableNames);
+            }
+            collectFieldExtensionVariableNames(listener.getFieldExtensions(), variableNames);
+        }
+    }
+
+    protected void collectFieldExtensionVariableNames(List<FieldExtension> fieldExtensions, Set<String> variableNames) {
+        if (fieldExtensions == null) {
+            return;
+        }
+
+        for (FieldExtension fieldExtension : fieldExtensions) {
+            addExpression(fieldExtension.getExpression(), variableNames);
+        }
+    }
+
+    protected void addExpressions(Collection<String> expressions, Set<String> variableNames) {
+        if (expressions == null) {
+            return;
+        }
+
+        for (String expression : expressions) {
+            addExpression(expression, variableNames);
+        }
+    }
+
+    protected void addExpression(String expression, Set<String> variableNames) {
+        variableNames.addAll(ExpressionVariableNamesUtil.getVariableNames(expression));
+    }
+
+}
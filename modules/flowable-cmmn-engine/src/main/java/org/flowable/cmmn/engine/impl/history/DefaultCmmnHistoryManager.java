@@ -156,6 +156,9 @@ public class DefaultCmmnHistoryManager implements CmmnHistoryManager {
             historicEntityLinkEntity.setReferenceScopeType(entityLink.getReferenceScopeType());
             historicEntityLinkEntity.setReferenceScopeDefinitionId(entityLink.getReferenceScopeDefinitionId());
             historicEntityLinkEntity.setHierarchyType(entityLink.getHierarchyType());
+            historicEntityLinkEntity.setRootScopeId(entityLink.getRootScopeId());
+            historicEntityLinkEntity.setRootScopeType(entityLink.getRootScopeType());
+            historicEntityLinkEntity.setHierarchyPath(entityLink.getHierarchyPath());
             historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
         }
     }
@@ -56,6 +56,9 @@ public class EntityLinkCreatedHistoryJsonTransformer extends AbstractHistoryJson
         historicEntityLinkEntity.setReferenceScopeType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_REF_SCOPE_TYPE));
         historicEntityLinkEntity.setReferenceScopeDefinitionId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_REF_SCOPE_DEFINITION_ID));
         historicEntityLinkEntity.setHierarchyType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_HIERARCHY_TYPE));
+        historicEntityLinkEntity.setRootScopeId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_ROOT_SCOPE_ID));
+        historicEntityLinkEntity.setRootScopeType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_ROOT_SCOPE_TYPE));
+        historicEntityLinkEntity.setHierarchyPath(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_HIERARCHY_PATH));
         
         historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
     }
@@ -12,6 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
@@ -21,6 +24,7 @@ public class CaseDefinitionCacheEntry {
     protected CaseDefinition caseDefinition;
     protected CmmnModel cmmnModel;
     protected Case caze;
+    protected Map<String, Set<String>> planItemVariableNames;
 
     public CaseDefinitionCacheEntry(CaseDefinition caseDefinition, CmmnModel cmmnModel, Case caze) {
         this.caseDefinition = caseDefinition;
@@ -52,4 +56,16 @@ public class CaseDefinitionCacheEntry {
         this.caze = caze;
     }
 
+    /**
+     * @return the names of the variables that are possibly read when evaluating or activating a plan item, by plan item id (or plan model id).
+     *         Only set when variable prefetching is enabled.
+     */
+    public Map<String, Set<String>> getPlanItemVariableNames() {
+        return planItemVariableNames;
+    }
+
+    public void setPlanItemVariableNames(Map<String, Set<String>> planItemVariableNames) {
+        this.planItemVariableNames = planItemVariableNames;
+    }
+
 }
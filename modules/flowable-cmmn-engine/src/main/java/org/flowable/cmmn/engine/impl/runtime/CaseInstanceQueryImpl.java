@@ -50,6 +50,7 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     protected Date startedAfter;
     protected String startedBy;
     protected String callbackId;
+    protected Set<String> callbackIds;
     protected String callbackType;
     protected boolean completeable;
     protected String tenantId;
@@ -273,6 +274,18 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return this;
     }
 
+    public CaseInstanceQueryImpl caseInstanceCallbackIds(Set<String> callbackIds) {
+        if (callbackIds == null) {
+            throw new FlowableIllegalArgumentException("callbackIds is null");
+        }
+        if (inOrStatement) {
+            this.currentOrQueryObject.callbackIds = callbackIds;
+        } else {
+            this.callbackIds = callbackIds;
+        }
+        return this;
+    }
+
     @Override
     public CaseInstanceQuery caseInstanceCallbackType(String callbackType) {
         if (callbackType == null) {
@@ -647,6 +660,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return callbackId;
     }
 
+    public Set<String> getCallbackIds() {
+        return callbackIds;
+    }
+
     public String getCallbackType() {
         return callbackType;
     }
@@ -21,6 +21,7 @@ import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.api.EntityLinkService;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.entitylink.api.HierarchyType;
+import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 
 /**
@@ -29,6 +30,11 @@ import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 public class EntityLinkUtil {
 
     public static void copyExistingEntityLinks(String scopeId, String referenceScopeId, String referenceScopeType) {
+        if (CommandContextUtil.getEntityLinkServiceConfiguration().isEnableCompactHierarchy()) {
+            // The single link created by createNewEntityLink references the root of the hierarchy, so no ancestor links are copied
+            return;
+        }
+
         EntityLinkService entityLinkService = CommandContextUtil.getEntityLinkService();
         List<EntityLink> entityLinks = entityLinkService.findEntityLinksByReferenceScopeIdAndType(scopeId, ScopeTypes.CMMN, EntityLinkType.CHILD);
         List<String> parentIds = new ArrayList<>();
@@ -54,11 +60,12 @@ public class EntityLinkUtil {
     }
 
     public static void createNewEntityLink(String scopeId, String referenceScopeId, String referenceScopeType) {
-        EntityLinkService entityLinkService = CommandContextUtil.getEntityLinkService();
+        EntityLinkServiceConfiguration entityLinkServiceConfiguration = CommandContextUtil.getEntityLinkServiceConfiguration();
+        EntityLinkService entityLinkService = entityLinkServiceConfiguration.getEntityLinkService();
+        List<EntityLink> parentEntityLinks = entityLinkService.findEntityLinksByReferenceScopeIdAndType(scopeId, ScopeTypes.CMMN, EntityLinkType.CHILD);
 
         // Check if existing links already have root, if not, current is root
-        Optional<EntityLink> entityLinkWithRoot = entityLinkService
-            .findEntityLinksByReferenceScopeIdAndType(scopeId, ScopeTypes.CMMN, EntityLinkType.CHILD)
+        Optional<EntityLink> entityLinkWithRoot = parentEntityLinks
             .stream()
             .filter(e -> HierarchyType.ROOT.equals(e.getHierarchyType()))
             .findFirst();
@@ -69,7 +76,11 @@ public class EntityLinkUtil {
         newEntityLink.setScopeType(ScopeTypes.CMMN);
         newEntityLink.setReferenceScopeId(referenceScopeId);
         newEntityLink.setReferenceScopeType(referenceScopeType);
-        if (!entityLinkWithRoot.isPresent()) {
+        if (entityLinkServiceConfiguration.isEnableCompactHierarchy()) {
+            // With the compact hierarchy, the parent has at most one link of its own, which makes it the root when it has none
+            newEntityLink.setHierarchyType(parentEntityLinks.isEmpty() ? HierarchyType.ROOT : HierarchyType.PARENT);
+            setRootScopeAndHierarchyPath(newEntityLink, scopeId, parentEntityLinks, entityLinkServiceConfiguration.isEnableHierarchyPath());
+        } else if (!entityLinkWithRoot.isPresent()) {
             newEntityLink.setHierarchyType(HierarchyType.ROOT);
         } else {
             newEntityLink.setHierarchyType(HierarchyType.PARENT);
@@ -79,4 +90,36 @@ public class EntityLinkUtil {
         CommandContextUtil.getCmmnHistoryManager().recordEntityLinkCreated(newEntityLink);
     }
 
+    protected static void setRootScopeAndHierarchyPath(EntityLinkEntity newEntityLink, String scopeId, List<EntityLink> parentEntityLinks, boolean enableHierarchyPath) {
+        if (parentEntityLinks.isEmpty()) {
+            newEntityLink.setRootScopeId(scopeId);
+            newEntityLink.setRootScopeType(ScopeTypes.CMMN);
+            if (enableHierarchyPath) {
+                newEntityLink.setHierarchyPath("/" + scopeId + "/");
+            }
+            return;
+        }
+
+        for (EntityLink parentEntityLink : parentEntityLinks) {
+            if (parentEntityLink.getRootScopeId() != null) {
+                newEntityLink.setRootScopeId(parentEntityLink.getRootScopeId());
+                newEntityLink.setRootScopeType(parentEntityLink.getRootScopeType());
+                if (enableHierarchyPath && parentEntityLink.getHierarchyPath() != null) {
+                    newEntityLink.setHierarchyPath(parentEntityLink.getHierarchyPath() + scopeId + "/");
+                }
+                return;
+            }
+        }
+
+        // The parent was linked before the compact hierarchy was enabled: the root is the scope of its root link.
+        // The ancestor order can't be derived from those links, so no hierarchy path is stored.
+        for (EntityLink parentEntityLink : parentEntityLinks) {
+            if (HierarchyType.ROOT.equals(parentEntityLink.getHierarchyType())) {
+                newEntityLink.setRootScopeId(parentEntityLink.getScopeId());
+                newEntityLink.setRootScopeType(parentEntityLink.getScopeType());
+                return;
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.agenda.DefaultCmmnEngineAgenda;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CmmnEngineAgendaTest extends FlowableCmmnTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnEngineAgendaTest.class);
+
+    protected static final int NR_OF_PLAN_ITEMS = 1000;
+
+    @Test
+    public void testLargeCasePlanInOneCommand() {
+        deploymentId = cmmnRepositoryService.createDeployment()
+                .addString("largeCase.cmmn", createLargeCaseModel(NR_OF_PLAN_ITEMS))
+                .deploy()
+                .getId();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("largeCase").start();
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+
+        // Completing the task makes all milestones occur in the same command
+        long start = System.currentTimeMillis();
+        Map<String, Integer> plannedOperationCounts = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            cmmnTaskService.complete(task.getId());
+            return new HashMap<>(((DefaultCmmnEngineAgenda) CommandContextUtil.getAgenda(commandContext)).getPlannedOperationCounts());
+        });
+        LOGGER.info("Completing a case with {} plan items took {} ms, planned operations: {}",
+                NR_OF_PLAN_ITEMS, System.currentTimeMillis() - start, plannedOperationCounts);
+
+        assertEquals(NR_OF_PLAN_ITEMS, plannedOperationCounts.get("OccurPlanItemInstanceOperation").intValue());
+        assertEquals(NR_OF_PLAN_ITEMS, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected String createLargeCaseModel(int nrOfPlanItems) {
+        StringBuilder planItems = new StringBuilder();
+        for (int i = 0; i < nrOfPlanItems; i++) {
+            planItems.append("<planItem id=\"milestone").append(i).append("\" name=\"Milestone ").append(i).append("\" definitionRef=\"milestone\">")
+                    .append("<entryCriterion sentryRef=\"sentry\" />")
+                    .append("</planItem>");
+        }
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/CMMN/20151109/MODEL\" targetNamespace=\"http://flowable.org/cmmn\">"
+                + "<case id=\"largeCase\">"
+                + "<casePlanModel id=\"largeCasePlanModel\">"
+                + "<planItem id=\"planItemStartTask\" definitionRef=\"startTask\" />"
+                + planItems
+                + "<sentry id=\"sentry\"><planItemOnPart sourceRef=\"planItemStartTask\"><standardEvent>complete</standardEvent></planItemOnPart></sentry>"
+                + "<humanTask id=\"startTask\" name=\"Start\" />"
+                + "<milestone id=\"milestone\" name=\"Milestone\" />"
+                + "</casePlanModel>"
+                + "</case>"
+                + "</definitions>";
+    }
+
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -32,6 +33,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.flowable.cmmn.api.delegate.DelegatePlanItemInstance;
 import org.flowable.cmmn.api.delegate.PlanItemJavaDelegate;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
+import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
@@ -72,6 +74,43 @@ public class VariablesTest extends FlowableCmmnTestCase {
         assertNull(cmmnRuntimeService.getVariable(caseInstance.getId(), "doesNotExist"));
     }
 
+    @Test
+    public void testVariablePrefetching() {
+        boolean originalVariablePrefetching = cmmnEngineConfiguration.isEnableVariablePrefetching();
+        cmmnEngineConfiguration.setEnableVariablePrefetching(true);
+
+        String prefetchingDeploymentId = null;
+        try {
+            // The variable names are determined when the case definition is cached, so the deployment needs to happen after enabling the setting
+            prefetchingDeploymentId = cmmnRepositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/cmmn/test/runtime/VariablesTest.testVariablePrefetching.cmmn")
+                    .deploy()
+                    .getId();
+            CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(prefetchingDeploymentId).singleResult();
+
+            Map<String, Set<String>> planItemVariableNames = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getPlanItemVariableNames();
+            assertEquals(Collections.singleton("assignee"), planItemVariableNames.get("planItemTask"));
+            assertEquals(Collections.singleton("amount"), planItemVariableNames.get("planItemMilestone"));
+
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("variablePrefetching")
+                    .variable("assignee", "kermit")
+                    .variable("amount", 50)
+                    .start();
+            assertEquals("kermit", cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getAssignee());
+            assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "amount", 150);
+            assertEquals(1, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+
+        } finally {
+            cmmnEngineConfiguration.setEnableVariablePrefetching(originalVariablePrefetching);
+            if (prefetchingDeploymentId != null) {
+                cmmnRepositoryService.deleteDeployment(prefetchingDeploymentId, true);
+            }
+        }
+    }
+
     @Test
     @CmmnDeployment
     public void testSetVariables() {
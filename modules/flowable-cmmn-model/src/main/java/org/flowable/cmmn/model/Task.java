@@ -22,6 +22,7 @@ public class Task extends PlanItemDefinition {
     
     protected boolean async;
     protected boolean exclusive;
+    protected String jobPriority;
 
     public boolean isBlocking() {
         return blocking;
@@ -55,11 +56,20 @@ public class Task extends PlanItemDefinition {
         this.exclusive = exclusive;
     }
 
+    public String getJobPriority() {
+        return jobPriority;
+    }
+
+    public void setJobPriority(String jobPriority) {
+        this.jobPriority = jobPriority;
+    }
+
     public void setValues(Task otherElement) {
         super.setValues(otherElement);
         setBlocking(otherElement.isBlocking());
         setBlockingExpression(otherElement.getBlockingExpression());
         setAsync(otherElement.isAsync());
         setExclusive(otherElement.isExclusive());
+        setJobPriority(otherElement.getJobPriority());
     }
 }
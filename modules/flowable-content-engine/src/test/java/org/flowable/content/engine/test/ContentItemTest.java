@@ -301,6 +301,25 @@ public class ContentItemTest extends AbstractFlowableContentTest {
         contentService.deleteContentItem(initialContentItem.getId());
     }
 
+    @Test
+    public void saveUnchangedContentItem() {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("application/pdf");
+        contentService.saveContentItem(contentItem);
+
+        // Nothing changed compared to the stored content item, the update only writes the last modified timestamp
+        ContentItem storedContentItem = contentService.createContentItemQuery().id(contentItem.getId()).singleResult();
+        contentService.saveContentItem(storedContentItem);
+
+        storedContentItem = contentService.createContentItemQuery().id(contentItem.getId()).singleResult();
+        assertEquals("testItem", storedContentItem.getName());
+        assertEquals("application/pdf", storedContentItem.getMimeType());
+        assertEquals(contentItem.getLastModified().getTime(), storedContentItem.getLastModified().getTime());
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
     protected void createContentItem() {
         ContentItem contentItem = contentService.newContentItem();
         contentItem.setName("testScopeItem");
@@ -18,6 +18,7 @@ import java.util.List;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractEngineConfigurator;
+import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -26,6 +27,7 @@ import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.deployer.DmnDeployer;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
+import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 
 /**
  * @author Tijs Rademakers
@@ -59,12 +61,22 @@ public class DmnEngineConfigurator extends AbstractEngineConfigurator {
         }
         
         initialiseCommonProperties(engineConfiguration, dmnEngineConfiguration);
+        initCompactEntityLinkHierarchy(engineConfiguration);
 
         initDmnEngine();
         
         initServiceConfigurations(engineConfiguration, dmnEngineConfiguration);
     }
     
+    protected void initCompactEntityLinkHierarchy(AbstractEngineConfiguration engineConfiguration) {
+        AbstractServiceConfiguration entityLinkServiceConfiguration = engineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_ENTITY_LINK_SERVICE_CONFIG);
+        if (entityLinkServiceConfiguration instanceof EntityLinkServiceConfiguration
+                && ((EntityLinkServiceConfiguration) entityLinkServiceConfiguration).isEnableCompactHierarchy()) {
+            dmnEngineConfiguration.setEnableCompactEntityLinkHierarchy(true);
+        }
+    }
+
     @Override
     protected List<Class<? extends Entity>> getEntityInsertionOrder() {
         return EntityDependencyOrder.INSERT_ORDER;
@@ -181,6 +181,13 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true when the process or CMMN engine links its instances with the compact entity link hierarchy. The historic decision execution
+     * queries with children only match on the root scope and hierarchy path of the entity links when this is enabled.
+     * The DMN engine configurator takes this over from the engine it is configured on.
+     */
+    protected boolean enableCompactEntityLinkHierarchy;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -949,6 +956,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isEnableCompactEntityLinkHierarchy() {
+        return enableCompactEntityLinkHierarchy;
+    }
+
+    public DmnEngineConfiguration setEnableCompactEntityLinkHierarchy(boolean enableCompactEntityLinkHierarchy) {
+        this.enableCompactEntityLinkHierarchy = enableCompactEntityLinkHierarchy;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
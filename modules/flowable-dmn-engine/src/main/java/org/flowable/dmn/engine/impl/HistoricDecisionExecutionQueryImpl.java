@@ -13,10 +13,13 @@
 
 package org.flowable.dmn.engine.impl;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -41,6 +44,9 @@ public class HistoricDecisionExecutionQueryImpl extends AbstractQuery<DmnHistori
     protected String scopeType;
     protected String processInstanceIdWithChildren;
     protected String caseInstanceIdWithChildren;
+    protected boolean compactEntityLinkHierarchy;
+    protected String processInstanceIdWithChildrenHierarchyPathLike;
+    protected String caseInstanceIdWithChildrenHierarchyPathLike;
     protected Boolean failed;
     protected String tenantId;
     protected String tenantIdLike;
@@ -199,15 +205,41 @@ public class HistoricDecisionExecutionQueryImpl extends AbstractQuery<DmnHistori
     @Override
     public long executeCount(CommandContext commandContext) {
         checkQueryOk();
+        resolveEntityLinkHierarchyPaths(commandContext);
         return CommandContextUtil.getHistoricDecisionExecutionEntityManager().findHistoricDecisionExecutionCountByQueryCriteria(this);
     }
 
     @Override
     public List<DmnHistoricDecisionExecution> executeList(CommandContext commandContext) {
         checkQueryOk();
+        resolveEntityLinkHierarchyPaths(commandContext);
         return CommandContextUtil.getHistoricDecisionExecutionEntityManager().findHistoricDecisionExecutionsByQueryCriteria(this);
     }
 
+    protected void resolveEntityLinkHierarchyPaths(CommandContext commandContext) {
+        compactEntityLinkHierarchy = CommandContextUtil.getDmnEngineConfiguration(commandContext).isEnableCompactEntityLinkHierarchy();
+        if (compactEntityLinkHierarchy) {
+            processInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, processInstanceIdWithChildren, ScopeTypes.BPMN);
+            caseInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, caseInstanceIdWithChildren, ScopeTypes.CMMN);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected String resolveHierarchyPathLike(CommandContext commandContext, String scopeId, String scopeType) {
+        if (scopeId == null) {
+            return null;
+        }
+
+        // The links below the scope have a hierarchy path that starts with the path of the scope itself,
+        // which makes it an anchored prefix match. A scope without a path of its own is the root of the hierarchy.
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("scopeId", scopeId);
+        parameters.put("scopeType", scopeType);
+        List<String> hierarchyPaths = CommandContextUtil.getDbSqlSession(commandContext).selectList("selectHistoricDecisionExecutionEntityLinkHierarchyPaths", parameters);
+        String scopeHierarchyPath = hierarchyPaths.isEmpty() ? "/" : hierarchyPaths.get(0);
+        return scopeHierarchyPath + scopeId + "/%";
+    }
+
     @Override
     public void checkQueryOk() {
         super.checkQueryOk();
@@ -259,6 +291,18 @@ public class HistoricDecisionExecutionQueryImpl extends AbstractQuery<DmnHistori
         return caseInstanceIdWithChildren;
     }
 
+    public boolean isCompactEntityLinkHierarchy() {
+        return compactEntityLinkHierarchy;
+    }
+
+    public String getProcessInstanceIdWithChildrenHierarchyPathLike() {
+        return processInstanceIdWithChildrenHierarchyPathLike;
+    }
+
+    public String getCaseInstanceIdWithChildrenHierarchyPathLike() {
+        return caseInstanceIdWithChildrenHierarchyPathLike;
+    }
+
     public Boolean getFailed() {
         return failed;
     }
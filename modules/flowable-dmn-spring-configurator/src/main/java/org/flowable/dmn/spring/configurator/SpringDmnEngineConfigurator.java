@@ -36,6 +36,7 @@ public class SpringDmnEngineConfigurator extends DmnEngineConfigurator {
                 + SpringDmnEngineConfiguration.class + " but was " + dmnEngineConfiguration.getClass());
         }
         initialiseCommonProperties(engineConfiguration, dmnEngineConfiguration);
+        initCompactEntityLinkHierarchy(engineConfiguration);
         
         SpringEngineConfiguration springEngineConfiguration = (SpringEngineConfiguration) engineConfiguration;
         ((SpringDmnEngineConfiguration) dmnEngineConfiguration).setTransactionManager(springEngineConfiguration.getTransactionManager());
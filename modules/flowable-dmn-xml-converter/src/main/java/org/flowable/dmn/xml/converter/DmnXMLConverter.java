@@ -18,8 +18,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -72,6 +74,9 @@ public class DmnXMLConverter implements DmnXMLConstants {
     protected static Map<String, BaseDmnXMLConverter> convertersToDmnMap = new HashMap<>();
     protected static Map<Class<? extends DmnElement>, BaseDmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    protected static final Map<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+    protected static volatile XMLInputFactory xmlInputFactory;
+
     protected ClassLoader classloader;
 
     static {
@@ -118,8 +123,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
 
     protected boolean isDMN12(InputStream is) {
         try {
-            XMLInputFactory xif = XMLInputFactory.newInstance();
-            XMLStreamReader xtr = xif.createXMLStreamReader(is);
+            XMLStreamReader xtr = getXmlInputFactory().createXMLStreamReader(is);
 
             return isDMN12(xtr);
         } catch (XMLStreamException e) {
@@ -149,27 +153,57 @@ public class DmnXMLConverter implements DmnXMLConstants {
     }
 
     protected Schema createSchema(String xsd) throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(xsd));
+            xsdUrl = classloader.getResource(xsd);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(this.getClass().getClassLoader().getResource(xsd));
+        if (xsdUrl == null) {
+            xsdUrl = this.getClass().getClassLoader().getResource(xsd);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new DmnXMLException("DMN XSD could not be found");
         }
+        return getOrCompileSchema(xsdUrl);
+    }
+
+    /**
+     * Compiled schemas are immutable and thread-safe, so they are compiled once per XSD location and shared by all converter instances.
+     */
+    protected static Schema getOrCompileSchema(URL xsdUrl) throws SAXException {
+        String schemaKey = xsdUrl.toExternalForm();
+        Schema schema = SCHEMA_CACHE.get(schemaKey);
+        if (schema == null) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = SCHEMA_CACHE.putIfAbsent(schemaKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
-    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
-        return convertToDmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    /**
+     * Returns the shared {@link XMLInputFactory}, created and configured (no external entities or DTDs) when first needed.
+     * The factory is not changed afterwards, so it can be used to create stream readers from multiple threads.
+     */
+    protected static XMLInputFactory getXmlInputFactory() {
+        XMLInputFactory xif = xmlInputFactory;
+        if (xif == null) {
+            synchronized (DmnXMLConverter.class) {
+                xif = xmlInputFactory;
+                if (xif == null) {
+                    xif = createXmlInputFactory();
+                    xmlInputFactory = xif;
+                }
+            }
+        }
+        return xif;
     }
 
-    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+    protected static XMLInputFactory createXmlInputFactory() {
         XMLInputFactory xif = XMLInputFactory.newInstance();
 
         if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
@@ -183,6 +217,15 @@ public class DmnXMLConverter implements DmnXMLConstants {
         if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
             xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         }
+        return xif;
+    }
+
+    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
+        return convertToDmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    }
+
+    public DmnDefinition convertToDmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
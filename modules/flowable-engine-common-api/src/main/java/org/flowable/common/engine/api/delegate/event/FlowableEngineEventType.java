@@ -286,6 +286,13 @@ public enum FlowableEngineEventType implements FlowableEventType {
      */
     PROCESS_CANCELLED,
 
+    /**
+     * Process instances have been deleted in bulk, without dispatching any of the per process instance events. Dispatched once per deleted chunk.
+     * 
+     * @see org.flowable.engine.impl.RuntimeServiceImpl#bulkDeleteProcessInstances(java.util.Collection, java.lang.String)
+     */
+    PROCESS_INSTANCES_BULK_DELETED,
+
     /**
      * A event dispatched when a {@link HistoricProcessInstance} is created. This is a specialized version of the {@link FlowableEngineEventType#ENTITY_CREATED} and
      * {@link FlowableEngineEventType#ENTITY_INITIALIZED} event, with the same use case as the {@link FlowableEngineEventType#PROCESS_STARTED}, but containing slightly different data (e.g. the start
@@ -53,6 +53,7 @@ import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransacti
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
+import org.flowable.common.engine.impl.db.QueryFetchSizePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
@@ -165,6 +166,40 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean isBulkInsertEnabled = true;
 
+    /**
+     * If set to true, enables bulk delete: entities of the same type deleted in one transaction are deleted with one statement per
+     * {@link #maxNrOfStatementsInBulkDelete} entities (when the mapping files have a bulkDelete statement for the type),
+     * instead of one statement per entity. Optimistic locking is still verified through the total number of deleted rows. Default false.
+     */
+    protected boolean isBulkDeleteEnabled;
+
+    /**
+     * The maximum number of entities deleted with one bulk delete statement (see {@link #isBulkDeleteEnabled}). Each entity adds its id and revision
+     * as parameters to the statement. By default: 100
+     */
+    protected int maxNrOfStatementsInBulkDelete = 100;
+
+    /**
+     * Optional read-only replica of the database. When set, read-only commands (such as the query list, count and single result calls)
+     * that don't reuse the command context of a caller read from this data source, using the same MyBatis mappings as the primary data source.
+     * When no connection can be obtained from the replica, the primary data source is used for {@link #readReplicaRetryInterval} milliseconds.
+     */
+    protected DataSource readReplicaDataSource;
+
+    /**
+     * The read-after-write window (in milliseconds) of a read-only command type, keyed by command class (eg the query implementation class).
+     * A command is only routed to the read replica when the current thread didn't flush any changes during that window, measured from the
+     * last flush of that thread. This is not a measurement of the replication lag: it only lets a thread read its own writes, as long as the
+     * replica catches up within the window. Writes done by other threads or nodes don't affect the routing, so their results can be seen late.
+     * A negative value means the command type is never routed to the replica.
+     * Command types not in this map use {@link #readReplicaDefaultReadAfterWriteWindow}.
+     */
+    protected Map<Class<?>, Long> readReplicaReadAfterWriteWindows = new HashMap<>();
+
+    protected long readReplicaDefaultReadAfterWriteWindow = 1000L;
+
+    protected long readReplicaRetryInterval = 30000L;
+
     /**
      * Some databases have a limit of how many parameters one sql insert can have (eg SQL Server, 2000 params (!= insert statements) ). Tweak this parameter in case of exceptions indicating too much
      * is being put into one bulk insert, or make it higher if your database can cope with it and there are inserts with a huge amount of data.
@@ -620,6 +655,12 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBulkDeleteEnabled(isBulkDeleteEnabled);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBulkDelete(maxNrOfStatementsInBulkDelete);
+        dbSqlSessionFactory.setReadReplicaDataSource(readReplicaDataSource);
+        dbSqlSessionFactory.setReadReplicaReadAfterWriteWindows(readReplicaReadAfterWriteWindows);
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(readReplicaDefaultReadAfterWriteWindow);
+        dbSqlSessionFactory.setReadReplicaRetryInterval(readReplicaRetryInterval);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -724,6 +765,7 @@ public abstract class AbstractEngineConfiguration {
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
+        initMyBatisQueryFetchSizePlugin(configuration);
 
         configuration = parseMybatisConfiguration(parser);
         return configuration;
@@ -753,6 +795,10 @@ public abstract class AbstractEngineConfiguration {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
 
+    public void initMyBatisQueryFetchSizePlugin(Configuration configuration) {
+        configuration.addInterceptor(new QueryFetchSizePlugin());
+    }
+
     public Configuration parseMybatisConfiguration(XMLConfigBuilder parser) {
         Configuration configuration = parser.parse();
 
@@ -1294,6 +1340,65 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBulkDeleteEnabled() {
+        return isBulkDeleteEnabled;
+    }
+
+    public AbstractEngineConfiguration setBulkDeleteEnabled(boolean isBulkDeleteEnabled) {
+        this.isBulkDeleteEnabled = isBulkDeleteEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBulkDelete() {
+        return maxNrOfStatementsInBulkDelete;
+    }
+
+    public AbstractEngineConfiguration setMaxNrOfStatementsInBulkDelete(int maxNrOfStatementsInBulkDelete) {
+        this.maxNrOfStatementsInBulkDelete = maxNrOfStatementsInBulkDelete;
+        return this;
+    }
+
+    public DataSource getReadReplicaDataSource() {
+        return readReplicaDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaDataSource(DataSource readReplicaDataSource) {
+        this.readReplicaDataSource = readReplicaDataSource;
+        return this;
+    }
+
+    public Map<Class<?>, Long> getReadReplicaReadAfterWriteWindows() {
+        return readReplicaReadAfterWriteWindows;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaReadAfterWriteWindows(Map<Class<?>, Long> readReplicaReadAfterWriteWindows) {
+        this.readReplicaReadAfterWriteWindows = readReplicaReadAfterWriteWindows;
+        return this;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaReadAfterWriteWindow(Class<?> commandClass, long readAfterWriteWindow) {
+        this.readReplicaReadAfterWriteWindows.put(commandClass, readAfterWriteWindow);
+        return this;
+    }
+
+    public long getReadReplicaDefaultReadAfterWriteWindow() {
+        return readReplicaDefaultReadAfterWriteWindow;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaDefaultReadAfterWriteWindow(long readReplicaDefaultReadAfterWriteWindow) {
+        this.readReplicaDefaultReadAfterWriteWindow = readReplicaDefaultReadAfterWriteWindow;
+        return this;
+    }
+
+    public long getReadReplicaRetryInterval() {
+        return readReplicaRetryInterval;
+    }
+
+    public AbstractEngineConfiguration setReadReplicaRetryInterval(long readReplicaRetryInterval) {
+        this.readReplicaRetryInterval = readReplicaRetryInterval;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -101,7 +102,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeSingleResult(Context.getCommandContext());
     }
@@ -111,7 +112,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext());
     }
@@ -123,7 +124,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext());
     }
@@ -132,11 +133,32 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeCount(Context.getCommandContext());
     }
 
+    /**
+     * Runs {@link #executeForEach(CommandContext, int, Consumer)} in a read-only command.
+     * Used by the query types that support streaming their results through a forEach method.
+     */
+    protected void forEachResult(int batchSize, Consumer<U> consumer) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize must be a positive number");
+        }
+        if (consumer == null) {
+            throw new FlowableIllegalArgumentException("consumer is null");
+        }
+        if (commandExecutor != null) {
+            commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), commandContext -> {
+                executeForEach(commandContext, batchSize, consumer);
+                return null;
+            });
+        } else {
+            executeForEach(Context.getCommandContext(), batchSize, consumer);
+        }
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         if (resultType == ResultType.LIST) {
@@ -157,6 +179,16 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the actual query and streams the results to the consumer, without storing them in the entity cache.
+     * Query types that call {@link #forEachResult(int, Consumer)} override this method.
+     *
+     * @param fetchSize the JDBC fetch size used for the cursor
+     */
+    protected void executeForEach(CommandContext commandContext, int fetchSize, Consumer<U> consumer) {
+        throw new UnsupportedOperationException("Streaming results is not supported by " + getClass().getName());
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
@@ -163,7 +163,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : getCandidateCachedObjects(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -175,7 +175,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : getCandidateCachedObjects(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -216,7 +216,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         List<EntityImpl> result = new ArrayList<>(cachedObjects != null ? cachedObjects.size() : 1);
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : getCandidateCachedObjects(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter)
                         && (includeDeletedEntities || !dbSqlSession.isEntityToBeDeleted(cachedEntity))) {
@@ -229,7 +229,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : getCandidateCachedObjects(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -262,19 +262,33 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     }
 
     protected void deleteCachedEntities(DbSqlSession dbSqlSession,  CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
-        deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass()), cachedEntityMatcher, parameter);
+        deleteCachedEntities(dbSqlSession, getManagedEntityClass(), cachedEntityMatcher, parameter);
         if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(entitySubClass), cachedEntityMatcher, parameter);
+                deleteCachedEntities(dbSqlSession, entitySubClass, cachedEntityMatcher, parameter);
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
+    protected void deleteCachedEntities(DbSqlSession dbSqlSession, Class<? extends EntityImpl> entityClass,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(entityClass);
+        if (cachedObjects != null && cachedEntityMatcher != null) {
+            deleteCachedEntities(dbSqlSession, cachedObjects, getCandidateCachedObjects(entityClass, cachedObjects, cachedEntityMatcher, parameter),
+                    cachedEntityMatcher, parameter);
+        }
+    }
+
     protected void deleteCachedEntities(DbSqlSession dbSqlSession, Collection<CachedEntity> cachedObjects, 
             CachedEntityMatcher<EntityImpl> cachedEntityMatcher,  Object parameter) {
+        deleteCachedEntities(dbSqlSession, cachedObjects, cachedObjects, cachedEntityMatcher, parameter);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void deleteCachedEntities(DbSqlSession dbSqlSession, Collection<CachedEntity> cachedObjects, Collection<CachedEntity> candidateCachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher,  Object parameter) {
         if (cachedObjects != null && cachedEntityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : candidateCachedObjects) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 boolean entityMatches = cachedEntityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter);
                 if (cachedEntity.isInserted() && entityMatches) {
@@ -287,6 +301,26 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         }
     }
     
+    /**
+     * Returns the cached entities that need to be passed through the {@link CachedEntityMatcher}: when the matcher declares an index 
+     * (see {@link CachedEntityMatcher#getIndexName()}) and the entity type supports it, only the entities found through the index
+     * of the {@link EntityCache} are returned. Otherwise, all cached entities of the type are returned.
+     */
+    protected Collection<CachedEntity> getCandidateCachedObjects(Class<?> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        String indexName = cachedEntityMatcher.getIndexName();
+        if (indexName != null) {
+            String indexValue = cachedEntityMatcher.getIndexValue(parameter);
+            if (indexValue != null) {
+                Collection<CachedEntity> indexedCachedObjects = getEntityCache().findInCacheAsCachedObjects(entityClass, indexName, indexValue);
+                if (indexedCachedObjects != null) {
+                    return indexedCachedObjects;
+                }
+            }
+        }
+        return cachedObjects;
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,7 +24,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -58,6 +61,18 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    /**
+     * Set when the session belongs to a read-only command context (see {@link org.flowable.common.engine.impl.interceptor.CommandConfig#readOnly()}):
+     * nothing is written when flushing and any insert, update or delete fails immediately.
+     */
+    protected boolean readOnly;
+
+    /**
+     * The connection to the read replica this session reads from, if any. Closed together with the session,
+     * independent of whether the transactions are managed externally.
+     */
+    protected Connection readReplicaConnection;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -75,6 +90,7 @@ public class DbSqlSession implements Session {
     // insert ///////////////////////////////////////////////////////////////////
 
     public void insert(Entity entity) {
+        ensureNotReadOnly();
         if (entity.getId() == null) {
             String id = Context.getCommandContext().getCurrentEngineConfiguration().getIdGenerator().getNextId();
             if (dbSqlSessionFactory.isUsePrefixId()) {
@@ -97,11 +113,14 @@ public class DbSqlSession implements Session {
     // ///////////////////////////////////////////////////////////////////
 
     public void update(Entity entity) {
+        ensureNotReadOnly();
         entityCache.put(entity, false); // false -> we don't store state, meaning it will always be seen as changed
         entity.setUpdated(true);
     }
 
     public int update(String statement, Object parameters) {
+        ensureNotReadOnly();
+        dbSqlSessionFactory.registerWrite();
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
         return getSqlSession().update(updateStatement, parameters);
     }
@@ -114,6 +133,7 @@ public class DbSqlSession implements Session {
      * The passed class determines when this operation will be executed: it will be executed depending on the place of the class in the {@link EntityDependencyOrder}.
      */
     public void delete(String statement, Object parameter, Class<? extends Entity> entityClass) {
+        ensureNotReadOnly();
         if (!bulkDeleteOperations.containsKey(entityClass)) {
             bulkDeleteOperations.put(entityClass, new ArrayList<>(1));
         }
@@ -121,6 +141,7 @@ public class DbSqlSession implements Session {
     }
 
     public void delete(Entity entity) {
+        ensureNotReadOnly();
         Class<? extends Entity> clazz = entity.getClass();
         if (!deletedObjects.containsKey(clazz)) {
             deletedObjects.put(clazz, new LinkedHashMap<>()); // order of insert is important, hence LinkedHashMap
@@ -206,6 +227,36 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Streams the results of the given statement one by one to the consumer, using a MyBatis {@link Cursor}.
+     * The results are not stored in the entity cache: they are detached and should be treated as read-only.
+     * The fetch size is passed as a hint to the JDBC driver (see {@link QueryFetchSizePlugin}).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void selectCursor(String statement, ListQueryParameterObject parameter, int fetchSize, Consumer<T> consumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        Cursor<Object> cursor;
+        QueryFetchSizePlugin.setCursorFetchSize(fetchSize);
+        try {
+            // The statement is prepared when the cursor is opened
+            cursor = sqlSession.selectCursor(statement, parameter);
+        } finally {
+            QueryFetchSizePlugin.clearCursorFetchSize();
+        }
+        try {
+            for (Object result : cursor) {
+                consumer.accept((T) result);
+            }
+        } finally {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close cursor for statement {}", statement, e);
+            }
+        }
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -280,6 +331,11 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        if (readOnly) {
+            // Entities loaded in a read-only session can't have been changed through this session, so no dirty checking is needed
+            return;
+        }
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -287,6 +343,10 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        if (!insertedObjects.isEmpty() || !updatedObjects.isEmpty() || !deletedObjects.isEmpty() || !bulkDeleteOperations.isEmpty()) {
+            dbSqlSessionFactory.registerWrite();
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
@@ -555,6 +615,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (entitiesToDelete.size() > 1 && dbSqlSessionFactory.isBulkDeletable(entityClass)) {
+            flushBulkDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -575,8 +640,37 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBulkDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        String bulkDeleteStatement = dbSqlSessionFactory.mapStatement(dbSqlSessionFactory.getBulkDeleteStatement(entityClass));
+
+        Iterator<Entity> entityIterator = entitiesToDelete.iterator();
+        while (entityIterator.hasNext()) {
+            List<Entity> subList = new ArrayList<>();
+            while (entityIterator.hasNext() && subList.size() < dbSqlSessionFactory.getMaxNrOfStatementsInBulkDelete()) {
+                subList.add(entityIterator.next());
+            }
+
+            LOGGER.debug("bulk deleting {} entities of type {}", subList.size(), entityClass);
+            int nrOfRowsDeleted = sqlSession.delete(bulkDeleteStatement, subList);
+
+            // Same semantics as the regular delete: the bulk delete statement of an entity with a revision also matches on the revision,
+            // so any entity that was updated or deleted by another transaction concurrently leads to a lower number of deleted rows
+            if (nrOfRowsDeleted != subList.size() && subList.get(0) instanceof HasRevision) {
+                throw new FlowableOptimisticLockingException("One of the entities " + subList
+                        + " was updated by another transaction concurrently (deleted " + nrOfRowsDeleted + " of " + subList.size() + " rows)");
+            }
+        }
+    }
+
+    protected void ensureNotReadOnly() {
+        if (readOnly) {
+            throw new FlowableException("Data can't be changed in a read-only command context");
+        }
+    }
+
     @Override
     public void close() {
+        // Also closes the read replica connection, as the sql session was opened with it
         sqlSession.close();
     }
 
@@ -595,6 +689,22 @@ public class DbSqlSession implements Session {
     // getters and setters
     // //////////////////////////////////////////////////////
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public Connection getReadReplicaConnection() {
+        return readReplicaConnection;
+    }
+
+    public void setReadReplicaConnection(Connection readReplicaConnection) {
+        this.readReplicaConnection = readReplicaConnection;
+    }
+
     public SqlSession getSqlSession() {
         return sqlSession;
     }
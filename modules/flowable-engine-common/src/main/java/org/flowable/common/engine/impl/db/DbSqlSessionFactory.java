@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,6 +23,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -30,6 +33,8 @@ import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -37,6 +42,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class DbSqlSessionFactory implements SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionFactory.class);
+
     protected Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
     protected String databaseType;
@@ -62,10 +69,28 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean isBulkDeleteEnabled;
+    protected int maxNrOfStatementsInBulkDelete = 100;
+    protected Set<Class<? extends Entity>> nonBulkDeletableEntityClasses = new HashSet<>();
+    protected Map<Class<?>, String> bulkDeleteStatements = new ConcurrentHashMap<>();
+    protected Map<Class<?>, Boolean> bulkDeletableEntityClasses = new ConcurrentHashMap<>();
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    protected DataSource readReplicaDataSource;
+    protected Map<Class<?>, Long> readReplicaReadAfterWriteWindows = new HashMap<>();
+    protected long readReplicaDefaultReadAfterWriteWindow = 1000L;
+    protected long readReplicaRetryInterval = 30000L;
+    protected volatile long readReplicaUnavailableUntil;
+
+    /**
+     * The time changes were last flushed on the current thread, used to route the reads of that thread to the primary
+     * during the read-after-write window. The actual replication lag isn't known.
+     */
+    protected final ThreadLocal<Long> lastWriteTime = new ThreadLocal<>();
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -78,7 +103,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     @Override
     public Session openSession(CommandContext commandContext) {
-        DbSqlSession dbSqlSession = createDbSqlSession();
+        Connection readReplicaConnection = getReadReplicaConnection(commandContext);
+        DbSqlSession dbSqlSession = readReplicaConnection != null ? createReadReplicaDbSqlSession(readReplicaConnection) : createDbSqlSession();
         if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
             try {
                 dbSqlSession.getSqlSession().getConnection().setSchema(getDatabaseSchema());
@@ -96,6 +122,7 @@ public class DbSqlSessionFactory implements SessionFactory {
         if (dbSqlSession.getSqlSession().getConnection() == null) {
             throw new FlowableException("Invalid dbSqlSession: no active connection found");
         }
+        dbSqlSession.setReadOnly(commandContext.isReadOnly());
         return dbSqlSession;
     }
 
@@ -103,6 +130,73 @@ public class DbSqlSessionFactory implements SessionFactory {
         return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
     }
 
+    protected DbSqlSession createReadReplicaDbSqlSession(Connection readReplicaConnection) {
+        DbSqlSession dbSqlSession = new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class), readReplicaConnection, null, null);
+        dbSqlSession.setReadReplicaConnection(readReplicaConnection);
+        return dbSqlSession;
+    }
+
+    // read replica
+    // /////////////////////////////////////
+
+    /**
+     * Returns a connection to the read replica when the command context is read-only and the current thread
+     * didn't flush any changes during the read-after-write window of the command type.
+     * Returns null when the primary data source needs to be used, which is also the case when the replica is unavailable.
+     */
+    protected Connection getReadReplicaConnection(CommandContext commandContext) {
+        if (readReplicaDataSource == null || !commandContext.isReadOnly()) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now < readReplicaUnavailableUntil) {
+            return null;
+        }
+
+        long readAfterWriteWindow = getReadReplicaReadAfterWriteWindow(commandContext.getCommand());
+        if (readAfterWriteWindow < 0) {
+            return null;
+        }
+
+        Long threadLastWriteTime = lastWriteTime.get();
+        if (threadLastWriteTime != null) {
+            if (now - threadLastWriteTime < readAfterWriteWindow) {
+                return null;
+            }
+            lastWriteTime.remove();
+        }
+
+        try {
+            return readReplicaDataSource.getConnection();
+
+        } catch (SQLException e) {
+            readReplicaUnavailableUntil = now + readReplicaRetryInterval;
+            LOGGER.warn("Read replica is not available, using the primary data source for the next {} ms", readReplicaRetryInterval, e);
+            return null;
+        }
+    }
+
+    protected long getReadReplicaReadAfterWriteWindow(Object command) {
+        if (command != null) {
+            Long readAfterWriteWindow = readReplicaReadAfterWriteWindows.get(command.getClass());
+            if (readAfterWriteWindow != null) {
+                return readAfterWriteWindow;
+            }
+        }
+        return readReplicaDefaultReadAfterWriteWindow;
+    }
+
+    /**
+     * Called when changes have been flushed, so queries of the same thread that can't tolerate seeing data older than these changes
+     * are not routed to the read replica.
+     */
+    public void registerWrite() {
+        if (readReplicaDataSource != null) {
+            lastWriteTime.set(System.currentTimeMillis());
+        }
+    }
+
     // insert, update and delete statements
     // /////////////////////////////////////
 
@@ -202,6 +296,54 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    /**
+     * Whether entities of the given type can be deleted with one statement: bulk delete needs to be enabled,
+     * the type must not be one of the {@link #nonBulkDeletableEntityClasses} and the mapping files need to contain the bulkDelete statement for the type.
+     */
+    public boolean isBulkDeletable(Class<? extends Entity> entityClass) {
+        if (!isBulkDeleteEnabled || nonBulkDeletableEntityClasses.contains(entityClass)) {
+            return false;
+        }
+        return bulkDeletableEntityClasses.computeIfAbsent(entityClass,
+            clazz -> sqlSessionFactory.getConfiguration().hasStatement(mapStatement(getBulkDeleteStatement(clazz))));
+    }
+
+    public String getBulkDeleteStatement(Class<?> entityClass) {
+        return getStatement(entityClass, bulkDeleteStatements, "bulkDelete");
+    }
+
+    public boolean isBulkDeleteEnabled() {
+        return isBulkDeleteEnabled;
+    }
+
+    public void setBulkDeleteEnabled(boolean isBulkDeleteEnabled) {
+        this.isBulkDeleteEnabled = isBulkDeleteEnabled;
+    }
+
+    public int getMaxNrOfStatementsInBulkDelete() {
+        return maxNrOfStatementsInBulkDelete;
+    }
+
+    public void setMaxNrOfStatementsInBulkDelete(int maxNrOfStatementsInBulkDelete) {
+        this.maxNrOfStatementsInBulkDelete = maxNrOfStatementsInBulkDelete;
+    }
+
+    public Set<Class<? extends Entity>> getNonBulkDeletableEntityClasses() {
+        return nonBulkDeletableEntityClasses;
+    }
+
+    public void setNonBulkDeletableEntityClasses(Set<Class<? extends Entity>> nonBulkDeletableEntityClasses) {
+        this.nonBulkDeletableEntityClasses = nonBulkDeletableEntityClasses;
+    }
+
+    public Map<Class<?>, String> getBulkDeleteStatements() {
+        return bulkDeleteStatements;
+    }
+
+    public void setBulkDeleteStatements(Map<Class<?>, String> bulkDeleteStatements) {
+        this.bulkDeleteStatements = bulkDeleteStatements;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -339,6 +481,38 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.logicalNameToClassMapping = logicalNameToClassMapping;
     }
 
+    public DataSource getReadReplicaDataSource() {
+        return readReplicaDataSource;
+    }
+
+    public void setReadReplicaDataSource(DataSource readReplicaDataSource) {
+        this.readReplicaDataSource = readReplicaDataSource;
+    }
+
+    public Map<Class<?>, Long> getReadReplicaReadAfterWriteWindows() {
+        return readReplicaReadAfterWriteWindows;
+    }
+
+    public void setReadReplicaReadAfterWriteWindows(Map<Class<?>, Long> readReplicaReadAfterWriteWindows) {
+        this.readReplicaReadAfterWriteWindows = readReplicaReadAfterWriteWindows;
+    }
+
+    public long getReadReplicaDefaultReadAfterWriteWindow() {
+        return readReplicaDefaultReadAfterWriteWindow;
+    }
+
+    public void setReadReplicaDefaultReadAfterWriteWindow(long readReplicaDefaultReadAfterWriteWindow) {
+        this.readReplicaDefaultReadAfterWriteWindow = readReplicaDefaultReadAfterWriteWindow;
+    }
+
+    public long getReadReplicaRetryInterval() {
+        return readReplicaRetryInterval;
+    }
+
+    public void setReadReplicaRetryInterval(long readReplicaRetryInterval) {
+        this.readReplicaRetryInterval = readReplicaRetryInterval;
+    }
+
     public boolean isUsePrefixId() {
         return usePrefixId;
     }
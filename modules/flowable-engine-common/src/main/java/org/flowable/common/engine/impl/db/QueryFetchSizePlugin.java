@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * Applies the fetch size given to {@link DbSqlSession#selectCursor(String, ListQueryParameterObject, int, java.util.function.Consumer)}
+ * as JDBC fetch size hint on the statement prepared for the cursor, so the driver doesn't buffer the complete result set in memory.
+ * The fetch size is only set on the current thread while the cursor is opened, it is not kept on the query itself.
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class })
+})
+public class QueryFetchSizePlugin implements Interceptor {
+
+    protected static final ThreadLocal<Integer> CURSOR_FETCH_SIZE = new ThreadLocal<>();
+
+    public static void setCursorFetchSize(int fetchSize) {
+        CURSOR_FETCH_SIZE.set(fetchSize);
+    }
+
+    public static void clearCursorFetchSize() {
+        CURSOR_FETCH_SIZE.remove();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object retVal = invocation.proceed();
+        Integer fetchSize = CURSOR_FETCH_SIZE.get();
+        if (fetchSize != null && fetchSize > 0 && retVal instanceof Statement) {
+            ((Statement) retVal).setFetchSize(fetchSize);
+        }
+        return retVal;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        if (target instanceof StatementHandler) {
+            return Plugin.wrap(target, this);
+        }
+        return target;
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+
+    }
+}
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.de.odysseus.el.tree.IdentifierNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilderException;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+
+/**
+ * Determines the names of the variables an expression possibly references, without evaluating it.
+ * Every top-level identifier of the expression is returned, which means names resolved in another way (eg beans) are included too.
+ */
+public class ExpressionVariableNamesUtil {
+
+    protected static final Builder EXPRESSION_BUILDER = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+
+    public static Set<String> getVariableNames(String expressionText) {
+        if (expressionText == null || (!expressionText.contains("${") && !expressionText.contains("#{"))) {
+            return Collections.emptySet();
+        }
+
+        Tree tree;
+        try {
+            tree = EXPRESSION_BUILDER.build(expressionText.trim());
+        } catch (TreeBuilderException e) {
+            // Invalid expressions fail when they are evaluated, not here
+            return Collections.emptySet();
+        }
+
+        Set<String> variableNames = new LinkedHashSet<>();
+        for (IdentifierNode identifierNode : tree.getIdentifierNodes()) {
+            variableNames.add(identifierNode.getName());
+        }
+        return variableNames;
+    }
+
+}
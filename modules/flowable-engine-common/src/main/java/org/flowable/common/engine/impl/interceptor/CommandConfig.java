@@ -25,6 +25,7 @@ public class CommandConfig {
 
     private boolean contextReusePossible;
     private TransactionPropagation propagation;
+    private boolean readOnly;
 
     public CommandConfig() {
         this.contextReusePossible = true;
@@ -44,6 +45,7 @@ public class CommandConfig {
     protected CommandConfig(CommandConfig commandConfig) {
         this.contextReusePossible = commandConfig.contextReusePossible;
         this.propagation = commandConfig.propagation;
+        this.readOnly = commandConfig.readOnly;
     }
 
     public boolean isContextReusePossible() {
@@ -54,12 +56,28 @@ public class CommandConfig {
         return propagation;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     public CommandConfig setContextReusePossible(boolean contextReusePossible) {
         CommandConfig config = new CommandConfig(this);
         config.contextReusePossible = contextReusePossible;
         return config;
     }
 
+    /**
+     * Returns a config for a command that only reads data. When such a command gets a new command context,
+     * the sessions aren't flushed (no dirty checking of the loaded entities) when the context is closed
+     * and any attempt to insert, update or delete through the {@link org.flowable.common.engine.impl.db.DbSqlSession} fails.
+     * When the command context of a caller is reused, the settings of that context apply.
+     */
+    public CommandConfig readOnly() {
+        CommandConfig config = new CommandConfig(this);
+        config.readOnly = true;
+        return config;
+    }
+
     public CommandConfig transactionRequired() {
         CommandConfig config = new CommandConfig(this);
         config.propagation = TransactionPropagation.REQUIRED;
@@ -42,6 +42,7 @@ public class CommandContext {
     protected List<CommandContextCloseListener> closeListeners;
     protected Map<String, Object> attributes; // General-purpose storing of anything during the lifetime of a command context
     protected boolean reused;
+    protected boolean readOnly;
     protected LinkedList<Object> resultStack = new LinkedList<>(); // needs to be a stack, as JavaDelegates can do api calls again
 
     public CommandContext(Command<?> command) {
@@ -57,7 +58,7 @@ public class CommandContext {
             try {
                 try {
                     executeCloseListenersClosing();
-                    if (exception == null) {
+                    if (exception == null && !readOnly) {
                         flushSessions();
                     }
                 } catch (Throwable exception) {
@@ -302,6 +303,14 @@ public class CommandContext {
     public void setReused(boolean reused) {
         this.reused = reused;
     }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
     
     public Object getResult() {
         return resultStack.pollLast();
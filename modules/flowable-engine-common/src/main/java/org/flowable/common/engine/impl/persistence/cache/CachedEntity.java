@@ -58,6 +58,15 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Takes a new snapshot of the 'persistent state' of the {@link Entity}, for when its current values are the values stored in the database
+     * (e.g. after they were refreshed from the database). These values are then no longer seen as changes.
+     */
+    public void refreshOriginalPersistentState() {
+        this.originalPersistentState = entity.getPersistentState();
+        entity.setOriginalPersistentState(originalPersistentState);
+    }
+
     public boolean hasChanged() {
         return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
     }
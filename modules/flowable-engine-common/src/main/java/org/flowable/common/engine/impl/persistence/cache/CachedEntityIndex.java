@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A secondary index on the {@link CachedEntity} instances of one {@link IndexedEntity} class in the {@link EntityCache}, 
+ * mapping the value of one property (e.g. the parent id of executions) to the cached entities with that value.
+ */
+public class CachedEntityIndex {
+
+    public static final String PARENT_ID = "parentId";
+    public static final String PROCESS_INSTANCE_ID = "processInstanceId";
+    public static final String EXECUTION_ID = "executionId";
+    public static final String SCOPE_ID = "scopeId";
+
+    protected String indexName;
+    protected Map<String, Map<String, CachedEntity>> cachedEntitiesByValue = new HashMap<>();
+    protected Map<String, String> valuesByEntityId = new HashMap<>();
+
+    public CachedEntityIndex(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public void add(CachedEntity cachedEntity) {
+        String entityId = cachedEntity.getEntity().getId();
+        remove(entityId);
+
+        String value = ((IndexedEntity) cachedEntity.getEntity()).getIndexValue(indexName);
+        if (value != null) {
+            cachedEntitiesByValue.computeIfAbsent(value, key -> new LinkedHashMap<>()).put(entityId, cachedEntity);
+            valuesByEntityId.put(entityId, value);
+        }
+    }
+
+    public void remove(String entityId) {
+        String value = valuesByEntityId.remove(entityId);
+        if (value != null) {
+            Map<String, CachedEntity> cachedEntities = cachedEntitiesByValue.get(value);
+            cachedEntities.remove(entityId);
+            if (cachedEntities.isEmpty()) {
+                cachedEntitiesByValue.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the cached entities with the given value, so callers can safely put or remove entities while iterating.
+     */
+    public Collection<CachedEntity> get(String value) {
+        Map<String, CachedEntity> cachedEntities = cachedEntitiesByValue.get(value);
+        if (cachedEntities == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(cachedEntities.values());
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+}
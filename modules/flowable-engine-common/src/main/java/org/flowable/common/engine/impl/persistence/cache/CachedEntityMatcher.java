@@ -32,4 +32,21 @@ public interface CachedEntityMatcher<EntityImpl extends Entity> {
      */
     boolean isRetained(Collection<EntityImpl> databaseEntities, Collection<CachedEntity> cachedEntities, EntityImpl entity, Object param);
 
+    /**
+     * Returns the name of the {@link CachedEntityIndex} that can be used to find the candidate entities in the cache, 
+     * instead of checking all cached entities of the type. Returns null (the default) if no index applies.
+     * 
+     * Note that all entities returned by the index are still passed through {@link #isRetained(Collection, Collection, Entity, Object)}.
+     */
+    default String getIndexName() {
+        return null;
+    }
+
+    /**
+     * Returns the value to look up in the index returned by {@link #getIndexName()}, based on the query parameter.
+     */
+    default String getIndexValue(Object param) {
+        return null;
+    }
+
 }
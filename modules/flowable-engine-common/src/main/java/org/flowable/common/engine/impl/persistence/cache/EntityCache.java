@@ -59,6 +59,26 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type for which the index with the given name has the given value.
+     * The index is built on first use and maintained afterwards when entities are put, removed or reindexed.
+     * 
+     * Returns null if the type is not an {@link IndexedEntity}, in which case all cached entities need to be checked.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, String indexName, String indexValue);
+
+    /**
+     * Updates the secondary indexes for the given {@link IndexedEntity}, after the value of one of its indexed properties changed.
+     * Does nothing if the entity is not cached or no index exists for its type.
+     */
+    void reindex(Entity entity);
+
+    /**
+     * Stores the current state {@link Entity#getPersistentState()} of the given {@link Entity} for future diffing, for when its values were refreshed
+     * with the values stored in the database. Does nothing if the entity is not cached.
+     */
+    void refreshPersistentState(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
@@ -28,6 +28,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * Secondary indexes per entity class, created on first lookup: { entityClass, { indexName, index } }
+     */
+    protected Map<Class<?>, Map<String, CachedEntityIndex>> indexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +42,18 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        if (entity instanceof IndexedEntity) {
+            ((IndexedEntity) entity).setInEntityCache(true);
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = indexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -76,7 +93,17 @@ public class EntityCacheImpl implements EntityCache {
         if (classCache == null) {
             return;
         }
-        classCache.remove(entityId);
+        CachedEntity cachedObject = classCache.remove(entityId);
+        if (cachedObject != null && cachedObject.getEntity() instanceof IndexedEntity) {
+            ((IndexedEntity) cachedObject.getEntity()).setInEntityCache(false);
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = indexes.get(entityClass);
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -88,6 +115,54 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, String indexName, String indexValue) {
+        if (!IndexedEntity.class.isAssignableFrom(entityClass)) {
+            return null;
+        }
+
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return Collections.emptyList();
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = indexes.computeIfAbsent(entityClass, key -> new HashMap<>());
+        CachedEntityIndex index = classIndexes.get(indexName);
+        if (index == null) {
+            index = new CachedEntityIndex(indexName);
+            for (CachedEntity cachedEntity : classCache.values()) {
+                index.add(cachedEntity);
+            }
+            classIndexes.put(indexName, index);
+        }
+
+        return index.get(indexValue);
+    }
+
+    @Override
+    public void reindex(Entity entity) {
+        Map<String, CachedEntityIndex> classIndexes = indexes.get(entity.getClass());
+        if (classIndexes == null || entity.getId() == null) {
+            return;
+        }
+
+        CachedEntity cachedEntity = cachedObjects.get(entity.getClass()).get(entity.getId());
+        if (cachedEntity != null && cachedEntity.getEntity() == entity) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.add(cachedEntity);
+            }
+        }
+    }
+
+    @Override
+    public void refreshPersistentState(Entity entity) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+        CachedEntity cachedEntity = classCache != null ? classCache.get(entity.getId()) : null;
+        if (cachedEntity != null && cachedEntity.getEntity() == entity) {
+            cachedEntity.refreshOriginalPersistentState();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
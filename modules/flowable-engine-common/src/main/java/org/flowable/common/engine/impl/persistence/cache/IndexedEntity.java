@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An {@link Entity} that can be looked up in the {@link EntityCache} through secondary indexes on some of its reference properties
+ * (see {@link CachedEntityIndex} for the index names).
+ * 
+ * Implementations must call {@link EntityCache#reindex(Entity)} (through {@link org.flowable.common.engine.impl.persistence.entity.AbstractEntity#indexedPropertyChanged()})
+ * when the value of an indexed property changes and the entity is in the entity cache (see {@link #setInEntityCache(boolean)}).
+ */
+public interface IndexedEntity extends Entity {
+
+    /**
+     * Set by the {@link EntityCache} when this entity is put in or removed from the cache, 
+     * so changes of indexed properties are only reindexed for cached entities.
+     */
+    void setInEntityCache(boolean isInEntityCache);
+
+    /**
+     * Returns the value of this entity for the index with the given name, or null if the entity has no value for it (or doesn't support the index).
+     */
+    String getIndexValue(String indexName);
+
+}
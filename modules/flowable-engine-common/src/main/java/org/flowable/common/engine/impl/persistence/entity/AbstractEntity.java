@@ -12,7 +12,11 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntity;
 
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
@@ -30,6 +34,8 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    protected boolean isInEntityCache;
+
     @Override
     public String getId() {
         return id;
@@ -94,4 +100,31 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public boolean isInEntityCache() {
+        return isInEntityCache;
+    }
+
+    public void setInEntityCache(boolean isInEntityCache) {
+        this.isInEntityCache = isInEntityCache;
+    }
+
+    /**
+     * To be called by {@link IndexedEntity} implementations when an indexed property changes,
+     * so the secondary indexes of the {@link EntityCache} of the current command stay in sync.
+     * Does nothing until the entity has been put in an {@link EntityCache} (e.g. while it is being mapped from a result set).
+     */
+    protected void indexedPropertyChanged() {
+        if (!isInEntityCache) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            EntityCache entityCache = (EntityCache) commandContext.getSessions().get(EntityCache.class);
+            if (entityCache != null) {
+                entityCache.reindex(this);
+            }
+        }
+    }
 }
@@ -95,7 +95,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeSingleResult(Context.getCommandContext());
     }
@@ -105,7 +105,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext());
     }
@@ -117,7 +117,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext());
     }
@@ -126,7 +126,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeCount(Context.getCommandContext());
     }
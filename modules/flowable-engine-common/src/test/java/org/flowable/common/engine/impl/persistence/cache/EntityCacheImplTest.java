@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    private EntityCacheImpl entityCache = new EntityCacheImpl();
+
+    @Test
+    void findByIndex() {
+        entityCache.put(new TestIndexedEntity("1", "a"), true);
+        entityCache.put(new TestIndexedEntity("2", "a"), true);
+        entityCache.put(new TestIndexedEntity("3", "b"), true);
+
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "a"))
+                .extracting(cachedEntity -> cachedEntity.getEntity().getId())
+                .containsExactly("1", "2");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "c")).isEmpty();
+
+        // Maintained after the index is created
+        entityCache.put(new TestIndexedEntity("4", "b"), true);
+        entityCache.cacheRemove(TestIndexedEntity.class, "3");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "b"))
+                .extracting(cachedEntity -> cachedEntity.getEntity().getId())
+                .containsExactly("4");
+    }
+
+    @Test
+    void reindexAfterChange() {
+        TestIndexedEntity entity = new TestIndexedEntity("1", "a");
+        entityCache.put(entity, true);
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "a")).hasSize(1);
+
+        entity.parentId = "b";
+        entityCache.reindex(entity);
+
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "a")).isEmpty();
+        assertThat(entityCache.findInCacheAsCachedObjects(TestIndexedEntity.class, CachedEntityIndex.PARENT_ID, "b")).hasSize(1);
+    }
+
+    @Test
+    void notIndexedEntity() {
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, CachedEntityIndex.PARENT_ID, "a")).isNull();
+    }
+
+    static class TestIndexedEntity extends AbstractEntity implements IndexedEntity {
+
+        protected String parentId;
+
+        TestIndexedEntity(String id, String parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+
+        @Override
+        public String getIndexValue(String indexName) {
+            return CachedEntityIndex.PARENT_ID.equals(indexName) ? parentId : null;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("parentId", parentId);
+            return persistentState;
+        }
+
+    }
+
+    static class TestEntity extends AbstractEntity {
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            return new HashMap<>();
+        }
+
+    }
+
+}
@@ -26,8 +26,10 @@ import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessMigrationBatch;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.ActivityInstanceQuery;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
@@ -39,6 +41,7 @@ import org.flowable.engine.runtime.NativeActivityInstanceQuery;
 import org.flowable.engine.runtime.NativeExecutionQuery;
 import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceBatchStartBuilder;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.task.Event;
@@ -62,6 +65,12 @@ public interface RuntimeService {
      */
     ProcessInstanceBuilder createProcessInstanceBuilder();
 
+    /**
+     * Create a {@link ProcessInstanceBatchStartBuilder}, that allows to start many process instances of the same process definition at once,
+     * each with its own business key and variables.
+     */
+    ProcessInstanceBatchStartBuilder createProcessInstanceBatchStartBuilder();
+
     /**
      * Starts a new process instance in the latest version of the process definition with the given key.
      *
@@ -343,6 +352,46 @@ public interface RuntimeService {
      */
     void deleteProcessInstance(String processInstanceId, String deleteReason);
 
+    /**
+     * Deletes the given runtime process instances, including their sub process instances, with set-based delete statements
+     * instead of deleting every execution, task, job and variable one by one.
+     * The process instances are deleted in chunks of the configured process instance bulk delete batch size, every chunk in its own transaction.
+     * 
+     * No execution listeners are called and no per-instance delete events are dispatched: one
+     * {@link FlowableEngineEventType#PROCESS_INSTANCES_BULK_DELETED} event is dispatched per chunk instead.
+     * The historic process instances are ended with the delete reason. Unknown ids are ignored.
+     * Case instances started by a case task of the deleted process instances are terminated.
+     * 
+     * Bulk deletion is not supported when async history is enabled, as the historic process instances are ended with direct updates.
+     *
+     * @param processInstanceIds
+     *            ids of the process instances to delete, cannot be null.
+     * @param deleteReason
+     *            reason for deleting, can be null.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason);
+
+    /**
+     * Deletes all runtime process instances of the given process definition. See {@link #bulkDeleteProcessInstances(Collection, String)}.
+     *
+     * @param processDefinitionId
+     *            id of the process definition, cannot be null.
+     * @param deleteReason
+     *            reason for deleting, can be null.
+     */
+    void bulkDeleteProcessInstancesByProcessDefinitionId(String processDefinitionId, String deleteReason);
+
+    /**
+     * Deletes all runtime process instances matching the given query. Paging of the query is ignored.
+     * See {@link #bulkDeleteProcessInstances(Collection, String)}.
+     *
+     * @param processInstanceQuery
+     *            query selecting the process instances to delete, cannot be null.
+     * @param deleteReason
+     *            reason for deleting, can be null.
+     */
+    void bulkDeleteProcessInstances(ProcessInstanceQuery processInstanceQuery, String deleteReason);
+
     /**
      * Finds the activity ids for all executions that are waiting in activities. This is a list because a single activity can be active multiple times.
      *
@@ -1375,4 +1424,31 @@ public interface RuntimeService {
 
     void migrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
 
+    /**
+     * Migrates all process instances of the given process definition in a batch: the process instances are split in chunks
+     * (see {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setProcessMigrationBatchChunkSize(int)}) and every chunk is migrated by an async job.
+     * Each process instance is migrated in its own transaction, and its outcome is stored with the batch.
+     *
+     * @return the created batch, use its id to follow up on the progress with {@link #getProcessInstanceBatchMigrationResult(String)}
+     */
+    ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Same as {@link #batchMigrateProcessInstancesOfProcessDefinition(String, ProcessInstanceMigrationDocument)}, with the process definition identified by its key, version and (optional) tenant id.
+     */
+    ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Returns the progress of a batch migration: the amount of waiting, successfully migrated and failed process instances, and the failure of every failed process instance.
+     *
+     * @throws FlowableObjectNotFoundException
+     *             when no batch migration with the given id exists.
+     */
+    ProcessInstanceBatchMigrationResult getProcessInstanceBatchMigrationResult(String batchId);
+
+    /**
+     * Deletes a batch migration together with its progress. Chunks of the batch that weren't migrated yet will be skipped.
+     */
+    void deleteProcessMigrationBatch(String batchId);
+
 }
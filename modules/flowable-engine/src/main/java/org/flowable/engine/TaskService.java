@@ -24,6 +24,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskResult;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -258,6 +259,44 @@ public interface TaskService {
      */
     void complete(String taskId, Map<String, Object> variables, boolean localScope);
 
+    /**
+     * Claims all given tasks for the given user, see {@link #claim(String, String)}.
+     * The tasks are claimed in chunks of the configured task bulk operation chunk size, every chunk in its own transaction.
+     * A task that can't be claimed doesn't make the other tasks fail.
+     * 
+     * @param taskIds
+     *            the ids of the tasks to claim, cannot be null.
+     * @param userId
+     *            user that claims the tasks. When userId is null the tasks are unclaimed.
+     * @return the result for every task, in the order of the given task ids.
+     */
+    List<BulkTaskResult> bulkClaim(Collection<String> taskIds, String userId);
+
+    /**
+     * Completes all given tasks with the same variables, see {@link #complete(String, Map)}.
+     * The tasks are completed in chunks of the configured task bulk operation chunk size, every chunk in its own transaction.
+     * A task that can't be completed doesn't make the other tasks fail.
+     * 
+     * @param taskIds
+     *            the ids of the tasks to complete, cannot be null.
+     * @param variables
+     *            task parameters. May be null or empty.
+     * @return the result for every task, in the order of the given task ids.
+     */
+    List<BulkTaskResult> bulkComplete(Collection<String> taskIds, Map<String, Object> variables);
+
+    /**
+     * Sets the given variables on all given tasks, see {@link #setVariables(String, Map)}.
+     * The variables are set in chunks of the configured task bulk operation chunk size, every chunk in its own transaction.
+     * 
+     * @param taskIds
+     *            the ids of the tasks, cannot be null.
+     * @param variables
+     *            the variables to set, cannot be null.
+     * @return the result for every task, in the order of the given task ids.
+     */
+    List<BulkTaskResult> bulkSetVariables(Collection<String> taskIds, Map<String, ? extends Object> variables);
+
     /**
      * Called when the task is successfully executed, and the task form has been submitted.
      * 
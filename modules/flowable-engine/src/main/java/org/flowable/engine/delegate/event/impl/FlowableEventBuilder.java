@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.bpmn.model.Activity;
@@ -33,6 +34,7 @@ import org.flowable.engine.delegate.event.FlowableMessageEvent;
 import org.flowable.engine.delegate.event.FlowableMultiInstanceActivityCancelledEvent;
 import org.flowable.engine.delegate.event.FlowableMultiInstanceActivityCompletedEvent;
 import org.flowable.engine.delegate.event.FlowableMultiInstanceActivityEvent;
+import org.flowable.engine.delegate.event.FlowableProcessInstancesBulkDeletedEvent;
 import org.flowable.engine.delegate.event.FlowableProcessStartedEvent;
 import org.flowable.engine.delegate.event.FlowableProcessTerminatedEvent;
 import org.flowable.engine.delegate.event.FlowableSequenceFlowTakenEvent;
@@ -338,6 +340,10 @@ public class FlowableEventBuilder {
         return newEvent;
     }
 
+    public static FlowableProcessInstancesBulkDeletedEvent createProcessInstancesBulkDeletedEvent(List<String> processInstanceIds, String deleteReason) {
+        return new FlowableProcessInstancesBulkDeletedEventImpl(processInstanceIds, deleteReason);
+    }
+
     public static FlowableProcessTerminatedEvent createTerminateEvent(ExecutionEntity execution, Object cause) {
         return new FlowableProcessTerminatedEventImpl(execution, cause);
     }
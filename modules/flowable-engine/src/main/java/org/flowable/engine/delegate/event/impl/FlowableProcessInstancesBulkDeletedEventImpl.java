@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event.impl;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.FlowableProcessInstancesBulkDeletedEvent;
+
+/**
+ * An {@link FlowableProcessInstancesBulkDeletedEvent} implementation.
+ */
+public class FlowableProcessInstancesBulkDeletedEventImpl extends FlowableProcessEventImpl implements FlowableProcessInstancesBulkDeletedEvent {
+
+    protected List<String> processInstanceIds;
+    protected String deleteReason;
+
+    public FlowableProcessInstancesBulkDeletedEventImpl(List<String> processInstanceIds, String deleteReason) {
+        super(FlowableEngineEventType.PROCESS_INSTANCES_BULK_DELETED);
+        this.processInstanceIds = processInstanceIds;
+        this.deleteReason = deleteReason;
+    }
+
+    @Override
+    public List<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    @Override
+    public String getDeleteReason() {
+        return deleteReason;
+    }
+
+}
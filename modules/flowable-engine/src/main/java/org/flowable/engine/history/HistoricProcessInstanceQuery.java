@@ -17,6 +17,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.engine.ProcessEngineConfiguration;
@@ -362,4 +363,12 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      * Instruct localization to fallback to more general locales including the default locale of the JVM if the specified locale is not found.
      */
     HistoricProcessInstanceQuery withLocalizationFallback();
+
+    /**
+     * Executes the query and passes every result to the given consumer, without loading the complete result list in memory.
+     * The results are read through a database cursor and are not registered in the entity cache, hence they should be treated as read-only.
+     *
+     * @param batchSize the number of rows fetched from the database at once (used as JDBC fetch size hint)
+     */
+    void forEach(int batchSize, Consumer<HistoricProcessInstance> consumer);
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -724,6 +725,36 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public void forEach(int batchSize, Consumer<HistoricProcessInstance> consumer) {
+        forEachResult(batchSize, consumer);
+    }
+
+    @Override
+    protected void executeForEach(CommandContext commandContext, int fetchSize, Consumer<HistoricProcessInstance> consumer) {
+        checkQueryOk();
+        ensureVariablesInitialized();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        // Process variables are fetched with an outer join and can't be streamed row by row
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Including process variables is not supported when streaming historic process instance query results");
+        }
+
+        if (processEngineConfiguration.getPerformanceSettings().isEnableLocalization()) {
+            CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).forEachHistoricProcessInstanceByQueryCriteria(this, fetchSize, processInstance -> {
+                localize(processInstance, commandContext);
+                consumer.accept(processInstance);
+            });
+        } else {
+            CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).forEachHistoricProcessInstanceByQueryCriteria(this, fetchSize, consumer);
+        }
+    }
+
     protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
         HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
         processInstanceEntity.setLocalizedName(null);
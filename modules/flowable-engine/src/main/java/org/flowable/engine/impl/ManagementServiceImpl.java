@@ -59,6 +59,7 @@ import org.flowable.job.service.impl.cmd.MoveDeadLetterJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveJobToDeadLetterJobCmd;
 import org.flowable.job.service.impl.cmd.MoveSuspendedJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerToExecutableJobCmd;
+import org.flowable.job.service.impl.cmd.SetJobPriorityCmd;
 import org.flowable.job.service.impl.cmd.SetJobRetriesCmd;
 import org.flowable.job.service.impl.cmd.SetTimerJobRetriesCmd;
 
@@ -158,6 +159,11 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new SetJobRetriesCmd(jobId, retries));
     }
 
+    @Override
+    public void setJobPriority(String jobId, int priority) {
+        commandExecutor.execute(new SetJobPriorityCmd(jobId, priority));
+    }
+
     @Override
     public void setTimerJobRetries(String jobId, int retries) {
         commandExecutor.execute(new SetTimerJobRetriesCmd(jobId, retries));
@@ -738,6 +738,21 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceCountByQueryCriteria(this);
     }
 
+    /**
+     * Returns the ids of all matching process instances, without loading the process instances themselves. Paging is ignored.
+     */
+    public List<String> executeIdList(CommandContext commandContext) {
+        checkQueryOk();
+        ensureVariablesInitialized();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
+        }
+
+        return CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceIdsByQueryCriteria(this);
+    }
+
     @Override
     public List<ProcessInstance> executeList(CommandContext commandContext) {
         checkQueryOk();
@@ -33,11 +33,13 @@ import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BulkDeleteProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteMultiInstanceExecutionCmd;
 import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.DeleteProcessMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.DispatchEventCommand;
 import org.flowable.engine.impl.cmd.ExecuteActivityForAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.FindActiveActivityIdsCmd;
@@ -55,11 +57,13 @@ import org.flowable.engine.impl.cmd.GetExecutionVariableInstancesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceBatchMigrationResultCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.MessageEventReceivedCmd;
+import org.flowable.engine.impl.cmd.ProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationValidationCmd;
 import org.flowable.engine.impl.cmd.RemoveEventListenerCommand;
@@ -71,14 +75,18 @@ import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.TriggerCmd;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationBuilderImpl;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBatchStartBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessMigrationBatch;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.EventSubscriptionQuery;
@@ -87,6 +95,7 @@ import org.flowable.engine.runtime.ExecutionQuery;
 import org.flowable.engine.runtime.NativeExecutionQuery;
 import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceBatchStartBuilder;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.task.Event;
@@ -182,6 +191,30 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new DeleteProcessInstanceCmd(processInstanceId, deleteReason));
     }
 
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd(processInstanceIds, deleteReason));
+    }
+
+    @Override
+    public void bulkDeleteProcessInstancesByProcessDefinitionId(String processDefinitionId, String deleteReason) {
+        if (processDefinitionId == null) {
+            throw new FlowableIllegalArgumentException("processDefinitionId is null");
+        }
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd(processDefinitionId, deleteReason));
+    }
+
+    @Override
+    public void bulkDeleteProcessInstances(ProcessInstanceQuery processInstanceQuery, String deleteReason) {
+        if (processInstanceQuery == null) {
+            throw new FlowableIllegalArgumentException("processInstanceQuery is null");
+        }
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd((ProcessInstanceQueryImpl) processInstanceQuery, deleteReason));
+    }
+
     @Override
     public ExecutionQuery createExecutionQuery() {
         return new ExecutionQueryImpl(commandExecutor);
@@ -693,6 +726,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return new ProcessInstanceBuilderImpl(this);
     }
 
+    @Override
+    public ProcessInstanceBatchStartBuilder createProcessInstanceBatchStartBuilder() {
+        return new ProcessInstanceBatchStartBuilderImpl(this);
+    }
+
     @Override
     public ChangeActivityStateBuilder createChangeActivityStateBuilder() {
         return new ChangeActivityStateBuilderImpl(this);
@@ -718,6 +756,14 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         }
     }
 
+    public List<ProcessInstance> startProcessInstances(ProcessInstanceBatchStartBuilderImpl processInstanceBatchStartBuilder) {
+        if (processInstanceBatchStartBuilder.getProcessDefinitionId() != null || processInstanceBatchStartBuilder.getProcessDefinitionKey() != null) {
+            return commandExecutor.execute(new StartProcessInstancesCmd(processInstanceBatchStartBuilder));
+        } else {
+            throw new FlowableIllegalArgumentException("No processDefinitionId, processDefinitionKey provided");
+        }
+    }
+
     public ProcessInstance startProcessInstanceAsync(ProcessInstanceBuilderImpl processInstanceBuilder) {
         if (processInstanceBuilder.getProcessDefinitionId() != null || processInstanceBuilder.getProcessDefinitionKey() != null) {
             return (ProcessInstance) commandExecutor.execute(new StartProcessInstanceAsyncCmd(processInstanceBuilder));
@@ -770,4 +816,24 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(ProcessInstanceMigrationCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
     }
 
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(ProcessInstanceMigrationBatchCmd.forProcessDefinition(processDefinitionId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(ProcessInstanceMigrationBatchCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public ProcessInstanceBatchMigrationResult getProcessInstanceBatchMigrationResult(String batchId) {
+        return commandExecutor.execute(new GetProcessInstanceBatchMigrationResultCmd(batchId));
+    }
+
+    @Override
+    public void deleteProcessMigrationBatch(String batchId) {
+        commandExecutor.execute(new DeleteProcessMigrationBatchCmd(batchId));
+    }
+
 }
@@ -27,6 +27,7 @@ import org.flowable.engine.TaskService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.AddCommentCmd;
 import org.flowable.engine.impl.cmd.AddIdentityLinkCmd;
+import org.flowable.engine.impl.cmd.BulkTaskOperationCmd;
 import org.flowable.engine.impl.cmd.ClaimTaskCmd;
 import org.flowable.engine.impl.cmd.CompleteTaskCmd;
 import org.flowable.engine.impl.cmd.CompleteTaskWithFormCmd;
@@ -70,6 +71,7 @@ import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
 import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskResult;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -213,6 +215,21 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
         commandExecutor.execute(new CompleteTaskCmd(taskId, variables));
     }
 
+    @Override
+    public List<BulkTaskResult> bulkClaim(Collection<String> taskIds, String userId) {
+        return commandExecutor.execute(new BulkTaskOperationCmd(taskIds, taskId -> new ClaimTaskCmd(taskId, userId)));
+    }
+
+    @Override
+    public List<BulkTaskResult> bulkComplete(Collection<String> taskIds, Map<String, Object> variables) {
+        return commandExecutor.execute(new BulkTaskOperationCmd(taskIds, taskId -> new CompleteTaskCmd(taskId, variables)));
+    }
+
+    @Override
+    public List<BulkTaskResult> bulkSetVariables(Collection<String> taskIds, Map<String, ? extends Object> variables) {
+        return commandExecutor.execute(new BulkTaskOperationCmd(taskIds, taskId -> new SetTaskVariablesCmd(taskId, variables, false)));
+    }
+
     @Override
     public void complete(String taskId, Map<String, Object> variables, Map<String, Object> transientVariables) {
         commandExecutor.execute(new CompleteTaskCmd(taskId, variables, transientVariables));
@@ -31,6 +31,7 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.logging.LogMDC;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -118,6 +119,9 @@ public class ContinueMultiInstanceOperation extends AbstractOperation {
             job.setTenantId(execution.getTenantId());
         }
         
+        JobPriorityUtil.applyJobPriority(job, flowNode.getJobPriority(),
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), execution);
+
         execution.getJobs().add(job);
         
         jobService.createAsyncJob(job, flowNode.isExclusive());
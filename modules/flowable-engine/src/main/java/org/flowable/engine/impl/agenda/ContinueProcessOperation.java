@@ -15,6 +15,7 @@ package org.flowable.engine.impl.agenda;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -32,6 +33,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -40,6 +42,8 @@ import org.flowable.engine.logging.LogMDC;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -117,6 +121,21 @@ public class ContinueProcessOperation extends AbstractOperation {
         }
     }
 
+    protected void prefetchVariables(FlowNode flowNode) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.getPerformanceSettings().isEnableVariablePrefetching() || !(execution instanceof VariableScopeImpl)) {
+            return;
+        }
+
+        ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getDeploymentManager().getProcessDefinitionCache().get(execution.getProcessDefinitionId());
+        if (cacheEntry != null && cacheEntry.getFlowNodeVariableNames() != null) {
+            Set<String> variableNames = cacheEntry.getFlowNodeVariableNames().get(flowNode.getId());
+            if (variableNames != null) {
+                ((VariableScopeImpl) execution).prefetchVariables(variableNames);
+            }
+        }
+    }
+
     protected void createChildExecutionForSubProcess(SubProcess subProcess) {
         ExecutionEntity parentScopeExecution = findFirstParentScopeExecution(execution);
 
@@ -134,6 +153,7 @@ public class ContinueProcessOperation extends AbstractOperation {
     }
 
     protected void executeSynchronous(FlowNode flowNode) {
+        prefetchVariables(flowNode);
         CommandContextUtil.getActivityInstanceEntityManager(commandContext).recordActivityStart(execution);
 
         // Execution listener: event 'start'
@@ -178,6 +198,9 @@ public class ContinueProcessOperation extends AbstractOperation {
             job.setTenantId(execution.getTenantId());
         }
         
+        JobPriorityUtil.applyJobPriority(job, flowNode.getJobPriority(),
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), execution);
+
         execution.getJobs().add(job);
         
         jobService.createAsyncJob(job, flowNode.isExclusive());
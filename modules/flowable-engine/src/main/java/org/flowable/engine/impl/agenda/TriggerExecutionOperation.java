@@ -25,6 +25,7 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 
 /**
  * Operation that triggers a wait state and continues the process, leaving that activity.
@@ -76,6 +77,9 @@ public class TriggerExecutionOperation extends AbstractOperation {
                         job.setTenantId(execution.getTenantId());
                     }
 
+                    JobPriorityUtil.applyJobPriority(job, ((FlowNode) currentFlowElement).getJobPriority(),
+                            CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), execution);
+
                     jobService.createAsyncJob(job, true);
                     jobService.scheduleAsyncJob(job);
                 }
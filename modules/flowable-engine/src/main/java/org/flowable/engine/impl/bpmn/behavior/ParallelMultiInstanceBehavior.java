@@ -28,10 +28,12 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
+import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -117,7 +119,20 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         int nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
         
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
+        VariableInstanceEntity completedInstancesCounter = null;
         if (miRootExecution != null) { // will be null in case of empty collection
+            completedInstancesCounter = getCompletedInstancesCounter(miRootExecution);
+        }
+
+        if (completedInstancesCounter != null) {
+            // The counter row is only incremented (not versioned), so concurrently completing instances don't conflict.
+            // The persisted nrOfActiveInstances isn't updated, so the loop variables are made available for the completion condition as transient variables.
+            nrOfCompletedInstances = (int) CommandContextUtil.getVariableService().incrementVariableInstanceLongValue(completedInstancesCounter);
+            nrOfActiveInstances = nrOfInstances - nrOfCompletedInstances;
+            miRootExecution.setTransientVariableLocal(NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+            miRootExecution.setTransientVariableLocal(NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+        } else if (miRootExecution != null) {
             setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
             setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
         }
@@ -135,11 +150,17 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         if (executionEntity.getParent() != null) {
 
             executionEntity.inactivate();
-            lockFirstParentScope(executionEntity);
+            if (completedInstancesCounter == null) {
+                lockFirstParentScope(executionEntity);
+            }
 
             boolean isCompletionConditionSatisfied = completionConditionSatisfied(execution.getParent());
             if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
 
+                if (completedInstancesCounter != null) {
+                    lockFirstParentScope(executionEntity);
+                }
+
                 ExecutionEntity leavingExecution = null;
                 if (nrOfInstances > 0) {
                     leavingExecution = executionEntity.getParent();
@@ -241,6 +262,26 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
     }
 
 
+    /**
+     * Returns the persisted nrOfCompletedInstances variable of the multi instance root execution, 
+     * when completions need to be tracked by incrementing it in the database (see {@link PerformanceSettings#isEnableParallelMultiInstanceCounterCompletion()}).
+     * 
+     * Returns null when the regular variable updates should be used: when the setting is disabled, 
+     * or when the variable was created in the current transaction (no other transaction can see it yet).
+     */
+    protected VariableInstanceEntity getCompletedInstancesCounter(DelegateExecution multiInstanceRootExecution) {
+        if (!CommandContextUtil.getProcessEngineConfiguration().getPerformanceSettings().isEnableParallelMultiInstanceCounterCompletion()) {
+            return null;
+        }
+
+        VariableInstanceEntity counter = CommandContextUtil.getVariableService()
+                .findVariableInstanceByExecutionAndName(multiInstanceRootExecution.getId(), NUMBER_OF_COMPLETED_INSTANCES);
+        if (counter == null || counter.isInserted() || counter.isDeleted()) {
+            return null;
+        }
+        return counter;
+    }
+
     protected void lockFirstParentScope(DelegateExecution execution) {
 
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
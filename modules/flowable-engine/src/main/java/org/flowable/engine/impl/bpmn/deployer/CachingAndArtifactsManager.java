@@ -50,6 +50,7 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            addFlowNodeVariableNames(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
             addDefinitionInfoToCache(processDefinition, processEngineConfiguration, commandContext);
 
@@ -69,10 +70,17 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            addFlowNodeVariableNames(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
         }
     }
 
+    protected void addFlowNodeVariableNames(ProcessDefinitionCacheEntry cacheEntry, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processEngineConfiguration.getPerformanceSettings().isEnableVariablePrefetching() && cacheEntry.getProcess() != null) {
+            cacheEntry.setFlowNodeVariableNames(new FlowNodeVariableNamesCollector().collectVariableNames(cacheEntry.getProcess()));
+        }
+    }
+
     protected void addDefinitionInfoToCache(ProcessDefinitionEntity processDefinition,
             ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
 
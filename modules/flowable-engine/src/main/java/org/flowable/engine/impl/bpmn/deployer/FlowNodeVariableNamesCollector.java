@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventDefinition;
+import org.flowable.bpmn.model.FieldExtension;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.bpmn.model.IOParameter;
+import org.flowable.bpmn.model.ImplementationType;
+import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.impl.el.ExpressionVariableNamesUtil;
+
+/**
+ * Determines, for every flow node of a process, the names of the variables that are possibly read when the flow node is executed.
+ * The result is kept in the process definition cache entry, so the variables can be fetched in one go when an execution arrives in the flow node,
+ * instead of one query per variable (or per scope).
+ *
+ * Only expressions of the process model are analyzed: variables accessed from Java code (delegates, scripts, ...) are fetched on demand as before.
+ */
+public class FlowNodeVariableNamesCollector {
+
+    public Map<String, Set<String>> collectVariableNames(FlowElementsContainer flowElementsContainer) {
+        Map<String, Set<String>> flowNodeVariableNames = new HashMap<>();
+        collectVariableNames(flowElementsContainer, flowNodeVariableNames);
+        return flowNodeVariableNames;
+    }
+
+    protected void collectVariableNames(FlowElementsContainer flowElementsContainer, Map<String, Set<String>> flowNodeVariableNames) {
+        for (FlowElement flowElement : flowElementsContainer.getFlowElements()) {
+            if (flowElement instanceof FlowNode) {
+                Set<String> variableNames = new LinkedHashSet<>();
+                collectFlowNodeVariableNames((FlowNode) flowElement, variableNames);
+                if (!variableNames.isEmpty()) {
+                    flowNodeVariableNames.put(flowElement.getId(), variableNames);
+                }
+            }
+
+            if (flowElement instanceof FlowElementsContainer) {
+                collectVariableNames((FlowElementsContainer) flowElement, flowNodeVariableNames);
+            }
+        }
+    }
+
+    protected void collectFlowNodeVariableNames(FlowNode flowNode, Set<String> variableNames) {
+        collectListenerVariableNames(flowNode.getExecutionListeners(), variableNames);
+
+        for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+            addExpression(sequenceFlow.getConditionExpression(), variableNames);
+        }
+
+        if (flowNode instanceof Activity) {
+            MultiInstanceLoopCharacteristics loopCharacteristics = ((Activity) flowNode).getLoopCharacteristics();
+            if (loopCharacteristics != null) {
+                addExpression(loopCharacteristics.getInputDataItem(), variableNames);
+                addExpression(loopCharacteristics.getCollectionString(), variableNames);
+                addExpression(loopCharacteristics.getLoopCardinality(), variableNames);
+                addExpression(loopCharacteristics.getCompletionCondition(), variableNames);
+            }
+        }
+
+        if (flowNode instanceof ServiceTask) {
+            ServiceTask serviceTask = (ServiceTask) flowNode;
+            if (ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION.equals(serviceTask.getImplementationType())
+                    || ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(serviceTask.getImplementationType())) {
+                addExpression(serviceTask.getImplementation(), variableNames);
+            }
+            collectFieldExtensionVariableNames(serviceTask.getFieldExtensions(), variableNames);
+
+        } else if (flowNode instanceof UserTask) {
+            UserTask userTask = (UserTask) flowNode;
+            addExpression(userTask.getName(), variableNames);
+            addExpression(userTask.getAssignee(), variableNames);
+            addExpression(userTask.getOwner(), variableNames);
+            addExpression(userTask.getPriority(), variableNames);
+            addExpression(userTask.getFormKey(), variableNames);
+            addExpression(userTask.getDueDate(), variableNames);
+            addExpression(userTask.getCategory(), variableNames);
+            addExpressions(userTask.getCandidateUsers(), variableNames);
+            addExpressions(userTask.getCandidateGroups(), variableNames);
+            collectListenerVariableNames(userTask.getTaskListeners(), variableNames);
+
+        } else if (flowNode instanceof CallActivity) {
+            CallActivity callActivity = (CallActivity) flowNode;
+            addExpression(callActivity.getCalledElement(), variableNames);
+            addExpression(callActivity.getBusinessKey(), variableNames);
+            for (IOParameter inParameter : callActivity.getInParameters()) {
+                if (inParameter.getSource() != null) {
+                    variableNames.add(inParameter.getSource());
+                }
+                addExpression(inParameter.getSourceExpression(), variableNames);
+            }
+
+        } else if (flowNode instanceof Event) {
+            for (EventDefinition eventDefinition : ((Event) flowNode).getEventDefinitions()) {
+                if (eventDefinition instanceof TimerEventDefinition) {
+                    TimerEventDefinition timerEventDefinition = (TimerEventDefinition) eventDefinition;
+                    addExpression(timerEventDefinition.getTimeDate(), variableNames);
+                    addExpression(timerEventDefinition.getTimeDuration(), variableNames);
+                    addExpression(timerEventDefinition.getTimeCycle(), variableNames);
+                }
+            }
+        }
+    }
+
+    protected void collectListenerVariableNames(List<FlowableListener> listeners, Set<String> variableNames) {
+        if (listeners == null) {
+            return;
+        }
+
+        for (FlowableListener listener : listeners) {
+            if (ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION.equals(listener.getImplementationType())
+                    || ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(listener.getImplementationType())) {
+                addExpression(listener.getImplementation(), variableNames);
+            }
+            collectFieldExtensionVariableNames(listener.getFieldExtensions(), variableNames);
+        }
+    }
+
+    protected void collectFieldExtensionVariableNames(List<FieldExtension> fieldExtensions, Set<String> variableNames) {
+        if (fieldExtensions == null) {
+            return;
+        }
+
+        for (FieldExtension fieldExtension : fieldExtensions) {
+            addExpression(fieldExtension.getExpression(), variableNames);
+        }
+    }
+
+    protected void addExpressions(Collection<String> expressions, Set<String> variableNames) {
+        if (expressions == null) {
+            return;
+        }
+
+        for (String expression : expressions) {
+            addExpression(expression, variableNames);
+        }
+    }
+
+    protected void addExpression(String expression, Set<String> variableNames) {
+        variableNames.addAll(ExpressionVariableNamesUtil.getVariableNames(expression));
+    }
+
+}
@@ -28,6 +28,23 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * If true, the first time the variables of an execution are needed, the variables of all executions of the process instance are fetched
+     * in the same roundtrip. Looking up a variable through the scope hierarchy (eg in nested subprocesses or multi-instance executions)
+     * then doesn't need a query per parent scope anymore.
+     * 
+     * This enables the setting globally. However, it must also be enabled on a process definition itself.
+     * If false, the setting on the process definition is ignored.
+     */
+    protected boolean enableEagerVariableFetching = false;
+
+    /**
+     * If true, the expressions of each flow node (conditions, listeners, user task assignments, multi-instance settings, ...) are analyzed
+     * when the process definition is cached. When an execution arrives in a flow node, the variables those expressions reference
+     * are fetched upfront with one query per scope, instead of separately when each expression is evaluated.
+     */
+    protected boolean enableVariablePrefetching = false;
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -61,6 +78,16 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, the completion of a child execution of a parallel multi-instance activity is tracked by atomically incrementing
+     * the nrOfCompletedInstances counter in the database, instead of updating the loop variables and the multi-instance root execution.
+     * 
+     * With many asynchronous instances completing concurrently, this avoids every completion updating the same rows
+     * (and failing with optimistic locking exceptions). The loop variables are exposed as transient variables
+     * to the completion condition; the persisted nrOfActiveInstances variable is not kept up to date in this mode.
+     */
+    protected boolean enableParallelMultiInstanceCounterCompletion = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -69,6 +96,22 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isEnableEagerVariableFetching() {
+        return enableEagerVariableFetching;
+    }
+
+    public void setEnableEagerVariableFetching(boolean enableEagerVariableFetching) {
+        this.enableEagerVariableFetching = enableEagerVariableFetching;
+    }
+
+    public boolean isEnableVariablePrefetching() {
+        return enableVariablePrefetching;
+    }
+
+    public void setEnableVariablePrefetching(boolean enableVariablePrefetching) {
+        this.enableVariablePrefetching = enableVariablePrefetching;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
@@ -109,4 +152,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableParallelMultiInstanceCounterCompletion() {
+        return enableParallelMultiInstanceCounterCompletion;
+    }
+
+    public void setEnableParallelMultiInstanceCounterCompletion(boolean enableParallelMultiInstanceCounterCompletion) {
+        this.enableParallelMultiInstanceCounterCompletion = enableParallelMultiInstanceCounterCompletion;
+    }
+
 }
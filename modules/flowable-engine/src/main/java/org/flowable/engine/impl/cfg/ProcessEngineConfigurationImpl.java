@@ -248,6 +248,8 @@ import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPrepareJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -271,6 +273,7 @@ import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityManager;
@@ -285,6 +288,8 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManage
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
@@ -305,6 +310,7 @@ import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceD
 import org.flowable.engine.impl.persistence.entity.data.ModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
+import org.flowable.engine.impl.persistence.entity.data.ProcessMigrationBatchDataManager;
 import org.flowable.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ResourceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisActivityInstanceDataManager;
@@ -321,6 +327,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoricProc
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionInfoDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessMigrationBatchDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisPropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisResourceDataManager;
 import org.flowable.engine.impl.scripting.VariableScopeResolverFactory;
@@ -349,8 +356,10 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExcepti
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.ExclusiveJobAffinity;
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
+import org.flowable.job.service.impl.asyncexecutor.JobExecutionLane;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
@@ -444,6 +453,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ModelDataManager modelDataManager;
     protected ProcessDefinitionDataManager processDefinitionDataManager;
     protected ProcessDefinitionInfoDataManager processDefinitionInfoDataManager;
+    protected ProcessMigrationBatchDataManager processMigrationBatchDataManager;
     protected PropertyDataManager propertyDataManager;
     protected ResourceDataManager resourceDataManager;
 
@@ -463,6 +473,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ModelEntityManager modelEntityManager;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected ProcessDefinitionInfoEntityManager processDefinitionInfoEntityManager;
+    protected ProcessMigrationBatchEntityManager processMigrationBatchEntityManager;
     protected PropertyEntityManager propertyEntityManager;
     protected ResourceEntityManager resourceEntityManager;
     protected TableDataManager tableDataManager;
@@ -490,6 +501,34 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DynamicStateManager dynamicStateManager;
 
     protected ProcessInstanceMigrationManager processInstanceMigrationManager;
+
+    /**
+     * The amount of process instances that are migrated by one async job when doing a batch migration.
+     */
+    protected int processMigrationBatchChunkSize = 100;
+
+    /**
+     * The amount of process instances for which batch parts are created in one transaction when preparing a batch migration.
+     */
+    protected int processMigrationBatchPageSize = 1000;
+
+    /**
+     * The amount of process instances that are deleted with one set of bulk delete statements (and, through the RuntimeService, in one transaction).
+     * Every statement contains an IN clause with this amount of ids, so it should stay well below the database limits on bound parameters.
+     */
+    protected int processInstanceBulkDeleteBatchSize = 100;
+
+    /**
+     * When enabled, deleting the process instances of a process definition (e.g. when deleting a deployment with cascade)
+     * uses the set-based bulk deletion instead of deleting every process instance separately.
+     * Note that no execution listeners are called and no per process instance events are dispatched in that case.
+     */
+    protected boolean enableBulkProcessInstanceDeletion;
+
+    /**
+     * The amount of tasks that are claimed, completed or updated in one transaction by the bulk task operations of the TaskService.
+     */
+    protected int taskBulkOperationChunkSize = 100;
     
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected IdentityLinkServiceConfiguration identityLinkServiceConfiguration;
@@ -498,6 +537,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected JobServiceConfiguration jobServiceConfiguration;
     
     protected boolean enableEntityLinks;
+    protected boolean enableCompactEntityLinkHierarchy;
+    protected boolean enableEntityLinkHierarchyPath = true;
 
     // DEPLOYERS //////////////////////////////////////////////////////////////////
 
@@ -515,6 +556,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When a process definition is not found in the process definition cache, only its own BPMN 2.0 resource is parsed
+     * instead of all resources of its deployment. Disabled by default, as custom deployers then won't see the other resources.
+     */
+    protected boolean resolveSingleProcessDefinitionResource;
+
+    /**
+     * When larger than zero, the latest version of all process definitions is put in the process definition cache when the engine boots,
+     * using this amount of threads. By default, no warm up happens and process definitions are cached when first used.
+     */
+    protected int processDefinitionCacheWarmUpThreads;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
@@ -586,6 +639,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * Dedicated thread pools for jobs of certain job handler types or priority bands, so that these jobs always have execution capacity reserved for them.
+     * Jobs not matching any lane are executed by the regular async executor thread pool.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected List<JobExecutionLane> asyncExecutorJobExecutionLanes;
+
+    /**
+     * When set, exclusive jobs are partitioned by process instance across the nodes and executed sequentially per instance by a dedicated worker.
+     * Null by default. See {@link ExclusiveJobAffinity} for when the lock on the process instance can be skipped.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected ExclusiveJobAffinity asyncExecutorExclusiveJobAffinity;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when the a shutdown on the executor (or process engine) is requested. Default value = 60.
      * <p>
@@ -653,6 +722,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorTimerLockTimeInMillis = 5 * 60 * 1000;
 
+    /**
+     * When larger than zero, timer jobs that become due within this amount of time (in milliseconds) are leased by the async executor ahead of their due date
+     * and fired from an in-memory timer wheel exactly at their due date, rather than at the next timer acquisition cycle.
+     * Should be larger than the timer acquire wait time and smaller than the timer lock time. All nodes of a cluster should use the same setting.
+     * <p>
+     * Default value = 0 (disabled);
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorTimerLookaheadInMillis;
+
     /**
      * The amount of time (in milliseconds) an async job is locked when acquired by the async executor. During this period of time, no other async executor will try to acquire and lock this job.
      * <p>
@@ -705,6 +785,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      * Set this to true when using the message queue based job executor.
      */
     protected boolean asyncExecutorMessageQueueMode;
+
+    /**
+     * Set this to true to lock the process instance of an exclusive job, execute the job and unlock the process instance again
+     * in one transaction, reusing the job that was loaded when acquiring it. This saves database roundtrips per executed job.
+     */
+    protected boolean asyncExecutorSingleTransactionJobExecution;
     
     // More info: see similar async executor properties.
     protected boolean asyncHistoryExecutorMessageQueueMode;
@@ -1190,6 +1276,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDefinitionInfoDataManager == null) {
             processDefinitionInfoDataManager = new MybatisProcessDefinitionInfoDataManager(this);
         }
+        if (processMigrationBatchDataManager == null) {
+            processMigrationBatchDataManager = new MybatisProcessMigrationBatchDataManager(this);
+        }
         if (propertyDataManager == null) {
             propertyDataManager = new MybatisPropertyDataManager(this);
         }
@@ -1243,6 +1332,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDefinitionInfoEntityManager == null) {
             processDefinitionInfoEntityManager = new ProcessDefinitionInfoEntityManagerImpl(this, processDefinitionInfoDataManager);
         }
+        if (processMigrationBatchEntityManager == null) {
+            processMigrationBatchEntityManager = new ProcessMigrationBatchEntityManagerImpl(this, processMigrationBatchDataManager);
+        }
         if (propertyEntityManager == null) {
             propertyEntityManager = new PropertyEntityManagerImpl(this, propertyDataManager);
         }
@@ -1341,6 +1433,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (isBulkInsertEnabled && "oracle".equals(databaseType)) {
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(EventLogEntryEntityImpl.class);
         }
+
+        // Executions reference each other (parent, super execution and process instance). Deleting a parent together with its child executions
+        // in one statement can violate these foreign keys on databases that check them row by row (e.g. MySQL), so executions are deleted one by one
+        dbSqlSessionFactory.getNonBulkDeletableEntityClasses().add(ExecutionEntityImpl.class);
     }
 
     public void initAsyncHistorySessionFactory() {
@@ -1411,6 +1507,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.entityLinkServiceConfiguration.setClock(this.clock);
             this.entityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
             this.entityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+            this.entityLinkServiceConfiguration.setEnableCompactHierarchy(this.enableCompactEntityLinkHierarchy);
+            this.entityLinkServiceConfiguration.setEnableHierarchyPath(this.enableEntityLinkHierarchyPath);
     
             this.entityLinkServiceConfiguration.init();
     
@@ -1466,6 +1564,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableCompactEntityLinkHierarchy(this.enableEntityLinks && this.enableCompactEntityLinkHierarchy);
 
         this.taskServiceConfiguration.init();
         
@@ -1894,6 +1993,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
 
+        ProcessInstanceMigrationBatchJobHandler processInstanceMigrationBatchJobHandler = new ProcessInstanceMigrationBatchJobHandler();
+        jobHandlers.put(processInstanceMigrationBatchJobHandler.getType(), processInstanceMigrationBatchJobHandler);
+
+        ProcessInstanceMigrationBatchPrepareJobHandler processInstanceMigrationBatchPrepareJobHandler = new ProcessInstanceMigrationBatchPrepareJobHandler();
+        jobHandlers.put(processInstanceMigrationBatchPrepareJobHandler.getType(), processInstanceMigrationBatchPrepareJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1982,6 +2087,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Message queue mode
             defaultAsyncExecutor.setMessageQueueMode(asyncExecutorMessageQueueMode);
 
+            defaultAsyncExecutor.setSingleTransactionJobExecution(asyncExecutorSingleTransactionJobExecution);
+
             // Thread pool config
             defaultAsyncExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
             defaultAsyncExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
@@ -1992,6 +2099,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+            if (asyncExecutorJobExecutionLanes != null) {
+                defaultAsyncExecutor.setJobExecutionLanes(asyncExecutorJobExecutionLanes);
+            }
+            defaultAsyncExecutor.setExclusiveJobAffinity(asyncExecutorExclusiveJobAffinity);
             
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
@@ -2007,6 +2118,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
+            defaultAsyncExecutor.setTimerLookaheadInMillis(asyncExecutorTimerLookaheadInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
             if (asyncExecutorLockOwner != null) {
                 defaultAsyncExecutor.setLockOwner(asyncExecutorLockOwner);
@@ -2472,6 +2584,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
 
+        if (processDefinitionCacheWarmUpThreads > 0) {
+            deploymentManager.warmUpProcessDefinitionCache(processDefinitionCacheWarmUpThreads);
+        }
+
         // if Flowable 5 support is needed configure the Flowable 5 job processors via the compatibility handler
         if (flowable5CompatibilityEnabled) {
             flowable5CompatibilityHandler.setJobProcessor(this.flowable5JobProcessors);
@@ -3342,6 +3458,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isResolveSingleProcessDefinitionResource() {
+        return resolveSingleProcessDefinitionResource;
+    }
+
+    public ProcessEngineConfigurationImpl setResolveSingleProcessDefinitionResource(boolean resolveSingleProcessDefinitionResource) {
+        this.resolveSingleProcessDefinitionResource = resolveSingleProcessDefinitionResource;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpThreads() {
+        return processDefinitionCacheWarmUpThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpThreads(int processDefinitionCacheWarmUpThreads) {
+        this.processDefinitionCacheWarmUpThreads = processDefinitionCacheWarmUpThreads;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3539,6 +3673,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableEagerVariableFetching(boolean enableEagerVariableFetching) {
+        this.performanceSettings.setEnableEagerVariableFetching(enableEagerVariableFetching);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableVariablePrefetching(boolean enableVariablePrefetching) {
+        this.performanceSettings.setEnableVariablePrefetching(enableVariablePrefetching);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -3562,6 +3706,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceCounterCompletion(boolean enableParallelMultiInstanceCounterCompletion) {
+        this.performanceSettings.setEnableParallelMultiInstanceCounterCompletion(enableParallelMultiInstanceCounterCompletion);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -3688,6 +3837,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessMigrationBatchDataManager getProcessMigrationBatchDataManager() {
+        return processMigrationBatchDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessMigrationBatchDataManager(ProcessMigrationBatchDataManager processMigrationBatchDataManager) {
+        this.processMigrationBatchDataManager = processMigrationBatchDataManager;
+        return this;
+    }
+
     public PropertyDataManager getPropertyDataManager() {
         return propertyDataManager;
     }
@@ -3832,6 +3990,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessMigrationBatchEntityManager getProcessMigrationBatchEntityManager() {
+        return processMigrationBatchEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessMigrationBatchEntityManager(ProcessMigrationBatchEntityManager processMigrationBatchEntityManager) {
+        this.processMigrationBatchEntityManager = processMigrationBatchEntityManager;
+        return this;
+    }
+
     public PropertyEntityManager getPropertyEntityManager() {
         return propertyEntityManager;
     }
@@ -3967,6 +4134,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getProcessMigrationBatchChunkSize() {
+        return processMigrationBatchChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessMigrationBatchChunkSize(int processMigrationBatchChunkSize) {
+        this.processMigrationBatchChunkSize = processMigrationBatchChunkSize;
+        return this;
+    }
+
+    public int getProcessMigrationBatchPageSize() {
+        return processMigrationBatchPageSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessMigrationBatchPageSize(int processMigrationBatchPageSize) {
+        this.processMigrationBatchPageSize = processMigrationBatchPageSize;
+        return this;
+    }
+
+    public int getProcessInstanceBulkDeleteBatchSize() {
+        return processInstanceBulkDeleteBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceBulkDeleteBatchSize(int processInstanceBulkDeleteBatchSize) {
+        this.processInstanceBulkDeleteBatchSize = processInstanceBulkDeleteBatchSize;
+        return this;
+    }
+
+    public boolean isEnableBulkProcessInstanceDeletion() {
+        return enableBulkProcessInstanceDeletion;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableBulkProcessInstanceDeletion(boolean enableBulkProcessInstanceDeletion) {
+        this.enableBulkProcessInstanceDeletion = enableBulkProcessInstanceDeletion;
+        return this;
+    }
+
+    public int getTaskBulkOperationChunkSize() {
+        return taskBulkOperationChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setTaskBulkOperationChunkSize(int taskBulkOperationChunkSize) {
+        this.taskBulkOperationChunkSize = taskBulkOperationChunkSize;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setClock(Clock clock) {
         if (this.clock == null) {
@@ -4097,6 +4309,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.enableEntityLinks = enableEntityLinks;
         return this;
     }
+
+    public boolean isEnableCompactEntityLinkHierarchy() {
+        return enableCompactEntityLinkHierarchy;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCompactEntityLinkHierarchy(boolean enableCompactEntityLinkHierarchy) {
+        this.enableCompactEntityLinkHierarchy = enableCompactEntityLinkHierarchy;
+        return this;
+    }
+
+    public boolean isEnableEntityLinkHierarchyPath() {
+        return enableEntityLinkHierarchyPath;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableEntityLinkHierarchyPath(boolean enableEntityLinkHierarchyPath) {
+        this.enableEntityLinkHierarchyPath = enableEntityLinkHierarchyPath;
+        return this;
+    }
     
     // Flowable 5
 
@@ -4286,6 +4516,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public List<JobExecutionLane> getAsyncExecutorJobExecutionLanes() {
+        return asyncExecutorJobExecutionLanes;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobExecutionLanes(List<JobExecutionLane> asyncExecutorJobExecutionLanes) {
+        this.asyncExecutorJobExecutionLanes = asyncExecutorJobExecutionLanes;
+        return this;
+    }
+
+    public ExclusiveJobAffinity getAsyncExecutorExclusiveJobAffinity() {
+        return asyncExecutorExclusiveJobAffinity;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobAffinity(ExclusiveJobAffinity asyncExecutorExclusiveJobAffinity) {
+        this.asyncExecutorExclusiveJobAffinity = asyncExecutorExclusiveJobAffinity;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -4358,6 +4606,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorTimerLookaheadInMillis() {
+        return asyncExecutorTimerLookaheadInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerLookaheadInMillis(int asyncExecutorTimerLookaheadInMillis) {
+        this.asyncExecutorTimerLookaheadInMillis = asyncExecutorTimerLookaheadInMillis;
+        return this;
+    }
+
     public int getAsyncExecutorAsyncJobLockTimeInMillis() {
         return asyncExecutorAsyncJobLockTimeInMillis;
     }
@@ -4412,6 +4669,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorSingleTransactionJobExecution() {
+        return asyncExecutorSingleTransactionJobExecution;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSingleTransactionJobExecution(boolean asyncExecutorSingleTransactionJobExecution) {
+        this.asyncExecutorSingleTransactionJobExecution = asyncExecutorSingleTransactionJobExecution;
+        return this;
+    }
+
     public boolean isAsyncHistoryExecutorIsMessageQueueMode() {
         return asyncHistoryExecutorMessageQueueMode;
     }
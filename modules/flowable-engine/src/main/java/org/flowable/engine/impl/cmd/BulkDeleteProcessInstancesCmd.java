@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Deletes process instances with set-based statements, in chunks of {@link ProcessEngineConfigurationImpl#getProcessInstanceBulkDeleteBatchSize()}.
+ *
+ * Every chunk is deleted in its own transaction, so a large deletion doesn't keep one huge transaction open.
+ * A failing chunk stops the deletion, but the chunks before it stay deleted.
+ */
+public class BulkDeleteProcessInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Collection<String> processInstanceIds;
+    protected String processDefinitionId;
+    protected ProcessInstanceQueryImpl processInstanceQuery;
+    protected String deleteReason;
+
+    public BulkDeleteProcessInstancesCmd(Collection<String> processInstanceIds, String deleteReason) {
+        this.processInstanceIds = processInstanceIds;
+        this.deleteReason = deleteReason;
+    }
+
+    public BulkDeleteProcessInstancesCmd(String processDefinitionId, String deleteReason) {
+        this.processDefinitionId = processDefinitionId;
+        this.deleteReason = deleteReason;
+    }
+
+    public BulkDeleteProcessInstancesCmd(ProcessInstanceQueryImpl processInstanceQuery, String deleteReason) {
+        this.processInstanceQuery = processInstanceQuery;
+        this.deleteReason = deleteReason;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+            throw new FlowableException("Bulk deletion of process instances is not supported when async history is enabled");
+        }
+
+        List<String> ids = resolveProcessInstanceIds(commandContext);
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew();
+
+        int batchSize = processEngineConfiguration.getProcessInstanceBulkDeleteBatchSize();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            List<String> batch = new ArrayList<>(ids.subList(i, Math.min(i + batchSize, ids.size())));
+            commandExecutor.execute(commandConfig, batchCommandContext -> {
+                CommandContextUtil.getExecutionEntityManager(batchCommandContext).bulkDeleteProcessInstances(batch, deleteReason);
+                return null;
+            });
+        }
+
+        return null;
+    }
+
+    protected List<String> resolveProcessInstanceIds(CommandContext commandContext) {
+        if (processInstanceIds != null) {
+            if (processInstanceIds.stream().anyMatch(Objects::isNull)) {
+                throw new FlowableIllegalArgumentException("processInstanceIds contains a null value");
+            }
+            return new ArrayList<>(new LinkedHashSet<>(processInstanceIds));
+
+        } else if (processDefinitionId != null) {
+            return CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
+
+        } else if (processInstanceQuery != null) {
+            return processInstanceQuery.executeIdList(commandContext);
+
+        } else {
+            throw new FlowableIllegalArgumentException("processInstanceIds, processDefinitionId or processInstanceQuery is required");
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.task.BulkTaskResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the command created by the task command factory for every task, in chunks of {@link ProcessEngineConfigurationImpl#getTaskBulkOperationChunkSize()}.
+ *
+ * All tasks of a chunk are handled in one transaction, so they share the entity cache and are flushed together.
+ * When the chunk fails, it is rolled back and its tasks are retried one transaction per task,
+ * so that only the tasks that really fail are reported as failed.
+ */
+public class BulkTaskOperationCmd implements Command<List<BulkTaskResult>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkTaskOperationCmd.class);
+
+    protected Collection<String> taskIds;
+    protected Function<String, Command<?>> taskCommandFactory;
+
+    public BulkTaskOperationCmd(Collection<String> taskIds, Function<String, Command<?>> taskCommandFactory) {
+        this.taskIds = taskIds;
+        this.taskCommandFactory = taskCommandFactory;
+    }
+
+    @Override
+    public List<BulkTaskResult> execute(CommandContext commandContext) {
+        if (taskIds == null) {
+            throw new FlowableIllegalArgumentException("taskIds is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew();
+        int chunkSize = Math.max(1, processEngineConfiguration.getTaskBulkOperationChunkSize());
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        List<BulkTaskResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            List<String> chunk = ids.subList(i, Math.min(i + chunkSize, ids.size()));
+            try {
+                commandExecutor.execute(commandConfig, chunkCommandContext -> {
+                    for (String taskId : chunk) {
+                        taskCommandFactory.apply(taskId).execute(chunkCommandContext);
+                    }
+                    return null;
+                });
+
+                for (String taskId : chunk) {
+                    results.add(new BulkTaskResult(taskId, true, null));
+                }
+
+            } catch (RuntimeException e) {
+                if (chunk.size() == 1) {
+                    results.add(createFailedResult(chunk.get(0), e));
+                } else {
+                    LOGGER.debug("Bulk task operation failed for a chunk of {} tasks, retrying the tasks one by one", chunk.size(), e);
+                    for (String taskId : chunk) {
+                        results.add(executeForTask(commandExecutor, commandConfig, taskId));
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    protected BulkTaskResult executeForTask(CommandExecutor commandExecutor, CommandConfig commandConfig, String taskId) {
+        try {
+            commandExecutor.execute(commandConfig, taskCommandFactory.apply(taskId));
+            return new BulkTaskResult(taskId, true, null);
+
+        } catch (RuntimeException e) {
+            return createFailedResult(taskId, e);
+        }
+    }
+
+    protected BulkTaskResult createFailedResult(String taskId, RuntimeException e) {
+        LOGGER.debug("Bulk task operation failed for task {}", taskId, e);
+        return new BulkTaskResult(taskId, false, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+    }
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+
+public class GetProcessInstanceBatchMigrationResultCmd implements Command<ProcessInstanceBatchMigrationResult> {
+
+    protected String batchId;
+
+    public GetProcessInstanceBatchMigrationResultCmd(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public ProcessInstanceBatchMigrationResult execute(CommandContext commandContext) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+
+        ProcessMigrationBatchEntityManager batchEntityManager = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext);
+        ProcessMigrationBatchEntity batch = batchEntityManager.findById(batchId);
+        if (batch == null || batch.getParentId() != null) {
+            throw new FlowableObjectNotFoundException("No process migration batch found for id " + batchId, ProcessMigrationBatch.class);
+        }
+
+        ProcessInstanceBatchMigrationResult result = new ProcessInstanceBatchMigrationResult();
+        result.setBatch(batch);
+        result.setWaitingCount(batchEntityManager.countPartsByParentIdAndStatus(batchId, ProcessMigrationBatch.PART_STATUS_WAITING));
+        result.setSuccessCount(batchEntityManager.countPartsByParentIdAndStatus(batchId, ProcessMigrationBatch.PART_STATUS_SUCCESS));
+        result.setFailedCount(batchEntityManager.countPartsByParentIdAndStatus(batchId, ProcessMigrationBatch.PART_STATUS_FAIL));
+        if (result.getFailedCount() > 0) {
+            result.setFailedParts(new ArrayList<>(batchEntityManager.findPartsByParentIdAndStatus(batchId, ProcessMigrationBatch.PART_STATUS_FAIL)));
+        }
+        return result;
+    }
+
+}
@@ -24,13 +24,10 @@ import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.Process;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.ValuedDataObject;
-import org.flowable.common.engine.api.FlowableIllegalArgumentException;
-import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
-import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
@@ -187,50 +184,10 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
     }
 
     protected ProcessDefinition getProcessDefinition(ProcessEngineConfigurationImpl processEngineConfiguration) {
-        ProcessDefinitionEntityManager processDefinitionEntityManager = processEngineConfiguration.getProcessDefinitionEntityManager();
-
-        // Find the process definition
-        ProcessDefinition processDefinition = null;
-        if (processDefinitionId != null) {
-            processDefinition = processDefinitionEntityManager.findById(processDefinitionId);
-            if (processDefinition == null) {
-                throw new FlowableObjectNotFoundException("No process definition found for id = '" + processDefinitionId + "'", ProcessDefinition.class);
-            }
-
-        } else if (processDefinitionKey != null && (tenantId == null || ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId))) {
-
-            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
-            if (processDefinition == null) {
-                throw new FlowableObjectNotFoundException("No process definition found for key '" + processDefinitionKey + "'", ProcessDefinition.class);
-            }
-
-        } else if (processDefinitionKey != null && tenantId != null && !ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
-            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
-            if (processDefinition == null) {
-                if (fallbackToDefaultTenant || processEngineConfiguration.isFallbackToDefaultTenant()) {
-                    if (StringUtils.isNotEmpty(processEngineConfiguration.getDefaultTenantValue())) {
-                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, 
-                                        processEngineConfiguration.getDefaultTenantValue());
-                        if (processDefinition != null) {
-                            overrideDefinitionTenantId = tenantId;
-                        }
-                        
-                    } else {
-                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
-                    }
-                    
-                    if (processDefinition == null) {
-                        throw new FlowableObjectNotFoundException("No process definition found for key '" + processDefinitionKey +
-                            "'. Fallback to default tenant was also applied.", ProcessDefinition.class);
-                    }
-                } else {
-                    throw new FlowableObjectNotFoundException("Process definition with key '" + processDefinitionKey +
-                        "' and tenantId '"+ tenantId +"' was not found", ProcessDefinition.class);
-                }
-            }
-
-        } else {
-            throw new FlowableIllegalArgumentException("processDefinitionKey and processDefinitionId are null");
+        ProcessDefinition processDefinition = ProcessDefinitionUtil.findProcessDefinitionToStart(processDefinitionId, processDefinitionKey, tenantId,
+                fallbackToDefaultTenant, processEngineConfiguration);
+        if (processDefinitionId == null && ProcessDefinitionUtil.isDefaultTenantFallback(processDefinition, tenantId, processEngineConfiguration)) {
+            overrideDefinitionTenantId = tenantId;
         }
         return processDefinition;
     }
@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBatchStartBuilderImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBatchStartBuilderImpl.ProcessInstanceStart;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts many process instances of one process definition.
+ * 
+ * The process definition, its model and its initial flow element are resolved once, instead of once per process instance.
+ * All process instances of a chunk are started in the same command context, so the entities they create are flushed together
+ * and go through the bulk inserts of the DbSqlSession.
+ */
+public class StartProcessInstancesCmd implements Command<List<ProcessInstance>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionKey;
+    protected String processDefinitionId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected int chunkSize;
+    protected List<ProcessInstanceStart> processInstanceStarts;
+
+    public StartProcessInstancesCmd(ProcessInstanceBatchStartBuilderImpl processInstanceBatchStartBuilder) {
+        this.processDefinitionKey = processInstanceBatchStartBuilder.getProcessDefinitionKey();
+        this.processDefinitionId = processInstanceBatchStartBuilder.getProcessDefinitionId();
+        this.tenantId = processInstanceBatchStartBuilder.getTenantId();
+        this.fallbackToDefaultTenant = processInstanceBatchStartBuilder.isFallbackToDefaultTenant();
+        this.chunkSize = processInstanceBatchStartBuilder.getChunkSize();
+        this.processInstanceStarts = new ArrayList<>(processInstanceBatchStartBuilder.getProcessInstanceStarts());
+    }
+
+    @Override
+    public List<ProcessInstance> execute(CommandContext commandContext) {
+        if (processInstanceStarts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+
+        ProcessDefinition processDefinition = ProcessDefinitionUtil.findProcessDefinitionToStart(processDefinitionId, processDefinitionKey, tenantId,
+                fallbackToDefaultTenant, processEngineConfiguration);
+        String overrideDefinitionTenantId = processDefinitionId == null
+                && ProcessDefinitionUtil.isDefaultTenantFallback(processDefinition, tenantId, processEngineConfiguration) ? tenantId : null;
+
+        if (chunkSize <= 0 || chunkSize >= processInstanceStarts.size()) {
+            return startProcessInstances(commandContext, processDefinition, overrideDefinitionTenantId, processInstanceStarts);
+        }
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew();
+
+        List<ProcessInstance> processInstances = new ArrayList<>(processInstanceStarts.size());
+        for (int i = 0; i < processInstanceStarts.size(); i += chunkSize) {
+            List<ProcessInstanceStart> chunk = processInstanceStarts.subList(i, Math.min(i + chunkSize, processInstanceStarts.size()));
+            processInstances.addAll(commandExecutor.execute(commandConfig,
+                    chunkCommandContext -> startProcessInstances(chunkCommandContext, processDefinition, overrideDefinitionTenantId, chunk)));
+        }
+        return processInstances;
+    }
+
+    protected List<ProcessInstance> startProcessInstances(CommandContext commandContext, ProcessDefinition processDefinition,
+            String overrideDefinitionTenantId, List<ProcessInstanceStart> starts) {
+
+        ProcessInstanceHelper processInstanceHelper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessInstanceHelper();
+        List<ProcessInstance> processInstances = new ArrayList<>(starts.size());
+
+        if (Flowable5Util.isFlowable5ProcessDefinition(processDefinition, commandContext)) {
+            for (ProcessInstanceStart start : starts) {
+                processInstances.add(processInstanceHelper.createProcessInstance(processDefinition, start.getBusinessKey(), start.getProcessInstanceName(),
+                        overrideDefinitionTenantId, null, start.getVariables(), null, null, null, true));
+            }
+            return processInstances;
+        }
+
+        if (ProcessDefinitionUtil.isProcessDefinitionSuspended(processDefinition.getId())) {
+            throw new FlowableException("Cannot start process instance. Process definition " + processDefinition.getName() + " (id = " + processDefinition.getId() + ") is suspended");
+        }
+
+        Process process = ProcessDefinitionUtil.getProcess(processDefinition.getId());
+        if (process == null) {
+            throw new FlowableException("Cannot start process instance. Process model " + processDefinition.getName() + " (id = " + processDefinition.getId() + ") could not be found");
+        }
+
+        FlowElement initialFlowElement = process.getInitialFlowElement();
+        if (initialFlowElement == null) {
+            throw new FlowableException("No start element found for process definition " + processDefinition.getId());
+        }
+
+        for (ProcessInstanceStart start : starts) {
+            processInstances.add(processInstanceHelper.createAndStartProcessInstanceWithInitialFlowElement(processDefinition, start.getBusinessKey(),
+                    start.getProcessInstanceName(), overrideDefinitionTenantId, null, initialFlowElement, process, start.getVariables(), null, null, null, true));
+        }
+        return processInstances;
+    }
+
+}
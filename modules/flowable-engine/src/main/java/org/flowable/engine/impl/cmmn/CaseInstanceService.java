@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.cmmn;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -24,4 +25,10 @@ public interface CaseInstanceService {
 
     void deleteCaseInstance(String caseInstanceId);
 
+    /**
+     * Terminates the case instances that were started by a case task of one of the given executions.
+     * Used when the executions are deleted in bulk: the parent case task executions are not triggered.
+     */
+    void terminateCaseInstancesForExecutionIds(Collection<String> executionIds);
+
 }
@@ -37,6 +37,7 @@ import org.flowable.engine.impl.persistence.entity.MessageEventSubscriptionEntit
 import org.flowable.engine.impl.persistence.entity.ModelEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
@@ -115,6 +116,11 @@ public class EntityDependencyOrder {
          */
         DELETE_ORDER.add(ProcessDefinitionInfoEntityImpl.class);
 
+        /*
+         * FK to ByteArray
+         */
+        DELETE_ORDER.add(ProcessMigrationBatchEntityImpl.class);
+
         /*
          * FK from ModelEntity FK from JobEntity FK from VariableInstanceEntity
          * 
@@ -93,6 +93,14 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
         return historyLevel != HistoryLevel.NONE;
     }
     
+    @Override
+    public void recordBulkProcessInstanceEnd(List<String> processInstanceIds, String deleteReason) {
+        // History levels can differ per process definition: the updates simply don't match anything when no history was recorded
+        if (isHistoryEnabled() || enableProcessDefinitionHistoryLevel) {
+            getHistoricProcessInstanceEntityManager().bulkMarkEnded(processInstanceIds, deleteReason, getClock().getCurrentTime());
+        }
+    }
+
     @Override
     public boolean isHistoryEnabled(String processDefinitionId) {
         if (enableProcessDefinitionHistoryLevel && processDefinitionId != null) {
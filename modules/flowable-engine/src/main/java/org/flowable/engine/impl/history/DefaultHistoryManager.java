@@ -469,6 +469,9 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
             historicEntityLinkEntity.setReferenceScopeType(entityLink.getReferenceScopeType());
             historicEntityLinkEntity.setReferenceScopeDefinitionId(entityLink.getReferenceScopeDefinitionId());
             historicEntityLinkEntity.setHierarchyType(entityLink.getHierarchyType());
+            historicEntityLinkEntity.setRootScopeId(entityLink.getRootScopeId());
+            historicEntityLinkEntity.setRootScopeType(entityLink.getRootScopeType());
+            historicEntityLinkEntity.setHierarchyPath(entityLink.getHierarchyPath());
             historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
         }
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.history;
 
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.bpmn.model.FlowElement;
@@ -75,6 +76,13 @@ public interface HistoryManager {
      */
     void recordDeleteHistoricProcessInstancesByProcessDefinitionId(String processDefinitionId);
 
+    /**
+     * Record the end of process instances that are deleted in bulk. The historic process instances and their unfinished
+     * historic activity and task instances are ended with set-based updates, no per instance history is recorded.
+     * The updates go directly to the history tables, so this can't be combined with async history.
+     */
+    void recordBulkProcessInstanceEnd(List<String> processInstanceIds, String deleteReason);
+
     /**
      * Record the start of an activity, if activity history is enabled.
      *
@@ -613,6 +613,9 @@ public class AsyncHistoryManager extends AbstractHistoryManager {
             putIfNotNull(data, HistoryJsonConstants.REF_SCOPE_TYPE, entityLink.getReferenceScopeType());
             putIfNotNull(data, HistoryJsonConstants.REF_SCOPE_DEFINITION_ID, entityLink.getReferenceScopeDefinitionId());
             putIfNotNull(data, HistoryJsonConstants.HIERARCHY_TYPE, entityLink.getHierarchyType());
+            putIfNotNull(data, HistoryJsonConstants.ROOT_SCOPE_ID, entityLink.getRootScopeId());
+            putIfNotNull(data, HistoryJsonConstants.ROOT_SCOPE_TYPE, entityLink.getRootScopeType());
+            putIfNotNull(data, HistoryJsonConstants.HIERARCHY_PATH, entityLink.getHierarchyPath());
             getAsyncHistorySession().addHistoricData(getJobServiceConfiguration(), HistoryJsonConstants.TYPE_ENTITY_LINK_CREATED, data);
         }
     }
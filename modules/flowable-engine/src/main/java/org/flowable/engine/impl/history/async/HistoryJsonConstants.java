@@ -212,6 +212,12 @@ public interface HistoryJsonConstants {
 
     String HIERARCHY_TYPE = "hierarchyType";
 
+    String ROOT_SCOPE_ID = "rootScopeId";
+
+    String ROOT_SCOPE_TYPE = "rootScopeType";
+
+    String HIERARCHY_PATH = "hierarchyPath";
+
     String RUNTIME_ACTIVITY_INSTANCE_ID = "runtimeActivityInstanceId";
 
     String TIMESTAMP = "__timeStamp"; // Two underscores to avoid clashes with other fields
@@ -53,6 +53,9 @@ public class EntityLinkCreatedHistoryJsonTransformer extends AbstractHistoryJson
         historicEntityLinkEntity.setReferenceScopeType(getStringFromJson(historicalData, HistoryJsonConstants.REF_SCOPE_TYPE));
         historicEntityLinkEntity.setReferenceScopeDefinitionId(getStringFromJson(historicalData, HistoryJsonConstants.REF_SCOPE_DEFINITION_ID));
         historicEntityLinkEntity.setHierarchyType(getStringFromJson(historicalData, HistoryJsonConstants.HIERARCHY_TYPE));
+        historicEntityLinkEntity.setRootScopeId(getStringFromJson(historicalData, HistoryJsonConstants.ROOT_SCOPE_ID));
+        historicEntityLinkEntity.setRootScopeType(getStringFromJson(historicalData, HistoryJsonConstants.ROOT_SCOPE_TYPE));
+        historicEntityLinkEntity.setHierarchyPath(getStringFromJson(historicalData, HistoryJsonConstants.HIERARCHY_PATH));
         historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
     }
 
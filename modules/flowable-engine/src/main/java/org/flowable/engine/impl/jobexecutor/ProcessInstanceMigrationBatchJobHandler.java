@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationDocumentImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Migrates the process instances of one chunk of a {@link ProcessMigrationBatch}.
+ *
+ * Every process instance is migrated in its own transaction, so a failing process instance doesn't roll back
+ * the others of the chunk. The outcome is stored on the batch part of the process instance.
+ * The job that sees no more waiting parts afterwards marks the batch as completed, once all parts have been created
+ * by the {@link ProcessInstanceMigrationBatchPrepareJobHandler}.
+ */
+public class ProcessInstanceMigrationBatchJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceMigrationBatchJobHandler.class);
+
+    public static final String TYPE = "process-migration-batch";
+
+    protected static final String CONFIGURATION_SEPARATOR = ":";
+    protected static final int MAX_RESULT_LENGTH = 2000;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public static String createConfiguration(String batchId, int chunk) {
+        return batchId + CONFIGURATION_SEPARATOR + chunk;
+    }
+
+    public static void scheduleJob(ProcessMigrationBatchEntity batch, int chunk, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(createConfiguration(batch.getId(), chunk));
+        job.setTenantId(batch.getTenantId());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        int separatorIndex = configuration.lastIndexOf(CONFIGURATION_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new FlowableException("Invalid process migration batch job configuration " + configuration);
+        }
+        String batchId = configuration.substring(0, separatorIndex);
+        int chunk = Integer.parseInt(configuration.substring(separatorIndex + 1));
+
+        ProcessMigrationBatchEntityManager batchEntityManager = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext);
+        ProcessMigrationBatchEntity batch = batchEntityManager.findById(batchId);
+        if (batch == null) {
+            // The batch has been deleted in the meantime
+            return;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessInstanceMigrationDocument document = ProcessInstanceMigrationDocumentImpl.fromProcessInstanceMigrationDocumentJson(batch.getMigrationDocumentJson());
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew();
+
+        List<ProcessMigrationBatchEntity> parts = batchEntityManager.findPartsByParentIdAndChunk(batchId, chunk);
+        for (ProcessMigrationBatchEntity part : parts) {
+            // Parts that are already handled are skipped when the job is retried
+            if (!ProcessMigrationBatch.PART_STATUS_WAITING.equals(part.getStatus())) {
+                continue;
+            }
+
+            try {
+                commandExecutor.execute(commandConfig, partCommandContext -> {
+                    processEngineConfiguration.getProcessInstanceMigrationManager().migrateProcessInstance(part.getProcessInstanceId(), document, partCommandContext);
+                    completePart(part.getId(), ProcessMigrationBatch.PART_STATUS_SUCCESS, null, partCommandContext);
+                    return null;
+                });
+
+            } catch (RuntimeException e) {
+                LOGGER.warn("Migration of process instance {} in batch {} failed", part.getProcessInstanceId(), batchId, e);
+                String result = StringUtils.abbreviate(e.getMessage() != null ? e.getMessage() : e.getClass().getName(), MAX_RESULT_LENGTH);
+                commandExecutor.execute(commandConfig, partCommandContext -> {
+                    completePart(part.getId(), ProcessMigrationBatch.PART_STATUS_FAIL, result, partCommandContext);
+                    return null;
+                });
+            }
+        }
+
+        // The batch is checked in a new transaction, so its status isn't the one read when this job started,
+        // which could still be preparing while the last page of parts has been created in the meantime
+        commandExecutor.execute(commandConfig, batchCommandContext -> {
+            completeBatchIfDone(batchId, batchCommandContext);
+            return null;
+        });
+    }
+
+    protected void completeBatchIfDone(String batchId, CommandContext commandContext) {
+        ProcessMigrationBatchEntityManager batchEntityManager = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext);
+        ProcessMigrationBatchEntity batch = batchEntityManager.findById(batchId);
+        if (batch != null && ProcessMigrationBatch.STATUS_IN_PROGRESS.equals(batch.getStatus())
+                && batchEntityManager.countPartsByParentIdAndStatus(batchId, ProcessMigrationBatch.PART_STATUS_WAITING) == 0) {
+
+            // When two chunks finish at the same time, the optimistic lock on the batch makes one of the jobs retry
+            batch.setStatus(ProcessMigrationBatch.STATUS_COMPLETED);
+            batch.setCompleteTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
+        }
+    }
+
+    protected void completePart(String partId, String status, String result, CommandContext commandContext) {
+        ProcessMigrationBatchEntity part = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext).findById(partId);
+        if (part != null) {
+            part.setStatus(status);
+            part.setResult(result);
+            part.setCompleteTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the parts of a {@link ProcessMigrationBatch} for one page of process instances of the source process definition,
+ * together with the jobs migrating their chunks.
+ *
+ * The process instance ids are fetched ordered by id, starting after the last id of the previous page. When there are more
+ * process instances, the job schedules the next one for the following page, so every transaction only handles
+ * {@link ProcessEngineConfigurationImpl#getProcessMigrationBatchPageSize()} process instances.
+ * The job handling the last page moves the batch from preparing to in progress.
+ */
+public class ProcessInstanceMigrationBatchPrepareJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceMigrationBatchPrepareJobHandler.class);
+
+    public static final String TYPE = "process-migration-batch-prepare";
+
+    protected static final String CONFIGURATION_SEPARATOR = ":";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public static String createConfiguration(String batchId, int firstChunk, String afterProcessInstanceId) {
+        String configuration = batchId + CONFIGURATION_SEPARATOR + firstChunk;
+        if (afterProcessInstanceId != null) {
+            configuration += CONFIGURATION_SEPARATOR + afterProcessInstanceId;
+        }
+        return configuration;
+    }
+
+    public static void scheduleJob(ProcessMigrationBatchEntity batch, int firstChunk, String afterProcessInstanceId, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(createConfiguration(batch.getId(), firstChunk, afterProcessInstanceId));
+        job.setTenantId(batch.getTenantId());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        String[] configurationParts = configuration.split(CONFIGURATION_SEPARATOR, 3);
+        if (configurationParts.length < 2) {
+            throw new FlowableException("Invalid process migration batch prepare job configuration " + configuration);
+        }
+        String batchId = configurationParts[0];
+        int firstChunk = Integer.parseInt(configurationParts[1]);
+        String afterProcessInstanceId = configurationParts.length > 2 ? configurationParts[2] : null;
+
+        ProcessMigrationBatchEntityManager batchEntityManager = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext);
+        ProcessMigrationBatchEntity batch = batchEntityManager.findById(batchId);
+        if (batch == null) {
+            // The batch has been deleted in the meantime
+            return;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int pageSize = Math.max(1, processEngineConfiguration.getProcessMigrationBatchPageSize());
+        int chunkSize = Math.max(1, processEngineConfiguration.getProcessMigrationBatchChunkSize());
+
+        // One id more than the page size is fetched, to know whether another page follows
+        List<String> processInstanceIds = CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findProcessInstanceIdsByProcessDefinitionId(batch.getSourceProcessDefinitionId(), afterProcessInstanceId, pageSize + 1);
+        if (processInstanceIds.isEmpty()) {
+            // Only possible for the first page, a next page is only scheduled when there is at least one more process instance
+            batch.setStatus(ProcessMigrationBatch.STATUS_COMPLETED);
+            batch.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+            return;
+        }
+
+        boolean lastPage = processInstanceIds.size() <= pageSize;
+        List<String> pageProcessInstanceIds = lastPage ? processInstanceIds : processInstanceIds.subList(0, pageSize);
+
+        int chunk = firstChunk - 1;
+        for (int i = 0; i < pageProcessInstanceIds.size(); i++) {
+            if (i % chunkSize == 0) {
+                chunk++;
+                ProcessInstanceMigrationBatchJobHandler.scheduleJob(batch, chunk, commandContext);
+            }
+            batchEntityManager.insertBatchPart(batch, pageProcessInstanceIds.get(i), chunk);
+        }
+        LOGGER.debug("Prepared chunks {} to {} of batch migration {}", firstChunk, chunk, batchId);
+
+        if (lastPage) {
+            // The last page always has parts, and their chunk jobs only start once this transaction is committed,
+            // so at least one chunk job sees the batch in progress when checking whether it can complete it
+            batch.setStatus(ProcessMigrationBatch.STATUS_IN_PROGRESS);
+        } else {
+            scheduleJob(batch, chunk + 1, pageProcessInstanceIds.get(pageProcessInstanceIds.size() - 1), commandContext);
+        }
+    }
+
+}
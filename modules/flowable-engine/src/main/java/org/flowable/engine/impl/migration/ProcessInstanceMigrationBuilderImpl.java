@@ -20,6 +20,7 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.migration.ActivityMigrationMapping;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessMigrationBatch;
 
 /**
  * @author Dennis Federico
@@ -126,6 +127,18 @@ public class ProcessInstanceMigrationBuilderImpl implements ProcessInstanceMigra
         return getRuntimeService().validateMigrationForProcessInstancesOfProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, document);
     }
 
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstances(String processDefinitionId) {
+        ProcessInstanceMigrationDocument document = migrationDocumentBuilder.build();
+        return getRuntimeService().batchMigrateProcessInstancesOfProcessDefinition(processDefinitionId, document);
+    }
+
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId) {
+        ProcessInstanceMigrationDocument document = migrationDocumentBuilder.build();
+        return getRuntimeService().batchMigrateProcessInstancesOfProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, document);
+    }
+
     protected RuntimeService getRuntimeService() {
         if (runtimeService == null) {
             throw new FlowableException("RuntimeService cannot be null, Obtain your builder instance from the RuntimeService to access this feature");
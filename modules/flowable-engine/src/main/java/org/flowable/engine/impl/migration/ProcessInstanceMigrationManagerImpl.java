@@ -42,16 +42,19 @@ import org.flowable.engine.impl.dynamic.AbstractDynamicStateManager;
 import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPrepareJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntity;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.migration.ActivityMigrationMapping;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.migration.ProcessInstanceMigrationManager;
+import org.flowable.engine.migration.ProcessMigrationBatch;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -346,6 +349,34 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
 
     }
 
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+        ProcessDefinition processDefinition = resolveProcessDefinition(procDefKey, procDefVer, procDefTenantId, commandContext);
+        if (processDefinition == null) {
+            throw new FlowableException("Cannot find the process definition to migrate from, with key '" + procDefKey + "' and version " + procDefVer);
+        }
+        return batchMigrateProcessInstancesOfProcessDefinition(processDefinition.getId(), document, commandContext);
+    }
+
+    @Override
+    public ProcessMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+        ProcessDefinition processDefinition = resolveProcessDefinition(document, commandContext);
+        if (processDefinition == null) {
+            throw new FlowableException("Cannot find the process definition to migrate to, with " + printProcessDefinitionIdentifierMessage(document));
+        }
+
+        ProcessMigrationBatchEntity batch = CommandContextUtil.getProcessMigrationBatchEntityManager(commandContext).insertBatch(processDefinitionId,
+                processDefinition.getId(), processDefinition.getTenantId(), document.asJsonString());
+
+        // The parts are created by jobs as well, one page of process instances at a time, so the transaction stays small
+        // no matter how many process instances the process definition has
+        ProcessInstanceMigrationBatchPrepareJobHandler.scheduleJob(batch, 0, null, commandContext);
+
+        LOGGER.debug("Scheduled the preparation of batch migration {} of the process instances of process definition '{}'", batch.getId(), processDefinitionId);
+
+        return batch;
+    }
+
     protected void doMigrateProcessInstance(ProcessInstance processInstance, ProcessDefinition procDefToMigrateTo, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
         LOGGER.debug("Start migration of process instance with Id:'" + processInstance.getId() + "' to " + printProcessDefinitionIdentifierMessage(document));
 
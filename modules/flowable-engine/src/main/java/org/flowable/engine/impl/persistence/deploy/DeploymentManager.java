@@ -13,8 +13,17 @@
 
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
@@ -22,7 +31,9 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -32,9 +43,13 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -43,6 +58,8 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentManager.class);
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
@@ -53,6 +70,10 @@ public class DeploymentManager {
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected DeploymentEntityManager deploymentEntityManager;
 
+    // Makes sure that only one thread resolves a given process definition when it's missing from the cache.
+    // The other threads wait for that thread and use the cached result.
+    protected final ConcurrentMap<String, Object> processDefinitionResolutionLocks = new ConcurrentHashMap<>();
+
     public void deploy(DeploymentEntity deployment) {
         deploy(deployment, null);
     }
@@ -125,10 +146,28 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
-            DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            Object resolutionLock = processDefinitionResolutionLocks.computeIfAbsent(processDefinitionId, key -> new Object());
+            try {
+                synchronized (resolutionLock) {
+
+                    // Another thread could have resolved the process definition while waiting for the lock
+                    cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                    if (cachedProcessDefinition == null) {
+                        DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+                        deployment.setNew(false);
+
+                        if (processEngineConfiguration.isResolveSingleProcessDefinitionResource() && processDefinition.getResourceName() != null) {
+                            deployProcessDefinitionResource(deployment, processDefinition);
+                        } else {
+                            deploy(deployment, null);
+                        }
+                        cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+                    }
+                }
+
+            } finally {
+                processDefinitionResolutionLocks.remove(processDefinitionId, resolutionLock);
+            }
 
             if (cachedProcessDefinition == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
@@ -137,6 +176,67 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    /**
+     * Deploys only the BPMN 2.0 resource (and diagram, if any) of the given process definition, instead of all resources of the deployment.
+     * The process definitions of other resources in the same deployment are resolved when they are needed.
+     */
+    protected void deployProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinition processDefinition) {
+        ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
+        Map<String, EngineResource> resources = new HashMap<>();
+        for (String resourceName : Arrays.asList(processDefinition.getResourceName(), processDefinition.getDiagramResourceName())) {
+            if (resourceName != null) {
+                ResourceEntity resource = resourceEntityManager.findResourceByDeploymentIdAndResourceName(deployment.getId(), resourceName);
+                if (resource != null) {
+                    resources.put(resourceName, resource);
+                }
+            }
+        }
+
+        try {
+            deployment.setResources(resources);
+            deploy(deployment, null);
+        } finally {
+            // The deployment entity is cached in the entity cache of the current command, so the full set of resources needs to be loaded again when asked for
+            deployment.setResources(null);
+        }
+    }
+
+    /**
+     * Resolves the latest version of all process definitions using the given amount of threads, so the process definition cache is filled
+     * before the first process instances are started. Failures are logged and don't prevent the engine from booting.
+     */
+    public void warmUpProcessDefinitionCache(int nrOfThreads) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl(commandExecutor).latestVersion().list();
+        if (processDefinitions.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Warming up process definition cache for {} process definitions using {} threads", processDefinitions.size(), nrOfThreads);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(nrOfThreads, processDefinitions.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(processDefinitions.size());
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                futures.add(executorService.submit(() -> commandExecutor.execute(commandContext -> resolveProcessDefinition(processDefinition))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Could not warm up process definition cache for process definition {}", processDefinitions.get(i).getId(), e.getCause());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while warming up the process definition cache");
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
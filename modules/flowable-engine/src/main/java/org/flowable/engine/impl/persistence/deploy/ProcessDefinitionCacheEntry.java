@@ -13,6 +13,8 @@
 package org.flowable.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
@@ -28,6 +30,7 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected Map<String, Set<String>> flowNodeVariableNames;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
@@ -59,4 +62,16 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    /**
+     * @return the names of the variables that are possibly read when executing a flow node, by flow node id.
+     *         Only set when variable prefetching is enabled.
+     */
+    public Map<String, Set<String>> getFlowNodeVariableNames() {
+        return flowNodeVariableNames;
+    }
+
+    public void setFlowNodeVariableNames(Map<String, Set<String>> flowNodeVariableNames) {
+        this.flowNodeVariableNames = flowNodeVariableNames;
+    }
+
 }
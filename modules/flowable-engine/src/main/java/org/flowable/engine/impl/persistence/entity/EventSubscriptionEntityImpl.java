@@ -17,13 +17,15 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public abstract class EventSubscriptionEntityImpl extends AbstractBpmnEngineEntity implements EventSubscriptionEntity, Serializable {
+public abstract class EventSubscriptionEntityImpl extends AbstractBpmnEngineEntity implements EventSubscriptionEntity, IndexedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -88,6 +90,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractBpmnEngineEnti
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        indexedPropertyChanged();
     }
 
     @Override
@@ -104,6 +107,7 @@ public abstract class EventSubscriptionEntityImpl extends AbstractBpmnEngineEnti
         if (execution != null) {
             this.executionId = execution.getId();
             this.processInstanceId = execution.getProcessInstanceId();
+            indexedPropertyChanged();
         }
     }
 
@@ -115,6 +119,17 @@ public abstract class EventSubscriptionEntityImpl extends AbstractBpmnEngineEnti
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        indexedPropertyChanged();
+    }
+
+    @Override
+    public String getIndexValue(String indexName) {
+        if (CachedEntityIndex.EXECUTION_ID.equals(indexName)) {
+            return executionId;
+        } else if (CachedEntityIndex.PROCESS_INSTANCE_ID.equals(indexName)) {
+            return processInstanceId;
+        }
+        return null;
     }
 
     @Override
@@ -27,6 +27,8 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -48,7 +50,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, IndexedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -417,6 +419,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
+            indexedPropertyChanged();
         }
     }
 
@@ -449,6 +452,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.parentId = null;
         }
+        indexedPropertyChanged();
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -571,9 +575,23 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     protected Collection<VariableInstanceEntity> loadVariableInstances() {
+        if (isEagerVariableFetchingEnabled()) {
+            return CommandContextUtil.getVariableService().findVariableInstancesByExecutionIdWithProcessInstanceFetch(id, processInstanceId);
+        }
         return CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(id);
     }
 
+    /**
+     * Returns true when the variables of all executions of the process instance are to be fetched at once (see {@link org.flowable.engine.impl.cfg.PerformanceSettings#isEnableEagerVariableFetching()}).
+     */
+    protected boolean isEagerVariableFetchingEnabled() {
+        if (processInstanceId == null || processDefinitionId == null
+                || !CommandContextUtil.getProcessEngineConfiguration().getPerformanceSettings().isEnableEagerVariableFetching()) {
+            return false;
+        }
+        return ProcessDefinitionUtil.getProcess(processDefinitionId).isEnableEagerVariableFetching();
+    }
+
     @Override
     protected VariableScopeImpl getParentVariableScope() {
         return getParent();
@@ -781,6 +799,15 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         if (commandContext == null) {
             throw new FlowableException("lazy loading outside command context");
         }
+        if (isEagerVariableFetchingEnabled()) {
+            for (VariableInstanceEntity variableInstance : loadVariableInstances()) {
+                if (variableName.equals(variableInstance.getName())) {
+                    return variableInstance;
+                }
+            }
+            return null;
+        }
+
         VariableInstanceEntity variableInstance = CommandContextUtil.getVariableService().findVariableInstanceByExecutionAndName(id, variableName);
 
         return variableInstance;
@@ -792,6 +819,17 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         if (commandContext == null) {
             throw new FlowableException("lazy loading outside command context");
         }
+
+        if (isEagerVariableFetchingEnabled()) {
+            List<VariableInstanceEntity> result = new ArrayList<>(variableNames.size());
+            for (VariableInstanceEntity variableInstance : loadVariableInstances()) {
+                if (variableNames.contains(variableInstance.getName())) {
+                    result.add(variableInstance);
+                }
+            }
+            return result;
+        }
+
         return CommandContextUtil.getVariableService().findVariableInstancesByExecutionAndNames(id, variableNames);
     }
 
@@ -873,6 +911,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        indexedPropertyChanged();
     }
 
     @Override
@@ -883,6 +922,17 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        indexedPropertyChanged();
+    }
+
+    @Override
+    public String getIndexValue(String indexName) {
+        if (CachedEntityIndex.PARENT_ID.equals(indexName)) {
+            return parentId;
+        } else if (CachedEntityIndex.PROCESS_INSTANCE_ID.equals(indexName)) {
+            return processInstanceId;
+        }
+        return null;
     }
 
     @Override
@@ -58,6 +58,16 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    /**
+     * Returns at most maxResults ids of process instances of the process definition, ordered by id and starting after the given id
+     * (or from the first one when it is null). Used to page through the process instances of large process definitions.
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
+    List<String> findProcessInstanceIdsByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery);
+
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
@@ -89,6 +99,16 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade);
 
+    /**
+     * Deletes the given process instances, together with their sub process instances, using set-based delete statements.
+     * No entities are loaded, no execution listeners are called and only one aggregated event is dispatched.
+     * The historic process instances are ended with set-based updates.
+     * 
+     * Process instances that are a sub process instance themselves are deleted through {@link #deleteProcessInstance(String, String, boolean)},
+     * as their parent process instance needs to continue.
+     */
+    void bulkDeleteProcessInstances(List<String> processInstanceIds, String deleteReason);
+
     void deleteProcessInstanceExecutionEntity(String processInstanceId, String currentFlowElementId,
             String deleteReason, boolean cascade, boolean cancel, boolean fireEvents);
 
@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.FlowElement;
@@ -40,6 +42,7 @@ import org.flowable.engine.history.DeleteReason;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.delegate.SubProcessActivityBehavior;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
@@ -143,6 +146,21 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
+        return executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
+    }
+
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        return executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterProcessInstanceId, maxResults);
+    }
+
+    @Override
+    public List<String> findProcessInstanceIdsByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
+        return executionDataManager.findProcessInstanceIdsByQueryCriteria(processInstanceQuery);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = executionDataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -389,8 +407,17 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
     public void deleteProcessInstancesByProcessDefinition(String processDefinitionId, String deleteReason, boolean cascade) {
         List<String> processInstanceIds = executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
 
-        for (String processInstanceId : processInstanceIds) {
-            deleteProcessInstanceCascade(findById(processInstanceId), deleteReason, cascade);
+        // With async history, the history of the process instances can't be ended with set-based updates
+        if (processEngineConfiguration.isEnableBulkProcessInstanceDeletion() && !processEngineConfiguration.isAsyncHistoryEnabled()) {
+            int batchSize = processEngineConfiguration.getProcessInstanceBulkDeleteBatchSize();
+            for (int i = 0; i < processInstanceIds.size(); i += batchSize) {
+                bulkDeleteProcessInstances(new ArrayList<>(processInstanceIds.subList(i, Math.min(i + batchSize, processInstanceIds.size()))), deleteReason);
+            }
+
+        } else {
+            for (String processInstanceId : processInstanceIds) {
+                deleteProcessInstanceCascade(findById(processInstanceId), deleteReason, cascade);
+            }
         }
 
         if (cascade) {
@@ -398,6 +425,60 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
     }
 
+    @Override
+    public void bulkDeleteProcessInstances(List<String> processInstanceIds, String deleteReason) {
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+            throw new FlowableException("Bulk deletion of process instances is not supported when async history is enabled");
+        }
+
+        Set<String> rootProcessInstanceIds = new HashSet<>(executionDataManager.findRootProcessInstanceIds(processInstanceIds));
+        for (String processInstanceId : processInstanceIds) {
+            if (!rootProcessInstanceIds.contains(processInstanceId)) {
+                ExecutionEntity processInstance = findById(processInstanceId);
+                if (processInstance != null && !rootProcessInstanceIds.contains(processInstance.getRootProcessInstanceId())) {
+                    deleteProcessInstance(processInstanceId, deleteReason, false);
+                }
+            }
+        }
+
+        if (rootProcessInstanceIds.isEmpty()) {
+            return;
+        }
+
+        List<String> rootIds = new ArrayList<>(rootProcessInstanceIds);
+        List<String> allProcessInstanceIds = executionDataManager.findProcessInstanceIdsByRootProcessInstanceIds(rootIds);
+
+        // Sub process instances can make the list of process instances longer than the batch size, the statements are split accordingly
+        int batchSize = processEngineConfiguration.getProcessInstanceBulkDeleteBatchSize();
+        for (int i = 0; i < allProcessInstanceIds.size(); i += batchSize) {
+            List<String> batch = new ArrayList<>(allProcessInstanceIds.subList(i, Math.min(i + batchSize, allProcessInstanceIds.size())));
+            getHistoryManager().recordBulkProcessInstanceEnd(batch, deleteReason);
+
+            // Case instances started by a case task are linked to the case task execution through their callback id
+            CaseInstanceService caseInstanceService = processEngineConfiguration.getCaseInstanceService();
+            if (caseInstanceService != null) {
+                caseInstanceService.terminateCaseInstancesForExecutionIds(executionDataManager.findActiveChildExecutionIdsByProcessInstanceIds(batch));
+            }
+
+            // The byte array ids are fetched up front, as the rows referencing them are removed before the byte arrays
+            List<String> byteArrayIds = executionDataManager.findByteArrayIdsByProcessInstanceIds(batch);
+            for (int j = 0; j < byteArrayIds.size(); j += batchSize) {
+                executionDataManager.bulkDeleteByteArrays(new ArrayList<>(byteArrayIds.subList(j, Math.min(j + batchSize, byteArrayIds.size()))));
+            }
+
+            executionDataManager.bulkDeleteRuntimeDataByProcessInstanceIds(batch);
+        }
+        executionDataManager.bulkDeleteExecutionsByRootProcessInstanceIds(rootIds);
+
+        if (getEventDispatcher().isEnabled()) {
+            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createProcessInstancesBulkDeletedEvent(allProcessInstanceIds, deleteReason));
+        }
+    }
+
     @Override
     public void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade) {
         ExecutionEntity processInstanceExecution = findById(processInstanceId);
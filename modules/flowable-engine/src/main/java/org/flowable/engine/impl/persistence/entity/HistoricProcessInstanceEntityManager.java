@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -33,6 +35,8 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    void forEachHistoricProcessInstanceByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, int fetchSize, Consumer<HistoricProcessInstance> consumer);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -40,6 +44,11 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId);
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    /**
+     * Marks the historic process instances, and their unfinished historic activity and task instances, as ended with set-based updates.
+     */
+    void bulkMarkEnded(List<String> processInstanceIds, String deleteReason, Date endTime);
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
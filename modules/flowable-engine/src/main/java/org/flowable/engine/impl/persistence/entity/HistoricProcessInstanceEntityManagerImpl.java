@@ -14,8 +14,10 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -63,6 +65,13 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void forEachHistoricProcessInstanceByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, int fetchSize, Consumer<HistoricProcessInstance> consumer) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            historicProcessInstanceDataManager.forEachHistoricProcessInstanceByQueryCriteria(historicProcessInstanceQuery, fetchSize, consumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -87,6 +96,11 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public void bulkMarkEnded(List<String> processInstanceIds, String deleteReason, Date endTime) {
+        historicProcessInstanceDataManager.bulkMarkHistoricProcessInstancesEnded(processInstanceIds, deleteReason, endTime);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+
+public interface ProcessMigrationBatchEntity extends ProcessMigrationBatch, Entity, HasRevision {
+
+    void setParentId(String parentId);
+
+    void setChunk(Integer chunk);
+
+    void setSourceProcessDefinitionId(String sourceProcessDefinitionId);
+
+    void setTargetProcessDefinitionId(String targetProcessDefinitionId);
+
+    void setProcessInstanceId(String processInstanceId);
+
+    void setStatus(String status);
+
+    void setResult(String result);
+
+    void setMigrationDocumentJson(String migrationDocumentJson);
+
+    ByteArrayRef getMigrationDocRefId();
+
+    void setCreateTime(Date createTime);
+
+    void setCompleteTime(Date completeTime);
+
+    void setTenantId(String tenantId);
+
+}
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+
+public class ProcessMigrationBatchEntityImpl extends AbstractBpmnEngineEntity implements ProcessMigrationBatchEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String parentId;
+    protected Integer chunk;
+    protected String sourceProcessDefinitionId;
+    protected String targetProcessDefinitionId;
+    protected String processInstanceId;
+    protected String status;
+    protected String result;
+    protected ByteArrayRef migrationDocRefId;
+    protected Date createTime;
+    protected Date completeTime;
+    protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("parentId", parentId);
+        persistentState.put("chunk", chunk);
+        persistentState.put("sourceProcessDefinitionId", sourceProcessDefinitionId);
+        persistentState.put("targetProcessDefinitionId", targetProcessDefinitionId);
+        persistentState.put("processInstanceId", processInstanceId);
+        persistentState.put("status", status);
+        persistentState.put("result", result);
+        persistentState.put("createTime", createTime);
+        persistentState.put("completeTime", completeTime);
+        persistentState.put("tenantId", tenantId);
+        if (migrationDocRefId != null) {
+            persistentState.put("migrationDocRefId", migrationDocRefId.getId());
+        }
+        return persistentState;
+    }
+
+    @Override
+    public String getParentId() {
+        return parentId;
+    }
+
+    @Override
+    public void setParentId(String parentId) {
+        this.parentId = parentId;
+    }
+
+    @Override
+    public Integer getChunk() {
+        return chunk;
+    }
+
+    @Override
+    public void setChunk(Integer chunk) {
+        this.chunk = chunk;
+    }
+
+    @Override
+    public String getSourceProcessDefinitionId() {
+        return sourceProcessDefinitionId;
+    }
+
+    @Override
+    public void setSourceProcessDefinitionId(String sourceProcessDefinitionId) {
+        this.sourceProcessDefinitionId = sourceProcessDefinitionId;
+    }
+
+    @Override
+    public String getTargetProcessDefinitionId() {
+        return targetProcessDefinitionId;
+    }
+
+    @Override
+    public void setTargetProcessDefinitionId(String targetProcessDefinitionId) {
+        this.targetProcessDefinitionId = targetProcessDefinitionId;
+    }
+
+    @Override
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    @Override
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String getResult() {
+        return result;
+    }
+
+    @Override
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    @Override
+    public String getMigrationDocumentJson() {
+        if (migrationDocRefId == null) {
+            return null;
+        }
+
+        byte[] bytes = migrationDocRefId.getBytes();
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public void setMigrationDocumentJson(String migrationDocumentJson) {
+        if (migrationDocRefId == null) {
+            migrationDocRefId = new ByteArrayRef();
+        }
+        migrationDocRefId.setValue("migrationDoc", migrationDocumentJson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ByteArrayRef getMigrationDocRefId() {
+        return migrationDocRefId;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public Date getCompleteTime() {
+        return completeTime;
+    }
+
+    @Override
+    public void setCompleteTime(Date completeTime) {
+        this.completeTime = completeTime;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessMigrationBatchEntity[" + id + "]";
+    }
+}
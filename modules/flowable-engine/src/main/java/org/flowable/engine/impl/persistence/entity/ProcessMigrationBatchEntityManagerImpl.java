@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.ProcessMigrationBatchDataManager;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+
+public class ProcessMigrationBatchEntityManagerImpl extends AbstractEntityManager<ProcessMigrationBatchEntity> implements ProcessMigrationBatchEntityManager {
+
+    protected ProcessMigrationBatchDataManager processMigrationBatchDataManager;
+
+    public ProcessMigrationBatchEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration,
+            ProcessMigrationBatchDataManager processMigrationBatchDataManager) {
+
+        super(processEngineConfiguration);
+        this.processMigrationBatchDataManager = processMigrationBatchDataManager;
+    }
+
+    @Override
+    protected DataManager<ProcessMigrationBatchEntity> getDataManager() {
+        return processMigrationBatchDataManager;
+    }
+
+    @Override
+    public ProcessMigrationBatchEntity insertBatch(String sourceProcessDefinitionId, String targetProcessDefinitionId, String tenantId, String migrationDocumentJson) {
+        ProcessMigrationBatchEntity batch = processMigrationBatchDataManager.create();
+        batch.setSourceProcessDefinitionId(sourceProcessDefinitionId);
+        batch.setTargetProcessDefinitionId(targetProcessDefinitionId);
+        batch.setTenantId(tenantId);
+        batch.setStatus(ProcessMigrationBatch.STATUS_PREPARING);
+        batch.setMigrationDocumentJson(migrationDocumentJson);
+        batch.setCreateTime(getClock().getCurrentTime());
+        insert(batch);
+        return batch;
+    }
+
+    @Override
+    public ProcessMigrationBatchEntity insertBatchPart(ProcessMigrationBatchEntity batch, String processInstanceId, int chunk) {
+        ProcessMigrationBatchEntity part = processMigrationBatchDataManager.create();
+        part.setParentId(batch.getId());
+        part.setChunk(chunk);
+        part.setSourceProcessDefinitionId(batch.getSourceProcessDefinitionId());
+        part.setTargetProcessDefinitionId(batch.getTargetProcessDefinitionId());
+        part.setProcessInstanceId(processInstanceId);
+        part.setTenantId(batch.getTenantId());
+        part.setStatus(ProcessMigrationBatch.PART_STATUS_WAITING);
+        part.setCreateTime(batch.getCreateTime());
+        insert(part, false);
+        return part;
+    }
+
+    @Override
+    public List<ProcessMigrationBatchEntity> findPartsByParentIdAndChunk(String parentId, int chunk) {
+        return processMigrationBatchDataManager.findPartsByParentIdAndChunk(parentId, chunk);
+    }
+
+    @Override
+    public List<ProcessMigrationBatchEntity> findPartsByParentIdAndStatus(String parentId, String status) {
+        return processMigrationBatchDataManager.findPartsByParentIdAndStatus(parentId, status);
+    }
+
+    @Override
+    public long countPartsByParentIdAndStatus(String parentId, String status) {
+        return processMigrationBatchDataManager.countPartsByParentIdAndStatus(parentId, status);
+    }
+
+    @Override
+    public void deleteBatch(String batchId) {
+        ProcessMigrationBatchEntity batch = findById(batchId);
+        if (batch != null) {
+            processMigrationBatchDataManager.deletePartsByParentId(batchId);
+            if (batch.getMigrationDocRefId() != null) {
+                batch.getMigrationDocRefId().delete();
+            }
+            delete(batch, false);
+        }
+    }
+
+}
@@ -99,6 +99,9 @@ public class TableDataManagerImpl extends AbstractManager implements TableDataMa
         entityToTableNameMap.put(ModelEntity.class, "ACT_RE_MODEL");
         entityToTableNameMap.put(ProcessDefinitionInfoEntity.class, "ACT_PROCDEF_INFO");
 
+        // migration
+        entityToTableNameMap.put(ProcessMigrationBatchEntity.class, "ACT_RU_MIGRATION_BATCH");
+
         // history
         entityToTableNameMap.put(CommentEntity.class, "ACT_HI_COMMENT");
 
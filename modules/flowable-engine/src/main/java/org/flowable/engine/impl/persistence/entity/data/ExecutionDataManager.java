@@ -57,6 +57,28 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    /**
+     * Returns at most maxResults ids of process instances of the process definition, ordered by id and starting after the given id
+     * (or from the first one when it is null). Used to page through the process instances of large process definitions.
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
+    List<String> findProcessInstanceIdsByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery);
+
+    List<String> findRootProcessInstanceIds(List<String> processInstanceIds);
+
+    List<String> findProcessInstanceIdsByRootProcessInstanceIds(List<String> rootProcessInstanceIds);
+
+    List<String> findByteArrayIdsByProcessInstanceIds(List<String> processInstanceIds);
+
+    List<String> findActiveChildExecutionIdsByProcessInstanceIds(List<String> processInstanceIds);
+
+    void bulkDeleteRuntimeDataByProcessInstanceIds(List<String> processInstanceIds);
+
+    void bulkDeleteByteArrays(List<String> byteArrayIds);
+
+    void bulkDeleteExecutionsByRootProcessInstanceIds(List<String> rootProcessInstanceIds);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -30,12 +32,16 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    void bulkMarkHistoricProcessInstancesEnded(List<String> processInstanceIds, String deleteReason, Date endTime);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId);
 
     long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    void forEachHistoricProcessInstanceByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, int fetchSize, Consumer<HistoricProcessInstance> consumer);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -20,12 +20,17 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
@@ -44,6 +49,14 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubPro
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntityImpl;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
 
 /**
  * @author Joram Barrez
@@ -221,6 +234,75 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processDefinitionId", processDefinitionId);
+        params.put("afterProcessInstanceId", afterProcessInstanceId);
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectProcessInstanceIdsByProcessDefinitionIdPage",
+                new ListQueryParameterObject(params, 0, maxResults));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findProcessInstanceIdsByQueryCriteria(ProcessInstanceQueryImpl processInstanceQuery) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectProcessInstanceIdsByQueryCriteria", processInstanceQuery);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findRootProcessInstanceIds(List<String> processInstanceIds) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectRootProcessInstanceIdsByIds", processInstanceIds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findProcessInstanceIdsByRootProcessInstanceIds(List<String> rootProcessInstanceIds) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectProcessInstanceIdsByRootProcessInstanceIds", rootProcessInstanceIds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findByteArrayIdsByProcessInstanceIds(List<String> processInstanceIds) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectByteArrayIdsByProcessInstanceIds", processInstanceIds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findActiveChildExecutionIdsByProcessInstanceIds(List<String> processInstanceIds) {
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectActiveChildExecutionIdsByProcessInstanceIds", processInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteRuntimeDataByProcessInstanceIds(List<String> processInstanceIds) {
+        // The entity classes only determine the order in which the statements are executed when flushing
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.delete("bulkDeleteJobsByProcessInstanceIds", processInstanceIds, JobEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteTimerJobsByProcessInstanceIds", processInstanceIds, TimerJobEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteSuspendedJobsByProcessInstanceIds", processInstanceIds, SuspendedJobEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteDeadLetterJobsByProcessInstanceIds", processInstanceIds, DeadLetterJobEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteVariableInstancesByProcessInstanceIds", processInstanceIds, VariableInstanceEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteEventSubscriptionsByProcessInstanceIds", processInstanceIds, EventSubscriptionEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteEntityLinksByProcessInstanceIds", processInstanceIds, EntityLinkEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteIdentityLinksByProcessInstanceIds", processInstanceIds, IdentityLinkEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteTasksByProcessInstanceIds", processInstanceIds, TaskEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteActivityInstancesByProcessInstanceIds", processInstanceIds, ActivityInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteByteArrays(List<String> byteArrayIds) {
+        getDbSqlSession().delete("bulkDeleteByteArraysByIds", byteArrayIds, ByteArrayEntityImpl.class);
+    }
+
+    @Override
+    public void bulkDeleteExecutionsByRootProcessInstanceIds(List<String> rootProcessInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.delete("bulkClearExecutionReferencesByRootProcessInstanceIds", rootProcessInstanceIds, ExecutionEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteChildExecutionsByRootProcessInstanceIds", rootProcessInstanceIds, ExecutionEntityImpl.class);
+        dbSqlSession.delete("bulkDeleteProcessInstanceExecutionsByRootProcessInstanceIds", rootProcessInstanceIds, ExecutionEntityImpl.class);
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -13,9 +13,13 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -55,6 +59,19 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    public void bulkMarkHistoricProcessInstancesEnded(List<String> processInstanceIds, String deleteReason, Date endTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        params.put("deleteReason", deleteReason);
+        params.put("endTime", endTime);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.update("bulkMarkHistoricProcessInstancesEnded", params);
+        dbSqlSession.update("bulkMarkHistoricActivityInstancesEnded", params);
+        dbSqlSession.update("bulkMarkHistoricTaskInstancesEnded", params);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId) {
@@ -72,6 +89,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
     }
 
+    @Override
+    public void forEachHistoricProcessInstanceByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, int fetchSize, Consumer<HistoricProcessInstance> consumer) {
+        getDbSqlSession().selectCursor("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, fetchSize, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
+import org.flowable.engine.impl.persistence.entity.data.ProcessMigrationBatchDataManager;
+
+public class MybatisProcessMigrationBatchDataManager extends AbstractProcessDataManager<ProcessMigrationBatchEntity> implements ProcessMigrationBatchDataManager {
+
+    public MybatisProcessMigrationBatchDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends ProcessMigrationBatchEntity> getManagedEntityClass() {
+        return ProcessMigrationBatchEntityImpl.class;
+    }
+
+    @Override
+    public ProcessMigrationBatchEntity create() {
+        return new ProcessMigrationBatchEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessMigrationBatchEntity> findPartsByParentIdAndChunk(String parentId, int chunk) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("parentId", parentId);
+        params.put("chunk", chunk);
+        return getDbSqlSession().selectList("selectProcessMigrationBatchPartsByParentIdAndChunk", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessMigrationBatchEntity> findPartsByParentIdAndStatus(String parentId, String status) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("parentId", parentId);
+        params.put("status", status);
+        return getDbSqlSession().selectList("selectProcessMigrationBatchPartsByParentIdAndStatus", params);
+    }
+
+    @Override
+    public long countPartsByParentIdAndStatus(String parentId, String status) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("parentId", parentId);
+        params.put("status", status);
+        return (Long) getDbSqlSession().selectOne("selectProcessMigrationBatchPartCountByParentIdAndStatus", params);
+    }
+
+    @Override
+    public void deletePartsByParentId(String parentId) {
+        getDbSqlSession().delete("deleteProcessMigrationBatchPartsByParentId", parentId, ProcessMigrationBatchEntityImpl.class);
+    }
+
+}
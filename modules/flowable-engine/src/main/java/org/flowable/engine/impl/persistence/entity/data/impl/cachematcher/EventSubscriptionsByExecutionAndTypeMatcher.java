@@ -14,6 +14,7 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
@@ -32,4 +33,15 @@ public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMat
                 && eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals(executionId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.EXECUTION_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("executionId");
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
@@ -25,4 +26,14 @@ public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherA
         return eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
@@ -35,4 +36,15 @@ public class EventSubscriptionsByProcInstTypeAndActivityMatcher extends CachedEn
                 && eventSubscriptionEntity.getActivityId() != null && eventSubscriptionEntity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("processInstanceId");
+    }
+
+}
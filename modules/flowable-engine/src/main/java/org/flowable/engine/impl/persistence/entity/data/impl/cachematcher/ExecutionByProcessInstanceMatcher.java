@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
@@ -25,4 +26,14 @@ public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapte
         return entity.getProcessInstanceId() != null && entity.getProcessInstanceId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
+}
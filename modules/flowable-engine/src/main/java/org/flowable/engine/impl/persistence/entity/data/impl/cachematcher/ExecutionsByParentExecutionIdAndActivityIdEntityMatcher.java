@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Collection;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
@@ -33,4 +34,15 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.PARENT_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("parentExecutionId");
+    }
+
+}
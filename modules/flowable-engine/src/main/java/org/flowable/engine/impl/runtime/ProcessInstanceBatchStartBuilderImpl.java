@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceBatchStartBuilder;
+
+public class ProcessInstanceBatchStartBuilderImpl implements ProcessInstanceBatchStartBuilder {
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected int chunkSize;
+    protected List<ProcessInstanceStart> processInstanceStarts = new ArrayList<>();
+
+    public ProcessInstanceBatchStartBuilderImpl(RuntimeServiceImpl runtimeService) {
+        this.runtimeService = runtimeService;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder chunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables) {
+        return addProcessInstance(businessKey, null, variables);
+    }
+
+    @Override
+    public ProcessInstanceBatchStartBuilder addProcessInstance(String businessKey, String processInstanceName, Map<String, Object> variables) {
+        processInstanceStarts.add(new ProcessInstanceStart(businessKey, processInstanceName, variables));
+        return this;
+    }
+
+    @Override
+    public List<ProcessInstance> start() {
+        return runtimeService.startProcessInstances(this);
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public List<ProcessInstanceStart> getProcessInstanceStarts() {
+        return processInstanceStarts;
+    }
+
+    public static class ProcessInstanceStart {
+
+        protected String businessKey;
+        protected String processInstanceName;
+        protected Map<String, Object> variables;
+
+        public ProcessInstanceStart(String businessKey, String processInstanceName, Map<String, Object> variables) {
+            this.businessKey = businessKey;
+            this.processInstanceName = processInstanceName;
+            this.variables = variables;
+        }
+
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public String getProcessInstanceName() {
+            return processInstanceName;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+
+}
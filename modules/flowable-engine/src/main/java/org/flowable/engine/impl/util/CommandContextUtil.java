@@ -45,6 +45,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessMigrationBatchEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
@@ -523,6 +524,14 @@ public class CommandContextUtil {
         return getProcessEngineConfiguration(commandContext).getProcessDefinitionInfoEntityManager();
     }
     
+    public static ProcessMigrationBatchEntityManager getProcessMigrationBatchEntityManager() {
+        return getProcessMigrationBatchEntityManager(getCommandContext());
+    }
+    
+    public static ProcessMigrationBatchEntityManager getProcessMigrationBatchEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getProcessMigrationBatchEntityManager();
+    }
+    
     public static ExecutionEntityManager getExecutionEntityManager() {
         return getExecutionEntityManager(getCommandContext());
     }
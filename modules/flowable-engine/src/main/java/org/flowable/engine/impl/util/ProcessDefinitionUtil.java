@@ -12,11 +12,14 @@
  */
 package org.flowable.engine.impl.util;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
@@ -102,4 +105,64 @@ public class ProcessDefinitionUtil {
 
         return processDefinition;
     }
+
+    /**
+     * Finds the process definition to start a process instance from: the definition with the given id, or else the latest version with the given key,
+     * falling back to the default tenant when no definition exists for the given tenant and the fallback is enabled.
+     */
+    public static ProcessDefinition findProcessDefinitionToStart(String processDefinitionId, String processDefinitionKey, String tenantId,
+            boolean fallbackToDefaultTenant, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        
+        ProcessDefinitionEntityManager processDefinitionEntityManager = processEngineConfiguration.getProcessDefinitionEntityManager();
+
+        ProcessDefinition processDefinition = null;
+        if (processDefinitionId != null) {
+            processDefinition = processDefinitionEntityManager.findById(processDefinitionId);
+            if (processDefinition == null) {
+                throw new FlowableObjectNotFoundException("No process definition found for id = '" + processDefinitionId + "'", ProcessDefinition.class);
+            }
+
+        } else if (processDefinitionKey != null && (tenantId == null || ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId))) {
+
+            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+            if (processDefinition == null) {
+                throw new FlowableObjectNotFoundException("No process definition found for key '" + processDefinitionKey + "'", ProcessDefinition.class);
+            }
+
+        } else if (processDefinitionKey != null) {
+            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+            if (processDefinition == null) {
+                if (fallbackToDefaultTenant || processEngineConfiguration.isFallbackToDefaultTenant()) {
+                    if (StringUtils.isNotEmpty(processEngineConfiguration.getDefaultTenantValue())) {
+                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, 
+                                        processEngineConfiguration.getDefaultTenantValue());
+                    } else {
+                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+                    }
+                    
+                    if (processDefinition == null) {
+                        throw new FlowableObjectNotFoundException("No process definition found for key '" + processDefinitionKey +
+                            "'. Fallback to default tenant was also applied.", ProcessDefinition.class);
+                    }
+                } else {
+                    throw new FlowableObjectNotFoundException("Process definition with key '" + processDefinitionKey +
+                        "' and tenantId '"+ tenantId +"' was not found", ProcessDefinition.class);
+                }
+            }
+
+        } else {
+            throw new FlowableIllegalArgumentException("processDefinitionKey and processDefinitionId are null");
+        }
+        return processDefinition;
+    }
+
+    /**
+     * Returns whether the process definition found by {@link #findProcessDefinitionToStart} for a key and tenant comes from the default tenant,
+     * in which case the process instance keeps the requested tenant id instead of the one of the definition.
+     */
+    public static boolean isDefaultTenantFallback(ProcessDefinition processDefinition, String tenantId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        String defaultTenantValue = processEngineConfiguration.getDefaultTenantValue();
+        return tenantId != null && !ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId) && StringUtils.isNotEmpty(defaultTenantValue)
+                && !tenantId.equals(defaultTenantValue) && defaultTenantValue.equals(processDefinition.getTenantId());
+    }
 }
@@ -21,6 +21,7 @@ import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Event;
 import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.IntermediateCatchEvent;
 import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.common.engine.api.FlowableException;
@@ -41,6 +42,7 @@ import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 import org.flowable.variable.api.delegate.VariableScope;
 import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
 import org.joda.time.DateTime;
@@ -149,6 +151,12 @@ public class TimerUtil {
                 if (executionEntity.getTenantId() != null) {
                     timer.setTenantId(executionEntity.getTenantId());
                 }
+
+                FlowElement currentElement = executionEntity.getCurrentFlowElement();
+                if (currentElement instanceof FlowNode) {
+                    JobPriorityUtil.applyJobPriority(timer, ((FlowNode) currentElement).getJobPriority(),
+                            processEngineConfiguration.getExpressionManager(), executionEntity);
+                }
             }
             
         } else {
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The progress of a {@link ProcessMigrationBatch}: the amount of process instances that are still waiting to be migrated,
+ * that were migrated successfully and that failed, together with the parts that failed.
+ */
+public class ProcessInstanceBatchMigrationResult {
+
+    protected ProcessMigrationBatch batch;
+    protected long waitingCount;
+    protected long successCount;
+    protected long failedCount;
+    protected List<ProcessMigrationBatch> failedParts = new ArrayList<>();
+
+    public ProcessMigrationBatch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(ProcessMigrationBatch batch) {
+        this.batch = batch;
+    }
+
+    public String getBatchId() {
+        return batch != null ? batch.getId() : null;
+    }
+
+    public String getStatus() {
+        return batch != null ? batch.getStatus() : null;
+    }
+
+    public boolean isCompleted() {
+        return batch != null && ProcessMigrationBatch.STATUS_COMPLETED.equals(batch.getStatus());
+    }
+
+    public long getTotalCount() {
+        return waitingCount + successCount + failedCount;
+    }
+
+    public long getWaitingCount() {
+        return waitingCount;
+    }
+
+    public void setWaitingCount(long waitingCount) {
+        this.waitingCount = waitingCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(long successCount) {
+        this.successCount = successCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<ProcessMigrationBatch> getFailedParts() {
+        return failedParts;
+    }
+
+    public void setFailedParts(List<ProcessMigrationBatch> failedParts) {
+        this.failedParts = failedParts;
+    }
+}
@@ -155,4 +155,25 @@ public interface ProcessInstanceMigrationBuilder {
      */
     ProcessInstanceMigrationValidationResult validateMigrationOfProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
 
+    /**
+     * Starts a batch migration for all process instances of a given process definition identified by the process definition id.
+     * The process instances are migrated in chunks by async jobs, the progress can be followed with {@link org.flowable.engine.RuntimeService#getProcessInstanceBatchMigrationResult(String)}.
+     *
+     * @param processDefinitionId
+     * @return the created batch
+     * @see ProcessMigrationBatch
+     */
+    ProcessMigrationBatch batchMigrateProcessInstances(String processDefinitionId);
+
+    /**
+     * Starts a batch migration for all process instances of a given process definition identified by the process definition key and version (optional tenantId).
+     *
+     * @param processDefinitionKey
+     * @param processDefinitionVersion
+     * @param processDefinitionTenantId
+     * @return the created batch
+     * @see ProcessMigrationBatch
+     */
+    ProcessMigrationBatch batchMigrateProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
+
 }
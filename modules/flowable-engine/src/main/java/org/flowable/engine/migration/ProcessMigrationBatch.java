@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.migration;
+
+import java.util.Date;
+
+/**
+ * A batch migration of all process instances of a process definition.
+ *
+ * The batch itself is persisted together with one part per process instance. The parts are grouped in chunks,
+ * and every chunk is migrated by its own async job, so the migration is spread over the async executors of all nodes.
+ * The parts themselves are created by async jobs as well, one page of process instances per transaction,
+ * during which the batch is {@link #STATUS_PREPARING preparing}.
+ */
+public interface ProcessMigrationBatch {
+
+    String STATUS_PREPARING = "preparing";
+    String STATUS_IN_PROGRESS = "inProgress";
+    String STATUS_COMPLETED = "completed";
+
+    String PART_STATUS_WAITING = "waiting";
+    String PART_STATUS_SUCCESS = "success";
+    String PART_STATUS_FAIL = "fail";
+
+    String getId();
+
+    /**
+     * The id of the batch this part belongs to, or null if this is the batch itself.
+     */
+    String getParentId();
+
+    /**
+     * The chunk (and thus the job) this part is migrated in, or null if this is the batch itself.
+     */
+    Integer getChunk();
+
+    String getSourceProcessDefinitionId();
+
+    String getTargetProcessDefinitionId();
+
+    /**
+     * The process instance migrated by this part, or null if this is the batch itself.
+     */
+    String getProcessInstanceId();
+
+    String getStatus();
+
+    /**
+     * The failure message of a part, when the migration of its process instance failed.
+     */
+    String getResult();
+
+    String getMigrationDocumentJson();
+
+    Date getCreateTime();
+
+    Date getCompleteTime();
+
+    String getTenantId();
+
+}
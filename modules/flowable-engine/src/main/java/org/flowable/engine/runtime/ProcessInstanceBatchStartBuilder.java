@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper for starting many process instances of one process definition at once.
+ * 
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createProcessInstanceBatchStartBuilder()}.
+ * 
+ * The process definition is resolved once for all process instances and all process instances of a chunk are started in one transaction,
+ * so that their executions, variables, jobs and history are flushed together through bulk inserts.
+ */
+public interface ProcessInstanceBatchStartBuilder {
+
+    /**
+     * Set the id of the process definition
+     **/
+    ProcessInstanceBatchStartBuilder processDefinitionId(String processDefinitionId);
+
+    /**
+     * Set the key of the process definition, latest version of the process definition with the given key. If processDefinitionId was set this will be ignored
+     **/
+    ProcessInstanceBatchStartBuilder processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Set the tenantId of to lookup the process definition
+     **/
+    ProcessInstanceBatchStartBuilder tenantId(String tenantId);
+
+    /**
+     * If the process definition is not found in the given tenant, the process definition of the default tenant is used.
+     */
+    ProcessInstanceBatchStartBuilder fallbackToDefaultTenant();
+
+    /**
+     * The amount of process instances that are started in one transaction.
+     * When not set (or 0), all process instances are started in the transaction of the start call.
+     * With a chunk size, every chunk is started in its own transaction: when a chunk fails, the chunks before it stay started.
+     */
+    ProcessInstanceBatchStartBuilder chunkSize(int chunkSize);
+
+    /**
+     * Adds a process instance to start with the given business key and variables, both can be null.
+     */
+    ProcessInstanceBatchStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Adds a process instance to start with the given business key, name and variables, all can be null.
+     */
+    ProcessInstanceBatchStartBuilder addProcessInstance(String businessKey, String processInstanceName, Map<String, Object> variables);
+
+    /**
+     * Starts all added process instances.
+     * 
+     * @return the started process instances, in the order they were added.
+     */
+    List<ProcessInstance> start();
+
+}
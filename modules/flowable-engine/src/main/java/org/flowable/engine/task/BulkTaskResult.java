@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import org.flowable.engine.TaskService;
+
+/**
+ * The outcome of a bulk task operation for one task.
+ * 
+ * @see TaskService#bulkComplete(java.util.Collection, java.util.Map)
+ */
+public class BulkTaskResult {
+
+    protected String taskId;
+    protected boolean successful;
+    protected String errorMessage;
+
+    public BulkTaskResult(String taskId, boolean successful, String errorMessage) {
+        this.taskId = taskId;
+        this.successful = successful;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    /**
+     * The message of the exception that made the operation fail for the task, null when the operation was successful.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+}
@@ -134,13 +134,21 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     @Override
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
         super.flushDeleteEntities(entityClass, entitiesToDelete);
-        if (getCurrentCommandExecution() != null) {
+        if (getCurrentCommandExecution() != null && !(entitiesToDelete.size() > 1 && dbSqlSessionFactory.isBulkDeletable(entityClass))) {
             for (Entity entity : entitiesToDelete) {
                 getCurrentCommandExecution().addDbDelete(entity.getClass().getName());
             }
         }
     }
 
+    @Override
+    protected void flushBulkDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (getCurrentCommandExecution() != null) {
+            getCurrentCommandExecution().addDbDelete(entityClass.getName() + "-bulk-with-" + entitiesToDelete.size());
+        }
+        super.flushBulkDeleteEntities(entityClass, entitiesToDelete);
+    }
+
     @Override
     protected void flushBulkDeletes(Class<? extends Entity> entityClass, List<BulkDeleteOperation> deleteOperations) {
         // Bulk deletes
@@ -126,6 +126,25 @@ create table ACT_PROCDEF_INFO (
     primary key (ID_)
 );
 
+create table ACT_RU_MIGRATION_BATCH (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    PARENT_ID_ varchar(64),
+    CHUNK_ integer,
+    SOURCE_PROC_DEF_ID_ varchar(64),
+    TARGET_PROC_DEF_ID_ varchar(64),
+    PROC_INST_ID_ varchar(64),
+    STATUS_ varchar(255),
+    RESULT_ varchar(4000),
+    DOC_JSON_ID_ varchar(64),
+    CREATE_TIME_ timestamp,
+    COMPLETE_TIME_ timestamp,
+    TENANT_ID_ varchar(255) default '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_MIGR_BATCH_PARENT on ACT_RU_MIGRATION_BATCH(PARENT_ID_, CHUNK_);
+
 create table ACT_RU_ACTINST (
   ID_ varchar(64) not null,
   REV_ integer default 1,
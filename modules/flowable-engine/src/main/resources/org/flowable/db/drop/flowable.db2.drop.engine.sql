@@ -1,5 +1,6 @@
 drop index ACT_IDX_EXEC_BUSKEY;
 drop index ACT_IDX_VARIABLE_TASK_ID;
+drop index ACT_IDX_MIGR_BATCH_PARENT;
 
 alter table ACT_GE_BYTEARRAY 
     drop foreign key ACT_FK_BYTEARR_DEPL;
@@ -112,3 +113,4 @@ drop table ACT_RU_EXECUTION;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
 drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_MIGRATION_BATCH;
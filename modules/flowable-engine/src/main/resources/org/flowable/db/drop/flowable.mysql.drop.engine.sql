@@ -1,6 +1,7 @@
 drop index ACT_IDX_EXEC_BUSKEY on ACT_RU_EXECUTION;
 drop index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE;
 drop index ACT_IDX_INFO_PROCDEF on ACT_PROCDEF_INFO;
+drop index ACT_IDX_MIGR_BATCH_PARENT on ACT_RU_MIGRATION_BATCH;
 
 alter table ACT_GE_BYTEARRAY 
     drop FOREIGN KEY ACT_FK_BYTEARR_DEPL;
@@ -112,4 +113,5 @@ drop table if exists ACT_RE_PROCDEF;
 drop table if exists ACT_RU_EXECUTION;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
-drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO;
+drop table if exists ACT_RU_MIGRATION_BATCH;
\ No newline at end of file
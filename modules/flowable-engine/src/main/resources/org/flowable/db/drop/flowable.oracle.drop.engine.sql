@@ -138,6 +138,7 @@ drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index ACT_IDX_EVENT_SUBSCR;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
 drop index ACT_IDX_PROCDEF_INFO_PROC;
+drop index ACT_IDX_MIGR_BATCH_PARENT;
 
 drop table ACT_RU_ACTINST;
 drop table ACT_RE_DEPLOYMENT;
@@ -148,4 +149,5 @@ drop table ACT_RU_EVENT_SUBSCR;
 
 drop sequence act_evt_log_seq;
 drop table ACT_EVT_LOG;
-drop table ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table ACT_PROCDEF_INFO;
+drop table ACT_RU_MIGRATION_BATCH;
\ No newline at end of file
@@ -0,0 +1,18 @@
+create table ACT_RU_MIGRATION_BATCH (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    PARENT_ID_ nvarchar(64),
+    CHUNK_ int,
+    SOURCE_PROC_DEF_ID_ nvarchar(64),
+    TARGET_PROC_DEF_ID_ nvarchar(64),
+    PROC_INST_ID_ nvarchar(64),
+    STATUS_ nvarchar(255),
+    RESULT_ nvarchar(4000),
+    DOC_JSON_ID_ nvarchar(64),
+    CREATE_TIME_ datetime,
+    COMPLETE_TIME_ datetime,
+    TENANT_ID_ nvarchar(255) default '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_MIGR_BATCH_PARENT on ACT_RU_MIGRATION_BATCH(PARENT_ID_, CHUNK_);
@@ -0,0 +1,18 @@
+create table ACT_RU_MIGRATION_BATCH (
+    ID_ NVARCHAR2(64) not null,
+    REV_ integer,
+    PARENT_ID_ NVARCHAR2(64),
+    CHUNK_ integer,
+    SOURCE_PROC_DEF_ID_ NVARCHAR2(64),
+    TARGET_PROC_DEF_ID_ NVARCHAR2(64),
+    PROC_INST_ID_ NVARCHAR2(64),
+    STATUS_ NVARCHAR2(255),
+    RESULT_ NVARCHAR2(2000),
+    DOC_JSON_ID_ NVARCHAR2(64),
+    CREATE_TIME_ TIMESTAMP(6),
+    COMPLETE_TIME_ TIMESTAMP(6),
+    TENANT_ID_ NVARCHAR2(255) default '',
+    primary key (ID_)
+);
+
+create index ACT_IDX_MIGR_BATCH_PARENT on ACT_RU_MIGRATION_BATCH(PARENT_ID_, CHUNK_);
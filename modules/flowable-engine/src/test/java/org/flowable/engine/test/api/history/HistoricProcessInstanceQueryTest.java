@@ -12,14 +12,21 @@
  */
 package org.flowable.engine.test.api.history;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.history.HistoricTaskInstance;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -96,5 +103,38 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
             assertEquals(1, historyService.createHistoricProcessInstanceQuery().deploymentId(deploymentId).count());
         }
     }
+
+    @Test
+    public void testForEach() {
+        deployOneTaskTestProcess();
+        for (int i = 0; i < 7; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i);
+        }
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            List<String> streamedIds = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc()
+                    .forEach(3, processInstance -> streamedIds.add(processInstance.getId()));
+            assertThat(streamedIds).containsExactlyElementsOf(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list()
+                    .stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()));
+
+            List<String> streamedBusinessKeys = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("key3")
+                    .forEach(3, processInstance -> streamedBusinessKeys.add(processInstance.getBusinessKey()));
+            assertThat(streamedBusinessKeys).containsExactly("key3");
+
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().includeProcessVariables().forEach(3, processInstance -> {}))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            List<String> streamedTaskIds = new ArrayList<>();
+            historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().forEach(2, task -> streamedTaskIds.add(task.getId()));
+            assertThat(streamedTaskIds).containsExactlyElementsOf(historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().list()
+                    .stream().map(HistoricTaskInstance::getId).collect(Collectors.toList()));
+            assertThat(streamedTaskIds).hasSize(7);
+        }
+    }
     
 }
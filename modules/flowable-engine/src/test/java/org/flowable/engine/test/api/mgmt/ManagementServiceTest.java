@@ -13,21 +13,35 @@
 
 package org.flowable.engine.test.api.mgmt;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.management.TableMetaData;
+import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.engine.impl.ProcessEngineImpl;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobNotFoundException;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.flowable.task.service.impl.TaskQueryImpl;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -312,6 +326,116 @@ public class ManagementServiceTest extends PluggableFlowableTestCase {
         managementService.executeJob(timerJob.getId());
     }
 
+    @Test
+    @Deployment
+    public void testJobPriority() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("jobPriority", Collections.singletonMap("priority", 42));
+
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals(42, job.getPriority());
+
+        managementService.setJobPriority(job.getId(), 7);
+        job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals(7, job.getPriority());
+
+        // The priority is kept when the job is moved to the dead letter table
+        Job deadLetterJob = managementService.moveJobToDeadLetterJob(job.getId());
+        assertEquals(7, deadLetterJob.getPriority());
+        deadLetterJob = managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals(7, deadLetterJob.getPriority());
+
+        managementService.moveDeadLetterJobToExecutableJob(deadLetterJob.getId(), 3);
+        managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        // The second async activity has a fixed priority
+        job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals(10, job.getPriority());
+    }
+
+    @Test
+    public void testSetJobPriorityUnexistingJob() {
+        try {
+            managementService.setJobPriority("unexistingjob", 5);
+            fail("FlowableObjectNotFoundException expected");
+        } catch (FlowableObjectNotFoundException e) {
+            assertTextPresent("No job found with id", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testReadOnlyCommand() {
+        Task task = taskService.newTask();
+        task.setName("original name");
+        taskService.saveTask(task);
+
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            CommandConfig readOnlyConfig = commandExecutor.getDefaultConfig().readOnly();
+
+            // Changes to loaded entities are not flushed
+            commandExecutor.execute(readOnlyConfig, commandContext -> {
+                TaskEntity taskEntity = CommandContextUtil.getTaskService(commandContext).getTask(task.getId());
+                taskEntity.setName("changed name");
+                return null;
+            });
+            assertEquals("original name", taskService.createTaskQuery().taskId(task.getId()).singleResult().getName());
+
+            // Explicit writes fail
+            try {
+                commandExecutor.execute(readOnlyConfig, commandContext -> {
+                    TaskEntity taskEntity = CommandContextUtil.getTaskService(commandContext).getTask(task.getId());
+                    taskEntity.setName("changed name");
+                    CommandContextUtil.getTaskService(commandContext).updateTask(taskEntity, false);
+                    return null;
+                });
+                fail("FlowableException expected");
+            } catch (FlowableException e) {
+                assertTextPresent("read-only", e.getMessage());
+            }
+            assertEquals("original name", taskService.createTaskQuery().taskId(task.getId()).singleResult().getName());
+
+            // Entities returned by a (read-only) query can still be saved afterwards
+            Task queriedTask = taskService.createTaskQuery().taskId(task.getId()).singleResult();
+            queriedTask.setName(null);
+            taskService.saveTask(queriedTask);
+            assertNull(taskService.createTaskQuery().taskId(task.getId()).singleResult().getName());
+
+        } finally {
+            taskService.deleteTask(task.getId(), true);
+        }
+    }
+
+    @Test
+    public void testQueriesRunReadOnly() {
+        List<Boolean> readOnlyFlags = new ArrayList<>();
+        CommandExecutorImpl commandExecutor = (CommandExecutorImpl) processEngineConfiguration.getCommandExecutor();
+        CommandInterceptor oldFirstCommandInterceptor = commandExecutor.getFirst();
+        AbstractCommandInterceptor recordingCommandInterceptor = new AbstractCommandInterceptor() {
+
+            @Override
+            public <T> T execute(CommandConfig config, Command<T> command) {
+                if (command instanceof TaskQueryImpl) {
+                    readOnlyFlags.add(config.isReadOnly());
+                }
+                return next.execute(config, command);
+            }
+        };
+        recordingCommandInterceptor.setNext(oldFirstCommandInterceptor);
+        commandExecutor.setFirst(recordingCommandInterceptor);
+
+        try {
+            TaskQuery taskQuery = taskService.createTaskQuery();
+            taskQuery.list();
+            taskQuery.listPage(0, 10);
+            taskQuery.count();
+            taskQuery.singleResult();
+        } finally {
+            commandExecutor.setFirst(oldFirstCommandInterceptor);
+        }
+
+        assertEquals(Arrays.asList(true, true, true, true), readOnlyFlags);
+    }
+
     // https://jira.codehaus.org/browse/ACT-1816:
     // ManagementService doesn't seem to give actual table Name for EventSubscriptionEntity.class
     @Test
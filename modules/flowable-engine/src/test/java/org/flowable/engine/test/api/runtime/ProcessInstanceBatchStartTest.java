@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceBatchStartBuilder;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceBatchStartTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testStartProcessInstances() {
+        ProcessInstanceBatchStartBuilder builder = runtimeService.createProcessInstanceBatchStartBuilder().processDefinitionKey("oneTaskProcess");
+        for (int i = 0; i < 10; i++) {
+            builder.addProcessInstance("key" + i, Collections.singletonMap("counter", i));
+        }
+        builder.addProcessInstance(null, "named", null);
+
+        List<ProcessInstance> processInstances = builder.start();
+
+        assertThat(processInstances).hasSize(11);
+        assertThat(processInstances.get(0).getBusinessKey()).isEqualTo("key0");
+        assertThat(processInstances.get(9).getBusinessKey()).isEqualTo("key9");
+        assertThat(processInstances.get(10).getName()).isEqualTo("named");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(11);
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(11);
+        assertThat(runtimeService.getVariable(processInstances.get(3).getId(), "counter")).isEqualTo(3);
+        assertThat(runtimeService.getVariables(processInstances.get(10).getId())).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testStartProcessInstancesInChunks() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        ProcessInstanceBatchStartBuilder builder = runtimeService.createProcessInstanceBatchStartBuilder()
+                .processDefinitionId(processDefinitionId)
+                .chunkSize(3);
+        for (int i = 0; i < 7; i++) {
+            builder.addProcessInstance("key" + i, null);
+        }
+
+        List<ProcessInstance> processInstances = builder.start();
+
+        assertThat(processInstances).extracting(ProcessInstance::getBusinessKey)
+                .containsExactly("key0", "key1", "key2", "key3", "key4", "key5", "key6");
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinitionId).count()).isEqualTo(7);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testStartProcessInstancesSuspendedProcessDefinition() {
+        repositoryService.suspendProcessDefinitionByKey("oneTaskProcess");
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBatchStartBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .addProcessInstance("key", null)
+                .start())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is suspended");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    public void testStartProcessInstancesInvalidArguments() {
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBatchStartBuilder().addProcessInstance("key", null).start())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBatchStartBuilder().processDefinitionKey("unknown").addProcessInstance("key", null).start())
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+
+        assertThat(runtimeService.createProcessInstanceBatchStartBuilder().processDefinitionKey("unknown").start()).isEmpty();
+    }
+
+}
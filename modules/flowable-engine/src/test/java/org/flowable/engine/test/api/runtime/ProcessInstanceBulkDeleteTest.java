@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.delegate.event.FlowableProcessInstancesBulkDeletedEvent;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+import org.flowable.task.api.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceBulkDeleteTest extends PluggableFlowableTestCase {
+
+    protected TestFlowableEventListener listener;
+    protected int originalBatchSize;
+
+    @BeforeEach
+    protected void setUp() {
+        listener = new TestFlowableEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener, FlowableEngineEventType.PROCESS_INSTANCES_BULK_DELETED);
+        originalBatchSize = processEngineConfiguration.getProcessInstanceBulkDeleteBatchSize();
+        processEngineConfiguration.setProcessInstanceBulkDeleteBatchSize(2);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        processEngineConfiguration.setProcessInstanceBulkDeleteBatchSize(originalBatchSize);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testBulkDeleteProcessInstances() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("counter", i);
+            variables.put("bytes", "bytes".getBytes());
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId());
+        }
+        String remainingId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Long byteArrayCount = managementService.getTableCount().get("ACT_GE_BYTEARRAY");
+
+        runtimeService.bulkDeleteProcessInstances(processInstanceIds, "bulk delete");
+
+        assertThat(runtimeService.createProcessInstanceQuery().list()).extracting(ProcessInstance::getId).containsExactly(remainingId);
+        assertThat(runtimeService.createExecutionQuery().count()).isEqualTo(runtimeService.createExecutionQuery().processInstanceId(remainingId).count());
+        assertThat(taskService.createTaskQuery().list()).extracting(Task::getProcessInstanceId).containsExactly(remainingId);
+        List<VariableInstanceEntity> variableInstances = managementService.executeCommand(commandContext -> CommandContextUtil.getVariableService(commandContext)
+                .findVariableInstancesByExecutionId(processInstanceIds.get(0)));
+        assertThat(variableInstances).isEmpty();
+        // Only the byte arrays of the runtime variables are deleted, the history keeps its own
+        assertThat(managementService.getTableCount().get("ACT_GE_BYTEARRAY")).isEqualTo(byteArrayCount - 5);
+
+        // 5 process instances with a batch size of 2 give 3 chunks
+        assertThat(listener.getEventsReceived()).hasSize(3);
+        List<String> deletedIds = new ArrayList<>();
+        listener.getEventsReceived().forEach(event -> {
+            FlowableProcessInstancesBulkDeletedEvent bulkDeletedEvent = (FlowableProcessInstancesBulkDeletedEvent) event;
+            assertThat(bulkDeletedEvent.getDeleteReason()).isEqualTo("bulk delete");
+            deletedIds.addAll(bulkDeletedEvent.getProcessInstanceIds());
+        });
+        assertThat(deletedIds).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricProcessInstance> historicProcessInstances = historyService.createHistoricProcessInstanceQuery().finished().list();
+            assertThat(historicProcessInstances).extracting(HistoricProcessInstance::getId).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+            assertThat(historicProcessInstances).extracting(HistoricProcessInstance::getDeleteReason).containsOnly("bulk delete");
+            assertThat(historyService.createHistoricTaskInstanceQuery().unfinished().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml"
+    })
+    public void testBulkDeleteProcessInstancesWithSubProcessInstances() {
+        String firstId = startProcessInstanceWithSubProcessInstance();
+        String secondId = startProcessInstanceWithSubProcessInstance();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(4);
+
+        runtimeService.bulkDeleteProcessInstances(Arrays.asList(firstId, secondId, "unknown"), "bulk delete");
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(runtimeService.createExecutionQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().count()).isZero();
+
+        assertThat(listener.getEventsReceived()).hasSize(1);
+        assertThat(((FlowableProcessInstancesBulkDeletedEvent) listener.getEventsReceived().get(0)).getProcessInstanceIds()).hasSize(4);
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml"
+    })
+    public void testBulkDeleteSubProcessInstance() {
+        String processInstanceId = startProcessInstanceWithSubProcessInstance();
+        ProcessInstance subProcessInstance = runtimeService.createProcessInstanceQuery().superProcessInstanceId(processInstanceId).singleResult();
+
+        runtimeService.bulkDeleteProcessInstances(Arrays.asList(subProcessInstance.getId()), "bulk delete");
+
+        // A sub process instance is deleted through the regular path, the parent process instance stays
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(subProcessInstance.getId()).count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+        assertThat(listener.getEventsReceived()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testBulkDeleteProcessInstancesWithAsyncHistory() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        boolean asyncHistoryEnabled = processEngineConfiguration.isAsyncHistoryEnabled();
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        try {
+            assertThatThrownBy(() -> runtimeService.bulkDeleteProcessInstances(Collections.singletonList(processInstanceId), null))
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining("async history");
+        } finally {
+            processEngineConfiguration.setAsyncHistoryEnabled(asyncHistoryEnabled);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testBulkDeleteProcessInstancesByQuery() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "delete");
+        }
+        String remainingId = runtimeService.startProcessInstanceByKey("oneTaskProcess", "keep").getId();
+
+        runtimeService.bulkDeleteProcessInstances(runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("delete"), null);
+
+        assertThat(runtimeService.createProcessInstanceQuery().list()).extracting(ProcessInstance::getId).containsExactly(remainingId);
+
+        runtimeService.bulkDeleteProcessInstancesByProcessDefinitionId(repositoryService.createProcessDefinitionQuery().singleResult().getId(), null);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().count()).isZero();
+    }
+
+    protected String startProcessInstanceWithSubProcessInstance() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("callSimpleSubProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        return processInstanceId;
+    }
+
+}
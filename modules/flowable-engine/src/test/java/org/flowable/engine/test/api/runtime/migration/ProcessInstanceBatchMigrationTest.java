@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.test.api.runtime.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPrepareJobHandler;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceBatchMigrationTest extends AbstractProcessInstanceMigrationTest {
+
+    protected int originalChunkSize;
+    protected int originalPageSize;
+
+    @BeforeEach
+    protected void setUp() {
+        originalChunkSize = processEngineConfiguration.getProcessMigrationBatchChunkSize();
+        originalPageSize = processEngineConfiguration.getProcessMigrationBatchPageSize();
+        processEngineConfiguration.setProcessMigrationBatchChunkSize(2);
+        processEngineConfiguration.setProcessMigrationBatchPageSize(3);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setProcessMigrationBatchChunkSize(originalChunkSize);
+        processEngineConfiguration.setProcessMigrationBatchPageSize(originalPageSize);
+        deleteDeployments();
+    }
+
+    @Test
+    public void testBatchMigrationInChunks() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstances.add(runtimeService.startProcessInstanceByKey("MP"));
+        }
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        ProcessMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        assertThat(batch.getSourceProcessDefinitionId()).isEqualTo(version1ProcessDef.getId());
+        assertThat(batch.getTargetProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+        assertThat(batch.getStatus()).isEqualTo(ProcessMigrationBatch.STATUS_PREPARING);
+
+        // 5 process instances in pages of 3
+        Job prepareJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).singleResult();
+        managementService.executeJob(prepareJob.getId());
+        ProcessInstanceBatchMigrationResult result = runtimeService.getProcessInstanceBatchMigrationResult(batch.getId());
+        assertThat(result.getBatch().getStatus()).isEqualTo(ProcessMigrationBatch.STATUS_PREPARING);
+        assertThat(result.getWaitingCount()).isEqualTo(3);
+
+        // A chunk that finishes while the batch is still being prepared doesn't complete it
+        Job firstChunkJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchJobHandler.TYPE).list().get(0);
+        managementService.executeJob(firstChunkJob.getId());
+
+        prepareJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).singleResult();
+        managementService.executeJob(prepareJob.getId());
+        assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).count()).isZero();
+
+        result = runtimeService.getProcessInstanceBatchMigrationResult(batch.getId());
+        assertThat(result.getBatch().getStatus()).isEqualTo(ProcessMigrationBatch.STATUS_IN_PROGRESS);
+        assertThat(result.getTotalCount()).isEqualTo(5);
+        assertThat(result.isCompleted()).isFalse();
+
+        // The first page is split in chunks of 2 and 1 process instances, the second page is one chunk of 2
+        List<Job> jobs = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchJobHandler.TYPE).list();
+        assertThat(jobs).hasSize(2);
+        for (Job job : jobs) {
+            managementService.executeJob(job.getId());
+        }
+
+        result = runtimeService.getProcessInstanceBatchMigrationResult(batch.getId());
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getBatch().getCompleteTime()).isNotNull();
+        assertThat(result.getTotalCount()).isEqualTo(5);
+        assertThat(result.getSuccessCount()).isEqualTo(5);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getFailedParts()).isEmpty();
+
+        for (ProcessInstance processInstance : processInstances) {
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+        }
+
+        runtimeService.deleteProcessMigrationBatch(batch.getId());
+    }
+
+    @Test
+    public void testBatchMigrationStoresFailures() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("MP");
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("MP");
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        ProcessMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        Job prepareJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).singleResult();
+        managementService.executeJob(prepareJob.getId());
+
+        // The deleted process instance can't be migrated anymore, but that doesn't roll back the other one
+        runtimeService.deleteProcessInstance(processInstance2.getId(), "test");
+
+        Job job = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchJobHandler.TYPE).singleResult();
+        managementService.executeJob(job.getId());
+
+        ProcessInstanceBatchMigrationResult result = runtimeService.getProcessInstanceBatchMigrationResult(batch.getId());
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getFailedParts()).extracting(ProcessMigrationBatch::getProcessInstanceId).containsExactly(processInstance2.getId());
+        assertThat(result.getFailedParts().get(0).getResult()).contains(processInstance2.getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance1.getId()).singleResult();
+        assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+
+        runtimeService.deleteProcessMigrationBatch(batch.getId());
+    }
+
+    @Test
+    public void testBatchMigrationWithoutProcessInstances() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        ProcessMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        Job prepareJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).singleResult();
+        managementService.executeJob(prepareJob.getId());
+
+        ProcessInstanceBatchMigrationResult result = runtimeService.getProcessInstanceBatchMigrationResult(batch.getId());
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getTotalCount()).isZero();
+        assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchJobHandler.TYPE).count()).isZero();
+
+        runtimeService.deleteProcessMigrationBatch(batch.getId());
+    }
+
+}
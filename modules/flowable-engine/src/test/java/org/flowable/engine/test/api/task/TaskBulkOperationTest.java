@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.task.BulkTaskResult;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskBulkOperationTest extends PluggableFlowableTestCase {
+
+    protected int originalChunkSize;
+
+    @BeforeEach
+    protected void setUp() {
+        originalChunkSize = processEngineConfiguration.getTaskBulkOperationChunkSize();
+        processEngineConfiguration.setTaskBulkOperationChunkSize(3);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setTaskBulkOperationChunkSize(originalChunkSize);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkComplete() {
+        List<String> taskIds = startProcessInstances(5);
+
+        List<BulkTaskResult> results = taskService.bulkComplete(taskIds, Collections.singletonMap("approved", true));
+
+        assertThat(results).extracting(BulkTaskResult::getTaskId).containsExactlyElementsOf(taskIds);
+        assertThat(results).extracting(BulkTaskResult::isSuccessful).containsOnly(true);
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimFailsOnlyAffectedTasks() {
+        List<String> taskIds = startProcessInstances(5);
+        taskService.claim(taskIds.get(1), "otherUser");
+
+        List<String> requestedIds = new ArrayList<>(taskIds);
+        requestedIds.add("unknown");
+        List<BulkTaskResult> results = taskService.bulkClaim(requestedIds, "kermit");
+
+        assertThat(results).hasSize(6);
+        assertThat(results).filteredOn(result -> !result.isSuccessful()).extracting(BulkTaskResult::getTaskId)
+                .containsExactly(taskIds.get(1), "unknown");
+        assertThat(results.get(1).getErrorMessage()).isNotNull();
+        assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(4);
+        assertThat(taskService.createTaskQuery().taskAssignee("otherUser").singleResult().getId()).isEqualTo(taskIds.get(1));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkSetVariables() {
+        List<String> taskIds = startProcessInstances(4);
+
+        List<BulkTaskResult> results = taskService.bulkSetVariables(Arrays.asList(taskIds.get(0), taskIds.get(2), taskIds.get(0)),
+                Collections.singletonMap("reviewed", "yes"));
+
+        assertThat(results).extracting(BulkTaskResult::getTaskId).containsExactly(taskIds.get(0), taskIds.get(2));
+        assertThat(taskService.getVariable(taskIds.get(0), "reviewed")).isEqualTo("yes");
+        assertThat(taskService.getVariable(taskIds.get(1), "reviewed")).isNull();
+        assertThat(taskService.getVariable(taskIds.get(2), "reviewed")).isEqualTo("yes");
+    }
+
+    protected List<String> startProcessInstances(int count) {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskIds.add(task.getId());
+        }
+        return taskIds;
+    }
+
+}
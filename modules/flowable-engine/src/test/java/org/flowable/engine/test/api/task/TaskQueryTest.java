@@ -100,6 +100,39 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testForEachNoCriteria() {
+        List<String> streamedTaskIds = new ArrayList<>();
+        taskService.createTaskQuery().orderByTaskId().asc().forEach(5, task -> streamedTaskIds.add(task.getId()));
+        assertEquals(12, streamedTaskIds.size());
+
+        List<String> listedTaskIds = new ArrayList<>();
+        for (org.flowable.task.api.Task task : taskService.createTaskQuery().orderByTaskId().asc().list()) {
+            listedTaskIds.add(task.getId());
+        }
+        assertEquals(listedTaskIds, streamedTaskIds);
+
+        // The query can be reused after streaming its results
+        TaskQuery query = taskService.createTaskQuery().orderByTaskId().asc();
+        query.forEach(5, task -> {});
+        assertEquals(12, query.list().size());
+        assertEquals(12, query.count());
+
+        List<String> assignedTaskIds = new ArrayList<>();
+        taskService.createTaskQuery().taskAssignee("gonzo").forEach(5, task -> assignedTaskIds.add(task.getId()));
+        assertEquals(taskService.createTaskQuery().taskAssignee("gonzo").count(), assignedTaskIds.size());
+    }
+
+    @Test
+    public void testForEachWithIncludeVariables() {
+        try {
+            taskService.createTaskQuery().includeTaskLocalVariables().forEach(5, task -> {});
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK
+        }
+    }
+
     @Test
     public void testQueryByTaskId() {
         TaskQuery query = taskService.createTaskQuery().taskId(taskIds.get(0));
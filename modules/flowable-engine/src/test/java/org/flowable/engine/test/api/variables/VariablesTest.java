@@ -17,16 +17,25 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 import org.junit.jupiter.api.AfterEach;
@@ -393,6 +402,103 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertEquals("HELLO world", varValue);
     }
 
+    @Test
+    @org.flowable.engine.test.Deployment
+    public void testEagerVariableFetching() {
+        boolean originalEagerVariableFetching = processEngineConfiguration.getPerformanceSettings().isEnableEagerVariableFetching();
+        processEngineConfiguration.getPerformanceSettings().setEnableEagerVariableFetching(true);
+
+        try {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("eagerVariableFetching",
+                    Collections.singletonMap("processVar", "process")).getId();
+
+            org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertEquals("process outer inner", task.getName());
+
+            Map<String, Object> variables = runtimeService.getVariables(task.getExecutionId());
+            assertEquals(3, variables.size());
+            assertEquals("process", variables.get("processVar"));
+            assertEquals("outer", variables.get("outerVar"));
+            assertEquals("inner", variables.get("innerVar"));
+            assertEquals("outer", runtimeService.getVariable(task.getExecutionId(), "outerVar"));
+
+            taskService.complete(task.getId());
+            assertEquals("processouterinner", runtimeService.getVariable(processInstanceId, "result"));
+            assertEquals(2, runtimeService.getVariables(processInstanceId).size());
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableEagerVariableFetching(originalEagerVariableFetching);
+        }
+    }
+
+    @Test
+    public void testVariablePrefetching() {
+        boolean originalVariablePrefetching = processEngineConfiguration.getPerformanceSettings().isEnableVariablePrefetching();
+        processEngineConfiguration.getPerformanceSettings().setEnableVariablePrefetching(true);
+
+        String deploymentId = null;
+        try {
+            // The variable names are determined when the process definition is cached, so the deployment needs to happen after enabling the setting
+            deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/api/variables/VariablesTest.testVariablePrefetching.bpmn20.xml")
+                    .deploy()
+                    .getId();
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+
+            ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getDeploymentManager().getProcessDefinitionCache().get(processDefinition.getId());
+            Map<String, Set<String>> flowNodeVariableNames = cacheEntry.getFlowNodeVariableNames();
+            assertEquals(new HashSet<>(Arrays.asList("customer", "amount", "discount")), flowNodeVariableNames.get("task"));
+            assertEquals(Collections.singleton("amount"), flowNodeVariableNames.get("decision"));
+            assertEquals(Collections.singleton("execution"), flowNodeVariableNames.get("setLocalVariable"));
+            assertFalse(flowNodeVariableNames.containsKey("subProcessStart"));
+
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("customer", "kermit");
+            variables.put("amount", 150);
+            String processInstanceId = runtimeService.startProcessInstanceByKey("variablePrefetching", variables).getId();
+
+            // customer and amount are fetched from the process instance, discount from the sub process child execution
+            org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertEquals("kermit 140", task.getName());
+            assertEquals(10L, runtimeService.getVariable(task.getExecutionId(), "discount"));
+
+            taskService.complete(task.getId(), Collections.singletonMap("amount", 50));
+            task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertEquals("Small order of kermit", task.getName());
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableVariablePrefetching(originalVariablePrefetching);
+            if (deploymentId != null) {
+                deleteDeployment(deploymentId);
+            }
+        }
+    }
+
+    @Test
+    @org.flowable.engine.test.Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testPrefetchedMissingVariableInsertedThroughVariableService() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        Object value = managementService.executeCommand(commandContext -> {
+            ExecutionEntityImpl processInstance = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+            processInstance.prefetchVariables(Collections.singleton("lateVariable"));
+            assertFalse(processInstance.hasVariable("lateVariable"));
+
+            // Inserted without going through the execution, which only knows the variable was missing when prefetching
+            VariableService variableService = CommandContextUtil.getVariableService(commandContext);
+            VariableInstanceEntity variableInstance = variableService.createVariableInstance("lateVariable",
+                    processEngineConfiguration.getVariableTypes().findVariableType("hello"), "hello");
+            variableInstance.setExecutionId(processInstanceId);
+            variableInstance.setProcessInstanceId(processInstanceId);
+            variableService.insertVariableInstance(variableInstance);
+
+            return processInstance.getVariable("lateVariable");
+        });
+
+        assertEquals("hello", value);
+        assertEquals("hello", runtimeService.getVariable(processInstanceId, "lateVariable"));
+    }
+
     @Test
     @org.flowable.engine.test.Deployment
     public void testGetVariableAllVariableFetchingDisabled() {
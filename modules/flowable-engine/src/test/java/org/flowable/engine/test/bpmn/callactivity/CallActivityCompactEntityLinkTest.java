@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.callactivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.entitylink.api.EntityLink;
+import org.flowable.entitylink.api.EntityLinkType;
+import org.flowable.entitylink.api.HierarchyType;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.Test;
+
+public class CallActivityCompactEntityLinkTest extends CustomConfigurationFlowableTestCase {
+
+    public CallActivityCompactEntityLinkTest() {
+        super(CallActivityCompactEntityLinkTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableCompactEntityLinkHierarchy(true);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/callactivity/CallActivityCompactEntityLinkTest.testNestedCallActivities.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
+    public void testNestedCallActivities() {
+        ProcessInstance rootProcessInstance = runtimeService.startProcessInstanceByKey("rootProcess");
+        Task rootTask = taskService.createTaskQuery().processInstanceId(rootProcessInstance.getId()).singleResult();
+        taskService.complete(rootTask.getId());
+
+        ProcessInstance middleProcessInstance = runtimeService.createProcessInstanceQuery().superProcessInstanceId(rootProcessInstance.getId()).singleResult();
+        ProcessInstance subProcessInstance = runtimeService.createProcessInstanceQuery().superProcessInstanceId(middleProcessInstance.getId()).singleResult();
+        Task subTask = taskService.createTaskQuery().processInstanceId(subProcessInstance.getId()).singleResult();
+
+        // Only a link to the direct parent is stored, which references the root and the ancestor path
+        List<EntityLink> subTaskParentLinks = runtimeService.getEntityLinkParentsForTask(subTask.getId());
+        assertThat(subTaskParentLinks).hasSize(1);
+        EntityLink subTaskParentLink = subTaskParentLinks.get(0);
+        assertThat(subTaskParentLink.getScopeId()).isEqualTo(subProcessInstance.getId());
+        assertThat(subTaskParentLink.getHierarchyType()).isEqualTo(HierarchyType.PARENT);
+        assertThat(subTaskParentLink.getRootScopeId()).isEqualTo(rootProcessInstance.getId());
+        assertThat(subTaskParentLink.getRootScopeType()).isEqualTo(ScopeTypes.BPMN);
+        assertThat(subTaskParentLink.getHierarchyPath())
+                .isEqualTo("/" + rootProcessInstance.getId() + "/" + middleProcessInstance.getId() + "/" + subProcessInstance.getId() + "/");
+
+        assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(rootProcessInstance.getId()))
+                .extracting(EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                .containsExactlyInAnyOrder(
+                        tuple(rootTask.getId(), HierarchyType.ROOT),
+                        tuple(middleProcessInstance.getId(), HierarchyType.ROOT));
+
+        List<EntityLink> rootEntityLinks = managementService.executeCommand(commandContext -> CommandContextUtil.getEntityLinkService(commandContext)
+                .findEntityLinksByRootScopeIdAndRootType(rootProcessInstance.getId(), ScopeTypes.BPMN, EntityLinkType.CHILD));
+        assertThat(rootEntityLinks)
+                .extracting(EntityLink::getReferenceScopeId)
+                .containsExactlyInAnyOrder(rootTask.getId(), middleProcessInstance.getId(), subProcessInstance.getId(), subTask.getId());
+
+        // The task is found from each of its ancestors
+        assertThat(taskService.createTaskQuery().processInstanceIdWithChildren(rootProcessInstance.getId()).singleResult().getId()).isEqualTo(subTask.getId());
+        assertThat(taskService.createTaskQuery().processInstanceIdWithChildren(middleProcessInstance.getId()).singleResult().getId()).isEqualTo(subTask.getId());
+        assertThat(taskService.createTaskQuery().processInstanceIdWithChildren(subProcessInstance.getId()).singleResult().getId()).isEqualTo(subTask.getId());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceIdWithChildren(middleProcessInstance.getId()).list())
+                    .extracting(HistoricTaskInstance::getId)
+                    .containsExactly(subTask.getId());
+        }
+
+        taskService.complete(subTask.getId());
+        assertProcessEnded(rootProcessInstance.getId());
+    }
+
+}
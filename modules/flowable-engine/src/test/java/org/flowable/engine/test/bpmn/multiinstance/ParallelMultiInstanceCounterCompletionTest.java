@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMultiInstanceCounterCompletionTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableCounterCompletion() {
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelMultiInstanceCounterCompletion(true);
+    }
+
+    @AfterEach
+    protected void resetCounterCompletion() {
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelMultiInstanceCounterCompletion(false);
+    }
+
+    @Test
+    @Deployment
+    public void testAsyncParallelServiceTasks() {
+        String procId = runtimeService.startProcessInstanceByKey("miAsyncParallelServiceTasks", CollectionUtil.singletonMap("nrOfItems", 20)).getId();
+        assertEquals(20, managementService.createJobQuery().processInstanceId(procId).count());
+
+        waitForJobExecutorToProcessAllJobs(20000L, 200L);
+
+        Task task = taskService.createTaskQuery().processInstanceId(procId).singleResult();
+        assertNotNull(task);
+        assertEquals("taskAfterMi", task.getTaskDefinitionKey());
+        taskService.complete(task.getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
+    public void testParallelUserTasks() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertEquals(3, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(3 - i, taskService.createTaskQuery().count());
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml" })
+    public void testParallelUserTasksCompletionCondition() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition").getId();
+        List<Task> tasks = taskService.createTaskQuery().list();
+        assertEquals(5, tasks.size());
+
+        // The counter is incremented in the database, the completion condition sees the incremented value
+        for (int i = 0; i < 3; i++) {
+            assertEquals(5 - i, taskService.createTaskQuery().count());
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
+    public void testIncrementedCounterIsQueryableAndRecordedInHistory() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+        List<Task> tasks = taskService.createTaskQuery().list();
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+
+        // Querying on the value also matches the text column of the variable
+        Execution miRootExecution = runtimeService.createExecutionQuery().processInstanceId(procId).variableValueEquals("nrOfCompletedInstances", 2).singleResult();
+        assertNotNull(miRootExecution);
+        assertEquals(2, runtimeService.getVariableLocal(miRootExecution.getId(), "nrOfCompletedInstances"));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicCounter = historyService.createHistoricVariableInstanceQuery()
+                    .executionId(miRootExecution.getId()).variableName("nrOfCompletedInstances").singleResult();
+            assertEquals(2, historicCounter.getValue());
+        }
+
+        taskService.complete(tasks.get(2).getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
+    public void testConcurrentIncrements() throws Exception {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+        String miRootExecutionId = runtimeService.createExecutionQuery().processInstanceId(procId).variableValueEquals("nrOfCompletedInstances", 0)
+                .singleResult().getId();
+
+        // Both transactions load the counter before either of them increments it
+        CyclicBarrier counterLoaded = new CyclicBarrier(2);
+        List<Long> incrementedValues = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    incrementedValues.add(managementService.executeCommand(commandContext -> {
+                        VariableService variableService = CommandContextUtil.getVariableService(commandContext);
+                        VariableInstanceEntity counter = variableService.findVariableInstanceByExecutionAndName(miRootExecutionId, "nrOfCompletedInstances");
+                        try {
+                            counterLoaded.await(10, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        return variableService.incrementVariableInstanceLongValue(counter);
+                    }));
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(20000L);
+        }
+
+        // Neither transaction updates the counter entity, so neither fails on its revision
+        assertEquals(Collections.emptyList(), failures);
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), new HashSet<>(incrementedValues));
+        assertEquals(2, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+
+        runtimeService.deleteProcessInstance(procId, "test");
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Looks up executions through the secondary indexes of the entity cache, 
+ * after the indexed properties of cached executions were changed in the same command.
+ */
+public class EntityCacheIndexTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testChildExecutionLookupsAfterReindex() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        String taskExecutionId = runtimeService.createExecutionQuery().processInstanceId(processInstanceId).onlyChildExecutions().singleResult().getId();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            ExecutionEntity processInstance = executionEntityManager.findById(processInstanceId);
+
+            List<ExecutionEntity> childExecutions = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                childExecutions.add(executionEntityManager.createChildExecution(processInstance));
+            }
+            ExecutionEntity newParent = childExecutions.get(0);
+            ExecutionEntity movedExecution = childExecutions.get(1);
+
+            // The loaded and the created executions are found through the index
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(processInstanceId))
+                    .extracting(Execution::getId)
+                    .containsExactlyInAnyOrder(taskExecutionId, newParent.getId(), movedExecution.getId(), childExecutions.get(2).getId());
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(newParent.getId())).isEmpty();
+
+            // Changing the parent of a cached execution moves it to the index entry of the new parent
+            movedExecution.setParent(newParent);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(newParent.getId()))
+                    .extracting(Execution::getId)
+                    .containsExactly(movedExecution.getId());
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(processInstanceId))
+                    .extracting(Execution::getId)
+                    .containsExactlyInAnyOrder(taskExecutionId, newParent.getId(), childExecutions.get(2).getId());
+
+            // The same for an execution that was loaded from the database
+            ExecutionEntity taskExecution = executionEntityManager.findById(taskExecutionId);
+            taskExecution.setParentId(newParent.getId());
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(newParent.getId()))
+                    .extracting(Execution::getId)
+                    .containsExactlyInAnyOrder(movedExecution.getId(), taskExecutionId);
+            taskExecution.setParentId(processInstanceId);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(newParent.getId()))
+                    .extracting(Execution::getId)
+                    .containsExactly(movedExecution.getId());
+
+            // Removed executions are no longer found
+            executionEntityManager.delete(movedExecution);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(newParent.getId())).isEmpty();
+            assertThat(executionEntityManager.findChildExecutionsByProcessInstanceId(processInstanceId))
+                    .extracting(Execution::getId)
+                    .containsExactlyInAnyOrder(taskExecutionId, newParent.getId(), childExecutions.get(2).getId());
+
+            // Inserted and deleted in the same transaction: nothing is written to the database
+            executionEntityManager.delete(newParent);
+            executionEntityManager.delete(childExecutions.get(2));
+            return null;
+        });
+
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstanceId).list())
+                .extracting(Execution::getId)
+                .containsExactlyInAnyOrder(processInstanceId, taskExecutionId);
+        runtimeService.deleteProcessInstance(processInstanceId, null);
+    }
+
+}
@@ -13,7 +13,11 @@
 
 package org.flowable.engine.test.cache;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
@@ -154,4 +158,60 @@ public class ProcessDefinitionCacheTest extends AbstractTestCase {
         processEngine2.close();
     }
 
+    @Test
+    public void testResolveSingleProcessDefinitionResourceAndWarmUp() throws Exception {
+        ProcessEngine schemaProcessEngine = new StandaloneProcessEngineConfiguration().setEngineName("cache-resolve-test-schema")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE).setJdbcUrl("jdbc:h2:mem:flowable-process-cache-resolve-test;DB_CLOSE_DELAY=1000")
+                .setAsyncExecutorActivate(false).buildProcessEngine();
+        String deploymentId = schemaProcessEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/cache/originalProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+        String oneTaskProcessDefinitionId = schemaProcessEngine.getRepositoryService().createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+        String twoTasksProcessDefinitionId = schemaProcessEngine.getRepositoryService().createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult().getId();
+
+        // Only the BPMN resource of the requested process definition is parsed on a cache miss
+        ProcessEngineConfigurationImpl singleResourceConfiguration = (ProcessEngineConfigurationImpl) new StandaloneProcessEngineConfiguration()
+                .setEngineName("cache-resolve-test").setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE)
+                .setJdbcUrl("jdbc:h2:mem:flowable-process-cache-resolve-test;DB_CLOSE_DELAY=1000").setAsyncExecutorActivate(false);
+        singleResourceConfiguration.setResolveSingleProcessDefinitionResource(true);
+        ProcessEngine singleResourceProcessEngine = singleResourceConfiguration.buildProcessEngine();
+
+        // Concurrent cache misses for the same process definition are resolved once and all get the same result
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        List<Future<ProcessInstance>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(executorService.submit(() -> singleResourceProcessEngine.getRuntimeService().startProcessInstanceById(oneTaskProcessDefinitionId)));
+        }
+        for (Future<ProcessInstance> future : futures) {
+            assertNotNull(future.get());
+        }
+        executorService.shutdown();
+
+        assertTrue(singleResourceConfiguration.getProcessDefinitionCache().contains(oneTaskProcessDefinitionId));
+        assertFalse(singleResourceConfiguration.getProcessDefinitionCache().contains(twoTasksProcessDefinitionId));
+        assertEquals("original task", singleResourceProcessEngine.getTaskService().createTaskQuery().list().get(0).getName());
+        assertEquals(schemaProcessEngine.getRepositoryService().getProcessDefinition(oneTaskProcessDefinitionId).getDiagramResourceName(),
+                singleResourceProcessEngine.getRepositoryService().getProcessDefinition(oneTaskProcessDefinitionId).getDiagramResourceName());
+
+        singleResourceProcessEngine.getRuntimeService().startProcessInstanceById(twoTasksProcessDefinitionId);
+        assertTrue(singleResourceConfiguration.getProcessDefinitionCache().contains(twoTasksProcessDefinitionId));
+        singleResourceProcessEngine.close();
+
+        // The warm up puts the latest version of all process definitions in the cache when the engine boots
+        ProcessEngineConfigurationImpl warmUpConfiguration = (ProcessEngineConfigurationImpl) new StandaloneProcessEngineConfiguration()
+                .setEngineName("cache-warm-up-test").setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE)
+                .setJdbcUrl("jdbc:h2:mem:flowable-process-cache-resolve-test;DB_CLOSE_DELAY=1000").setAsyncExecutorActivate(false);
+        warmUpConfiguration.setProcessDefinitionCacheWarmUpThreads(2);
+        ProcessEngine warmUpProcessEngine = warmUpConfiguration.buildProcessEngine();
+
+        assertTrue(warmUpConfiguration.getProcessDefinitionCache().contains(oneTaskProcessDefinitionId));
+        assertTrue(warmUpConfiguration.getProcessDefinitionCache().contains(twoTasksProcessDefinitionId));
+        warmUpProcessEngine.close();
+
+        schemaProcessEngine.getRepositoryService().deleteDeployment(deploymentId, true);
+        schemaProcessEngine.close();
+    }
+
 }
@@ -52,6 +52,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
     protected boolean oldenableProcessDefinitionInfoCacheValue;
     protected CommandInterceptor oldFirstCommandInterceptor;
     protected DbSqlSessionFactory oldDbSqlSessionFactory;
+    protected DbSqlSessionFactory profilingDbSqlSessionFactory;
     protected HistoryLevel oldHistoryLevel;
 
     @BeforeEach
@@ -89,6 +90,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         this.oldDbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
         DbSqlSessionFactory newDbSqlSessionFactory = new ProfilingDbSqlSessionFactory(processEngineConfiguration.isUsePrefixId());
         newDbSqlSessionFactory.setBulkInserteableEntityClasses(new HashSet<>(EntityDependencyOrder.INSERT_ORDER));
+        newDbSqlSessionFactory.setNonBulkDeletableEntityClasses(oldDbSqlSessionFactory.getNonBulkDeletableEntityClasses());
         newDbSqlSessionFactory.setInsertionOrder(oldDbSqlSessionFactory.getInsertionOrder());
         newDbSqlSessionFactory.setDeletionOrder(oldDbSqlSessionFactory.getDeletionOrder());
         newDbSqlSessionFactory.setDatabaseType(oldDbSqlSessionFactory.getDatabaseType());
@@ -101,6 +103,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         newDbSqlSessionFactory.setDatabaseSpecificStatements(oldDbSqlSessionFactory.getDatabaseSpecificStatements());
         newDbSqlSessionFactory.setLogicalNameToClassMapping(oldDbSqlSessionFactory.getLogicalNameToClassMapping());
         processEngineConfiguration.addSessionFactory(newDbSqlSessionFactory);
+        this.profilingDbSqlSessionFactory = newDbSqlSessionFactory;
     }
 
     @AfterEach
@@ -157,6 +160,30 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testDeleteProcessInstanceWithNestedExecutionsWithBulkDelete() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            profilingDbSqlSessionFactory.setBulkDeleteEnabled(true);
+
+            deployStartProcessInstanceAndProfile("process-usertask-03.bpmn20.xml", "process-usertask-03", false);
+            Assert.assertEquals(4, runtimeService.createExecutionQuery().count());
+            String processInstanceId = runtimeService.createProcessInstanceQuery().singleResult().getId();
+            runtimeService.deleteProcessInstance(processInstanceId, "test");
+            stopProfiling();
+
+            // The process instance, the sub process scope and the two parallel child executions are deleted row by row
+            assertDatabaseDeletes("DeleteProcessInstanceCmd",
+                    "TaskEntityImpl-bulk-with-2", 1L,
+                    "ExecutionEntityImpl", 4L,
+                    "Bulk-delete-deleteTasksByExecutionId", 1L,
+                    "Bulk-delete-deleteEntityLinksByScopeIdAndScopeType", 1L,
+                    "Bulk-delete-deleteActivityInstancesByProcessInstanceId", 2L);
+
+            Assert.assertEquals(0, runtimeService.createExecutionQuery().count());
+            Assert.assertEquals(1, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+    }
+
     @Test
     public void testVariablesAndPassthrough() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
@@ -375,6 +402,29 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testOneTaskProcessWithBulkDelete() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            profilingDbSqlSessionFactory.setBulkDeleteEnabled(true);
+
+            deployStartProcessInstanceAndProfile("process-usertask-01.bpmn20.xml", "process-usertask-01", false);
+            org.flowable.task.api.Task task = taskService.createTaskQuery().singleResult();
+            taskService.complete(task.getId());
+            stopProfiling();
+
+            // Executions reference each other, so they are never deleted in bulk
+            assertDatabaseDeletes("CompleteTaskCmd",
+                    "TaskEntityImpl", 1L,
+                    "ExecutionEntityImpl", 2L,
+                    "Bulk-delete-deleteTasksByExecutionId", 1L,
+                    "Bulk-delete-deleteEntityLinksByScopeIdAndScopeType", 1L,
+                    "Bulk-delete-deleteActivityInstancesByProcessInstanceId", 1L);
+
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            Assert.assertEquals(1, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+    }
+
     @Test
     public void testOneTaskWithBoundaryTimerProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
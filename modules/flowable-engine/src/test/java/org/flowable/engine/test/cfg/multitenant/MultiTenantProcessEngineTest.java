@@ -24,7 +24,9 @@ import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.multitenant.MultiSchemaMultiTenantProcessEngineConfiguration;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.multitenant.MultiplexedTenantAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.multitenant.SharedExecutorServiceAsyncExecutor;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.Assert;
@@ -70,7 +72,7 @@ public class MultiTenantProcessEngineTest {
         this.tenantInfoHolder = tenantInfoHolder;
     }
 
-    private void setupProcessEngine(boolean sharedExecutor) {
+    private void setupProcessEngine(AsyncExecutor asyncExecutor) {
         config = new MultiSchemaMultiTenantProcessEngineConfiguration(tenantInfoHolder);
 
         config.setDatabaseType(MultiSchemaMultiTenantProcessEngineConfiguration.DATABASE_TYPE_H2);
@@ -79,11 +81,7 @@ public class MultiTenantProcessEngineTest {
         config.setAsyncExecutorActivate(true);
         config.setDisableIdmEngine(true);
 
-        if (sharedExecutor) {
-            config.setAsyncExecutor(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
-        } else {
-            config.setAsyncExecutor(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
-        }
+        config.setAsyncExecutor(asyncExecutor);
 
         config.registerTenant("flowable", createDataSource("jdbc:h2:mem:activiti-mt-flowable;DB_CLOSE_DELAY=1000", "sa", ""));
         config.registerTenant("acme", createDataSource("jdbc:h2:mem:activiti-mt-acme;DB_CLOSE_DELAY=1000", "sa", ""));
@@ -94,16 +92,35 @@ public class MultiTenantProcessEngineTest {
 
     @Test
     public void testStartProcessInstancesWithSharedExecutor() throws Exception {
-        setupProcessEngine(true);
+        setupProcessEngine(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
         runProcessInstanceTest();
     }
 
     @Test
     public void testStartProcessInstancesWithExecutorPerTenantAsyncExecutor() throws Exception {
-        setupProcessEngine(false);
+        setupProcessEngine(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
         runProcessInstanceTest();
     }
 
+    @Test
+    public void testStartProcessInstancesWithMultiplexedTenantAsyncExecutor() throws Exception {
+        MultiplexedTenantAsyncExecutor asyncExecutor = new MultiplexedTenantAsyncExecutor(tenantInfoHolder);
+        asyncExecutor.setTenantWeight("flowable", 3);
+        asyncExecutor.setTenantMaxConcurrentJobs("acme", 1);
+        setupProcessEngine(asyncExecutor);
+
+        // One acquisition thread for all tenants
+        Assert.assertEquals(3, asyncExecutor.getTenantIds().size());
+        Assert.assertNotNull(asyncExecutor.getAcquisitionThread());
+        Assert.assertEquals(3, asyncExecutor.getTenantAcquisitionState("flowable").getWeight());
+        Assert.assertEquals(1, asyncExecutor.getTenantAcquisitionState("acme").getMaxConcurrentJobs());
+
+        runProcessInstanceTest();
+
+        Assert.assertEquals(4, asyncExecutor.getTenantIds().size());
+        Assert.assertEquals(0, asyncExecutor.getTenantAcquisitionState("acme").getActiveJobs());
+    }
+
     protected void runProcessInstanceTest() throws InterruptedException {
         // Generate data
         startProcessInstances("joram");
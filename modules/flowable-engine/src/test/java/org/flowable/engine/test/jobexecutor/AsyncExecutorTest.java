@@ -17,14 +17,22 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExclusiveJobAffinity;
+import org.flowable.job.service.impl.asyncexecutor.StaticJobAffinityClusterMembership;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -84,6 +92,57 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testTimerLeasedAheadOfDueDate() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            // Deploy, with timers due within the next 10 seconds being leased ahead of time
+            processEngine = createProcessEngine(true, null, 10000);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+
+            // Move clock to 2 seconds before the due date. The timer is leased and put in the timer wheel
+            addSecondsToCurrentTime(processEngine, 298L);
+            final ProcessEngine processEngineCopy = processEngine;
+            JobTestHelper.waitForJobExecutorOnCondition(processEngine.getProcessEngineConfiguration(), 10000L, 200L, new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    Job timerJob = processEngineCopy.getManagementService().createTimerJobQuery().singleResult();
+                    return timerJob != null && ((TimerJobEntity) timerJob).getLockOwner() != null;
+                }
+            });
+
+            // The timer wheel follows the engine clock, so the timer doesn't fire as long as the clock is before its due date
+            Thread.sleep(500L);
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count());
+
+            // Move clock past the due date. The timer is fired from the timer wheel
+            addSecondsToCurrentTime(processEngine, 3L);
+            JobTestHelper.waitForJobExecutorOnCondition(processEngine.getProcessEngineConfiguration(), 10000L, 200L, new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return processEngineCopy.getTaskService().createTaskQuery().taskName("Task after timer").count() == 1;
+                }
+            });
+
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(1, getAsyncExecutorJobCount(processEngine));
+
+        } finally {
+
+            // Clean up
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     @Test
     public void testAsyncExecutorDisabledOnOneEngine() {
 
@@ -165,6 +224,128 @@ public class AsyncExecutorTest {
 
     }
 
+    @Test
+    public void testExclusiveJobAffinityExecution() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            // Deploy, with exclusive jobs executed by the per-instance workers, without locking the process instance
+            ExclusiveJobAffinity exclusiveJobAffinity = new ExclusiveJobAffinity()
+                    .setWorkerCount(2)
+                    .setClusterMembership(new StaticJobAffinityClusterMembership(0, 1))
+                    .setSkipExclusiveJobLock(true);
+            processEngine = createProcessEngine(true, null, 0, exclusiveJobAffinity);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobAffinity.bpmn20.xml");
+
+            // The three exclusive jobs of each instance are executed sequentially by the same worker
+            for (int i = 0; i < 5; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobAffinity");
+            }
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createDeadLetterJobQuery().count());
+            Assert.assertEquals(5, processEngine.getTaskService().createTaskQuery().taskName("Task after join").count());
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
+    @Test
+    public void testSingleTransactionJobExecution() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            // Deploy, with locking, executing and unlocking of exclusive jobs happening in one transaction
+            processEngine = createProcessEngine(true);
+            ((DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor()).setSingleTransactionJobExecution(true);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobAffinity.bpmn20.xml");
+
+            // Jobs of the same instance that can't lock the instance are released and acquired again
+            for (int i = 0; i < 5; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobAffinity");
+            }
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createDeadLetterJobQuery().count());
+            Assert.assertEquals(5, processEngine.getTaskService().createTaskQuery().taskName("Task after join").count());
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
+    @Test
+    public void testExclusiveJobAffinityPartitionOwnership() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            processEngine = createProcessEngine(false);
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobAffinity.bpmn20.xml");
+
+            ExclusiveJobAffinity firstNode = new ExclusiveJobAffinity().setClusterMembership(new StaticJobAffinityClusterMembership(0, 2));
+            ExclusiveJobAffinity secondNode = new ExclusiveJobAffinity().setClusterMembership(new StaticJobAffinityClusterMembership(1, 2));
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            asyncExecutor.setExclusiveJobAffinity(firstNode);
+
+            // The partition is stored on the job when it is inserted
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobAffinity");
+            Job job = processEngine.getManagementService().createJobQuery().processInstanceId(processInstance.getId()).list().get(0);
+            Assert.assertNotNull(((JobEntity) job).getPartition());
+            Assert.assertTrue(firstNode.appliesTo(job));
+
+            boolean ownedByFirstNode = firstNode.isOwnedByThisNode(job);
+            Assert.assertNotEquals(ownedByFirstNode, secondNode.isOwnedByThisNode(job));
+
+            // The acquisition query only returns the jobs of the partitions owned by the node
+            Assert.assertEquals(ownedByFirstNode ? 3 : 0, countJobsToExecute(processEngine));
+            asyncExecutor.setExclusiveJobAffinity(secondNode);
+            Assert.assertEquals(ownedByFirstNode ? 0 : 3, countJobsToExecute(processEngine));
+
+            // When the other node disappears, the remaining node owns all partitions
+            ((StaticJobAffinityClusterMembership) firstNode.getClusterMembership()).setNodeCount(1);
+            Assert.assertTrue(firstNode.isOwnedByThisNode(job));
+            asyncExecutor.setExclusiveJobAffinity(firstNode);
+            Assert.assertEquals(3, countJobsToExecute(processEngine));
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
+    @Test
+    public void testSkipExclusiveJobLockRequiresClusterMembership() {
+        ExclusiveJobAffinity exclusiveJobAffinity = new ExclusiveJobAffinity().setSkipExclusiveJobLock(true);
+        try {
+            exclusiveJobAffinity.start();
+            Assert.fail("Expected exception when skipping the lock without cluster membership");
+        } catch (FlowableIllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("cluster membership"));
+        }
+    }
+
     @Test
     public void testAsyncFailingScript() {
 
@@ -219,6 +400,14 @@ public class AsyncExecutorTest {
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, 0);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, int timerLookaheadInMillis) {
+        return createProcessEngine(enableAsyncExecutor, time, timerLookaheadInMillis, null);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, int timerLookaheadInMillis, ExclusiveJobAffinity exclusiveJobAffinity) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +418,8 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setTimerLookaheadInMillis(timerLookaheadInMillis);
+            countingAsyncExecutor.setExclusiveJobAffinity(exclusiveJobAffinity);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
@@ -241,6 +432,12 @@ public class AsyncExecutorTest {
         return processEngine;
     }
 
+    private int countJobsToExecute(ProcessEngine processEngine) {
+        JobServiceConfiguration jobServiceConfiguration = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getJobServiceConfiguration();
+        return processEngine.getManagementService().executeCommand(
+                commandContext -> jobServiceConfiguration.getJobEntityManager().findJobsToExecute(new Page(0, 10)).size());
+    }
+
     private Date setClockToCurrentTime(ProcessEngine processEngine) {
         Date date = new Date();
         processEngine.getProcessEngineConfiguration().getClock().setCurrentTime(date);
@@ -0,0 +1,179 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.job.service.impl.asyncexecutor.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link HashedWheelTimer} without its worker thread: the wheel is advanced explicitly after moving the clock.
+ */
+public class HashedWheelTimerTest {
+
+    protected static final long START_TIME = 1500000000000L;
+    protected static final long TICK_DURATION = 100L;
+    protected static final int TICKS_PER_WHEEL = 8;
+
+    protected Clock clock = new DefaultClockImpl();
+    protected ManualHashedWheelTimer timerWheel;
+    protected List<String> firedKeys = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        clock.setCurrentTime(new Date(START_TIME));
+        timerWheel = new ManualHashedWheelTimer(clock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        clock.reset();
+    }
+
+    @Test
+    public void testTaskFiresOnceTheTickOfItsDeadlinePassed() {
+        schedule("task", 150L);
+
+        timerWheel.advanceTo(100L);
+        assertThat(firedKeys).isEmpty();
+
+        // The deadline passed, but its tick didn't
+        timerWheel.advanceTo(199L);
+        assertThat(firedKeys).isEmpty();
+        assertThat(timerWheel.isScheduled("task")).isTrue();
+
+        timerWheel.advanceTo(200L);
+        assertThat(firedKeys).containsExactly("task");
+        assertThat(timerWheel.isScheduled("task")).isFalse();
+
+        timerWheel.advanceTo(1000L);
+        assertThat(firedKeys).containsExactly("task");
+    }
+
+    @Test
+    public void testTaskBeyondOneRotationOfTheWheel() {
+        schedule("task", TICK_DURATION * TICKS_PER_WHEEL + 50L);
+
+        // The bucket of the task is processed after one tick, but the deadline is one rotation later
+        timerWheel.advanceTo(100L);
+        timerWheel.advanceTo(200L);
+        assertThat(firedKeys).isEmpty();
+
+        timerWheel.advanceTo(900L);
+        assertThat(firedKeys).containsExactly("task");
+    }
+
+    @Test
+    public void testClockMovedFarAhead() {
+        schedule("task1", 50L);
+        schedule("task2", 450L);
+        schedule("task3", 5000L);
+
+        timerWheel.advanceTo(100000L);
+        assertThat(firedKeys).containsExactlyInAnyOrder("task1", "task2", "task3");
+        assertThat(timerWheel.getNumberOfScheduledTasks()).isZero();
+    }
+
+    @Test
+    public void testDeadlineInThePast() {
+        timerWheel.advanceTo(250L);
+        schedule("task", -1000L);
+
+        // Put in the bucket of the current tick, fired once that tick passed
+        timerWheel.advanceTo(299L);
+        assertThat(firedKeys).isEmpty();
+
+        timerWheel.advanceTo(300L);
+        assertThat(firedKeys).containsExactly("task");
+    }
+
+    @Test
+    public void testSameKeyIsScheduledOnce() {
+        assertThat(schedule("task", 50L)).isTrue();
+        assertThat(schedule("task", 50L)).isFalse();
+
+        timerWheel.advanceTo(100L);
+        assertThat(firedKeys).containsExactly("task");
+
+        // Once fired, the key can be scheduled again
+        assertThat(schedule("task", 50L)).isTrue();
+    }
+
+    @Test
+    public void testCancel() {
+        schedule("task1", 50L);
+        schedule("task2", 50L);
+
+        assertThat(timerWheel.cancel("task1")).isTrue();
+        assertThat(timerWheel.cancel("task1")).isFalse();
+        assertThat(timerWheel.isScheduled("task1")).isFalse();
+
+        timerWheel.advanceTo(100L);
+        assertThat(firedKeys).containsExactly("task2");
+        assertThat(timerWheel.cancel("task2")).isFalse();
+
+        // Scheduling a cancelled key again only fires the new task
+        timerWheel.advanceTo(150L);
+        schedule("task3", 50L);
+        timerWheel.cancel("task3");
+        schedule("task3", 100L);
+        timerWheel.advanceTo(300L);
+        assertThat(firedKeys).containsExactly("task2", "task3");
+    }
+
+    @Test
+    public void testStop() {
+        schedule("task1", 50L);
+        schedule("task2", 250L);
+        schedule("task3", 450L);
+        timerWheel.advanceTo(100L);
+        assertThat(firedKeys).containsExactly("task1");
+
+        assertThat(timerWheel.stop()).containsExactlyInAnyOrder("task2", "task3");
+        assertThat(timerWheel.getNumberOfScheduledTasks()).isZero();
+
+        timerWheel.advanceTo(1000L);
+        assertThat(firedKeys).containsExactly("task1");
+    }
+
+    protected boolean schedule(String key, long delayInMillis) {
+        return timerWheel.schedule(key, delayInMillis, () -> firedKeys.add(key));
+    }
+
+    protected static class ManualHashedWheelTimer extends HashedWheelTimer {
+
+        public ManualHashedWheelTimer(Clock clock) {
+            super(clock, TICK_DURATION, TICKS_PER_WHEEL);
+            startTime = clock.getCurrentTime().getTime();
+        }
+
+        /**
+         * Moves the clock to the given number of milliseconds after the start time and processes the ticks that passed.
+         */
+        public void advanceTo(long millisAfterStart) {
+            clock.setCurrentTime(new Date(startTime + millisAfterStart));
+            advance();
+        }
+
+    }
+
+}
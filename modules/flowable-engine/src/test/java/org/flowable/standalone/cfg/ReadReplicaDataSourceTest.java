@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.cfg;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.TaskQueryImpl;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadReplicaDataSourceTest {
+
+    protected ProcessEngine replicaProcessEngine;
+    protected ProcessEngine processEngine;
+
+    @AfterEach
+    public void tearDown() {
+        if (processEngine != null) {
+            processEngine.close();
+        }
+        if (replicaProcessEngine != null) {
+            replicaProcessEngine.close();
+        }
+    }
+
+    @Test
+    public void testQueriesReadFromReplica() throws InterruptedException {
+        createProcessEngines("jdbc:h2:mem:flowable-read-replica;DB_CLOSE_DELAY=1000");
+        DbSqlSessionFactory dbSqlSessionFactory = getDbSqlSessionFactory();
+        TaskService taskService = processEngine.getTaskService();
+        List<Long> otherThreadCounts = new CopyOnWriteArrayList<>();
+
+        Task task = taskService.newTask();
+        task.setName("primary task");
+        taskService.saveTask(task);
+
+        // The write of this thread falls within the default read-after-write window, so the primary is used
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(60000L);
+        assertEquals(1, taskService.createTaskQuery().count());
+
+        // The replica isn't replicated in this test, so it doesn't see the task
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(0L);
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, taskService.createTaskQuery().list().size());
+
+        // Task queries are never routed to the replica
+        dbSqlSessionFactory.getReadReplicaReadAfterWriteWindows().put(TaskQueryImpl.class, -1L);
+        assertEquals(1, taskService.createTaskQuery().count());
+        dbSqlSessionFactory.getReadReplicaReadAfterWriteWindows().clear();
+
+        // Writes of other threads don't keep the reads of this thread on the primary
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(60000L);
+        dbSqlSessionFactory.registerWrite();
+        assertEquals(1, taskService.createTaskQuery().count());
+        Thread otherThread = new Thread(() -> otherThreadCounts.add(taskService.createTaskQuery().count()));
+        otherThread.start();
+        otherThread.join();
+        assertEquals(Collections.singletonList(0L), otherThreadCounts);
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(0L);
+
+        // Commands that aren't read-only always use the primary
+        assertEquals("primary task", processEngine.getManagementService().executeCommand(
+                commandContext -> CommandContextUtil.getTaskService(commandContext).getTask(task.getId()).getName()));
+
+        taskService.deleteTask(task.getId(), true);
+    }
+
+    @Test
+    public void testFallbackToPrimaryWhenReplicaUnavailable() {
+        createProcessEngines("jdbc:h2:tcp://localhost:1/flowable-unavailable-replica");
+        DbSqlSessionFactory dbSqlSessionFactory = getDbSqlSessionFactory();
+        dbSqlSessionFactory.setReadReplicaDefaultReadAfterWriteWindow(0L);
+        TaskService taskService = processEngine.getTaskService();
+
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+
+        assertEquals(1, taskService.createTaskQuery().count());
+        assertEquals(1, taskService.createTaskQuery().list().size());
+
+        taskService.deleteTask(task.getId(), true);
+    }
+
+    protected void createProcessEngines(String replicaJdbcUrl) {
+        if (replicaJdbcUrl.startsWith("jdbc:h2:mem")) {
+            // Creates the schema in the replica database
+            replicaProcessEngine = new StandaloneInMemProcessEngineConfiguration()
+                    .setEngineName("readReplicaEngine")
+                    .setJdbcUrl(replicaJdbcUrl)
+                    .buildProcessEngine();
+        }
+
+        JdbcDataSource readReplicaDataSource = new JdbcDataSource();
+        readReplicaDataSource.setURL(replicaJdbcUrl);
+        readReplicaDataSource.setUser("sa");
+        readReplicaDataSource.setPassword("");
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("primaryEngine");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-read-replica-primary;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setReadReplicaDataSource(readReplicaDataSource);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected DbSqlSessionFactory getDbSqlSessionFactory() {
+        return ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getDbSqlSessionFactory();
+    }
+
+}
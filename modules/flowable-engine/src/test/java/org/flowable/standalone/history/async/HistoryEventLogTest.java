@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.history.async.log.HistoryEventLog;
+import org.flowable.job.service.impl.history.async.log.HistoryEventLogAsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.log.HistoryEventLogReplayer;
+import org.flowable.job.service.impl.history.async.log.HistoryTablesHistoryEventLogConsumer;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoryEventLogTest extends CustomConfigurationFlowableTestCase {
+
+    protected File historyEventLogDirectory;
+    protected HistoryEventLog historyEventLog;
+
+    public HistoryEventLogTest() {
+        super("historyEventLogTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            historyEventLogDirectory = Files.createTempDirectory("flowable-history-event-log").toFile();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        historyEventLog = new HistoryEventLog(historyEventLogDirectory, 4096);
+
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryListener(new HistoryEventLogAsyncHistoryListener(historyEventLog));
+    }
+
+    @AfterEach
+    protected void closeHistoryEventLog() {
+        historyEventLog.close();
+        for (File file : historyEventLog.getSegmentFiles()) {
+            file.delete();
+        }
+        historyEventLogDirectory.delete();
+    }
+
+    @Test
+    public void testReplayIntoHistoryTables() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        HistoryEventLogReplayer replayer = new HistoryEventLogReplayer(historyEventLog, processEngineConfiguration.getObjectMapper());
+        HistoryTablesHistoryEventLogConsumer consumer = new HistoryTablesHistoryEventLogConsumer(processEngineConfiguration.getJobServiceConfiguration());
+        try {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskService.complete(task.getId());
+
+            // The history is only written to the log
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+            assertThat(managementService.createHistoryJobQuery().count()).isZero();
+            assertThat(historyEventLog.getSegmentFiles()).isNotEmpty();
+
+            historyEventLog.rotate();
+            long recordCount = replayer.replay(consumer);
+            assertThat(recordCount).isGreaterThan(0);
+            assertThat(historyEventLog.getSealedSegmentFiles()).isEmpty();
+            assertThat(consumer.getConsumedPosition()).isNotNull();
+
+            // Replaying again doesn't consume the same records twice
+            assertThat(replayer.replay(consumer)).isZero();
+
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(historicProcessInstance).isNotNull();
+            assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(historicTaskInstance.getName()).isEqualTo("my task");
+            assertThat(historicTaskInstance.getEndTime()).isNotNull();
+
+        } finally {
+            // The deletion of the historic data goes through the log as well
+            historyService.createHistoricProcessInstanceQuery().list()
+                    .forEach(historicProcessInstance -> historyService.deleteHistoricProcessInstance(historicProcessInstance.getId()));
+            historyEventLog.rotate();
+            replayer.replay(consumer);
+            repositoryService.deleteDeployment(deploymentId, true);
+            managementService.executeCommand(commandContext -> {
+                CommandContextUtil.getPropertyEntityManager(commandContext).delete(HistoryTablesHistoryEventLogConsumer.DEFAULT_POSITION_PROPERTY_NAME);
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void testSegmentRotationAndRecovery() throws IOException {
+        File directory = Files.createTempDirectory("flowable-history-event-log-segments").toFile();
+        HistoryEventLog log = new HistoryEventLog(directory, 64);
+        try {
+            for (int i = 0; i < 5; i++) {
+                log.append(("record " + i + " with some padding to fill the segment").getBytes(StandardCharsets.UTF_8));
+            }
+            log.append(new String(new char[200]).replace('\0', 'x').getBytes(StandardCharsets.UTF_8)); // larger than a segment
+            log.close();
+
+            List<File> segmentFiles = log.getSegmentFiles();
+            assertThat(segmentFiles).hasSize(6);
+            assertThat(readAll(segmentFiles)).hasSize(6).startsWith("record 0 with some padding to fill the segment");
+
+            // Corrupt the last byte of the last record, it is ignored when reading and overwritten when appending after reopening
+            File lastSegmentFile = segmentFiles.get(segmentFiles.size() - 1);
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(lastSegmentFile, "rw")) {
+                randomAccessFile.seek(8 + 199);
+                randomAccessFile.write('y');
+            }
+            assertThat(readAll(log.getSegmentFiles())).hasSize(5);
+
+            log.open();
+            log.append("after recovery".getBytes(StandardCharsets.UTF_8));
+            log.close();
+            assertThat(readAll(log.getSegmentFiles())).hasSize(6).endsWith("after recovery");
+
+        } finally {
+            log.close();
+            for (File file : log.getSegmentFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    protected List<String> readAll(List<File> segmentFiles) {
+        List<String> records = new ArrayList<>();
+        for (File segmentFile : segmentFiles) {
+            HistoryEventLog.readSegment(segmentFile, payload -> records.add(new String(payload, StandardCharsets.UTF_8)));
+        }
+        return records;
+    }
+
+}
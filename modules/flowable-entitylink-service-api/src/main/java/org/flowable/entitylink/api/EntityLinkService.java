@@ -28,6 +28,8 @@ public interface EntityLinkService {
     List<EntityLink> findEntityLinksByReferenceScopeIdAndType(String referenceScopeId, String scopeType, String linkType);
     
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
+
+    List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
     
     EntityLink createEntityLink();
     
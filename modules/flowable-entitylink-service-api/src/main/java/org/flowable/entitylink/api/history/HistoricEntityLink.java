@@ -64,6 +64,23 @@ public interface HistoricEntityLink {
      */
     String getHierarchyType();
 
+    /**
+     * Returns the scope id of the root of the hierarchy the referenced entity belongs to.
+     * Only set for links created with the compact hierarchy representation.
+     */
+    String getRootScopeId();
+
+    /**
+     * The scope type of the root of the hierarchy
+     */
+    String getRootScopeType();
+
+    /**
+     * Returns the materialised path of the ancestor scope ids of the referenced entity, from the root down to the direct parent
+     * (e.g. /rootId/childId/parentId/). Only set when the hierarchy path is enabled for the compact hierarchy representation.
+     */
+    String getHierarchyPath();
+
     /**
      * The create time for the entity link
      */
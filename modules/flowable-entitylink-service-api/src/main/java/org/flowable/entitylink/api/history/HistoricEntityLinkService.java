@@ -29,6 +29,8 @@ public interface HistoricEntityLinkService {
 
     List<HistoricEntityLink> findHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
+
     HistoricEntityLink createHistoricEntityLink();
     
     void insertHistoricEntityLink(HistoricEntityLink entityLink, boolean fireCreateEvent);
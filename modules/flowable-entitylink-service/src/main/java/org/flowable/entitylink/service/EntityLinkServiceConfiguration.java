@@ -54,6 +54,18 @@ public class EntityLinkServiceConfiguration extends AbstractServiceConfiguration
     
     protected ObjectMapper objectMapper;
 
+    /**
+     * When enabled, a new child entity gets a single entity link to its direct parent, which also stores the root scope
+     * of the hierarchy (and optionally the hierarchy path), instead of a copy of every link of its ancestors.
+     */
+    protected boolean enableCompactHierarchy;
+
+    /**
+     * Whether compact entity links also store the materialised path of ancestor scope ids,
+     * which is needed to query the descendants of an entity that isn't the root or direct parent.
+     */
+    protected boolean enableHierarchyPath = true;
+
     // init
     // /////////////////////////////////////////////////////////////////////
 
@@ -172,6 +184,24 @@ public class EntityLinkServiceConfiguration extends AbstractServiceConfiguration
         return this;
     }
     
+    public boolean isEnableCompactHierarchy() {
+        return enableCompactHierarchy;
+    }
+
+    public EntityLinkServiceConfiguration setEnableCompactHierarchy(boolean enableCompactHierarchy) {
+        this.enableCompactHierarchy = enableCompactHierarchy;
+        return this;
+    }
+
+    public boolean isEnableHierarchyPath() {
+        return enableHierarchyPath;
+    }
+
+    public EntityLinkServiceConfiguration setEnableHierarchyPath(boolean enableHierarchyPath) {
+        this.enableHierarchyPath = enableHierarchyPath;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
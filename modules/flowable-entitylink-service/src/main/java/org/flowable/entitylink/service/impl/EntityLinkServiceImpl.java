@@ -49,6 +49,11 @@ public class EntityLinkServiceImpl extends CommonServiceImpl<EntityLinkServiceCo
     public List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType) {
         return getEntityLinkEntityManager().findEntityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType, linkType);
     }
+
+    @Override
+    public List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        return getEntityLinkEntityManager().findEntityLinksByRootScopeIdAndRootType(rootScopeId, rootScopeType, linkType);
+    }
     
     @Override
     public EntityLinkEntity createEntityLink() {
@@ -49,6 +49,11 @@ public class HistoricEntityLinkServiceImpl extends CommonServiceImpl<EntityLinkS
     public List<HistoricEntityLink> findHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType, String linkType) {
         return getHistoricEntityLinkEntityManager().findHistoricEntityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType, linkType);
     }
+
+    @Override
+    public List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        return getHistoricEntityLinkEntityManager().findHistoricEntityLinksByRootScopeIdAndRootType(rootScopeId, rootScopeType, linkType);
+    }
     
     @Override
     public HistoricEntityLink createHistoricEntityLink() {
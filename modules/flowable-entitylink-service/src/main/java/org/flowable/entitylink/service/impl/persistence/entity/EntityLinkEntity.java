@@ -38,5 +38,11 @@ public interface EntityLinkEntity extends EntityLink, Entity {
 
     void setHierarchyType(String hierarchyType);
 
+    void setRootScopeId(String rootScopeId);
+
+    void setRootScopeType(String rootScopeType);
+
+    void setHierarchyPath(String hierarchyPath);
+
     void setCreateTime(Date createTime);
 }
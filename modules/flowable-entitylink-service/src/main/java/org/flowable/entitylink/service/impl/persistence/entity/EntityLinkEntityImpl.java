@@ -32,6 +32,9 @@ public class EntityLinkEntityImpl extends AbstractEntityLinkServiceNoRevisionEnt
     protected String referenceScopeType;
     protected String referenceScopeDefinitionId;
     protected String hierarchyType;
+    protected String rootScopeId;
+    protected String rootScopeType;
+    protected String hierarchyPath;
     protected Date createTime;
 
     public EntityLinkEntityImpl() {
@@ -49,6 +52,9 @@ public class EntityLinkEntityImpl extends AbstractEntityLinkServiceNoRevisionEnt
         persistentState.put("referenceScopeType", this.referenceScopeType);
         persistentState.put("referenceScopeDefinitionId", this.referenceScopeDefinitionId);
         persistentState.put("hierarchyType", this.hierarchyType);
+        persistentState.put("rootScopeId", this.rootScopeId);
+        persistentState.put("rootScopeType", this.rootScopeType);
+        persistentState.put("hierarchyPath", this.hierarchyPath);
 
         return persistentState;
     }
@@ -141,4 +147,34 @@ public class EntityLinkEntityImpl extends AbstractEntityLinkServiceNoRevisionEnt
     public void setHierarchyType(String hierarchyType) {
         this.hierarchyType = hierarchyType;
     }
+
+    @Override
+    public String getRootScopeId() {
+        return rootScopeId;
+    }
+
+    @Override
+    public void setRootScopeId(String rootScopeId) {
+        this.rootScopeId = rootScopeId;
+    }
+
+    @Override
+    public String getRootScopeType() {
+        return rootScopeType;
+    }
+
+    @Override
+    public void setRootScopeType(String rootScopeType) {
+        this.rootScopeType = rootScopeType;
+    }
+
+    @Override
+    public String getHierarchyPath() {
+        return hierarchyPath;
+    }
+
+    @Override
+    public void setHierarchyPath(String hierarchyPath) {
+        this.hierarchyPath = hierarchyPath;
+    }
 }
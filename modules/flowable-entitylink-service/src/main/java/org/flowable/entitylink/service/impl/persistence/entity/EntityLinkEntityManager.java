@@ -28,6 +28,8 @@ public interface EntityLinkEntityManager extends EntityManager<EntityLinkEntity>
 
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
+
     List<EntityLink> deleteScopeEntityLink(String scopeId, String scopeType, String linkType);
 
     List<EntityLink> deleteScopeDefinitionEntityLink(String scopeDefinitionId, String scopeType, String linkType);
@@ -62,6 +62,11 @@ public class EntityLinkEntityManagerImpl extends AbstractEntityManager<EntityLin
         return entityLinkDataManager.findEntityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType, linkType);
     }
 
+    @Override
+    public List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        return entityLinkDataManager.findEntityLinksByRootScopeIdAndRootType(rootScopeId, rootScopeType, linkType);
+    }
+
     @Override
     public List<EntityLink> deleteScopeEntityLink(String scopeId, String scopeType, String linkType) {
         List<EntityLink> entityLinks = findEntityLinksByScopeIdAndType(scopeId, scopeType, linkType);
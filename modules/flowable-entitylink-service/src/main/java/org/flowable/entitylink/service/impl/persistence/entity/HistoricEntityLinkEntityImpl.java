@@ -32,8 +32,10 @@ public class HistoricEntityLinkEntityImpl extends AbstractEntityLinkServiceNoRev
     protected String referenceScopeType;
     protected String referenceScopeDefinitionId;
     protected String hierarchyType;
+    protected String rootScopeId;
     protected String rootScopeType;
     protected String rootScopeDefinitionId;
+    protected String hierarchyPath;
     protected Date createTime;
 
     public HistoricEntityLinkEntityImpl() {
@@ -52,6 +54,9 @@ public class HistoricEntityLinkEntityImpl extends AbstractEntityLinkServiceNoRev
         persistentState.put("referenceScopeType", this.referenceScopeType);
         persistentState.put("referenceScopeDefinitionId", this.referenceScopeDefinitionId);
         persistentState.put("hierarchyType", this.hierarchyType);
+        persistentState.put("rootScopeId", this.rootScopeId);
+        persistentState.put("rootScopeType", this.rootScopeType);
+        persistentState.put("hierarchyPath", this.hierarchyPath);
         persistentState.put("createTime", this.createTime);
 
         return persistentState;
@@ -145,5 +150,35 @@ public class HistoricEntityLinkEntityImpl extends AbstractEntityLinkServiceNoRev
     public void setHierarchyType(String hierarchyType) {
         this.hierarchyType = hierarchyType;
     }
+
+    @Override
+    public String getRootScopeId() {
+        return rootScopeId;
+    }
+
+    @Override
+    public void setRootScopeId(String rootScopeId) {
+        this.rootScopeId = rootScopeId;
+    }
+
+    @Override
+    public String getRootScopeType() {
+        return rootScopeType;
+    }
+
+    @Override
+    public void setRootScopeType(String rootScopeType) {
+        this.rootScopeType = rootScopeType;
+    }
+
+    @Override
+    public String getHierarchyPath() {
+        return hierarchyPath;
+    }
+
+    @Override
+    public void setHierarchyPath(String hierarchyPath) {
+        this.hierarchyPath = hierarchyPath;
+    }
     
 }
@@ -28,6 +28,8 @@ public interface HistoricEntityLinkEntityManager extends EntityManager<HistoricE
 
     List<HistoricEntityLink> findHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
+
     void deleteHistoricEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
@@ -58,6 +58,11 @@ public class HistoricEntityLinkEntityManagerImpl extends AbstractEntityManager<H
         return historicEntityLinkDataManager.findHistoricEntityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType, linkType);
     }
 
+    @Override
+    public List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        return historicEntityLinkDataManager.findHistoricEntityLinksByRootScopeIdAndRootType(rootScopeId, rootScopeType, linkType);
+    }
+
     @Override
     public void deleteHistoricEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         historicEntityLinkDataManager.deleteHistoricEntityLinksByScopeIdAndType(scopeId, scopeType);
@@ -29,6 +29,8 @@ public interface EntityLinkDataManager extends DataManager<EntityLinkEntity> {
     
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
+
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
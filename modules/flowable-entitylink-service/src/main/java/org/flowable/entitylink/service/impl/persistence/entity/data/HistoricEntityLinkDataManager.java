@@ -28,6 +28,8 @@ public interface HistoricEntityLinkDataManager extends DataManager<HistoricEntit
     List<HistoricEntityLink> findHistoricEntityLinksByReferenceScopeIdAndType(String referenceScopeId, String scopeType, String linkType);
 
     List<HistoricEntityLink> findHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType, String linkType);
+
+    List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType);
     
     void deleteHistoricEntityLinksByScopeIdAndType(String scopeId, String scopeType);
     
@@ -73,6 +73,16 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
         return getDbSqlSession().selectList("selectEntityLinksByScopeDefinitionAndType", parameters);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EntityLink> findEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("rootScopeId", rootScopeId);
+        parameters.put("rootScopeType", rootScopeType);
+        parameters.put("linkType", linkType);
+        return getDbSqlSession().selectList("selectEntityLinksByRootScopeIdAndType", parameters);
+    }
+
     @Override
     public void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         Map<String, String> parameters = new HashMap<>();
@@ -70,6 +70,16 @@ public class MybatisHistoricEntityLinkDataManager extends AbstractDataManager<Hi
         parameters.put("linkType", linkType);
         return getDbSqlSession().selectList("selectHistoricEntityLinksByScopeDefinitionIdAndType", parameters);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricEntityLink> findHistoricEntityLinksByRootScopeIdAndRootType(String rootScopeId, String rootScopeType, String linkType) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("rootScopeId", rootScopeId);
+        parameters.put("rootScopeType", rootScopeType);
+        parameters.put("linkType", linkType);
+        return getDbSqlSession().selectList("selectHistoricEntityLinksByRootScopeIdAndType", parameters);
+    }
     
     @Override
     public void deleteHistoricEntityLinksByScopeIdAndType(String scopeId, String scopeType) {
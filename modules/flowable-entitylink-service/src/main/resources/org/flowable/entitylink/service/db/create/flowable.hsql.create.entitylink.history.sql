@@ -9,8 +9,12 @@ create table ACT_HI_ENTITYLINK (
   REF_SCOPE_TYPE_ varchar(255),
   REF_SCOPE_DEFINITION_ID_ varchar(255),
   HIERARCHY_TYPE_ varchar(255),
+  ROOT_SCOPE_ID_ varchar(255),
+  ROOT_SCOPE_TYPE_ varchar(255),
+  HIERARCHY_PATH_ varchar(2000),
   primary key (ID_)
 );
 
 create index ACT_IDX_HI_ENT_LNK_SCOPE on ACT_HI_ENTITYLINK(SCOPE_ID_, SCOPE_TYPE_, LINK_TYPE_);
 create index ACT_IDX_HI_ENT_LNK_SCOPE_DEF on ACT_HI_ENTITYLINK(SCOPE_DEFINITION_ID_, SCOPE_TYPE_, LINK_TYPE_);
+create index ACT_IDX_HI_ENT_LNK_ROOT_SCOPE on ACT_HI_ENTITYLINK(ROOT_SCOPE_ID_, ROOT_SCOPE_TYPE_, LINK_TYPE_);
@@ -10,10 +10,14 @@ create table ACT_RU_ENTITYLINK (
     REF_SCOPE_TYPE_ NVARCHAR2(255),
     REF_SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     HIERARCHY_TYPE_ NVARCHAR2(255),
+    ROOT_SCOPE_ID_ NVARCHAR2(255),
+    ROOT_SCOPE_TYPE_ NVARCHAR2(255),
+    HIERARCHY_PATH_ NVARCHAR2(2000),
     primary key (ID_)
 );
 
 create index ACT_IDX_ENT_LNK_SCOPE on ACT_RU_ENTITYLINK(SCOPE_ID_, SCOPE_TYPE_, LINK_TYPE_);
 create index ACT_IDX_ENT_LNK_SCOPE_DEF on ACT_RU_ENTITYLINK(SCOPE_DEFINITION_ID_, SCOPE_TYPE_, LINK_TYPE_);
+create index ACT_IDX_ENT_LNK_ROOT_SCOPE on ACT_RU_ENTITYLINK(ROOT_SCOPE_ID_, ROOT_SCOPE_TYPE_, LINK_TYPE_);
 
 insert into ACT_GE_PROPERTY values ('entitylink.schema.version', '6.5.0.0', 1);
\ No newline at end of file
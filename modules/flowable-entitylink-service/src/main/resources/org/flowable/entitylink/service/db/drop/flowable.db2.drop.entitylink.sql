@@ -1,4 +1,5 @@
 drop index ACT_IDX_ENT_LNK_SCOPE;
 drop index ACT_IDX_ENT_LNK_SCOPE_DEF;
+drop index ACT_IDX_ENT_LNK_ROOT_SCOPE;
 
 drop table ACT_RU_ENTITYLINK;
\ No newline at end of file
@@ -1,4 +1,5 @@
 drop index ACT_IDX_HI_ENT_LNK_SCOPE on ACT_HI_ENTITYLINK;
 drop index ACT_IDX_HI_ENT_LNK_SCOPE_DEF on ACT_HI_ENTITYLINK;
+drop index ACT_IDX_HI_ENT_LNK_ROOT_SCOPE on ACT_HI_ENTITYLINK;
 
 drop table if exists ACT_HI_ENTITYLINK;
\ No newline at end of file
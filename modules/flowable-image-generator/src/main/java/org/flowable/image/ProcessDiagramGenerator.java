@@ -13,10 +13,21 @@
 package org.flowable.image;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
+import javax.imageio.ImageIO;
+
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * This interface declares methods to generate process diagram
@@ -87,4 +98,63 @@ public interface ProcessDiagramGenerator {
 
     public BufferedImage generatePngImage(BpmnModel bpmnModel, double scaleFactor);
 
+    /**
+     * Generates a diagram like {@link #generateDiagram(BpmnModel, String, List, List, String, String, String, ClassLoader, double, boolean)},
+     * but renders the diagram without highlights only once per cache key (typically the process definition id) and keeps it in a bounded cache.
+     * Only the highlights are drawn for every call. Implementations without a cache generate the complete diagram for every call.
+     * 
+     * @param diagramCacheKey
+     *            key identifying the (unchanging) bpmn model, e.g. the process definition id. When null, nothing is cached.
+     */
+    public default InputStream generateDiagram(String diagramCacheKey, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        return generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+    }
+
+    /**
+     * Writes the diagram as svg to the given output stream. The cached diagram without highlights is embedded as image and the highlights
+     * are written as vector shapes on top of it, so no image encoding is needed per call. The output stream is not closed.
+     * Implementations without a cache embed the complete png diagram, highlights included, generated for every call.
+     * 
+     * @param diagramCacheKey
+     *            key identifying the (unchanging) bpmn model, e.g. the process definition id. When null, nothing is cached.
+     */
+    public default void generateSvgDiagram(String diagramCacheKey, BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI,
+            OutputStream outputStream) {
+
+        try (InputStream diagram = generateDiagram(bpmnModel, "png", highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI)) {
+
+            ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int bytesRead;
+            while ((bytesRead = diagram.read(buffer)) != -1) {
+                pngOutputStream.write(buffer, 0, bytesRead);
+            }
+            byte[] png = pngOutputStream.toByteArray();
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + image.getWidth()
+                    + "\" height=\"" + image.getHeight() + "\" viewBox=\"0 0 " + image.getWidth() + " " + image.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + image.getWidth() + "\" height=\"" + image.getHeight() + "\" xlink:href=\"data:image/png;base64,");
+            writer.write(Base64.getEncoder().encodeToString(png));
+            writer.write("\"/>\n</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating svg process diagram", e);
+        }
+    }
+
+    /**
+     * Removes all cached diagrams. Implementations without a cache have nothing to remove.
+     */
+    public default void clearDiagramCache() {
+    }
+
 }
@@ -195,6 +195,30 @@ public class DefaultProcessDiagramCanvas {
         initialize(imageType);
     }
 
+    /**
+     * Creates a canvas which starts from a copy of a previously rendered base layer, typically the diagram without any highlighting.
+     * Only the additional drawing (e.g. highlights) needs to happen on such a canvas, the base layer itself is left untouched.
+     */
+    public DefaultProcessDiagramCanvas(BufferedImage baseLayer, int minX, int minY, String imageType) {
+        this.canvasWidth = baseLayer.getWidth();
+        this.canvasHeight = baseLayer.getHeight();
+        this.minX = minX;
+        this.minY = minY;
+
+        if ("png".equalsIgnoreCase(imageType)) {
+            this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
+        } else {
+            this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_RGB);
+        }
+
+        this.g = processDiagram.createGraphics();
+        g.drawImage(baseLayer, 0, 0, null);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setPaint(Color.black);
+        g.setFont(new Font(activityFontName, Font.BOLD, FONT_SIZE));
+        this.fontMetrics = g.getFontMetrics();
+    }
+
     public void initialize(String imageType) {
         if ("png".equalsIgnoreCase(imageType)) {
             this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
@@ -292,6 +316,21 @@ public class DefaultProcessDiagramCanvas {
         return imageToSerialize;
     }
 
+    /**
+     * Returns the complete, uncropped image drawn on this canvas.
+     */
+    public BufferedImage getProcessDiagram() {
+        return processDiagram;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
     /**
      * Closes the canvas which disallows further drawing and releases graphical resources.
      */
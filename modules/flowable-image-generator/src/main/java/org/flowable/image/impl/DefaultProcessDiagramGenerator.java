@@ -14,8 +14,15 @@
 package org.flowable.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -69,6 +76,7 @@ import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.image.ProcessDiagramGenerator;
 import org.flowable.bpmn.model.Transaction;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * Class to generate an image based the diagram interchange information in a BPMN 2.0 process.
@@ -78,9 +86,14 @@ import org.flowable.bpmn.model.Transaction;
  */
 public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
+    public static final long DEFAULT_DIAGRAM_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<>();
 
+    /** Base layers (diagrams without highlighting) of the most recently rendered diagrams, see {@link #setDiagramCacheMaxBytes(long)} */
+    protected ProcessDiagramLayerCache diagramLayerCache = new ProcessDiagramLayerCache(DEFAULT_DIAGRAM_CACHE_MAX_BYTES);
+
     public DefaultProcessDiagramGenerator() {
         this(1.0);
     }
@@ -546,6 +559,178 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), scaleFactor,false);
     }
 
+    @Override
+    public InputStream generateDiagram(String diagramCacheKey, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        if (diagramCacheKey == null) {
+            return generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        ProcessDiagramLayer baseLayer = getDiagramLayer(diagramCacheKey, bpmnModel, imageType,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        DefaultProcessDiagramCanvas processDiagramCanvas = new DefaultProcessDiagramCanvas(baseLayer.getImage(), baseLayer.getMinX(), baseLayer.getMinY(), imageType);
+        for (String activityId : highLightedActivities) {
+            int[] bounds = baseLayer.getActivityBounds(activityId);
+            if (bounds != null) {
+                processDiagramCanvas.drawHighLight(bounds[0], bounds[1], bounds[2], bounds[3]);
+            }
+        }
+        for (String sequenceFlowId : highLightedFlows) {
+            int[][] waypoints = baseLayer.getSequenceFlowWaypoints(sequenceFlowId);
+            if (waypoints != null) {
+                processDiagramCanvas.drawSequenceflow(waypoints[0], waypoints[1], false, false, true, scaleFactor);
+            }
+        }
+
+        InputStream diagram = processDiagramCanvas.generateImage(imageType);
+        processDiagramCanvas.close();
+        return diagram;
+    }
+
+    @Override
+    public void generateSvgDiagram(String diagramCacheKey, BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI,
+            OutputStream outputStream) {
+
+        ProcessDiagramLayer baseLayer = getDiagramLayer(diagramCacheKey, bpmnModel, "png",
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        // The base layer is embedded as-is (it is only encoded once per cached layer), the highlights are added as vector shapes
+        try {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + baseLayer.getWidth()
+                    + "\" height=\"" + baseLayer.getHeight() + "\" viewBox=\"0 0 " + baseLayer.getWidth() + " " + baseLayer.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + baseLayer.getWidth() + "\" height=\"" + baseLayer.getHeight() + "\" xlink:href=\"data:image/png;base64,");
+            writer.flush();
+
+            OutputStream base64OutputStream = Base64.getEncoder().wrap(new NonClosingOutputStream(outputStream));
+            base64OutputStream.write(baseLayer.getEncodedImage());
+            base64OutputStream.close();
+
+            writer.write("\"/>\n");
+            for (String activityId : highLightedActivities) {
+                int[] bounds = baseLayer.getActivityBounds(activityId);
+                if (bounds != null) {
+                    writer.write("<rect x=\"" + bounds[0] + "\" y=\"" + bounds[1] + "\" width=\"" + bounds[2] + "\" height=\"" + bounds[3]
+                            + "\" rx=\"10\" ry=\"10\" fill=\"none\" stroke=\"red\" stroke-width=\"3\"/>\n");
+                }
+            }
+            for (String sequenceFlowId : highLightedFlows) {
+                int[][] waypoints = baseLayer.getSequenceFlowWaypoints(sequenceFlowId);
+                if (waypoints != null) {
+                    writer.write("<polyline points=\"");
+                    for (int i = 0; i < waypoints[0].length; i++) {
+                        writer.write(waypoints[0][i] + "," + waypoints[1][i] + " ");
+                    }
+                    writer.write("\" fill=\"none\" stroke=\"red\" stroke-width=\"1.3\"/>\n");
+                }
+            }
+            writer.write("</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating svg process diagram", e);
+        }
+    }
+
+    @Override
+    public void clearDiagramCache() {
+        diagramLayerCache.clear();
+    }
+
+    /**
+     * Returns the base layer of the diagram for the given cache key, rendering and caching it when it isn't cached yet.
+     * When no cache key is passed, the layer is rendered but not cached.
+     */
+    protected ProcessDiagramLayer getDiagramLayer(String diagramCacheKey, BpmnModel bpmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        String layerKey = null;
+        if (diagramCacheKey != null) {
+            layerKey = diagramCacheKey + "|" + ("png".equalsIgnoreCase(imageType) ? "png" : "rgb") + "|" + activityFontName + "|" + labelFontName
+                    + "|" + annotationFontName + "|" + scaleFactor + "|" + drawSequenceFlowNameWithNoLabelDI;
+            ProcessDiagramLayer cachedLayer = diagramLayerCache.get(layerKey);
+            if (cachedLayer != null) {
+                return cachedLayer;
+            }
+        }
+
+        DefaultProcessDiagramCanvas processDiagramCanvas = generateProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(), Collections.<String>emptyList(),
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        ProcessDiagramLayer layer = new ProcessDiagramLayer(processDiagramCanvas.getProcessDiagram(), processDiagramCanvas.getMinX(), processDiagramCanvas.getMinY());
+        for (FlowNode flowNode : gatherAllFlowNodes(bpmnModel)) {
+            if (isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                continue;
+            }
+
+            GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+            if (graphicInfo != null && activityDrawInstructions.containsKey(flowNode.getClass())) {
+                layer.addActivityBounds(flowNode.getId(), (int) graphicInfo.getX(), (int) graphicInfo.getY(), (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight());
+            }
+
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+                if (graphicInfoList != null && graphicInfoList.size() > 0) {
+                    graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel,
+                            bpmnModel.getFlowElement(sequenceFlow.getSourceRef()), bpmnModel.getFlowElement(sequenceFlow.getTargetRef()), graphicInfoList);
+                    int[] xPoints = new int[graphicInfoList.size()];
+                    int[] yPoints = new int[graphicInfoList.size()];
+                    for (int i = 0; i < graphicInfoList.size(); i++) {
+                        xPoints[i] = (int) graphicInfoList.get(i).getX();
+                        yPoints[i] = (int) graphicInfoList.get(i).getY();
+                    }
+                    layer.addSequenceFlowWaypoints(sequenceFlow.getId(), xPoints, yPoints);
+                }
+            }
+        }
+        processDiagramCanvas.close();
+
+        if (layerKey != null) {
+            if ("png".equalsIgnoreCase(imageType)) {
+                // Encoded up front, so the cache accounts for the encoding embedded in svg diagrams as well
+                layer.getEncodedImage();
+            }
+            diagramLayerCache.put(layerKey, layer);
+        }
+        return layer;
+    }
+
+    /**
+     * Sets the maximum amount of memory, in bytes, taken by the diagram base layers kept in the cache. Setting a new limit clears the cache.
+     */
+    public void setDiagramCacheMaxBytes(long diagramCacheMaxBytes) {
+        this.diagramLayerCache = new ProcessDiagramLayerCache(diagramCacheMaxBytes);
+    }
+
+    public ProcessDiagramLayerCache getDiagramLayerCache() {
+        return diagramLayerCache;
+    }
+
+    /**
+     * Leaves the wrapped stream open when closed, so an encoding stream can be finished without closing the response stream.
+     */
+    protected static class NonClosingOutputStream extends FilterOutputStream {
+
+        public NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
     protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType,
             List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.flowable.image.exception.FlowableImageException;
+
+/**
+ * A rendered process diagram without any highlighting, together with the geometry needed to draw highlights on top of it.
+ * Instances are immutable once built and are shared between requests for the same process definition.
+ */
+public class ProcessDiagramLayer {
+
+    protected BufferedImage image;
+    protected int minX;
+    protected int minY;
+    protected Map<String, int[]> activityBounds = new HashMap<>();
+    protected Map<String, int[][]> sequenceFlowWaypoints = new HashMap<>();
+
+    protected volatile byte[] encodedImage;
+
+    public ProcessDiagramLayer(BufferedImage image, int minX, int minY) {
+        this.image = image;
+        this.minX = minX;
+        this.minY = minY;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return x, y, width and height of the given activity, or null if it isn't drawn on this layer
+     */
+    public int[] getActivityBounds(String activityId) {
+        return activityBounds.get(activityId);
+    }
+
+    public void addActivityBounds(String activityId, int x, int y, int width, int height) {
+        activityBounds.put(activityId, new int[] { x, y, width, height });
+    }
+
+    /**
+     * @return the x points and y points of the given sequence flow, or null if it isn't drawn on this layer
+     */
+    public int[][] getSequenceFlowWaypoints(String sequenceFlowId) {
+        return sequenceFlowWaypoints.get(sequenceFlowId);
+    }
+
+    public void addSequenceFlowWaypoints(String sequenceFlowId, int[] xPoints, int[] yPoints) {
+        sequenceFlowWaypoints.put(sequenceFlowId, new int[][] { xPoints, yPoints });
+    }
+
+    /**
+     * Returns the memory taken by the layer: its raster, plus its png encoding when that has been created already.
+     */
+    public long getByteSize() {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        long bytes = (long) dataBuffer.getSize() * dataBuffer.getNumBanks() * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / 8;
+        byte[] result = encodedImage;
+        if (result != null) {
+            bytes += result.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the layer encoded as png. The encoding happens only once, subsequent calls return the same bytes.
+     */
+    public byte[] getEncodedImage() {
+        byte[] result = encodedImage;
+        if (result == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(image, "png", out);
+            } catch (IOException e) {
+                throw new FlowableImageException("Error while encoding process diagram layer", e);
+            }
+            result = out.toByteArray();
+            encodedImage = result;
+        }
+        return result;
+    }
+
+}
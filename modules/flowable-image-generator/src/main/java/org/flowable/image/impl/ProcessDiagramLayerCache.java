@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used {@link ProcessDiagramLayer}s, bounded by their total size in bytes rather than by their number,
+ * as the size of a layer grows with the size of its diagram. When adding a layer exceeds the limit, the least recently used layers are evicted.
+ * A layer that is larger than the limit on its own is not cached.
+ */
+public class ProcessDiagramLayerCache {
+
+    protected final long maxBytes;
+    protected long currentBytes;
+
+    // Access ordered, so the least recently used layer is evicted first
+    protected final LinkedHashMap<String, CachedLayer> layers = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ProcessDiagramLayerCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized ProcessDiagramLayer get(String key) {
+        CachedLayer cachedLayer = layers.get(key);
+        return cachedLayer != null ? cachedLayer.layer : null;
+    }
+
+    public synchronized void put(String key, ProcessDiagramLayer layer) {
+        CachedLayer previousLayer = layers.remove(key);
+        if (previousLayer != null) {
+            currentBytes -= previousLayer.bytes;
+        }
+
+        // The size is taken once, so the accounting stays right when the layer is encoded later on
+        long layerBytes = layer.getByteSize();
+        if (layerBytes > maxBytes) {
+            return;
+        }
+
+        Iterator<Map.Entry<String, CachedLayer>> iterator = layers.entrySet().iterator();
+        while (currentBytes + layerBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().getValue().bytes;
+            iterator.remove();
+        }
+
+        layers.put(key, new CachedLayer(layer, layerBytes));
+        currentBytes += layerBytes;
+    }
+
+    public synchronized void clear() {
+        layers.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized int size() {
+        return layers.size();
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    protected static class CachedLayer {
+
+        protected final ProcessDiagramLayer layer;
+        protected final long bytes;
+
+        protected CachedLayer(ProcessDiagramLayer layer, long bytes) {
+            this.layer = layer;
+            this.bytes = bytes;
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ public interface Job extends JobInfo {
     String JOB_TYPE_MESSAGE = "message";
 
     boolean DEFAULT_EXCLUSIVE = true;
+    int DEFAULT_PRIORITY = 0;
     int MAX_EXCEPTION_MESSAGE_LENGTH = 255;
 
     /**
@@ -83,4 +84,9 @@ public interface Job extends JobInfo {
      */
     Date getCreateTime();
 
+    /**
+     * Returns the priority of the job. Jobs with a higher priority are acquired before jobs with a lower priority.
+     */
+    int getPriority();
+
 }
@@ -79,6 +79,12 @@ public interface JobService {
     void insertDeadLetterJob(DeadLetterJobEntity deadLetterJob);
     
     void updateJob(JobEntity job);
+
+    /**
+     * Changes the priority of the job with the given id, which can be an executable, timer, suspended or deadletter job.
+     * Jobs with a higher priority are acquired first.
+     */
+    void setJobPriority(String jobId, int priority);
     
     void deleteJob(String jobId);
     
@@ -16,9 +16,11 @@ import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.job.api.DeadLetterJobQuery;
 import org.flowable.job.api.HistoryJobQuery;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.api.JobQuery;
 import org.flowable.job.api.SuspendedJobQuery;
@@ -169,6 +171,25 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         getJobEntityManager().update(job);
     }
 
+    @Override
+    public void setJobPriority(String jobId, int priority) {
+        AbstractRuntimeJobEntity job = getJobEntityManager().findById(jobId);
+        if (job == null) {
+            job = getTimerJobEntityManager().findById(jobId);
+        }
+        if (job == null) {
+            job = getSuspendedJobEntityManager().findById(jobId);
+        }
+        if (job == null) {
+            job = getDeadLetterJobEntityManager().findById(jobId);
+        }
+        if (job == null) {
+            throw new FlowableObjectNotFoundException("No job found with id '" + jobId + "'.", Job.class);
+        }
+
+        job.setPriority(priority);
+    }
+
     @Override
     public void deleteJob(String jobId) {
         getJobEntityManager().delete(jobId);
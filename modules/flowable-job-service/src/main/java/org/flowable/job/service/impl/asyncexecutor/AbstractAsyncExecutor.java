@@ -49,6 +49,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected boolean isActive;
     protected boolean isMessageQueueMode;
 
+    /**
+     * When true, locking the process or case instance of an exclusive job, executing the job and unlocking the instance again
+     * happens in one transaction, reusing the job entity that was loaded when acquiring it. See {@link ExecuteAsyncRunnable}.
+     */
+    protected boolean singleTransactionJobExecution;
+
     protected int maxTimerJobsPerAcquisition = 1;
     protected int maxAsyncJobsDuePerAcquisition = 1;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
@@ -57,6 +63,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
+    protected int timerLookaheadInMillis;
     protected int asyncJobLockTimeInMillis = 5 * 60 * 1000;
     protected int retryWaitTimeInMillis = 500;
 
@@ -95,11 +102,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     }
 
     protected Runnable createRunnableForJob(final JobInfo job) {
+        Runnable runnable;
         if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            runnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
         } else {
-            return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+            runnable = executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+        }
+
+        if (singleTransactionJobExecution && runnable instanceof ExecuteAsyncRunnable) {
+            ((ExecuteAsyncRunnable) runnable).setSingleTransaction(true);
         }
+        return runnable;
     }
 
     /** Starts the async executor */
@@ -220,6 +233,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.isMessageQueueMode = isMessageQueueMode;
     }
 
+    public boolean isSingleTransactionJobExecution() {
+        return singleTransactionJobExecution;
+    }
+
+    public void setSingleTransactionJobExecution(boolean singleTransactionJobExecution) {
+        this.singleTransactionJobExecution = singleTransactionJobExecution;
+    }
+
     @Override
     public String getLockOwner() {
         return lockOwner;
@@ -239,6 +260,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.timerLockTimeInMillis = timerLockTimeInMillis;
     }
 
+    @Override
+    public int getTimerLookaheadInMillis() {
+        return timerLookaheadInMillis;
+    }
+
+    @Override
+    public void setTimerLookaheadInMillis(int timerLookaheadInMillis) {
+        this.timerLookaheadInMillis = timerLookaheadInMillis;
+    }
+
     @Override
     public int getAsyncJobLockTimeInMillis() {
         return asyncJobLockTimeInMillis;
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -19,7 +21,9 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.LeaseTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +44,13 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected long millisToWait;
 
+    /**
+     * Only used when timers are leased ahead of their due date (see {@link AsyncExecutor#getTimerLookaheadInMillis()}).
+     */
+    protected volatile HashedWheelTimer timerWheel;
+    protected long timerWheelTickDurationInMillis = 100L;
+    protected int timerWheelSize = 512;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this.asyncExecutor = asyncExecutor;
         this.jobManager = jobManager;
@@ -52,21 +63,41 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         final CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        if (asyncExecutor.getTimerLookaheadInMillis() > 0) {
+            synchronized (MONITOR) {
+                if (!isInterrupted) {
+                    timerWheel = new HashedWheelTimer(asyncExecutor.getJobServiceConfiguration().getClock(), timerWheelTickDurationInMillis, timerWheelSize);
+                    timerWheel.start("flowable-timer-wheel");
+                }
+            }
+        }
+
         while (!isInterrupted) {
 
             try {
-                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
-
-                commandExecutor.execute(new Command<Void>() {
+                final AcquiredTimerJobEntities acquiredJobs;
+                final List<TimerJobEntity> dueJobs = new ArrayList<>();
+                HashedWheelTimer currentTimerWheel = timerWheel;
+                if (currentTimerWheel != null) {
+                    acquiredJobs = commandExecutor.execute(new LeaseTimerJobsCmd(asyncExecutor));
+                    scheduleLeasedTimerJobs(currentTimerWheel, acquiredJobs, dueJobs);
+                } else {
+                    acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                    dueJobs.addAll(acquiredJobs.getJobs());
+                }
 
-                    @Override
-                    public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
-                            jobManager.moveTimerJobToExecutableJob(job);
+                if (!dueJobs.isEmpty()) {
+                    commandExecutor.execute(new Command<Void>() {
+    
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            for (TimerJobEntity job : dueJobs) {
+                                jobManager.moveTimerJobToExecutableJob(job);
+                            }
+                            return null;
                         }
-                        return null;
-                    }
-                });
+                    });
+                }
 
                 // if all jobs were executed
                 millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
@@ -116,15 +147,115 @@ public class AcquireTimerJobsRunnable implements Runnable {
         LOGGER.info("stopped async job due acquisition");
     }
 
+    /**
+     * Puts the leased timer jobs that are not yet due in the timer wheel. The timer jobs that are already due are added to the given list.
+     */
+    protected void scheduleLeasedTimerJobs(HashedWheelTimer currentTimerWheel, AcquiredTimerJobEntities acquiredJobs, List<TimerJobEntity> dueJobs) {
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        for (TimerJobEntity job : acquiredJobs.getJobs()) {
+            long delay = job.getDuedate() != null ? job.getDuedate().getTime() - now : 0L;
+            if (delay <= 0) {
+                dueJobs.add(job);
+            } else {
+                final String jobId = job.getId();
+                currentTimerWheel.schedule(jobId, delay, () -> submitLeasedTimerJob(currentTimerWheel, jobId));
+            }
+        }
+    }
+
+    /**
+     * Hands the firing of a leased timer job over to the thread pool of the async executor, so the wheel thread never waits for the database.
+     * When the thread pool is full, the timer job is tried again one tick later.
+     */
+    protected void submitLeasedTimerJob(HashedWheelTimer currentTimerWheel, String jobId) {
+        if (!asyncExecutor.executeTask(() -> fireLeasedTimerJob(jobId)) && currentTimerWheel == timerWheel) {
+            LOGGER.debug("Thread pool is full, firing leased timer job {} is retried on the next tick", jobId);
+            currentTimerWheel.schedule(jobId, timerWheelTickDurationInMillis, () -> submitLeasedTimerJob(currentTimerWheel, jobId));
+        }
+    }
+
+    /**
+     * Moves the leased timer job to an executable job, which hands it over to the async executor directly.
+     * Nothing happens when the timer job was deleted in the meantime (e.g. the process instance was cancelled) or is now owned by another executor.
+     */
+    protected void fireLeasedTimerJob(String jobId) {
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(commandContext -> {
+                TimerJobEntity timerJob = CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId);
+                if (timerJob != null && asyncExecutor.getLockOwner().equals(timerJob.getLockOwner())) {
+                    jobManager.moveTimerJobToExecutableJob(timerJob);
+                }
+                return null;
+            });
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            LOGGER.debug("Optimistic locking exception while firing leased timer job {}, it was changed concurrently", jobId);
+        } catch (Throwable e) {
+            LOGGER.error("exception while firing leased timer job {}: {}", jobId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes the lock of the leased timer jobs that were not fired yet, so other executors can pick them up immediately.
+     */
+    protected void releaseLeasedTimerJobs(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(commandContext -> {
+                for (String jobId : jobIds) {
+                    TimerJobEntity timerJob = CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId);
+                    if (timerJob != null && asyncExecutor.getLockOwner().equals(timerJob.getLockOwner())) {
+                        timerJob.setLockOwner(null);
+                        timerJob.setLockExpirationTime(null);
+                    }
+                }
+                return null;
+            });
+
+        } catch (Throwable e) {
+            LOGGER.warn("Could not release leased timer jobs {}, their lease will expire: {}", jobIds, e.getMessage());
+        }
+    }
+
     public void stop() {
+        HashedWheelTimer timerWheelToStop;
         synchronized (MONITOR) {
             isInterrupted = true;
             if (isWaiting.compareAndSet(true, false)) {
                 MONITOR.notifyAll();
             }
+            timerWheelToStop = timerWheel;
+            timerWheel = null;
+        }
+
+        if (timerWheelToStop != null) {
+            releaseLeasedTimerJobs(timerWheelToStop.stop());
         }
     }
 
+    public HashedWheelTimer getTimerWheel() {
+        return timerWheel;
+    }
+
+    public long getTimerWheelTickDurationInMillis() {
+        return timerWheelTickDurationInMillis;
+    }
+
+    public void setTimerWheelTickDurationInMillis(long timerWheelTickDurationInMillis) {
+        this.timerWheelTickDurationInMillis = timerWheelTickDurationInMillis;
+    }
+
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
     public long getMillisToWait() {
         return millisToWait;
     }
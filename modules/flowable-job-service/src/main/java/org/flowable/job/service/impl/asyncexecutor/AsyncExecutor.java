@@ -37,6 +37,14 @@ public interface AsyncExecutor {
      */
     boolean executeAsyncJob(JobInfo job);
 
+    /**
+     * Runs a task of the executor itself (for example firing a leased timer job) on the thread pool that executes the async jobs.
+     * When there is no such thread pool, the task runs in the calling thread.
+     * 
+     * @return false when the thread pool rejected the task
+     */
+    boolean executeTask(Runnable task);
+
     int getRemainingCapacity();
 
     /* Getters and Setters */
@@ -57,6 +65,14 @@ public interface AsyncExecutor {
 
     void setTimerLockTimeInMillis(int lockTimeInMillis);
 
+    /**
+     * When larger than zero, timer jobs that become due within this amount of time are leased (locked) ahead of their due date
+     * and fired from an in-memory timer wheel at their due date, instead of being picked up by the next acquisition cycle.
+     */
+    int getTimerLookaheadInMillis();
+
+    void setTimerLookaheadInMillis(int timerLookaheadInMillis);
+
     int getAsyncJobLockTimeInMillis();
 
     void setAsyncJobLockTimeInMillis(int lockTimeInMillis);
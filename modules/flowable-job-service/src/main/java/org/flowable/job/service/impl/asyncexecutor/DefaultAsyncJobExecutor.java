@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -101,10 +103,36 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * Dedicated thread pools for jobs of certain job handler types or priority bands.
+     * A job is executed by the first lane that matches it, or by the regular thread pool when no lane matches.
+     */
+    protected List<JobExecutionLane> jobExecutionLanes = new ArrayList<>();
+
+    /**
+     * When set, exclusive jobs are partitioned by process or case instance across nodes and executed by per-partition workers.
+     */
+    protected ExclusiveJobAffinity exclusiveJobAffinity;
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            if (exclusiveJobAffinity != null && exclusiveJobAffinity.appliesTo(job)) {
+                if (!exclusiveJobAffinity.isOwnedByThisNode(job)) {
+                    // Can happen for jobs created on this node: release them so the owning node acquires them
+                    unacquireJobAfterRejection(job);
+                    return true;
+                }
+                exclusiveJobAffinity.execute(job, runnable);
+                return true;
+            }
+
+            JobExecutionLane lane = findJobExecutionLane(job);
+            if (lane != null) {
+                lane.execute(runnable);
+            } else {
+                executorService.execute(runnable);
+            }
             return true;
         } catch (RejectedExecutionException e) {
             unacquireJobAfterRejection(job);
@@ -114,6 +142,30 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    @Override
+    public boolean executeTask(Runnable task) {
+        if (executorService == null) {
+            task.run();
+            return true;
+        }
+
+        try {
+            executorService.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    protected JobExecutionLane findJobExecutionLane(JobInfo job) {
+        for (JobExecutionLane lane : jobExecutionLanes) {
+            if (lane.matches(job)) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
         // When a RejectedExecutionException is caught, this means that the queue for holding the jobs
         // that are to be executed is full and can't store more.
@@ -177,6 +229,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
             executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
         }
+
+        for (JobExecutionLane lane : jobExecutionLanes) {
+            lane.start();
+        }
+
+        if (exclusiveJobAffinity != null) {
+            exclusiveJobAffinity.start();
+        }
     }
 
     protected void stopExecutingAsyncJobs() {
@@ -196,6 +256,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
             executorService = null;
         }
+
+        for (JobExecutionLane lane : jobExecutionLanes) {
+            lane.shutdown(secondsToWaitOnShutdown);
+        }
+
+        if (exclusiveJobAffinity != null) {
+            exclusiveJobAffinity.shutdown(secondsToWaitOnShutdown);
+        }
     }
 
     /** Starts the acquisition thread */
@@ -392,5 +460,21 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
+
+    public List<JobExecutionLane> getJobExecutionLanes() {
+        return jobExecutionLanes;
+    }
+
+    public void setJobExecutionLanes(List<JobExecutionLane> jobExecutionLanes) {
+        this.jobExecutionLanes = jobExecutionLanes;
+    }
+
+    public ExclusiveJobAffinity getExclusiveJobAffinity() {
+        return exclusiveJobAffinity;
+    }
+
+    public void setExclusiveJobAffinity(ExclusiveJobAffinity exclusiveJobAffinity) {
+        this.exclusiveJobAffinity = exclusiveJobAffinity;
+    }
     
 }
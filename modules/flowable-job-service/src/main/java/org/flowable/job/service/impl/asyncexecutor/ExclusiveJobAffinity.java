@@ -0,0 +1,256 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process (or case) instance affinity for exclusive jobs of the {@link DefaultAsyncJobExecutor}.
+ * 
+ * When an exclusive job is inserted, its partition is computed from a hash of its process instance id (or scope id for case instances)
+ * and stored with the job. The partition count must therefore be the same on all nodes.
+ * <ul>
+ * <li>Across nodes: every node owns a contiguous range of partitions, as determined by the {@link JobAffinityClusterMembership}, and the acquisition
+ * query only returns the jobs of that range (and the jobs without partition). When the membership changes, the ranges are re-balanced over the
+ * remaining nodes; jobs locked by a node that disappeared are picked up by the new owner once their lock has expired.</li>
+ * <li>Within a node: all exclusive jobs of a partition are executed by the same single-threaded worker, hence sequentially.</li>
+ * </ul>
+ * 
+ * By default, exclusive jobs still lock their process or case instance (see the LockExclusiveJobCmd). That lock can be skipped with
+ * {@link #setSkipExclusiveJobLock(boolean)}, saving a database round-trip per job, but only when a cluster membership is configured explicitly:
+ * exclusivity then relies on every node knowing the correct node index and count. While partitions are being re-balanced, concurrent execution
+ * of jobs of the same instance on two nodes is still detected by the optimistic locking on the instance.
+ */
+public class ExclusiveJobAffinity {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExclusiveJobAffinity.class);
+
+    /**
+     * The number of partitions, which is the unit of distribution across nodes. Should be (a lot) larger than the number of nodes.
+     */
+    protected int partitionCount = 1024;
+
+    /**
+     * The number of single-threaded workers on this node.
+     */
+    protected int workerCount = 4;
+
+    /**
+     * The size of the queue of each worker.
+     */
+    protected int workerQueueSize = 25;
+
+    /**
+     * Whether the lock on the process or case instance is skipped for partitioned jobs. Requires an explicitly configured {@link #clusterMembership}.
+     */
+    protected boolean skipExclusiveJobLock;
+
+    /**
+     * The position of this node in the cluster. When not set, this node is considered to be the only one and owns all partitions.
+     */
+    protected JobAffinityClusterMembership clusterMembership;
+
+    protected String threadNamePrefix = "flowable-async-job-executor-affinity-";
+
+    protected ExecutorService[] workers;
+
+    /**
+     * Returns the {@link ExclusiveJobAffinity} of the given async executor, or null when it has none.
+     */
+    public static ExclusiveJobAffinity getExclusiveJobAffinity(AsyncExecutor asyncExecutor) {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor) {
+            return ((DefaultAsyncJobExecutor) asyncExecutor).getExclusiveJobAffinity();
+        }
+        return null;
+    }
+
+    /**
+     * Stores the partition on a job that is about to be inserted. Only exclusive jobs that belong to a process or case instance are partitioned.
+     */
+    public void assignPartition(JobEntity job) {
+        if (job.isExclusive()) {
+            String partitionKey = getPartitionKey(job);
+            if (partitionKey != null) {
+                job.setPartition(Math.floorMod(partitionKey.hashCode(), partitionCount));
+            }
+        }
+    }
+
+    protected String getPartitionKey(Job job) {
+        if (job.getProcessInstanceId() != null) {
+            return job.getProcessInstanceId();
+        }
+        return job.getScopeId();
+    }
+
+    /**
+     * Whether the job is partitioned, i.e. a partition was assigned when it was inserted.
+     */
+    public boolean appliesTo(JobInfo job) {
+        return job instanceof JobEntity && ((JobEntity) job).getPartition() != null;
+    }
+
+    public int getPartition(JobInfo job) {
+        return ((JobEntity) job).getPartition();
+    }
+
+    /**
+     * The first partition (inclusive) owned by this node.
+     */
+    public int getOwnedPartitionLowerBound() {
+        if (clusterMembership == null || clusterMembership.getNodeCount() <= 1) {
+            return 0;
+        }
+        return (int) ((long) clusterMembership.getNodeIndex() * partitionCount / clusterMembership.getNodeCount());
+    }
+
+    /**
+     * The last partition (exclusive) owned by this node.
+     */
+    public int getOwnedPartitionUpperBound() {
+        if (clusterMembership == null || clusterMembership.getNodeCount() <= 1) {
+            return partitionCount;
+        }
+        return (int) ((long) (clusterMembership.getNodeIndex() + 1) * partitionCount / clusterMembership.getNodeCount());
+    }
+
+    /**
+     * Whether this node is responsible for executing the given job. Always true for jobs that aren't partitioned.
+     */
+    public boolean isOwnedByThisNode(JobInfo job) {
+        if (!appliesTo(job)) {
+            return true;
+        }
+
+        int partition = getPartition(job);
+        return partition >= getOwnedPartitionLowerBound() && partition < getOwnedPartitionUpperBound();
+    }
+
+    public void start() {
+        if (skipExclusiveJobLock && clusterMembership == null) {
+            throw new FlowableIllegalArgumentException("Skipping the exclusive job lock requires an explicitly configured cluster membership");
+        }
+
+        if (workers == null) {
+            LOGGER.info("Starting {} exclusive job affinity workers with queue size {}", workerCount, workerQueueSize);
+
+            workers = new ExecutorService[workerCount];
+            for (int i = 0; i < workerCount; i++) {
+                BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadNamePrefix + i).build();
+                workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(workerQueueSize), threadFactory);
+            }
+        }
+    }
+
+    /**
+     * Executes the job on the worker of its partition.
+     * 
+     * @throws java.util.concurrent.RejectedExecutionException when the queue of that worker is full
+     */
+    public void execute(JobInfo job, Runnable runnable) {
+        if (skipExclusiveJobLock && clusterMembership != null && runnable instanceof ExecuteAsyncRunnable) {
+            ((ExecuteAsyncRunnable) runnable).setExclusiveLockNeeded(false);
+        }
+        workers[getPartition(job) % workerCount].execute(runnable);
+    }
+
+    public void shutdown(long secondsToWaitOnShutdown) {
+        if (workers != null) {
+            for (ExecutorService worker : workers) {
+                worker.shutdown();
+            }
+
+            try {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(secondsToWaitOnShutdown);
+                for (ExecutorService worker : workers) {
+                    long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+                    if (!worker.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                        LOGGER.warn("Timeout during shutdown of exclusive job affinity workers. The current running jobs could not end within {} seconds after shutdown operation.",
+                                secondsToWaitOnShutdown);
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the exclusive job affinity workers", e);
+            }
+
+            workers = null;
+        }
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public ExclusiveJobAffinity setPartitionCount(int partitionCount) {
+        this.partitionCount = partitionCount;
+        return this;
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public ExclusiveJobAffinity setWorkerCount(int workerCount) {
+        this.workerCount = workerCount;
+        return this;
+    }
+
+    public int getWorkerQueueSize() {
+        return workerQueueSize;
+    }
+
+    public ExclusiveJobAffinity setWorkerQueueSize(int workerQueueSize) {
+        this.workerQueueSize = workerQueueSize;
+        return this;
+    }
+
+    public boolean isSkipExclusiveJobLock() {
+        return skipExclusiveJobLock;
+    }
+
+    public ExclusiveJobAffinity setSkipExclusiveJobLock(boolean skipExclusiveJobLock) {
+        this.skipExclusiveJobLock = skipExclusiveJobLock;
+        return this;
+    }
+
+    public JobAffinityClusterMembership getClusterMembership() {
+        return clusterMembership;
+    }
+
+    public ExclusiveJobAffinity setClusterMembership(JobAffinityClusterMembership clusterMembership) {
+        this.clusterMembership = clusterMembership;
+        return this;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public ExclusiveJobAffinity setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -29,6 +30,7 @@ import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -49,6 +51,20 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
 
+    /**
+     * Whether the process or case instance needs to be locked before executing an exclusive job.
+     * Only false when exclusivity is already guaranteed otherwise, see {@link ExclusiveJobAffinity}.
+     */
+    protected boolean exclusiveLockNeeded = true;
+
+    /**
+     * Whether locking the instance of an exclusive job, executing the job and unlocking the instance happens in one transaction.
+     * The job entity loaded when acquiring the job is reused, instead of fetching it again by id.
+     * If the job was deleted concurrently, deleting it at the end of the execution fails with an optimistic locking exception
+     * and the transaction is rolled back.
+     */
+    protected boolean singleTransaction;
+
     public ExecuteAsyncRunnable(String jobId, JobServiceConfiguration jobServiceConfiguration,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
@@ -107,7 +123,12 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         if (job instanceof AbstractRuntimeJobEntity) {
 
-            boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+            boolean lockingNeeded = exclusiveLockNeeded && ((AbstractRuntimeJobEntity) job).isExclusive();
+            if (singleTransaction && job instanceof JobEntity) {
+                executeJobInSingleTransaction(lockingNeeded);
+                return;
+            }
+
             boolean executeJob = true;
             if (lockingNeeded) {
                 executeJob = lockJob();
@@ -155,6 +176,45 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    protected void executeJobInSingleTransaction(final boolean lockingNeeded) {
+        try {
+            boolean executed = jobServiceConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
+                @Override
+                public Boolean execute(CommandContext commandContext) {
+                    if (lockingNeeded) {
+                        try {
+                            new LockExclusiveJobCmd((Job) job).execute(commandContext);
+                        } catch (FlowableOptimisticLockingException e) {
+                            LOGGER.debug("Could not lock exclusive job {}. Unlocking job so it can be acquired again.", jobId);
+                            return false;
+                        }
+                    }
+
+                    // The job was locked and loaded when acquiring it, no need to fetch it again
+                    commandContext.getSession(EntityCache.class).put((JobEntity) job, true);
+                    new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+
+                    if (lockingNeeded) {
+                        new UnlockExclusiveJobCmd((Job) job).execute(commandContext);
+                    }
+                    return true;
+                }
+            });
+
+            if (!executed) {
+                // Release the job again so it can be acquired later or by another node
+                unacquireJob();
+            }
+
+        } catch (final FlowableOptimisticLockingException e) {
+            handleFailedJob(e);
+            LOGGER.debug("Optimistic locking exception during single transaction execution of job {}. Exception message: {}", jobId, e.getMessage());
+
+        } catch (Throwable exception) {
+            handleFailedJob(exception);
+        }
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
@@ -163,7 +223,7 @@ public class ExecuteAsyncRunnable implements Runnable {
         
         Job job = (Job) this.job; // This method is only called for a regular Job
         try {
-            if (job.isExclusive()) {
+            if (exclusiveLockNeeded && job.isExclusive()) {
                 jobServiceConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd(job));
             }
 
@@ -229,4 +289,20 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    public boolean isExclusiveLockNeeded() {
+        return exclusiveLockNeeded;
+    }
+
+    public void setExclusiveLockNeeded(boolean exclusiveLockNeeded) {
+        this.exclusiveLockNeeded = exclusiveLockNeeded;
+    }
+
+    public boolean isSingleTransaction() {
+        return singleTransaction;
+    }
+
+    public void setSingleTransaction(boolean singleTransaction) {
+        this.singleTransaction = singleTransaction;
+    }
+
 }
@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel: tasks are put in one of a fixed number of buckets, based on their deadline,
+ * and one thread advances over the buckets every tick, running the tasks of which the deadline has passed.
+ * Scheduling a task is O(1), regardless of the number of scheduled tasks. The bucket of a tick is processed once the tick has fully passed,
+ * so tasks are fired at most one tick after their deadline.
+ * 
+ * Deadlines are based on the given {@link Clock}, like the due dates of the timer jobs, and the wheel advances to the current time of that clock on every tick.
+ * When the clock is moved forward, all tasks of which the deadline has passed are fired on the next tick.
+ * The tasks run on the wheel thread, so they should be short and hand off any real work.
+ * 
+ * Used to fire timer jobs that are leased ahead of their due date (see {@link AsyncExecutor#getTimerLookaheadInMillis()}).
+ * Tasks are identified by a key (the timer job id), so the same task is never scheduled twice, and can be cancelled through that key.
+ */
+public class HashedWheelTimer implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    protected final Clock clock;
+    protected final long tickDurationInMillis;
+    protected final int mask;
+    protected final List<LinkedList<Timeout>> wheel;
+
+    protected final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    protected final Map<String, Timeout> scheduledTimeouts = new ConcurrentHashMap<>();
+
+    protected Thread workerThread;
+    protected volatile boolean running;
+    protected long startTime;
+    protected long tick;
+
+    public HashedWheelTimer(Clock clock, long tickDurationInMillis, int ticksPerWheel) {
+        if (tickDurationInMillis <= 0) {
+            throw new IllegalArgumentException("tickDurationInMillis must be greater than 0");
+        }
+
+        // Round the wheel size up to a power of two, so the bucket can be found with a mask
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+
+        this.clock = clock;
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.mask = wheelSize - 1;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new LinkedList<>());
+        }
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        startTime = currentTimeMillis();
+        tick = 0;
+        workerThread = new Thread(this, threadName);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * Stops the wheel and returns the keys of the tasks that were scheduled, but not yet fired.
+     */
+    public synchronized List<String> stop() {
+        running = false;
+        if (workerThread != null) {
+            workerThread.interrupt();
+            try {
+                workerThread.join(tickDurationInMillis * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workerThread = null;
+        }
+
+        List<String> unfiredKeys = new ArrayList<>(scheduledTimeouts.keySet());
+        scheduledTimeouts.clear();
+        pendingTimeouts.clear();
+        for (LinkedList<Timeout> bucket : wheel) {
+            bucket.clear();
+        }
+        return unfiredKeys;
+    }
+
+    /**
+     * Schedules the task to run after the given delay. Returns false if a task with the same key is already scheduled.
+     */
+    public boolean schedule(String key, long delayInMillis, Runnable task) {
+        Timeout timeout = new Timeout(key, currentTimeMillis() + Math.max(delayInMillis, 0L), task);
+        if (scheduledTimeouts.putIfAbsent(key, timeout) != null) {
+            return false;
+        }
+        pendingTimeouts.add(timeout);
+        return true;
+    }
+
+    /**
+     * Cancels the task with the given key, so it isn't fired. Returns false if no task with that key is scheduled (anymore).
+     */
+    public boolean cancel(String key) {
+        Timeout timeout = scheduledTimeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        return true;
+    }
+
+    public boolean isScheduled(String key) {
+        return scheduledTimeouts.containsKey(key);
+    }
+
+    public int getNumberOfScheduledTasks() {
+        return scheduledTimeouts.size();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(tickDurationInMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            }
+
+            advance();
+        }
+    }
+
+    /**
+     * Fires the tasks of which the deadline has passed: processes the buckets of all ticks that passed since the previous call, 
+     * according to the current time of the clock. This covers the whole wheel when the clock was moved far ahead.
+     */
+    protected void advance() {
+        transferPendingTimeouts();
+
+        long now = currentTimeMillis();
+        long passedTicks = (now - startTime) / tickDurationInMillis;
+        if (passedTicks - tick >= wheel.size()) {
+            for (LinkedList<Timeout> bucket : wheel) {
+                expireTimeouts(bucket, now);
+            }
+            tick = passedTicks;
+        } else {
+            while (tick < passedTicks) {
+                expireTimeouts(wheel.get((int) (tick & mask)), now);
+                tick++;
+            }
+        }
+    }
+
+    protected void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            // Deadlines in the past are put in the bucket of the current tick, so they are fired once that tick has passed
+            long bucketTick = Math.max((timeout.deadline - startTime) / tickDurationInMillis, tick);
+            wheel.get((int) (bucketTick & mask)).add(timeout);
+        }
+    }
+
+    protected void expireTimeouts(LinkedList<Timeout> bucket, long now) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+
+            } else if (timeout.deadline <= now) {
+                iterator.remove();
+                scheduledTimeouts.remove(timeout.key, timeout);
+                try {
+                    timeout.task.run();
+                } catch (Throwable e) {
+                    LOGGER.error("Exception while firing timer task {}", timeout.key, e);
+                }
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return clock.getCurrentTime().getTime();
+    }
+
+    protected static class Timeout {
+
+        protected final String key;
+        protected final long deadline;
+        protected final Runnable task;
+        protected volatile boolean cancelled;
+
+        public Timeout(String key, long deadline, Runnable task) {
+            this.key = key;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+    }
+
+}
@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Provides the position of this node in the cluster of async executors, used by {@link ExclusiveJobAffinity} to determine
+ * which partitions of exclusive jobs are owned by this node.
+ * 
+ * The values are read on every acquisition, so an implementation backed by the cluster membership of the environment
+ * (e.g. the ordinal of a stateful set or a group membership protocol) re-balances the partitions when a node joins or disappears.
+ */
+public interface JobAffinityClusterMembership {
+
+    /**
+     * The index of this node, between 0 (inclusive) and {@link #getNodeCount()} (exclusive).
+     */
+    int getNodeIndex();
+
+    /**
+     * The number of nodes currently executing jobs.
+     */
+    int getNodeCount();
+
+}
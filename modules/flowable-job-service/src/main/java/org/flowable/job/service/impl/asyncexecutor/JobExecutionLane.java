@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A dedicated thread pool of the {@link DefaultAsyncJobExecutor} for jobs of certain job handler types and/or a certain priority band.
+ * 
+ * Jobs matching a lane are executed by the threads of that lane only, which means that the lane capacity is reserved for them:
+ * a burst of other jobs (for example bulk async continuations) can't delay them, and they can't take all threads of the regular pool.
+ * 
+ * When both job handler types and a priority band are configured, a job needs to match both. A lane without any configuration matches nothing.
+ */
+public class JobExecutionLane {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutionLane.class);
+
+    protected String name;
+
+    protected Set<String> jobHandlerTypes = new HashSet<>();
+    protected Integer minPriority;
+    protected Integer maxPriority;
+
+    protected int corePoolSize = 1;
+    protected int maxPoolSize = 2;
+    protected long keepAliveTime = 5000L;
+    protected int queueSize = 50;
+
+    protected BlockingQueue<Runnable> threadPoolQueue;
+    protected ExecutorService executorService;
+
+    public JobExecutionLane(String name) {
+        this.name = name;
+    }
+
+    public JobExecutionLane jobHandlerType(String jobHandlerType) {
+        this.jobHandlerTypes.add(jobHandlerType);
+        return this;
+    }
+
+    public JobExecutionLane jobHandlerTypes(Collection<String> jobHandlerTypes) {
+        this.jobHandlerTypes.addAll(jobHandlerTypes);
+        return this;
+    }
+
+    /**
+     * Jobs with a priority in the given (inclusive) band. Null for an open ended band.
+     */
+    public JobExecutionLane priorityBand(Integer minPriority, Integer maxPriority) {
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+        return this;
+    }
+
+    public boolean matches(JobInfo job) {
+        boolean priorityBandConfigured = minPriority != null || maxPriority != null;
+        if (jobHandlerTypes.isEmpty() && !priorityBandConfigured) {
+            return false;
+        }
+
+        if (!jobHandlerTypes.isEmpty() && !jobHandlerTypes.contains(job.getJobHandlerType())) {
+            return false;
+        }
+
+        if (priorityBandConfigured) {
+            int priority = job instanceof Job ? ((Job) job).getPriority() : Job.DEFAULT_PRIORITY;
+            if ((minPriority != null && priority < minPriority) || (maxPriority != null && priority > maxPriority)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void start() {
+        if (threadPoolQueue == null) {
+            threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        if (executorService == null) {
+            LOGGER.info("Creating executor service for job execution lane {} with corePoolSize {}, maxPoolSize {} and keepAliveTime {}", name, corePoolSize, maxPoolSize, keepAliveTime);
+
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-async-job-executor-" + name + "-thread-%d").build();
+            executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
+        }
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException when the queue of the lane is full
+     */
+    public void execute(Runnable runnable) {
+        executorService.execute(runnable);
+    }
+
+    public void shutdown(long secondsToWaitOnShutdown) {
+        if (executorService != null) {
+            executorService.shutdown();
+
+            try {
+                if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of job execution lane {}. The current running jobs could not end within {} seconds after shutdown operation.", name, secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down job execution lane {}", name, e);
+            }
+
+            executorService = null;
+            threadPoolQueue = null;
+        }
+    }
+
+    public int getRemainingCapacity() {
+        return threadPoolQueue != null ? threadPoolQueue.remainingCapacity() : queueSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getJobHandlerTypes() {
+        return jobHandlerTypes;
+    }
+
+    public Integer getMinPriority() {
+        return minPriority;
+    }
+
+    public Integer getMaxPriority() {
+        return maxPriority;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public JobExecutionLane setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+        return this;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public JobExecutionLane setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+        return this;
+    }
+
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public JobExecutionLane setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+        return this;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public JobExecutionLane setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * A {@link JobAffinityClusterMembership} with a fixed node index and node count, e.g. configured per node at startup.
+ * Needs to be set explicitly on the {@link ExclusiveJobAffinity}, for example from the ordinal of the node.
+ */
+public class StaticJobAffinityClusterMembership implements JobAffinityClusterMembership {
+
+    protected int nodeIndex;
+    protected int nodeCount;
+
+    public StaticJobAffinityClusterMembership() {
+        this(0, 1);
+    }
+
+    public StaticJobAffinityClusterMembership(int nodeIndex, int nodeCount) {
+        this.nodeIndex = nodeIndex;
+        this.nodeCount = nodeCount;
+    }
+
+    @Override
+    public int getNodeIndex() {
+        return nodeIndex;
+    }
+
+    public void setNodeIndex(int nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+}
@@ -106,6 +106,11 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         return determineAsyncExecutor().executeAsyncJob(job);
     }
 
+    @Override
+    public boolean executeTask(Runnable task) {
+        return determineAsyncExecutor().executeTask(task);
+    }
+
     @Override
     public int getRemainingCapacity() {
         return determineAsyncExecutor().getRemainingCapacity();
@@ -188,6 +193,18 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public int getTimerLookaheadInMillis() {
+        return determineAsyncExecutor().getTimerLookaheadInMillis();
+    }
+
+    @Override
+    public void setTimerLookaheadInMillis(int timerLookaheadInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerLookaheadInMillis(timerLookaheadInMillis);
+        }
+    }
+
     @Override
     public int getAsyncJobLockTimeInMillis() {
         return determineAsyncExecutor().getAsyncJobLockTimeInMillis();
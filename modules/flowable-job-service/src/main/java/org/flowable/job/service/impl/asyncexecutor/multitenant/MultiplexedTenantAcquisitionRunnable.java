@@ -0,0 +1,291 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.FindExpiredJobsCmd;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single acquisition loop for all tenants of a {@link MultiplexedTenantAsyncExecutor}.
+ * 
+ * Every round, the tenants are visited in round-robin order (the starting tenant shifts each round). For each tenant whose next acquisition moment has passed,
+ * timer jobs are moved to the executable table, async jobs are acquired (at most 'weight' acquisitions, each bounded by the tenant quota and the free executor capacity)
+ * and expired jobs are reset. Tenants for which nothing was found are polled less often (exponential backoff up to the tenant idle wait time), so idle tenants
+ * do not cost a query every cycle.
+ */
+public class MultiplexedTenantAcquisitionRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiplexedTenantAcquisitionRunnable.class);
+
+    protected final MultiplexedTenantAsyncExecutor asyncExecutor;
+    protected final TenantInfoHolder tenantInfoHolder;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected volatile boolean wakeUpRequested;
+
+    protected int roundRobinOffset;
+
+    public MultiplexedTenantAcquisitionRunnable(MultiplexedTenantAsyncExecutor asyncExecutor, TenantInfoHolder tenantInfoHolder) {
+        this.asyncExecutor = asyncExecutor;
+        this.tenantInfoHolder = tenantInfoHolder;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting multiplexed job acquisition for all tenants");
+        Thread.currentThread().setName("flowable-multiplexed-tenant-job-acquisition");
+
+        CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+
+        while (!isInterrupted) {
+            wakeUpRequested = false;
+
+            List<TenantAcquisitionState> tenantStates = new ArrayList<>(asyncExecutor.getTenantAcquisitionStates());
+            int nrOfTenants = tenantStates.size();
+            for (int i = 0; i < nrOfTenants && !isInterrupted; i++) {
+                TenantAcquisitionState tenantState = tenantStates.get((roundRobinOffset + i) % nrOfTenants);
+                acquireForTenant(commandExecutor, tenantState);
+            }
+            roundRobinOffset = nrOfTenants > 0 ? (roundRobinOffset + 1) % nrOfTenants : 0;
+
+            sleep(determineMillisToWait(tenantStates));
+        }
+
+        LOGGER.info("stopped multiplexed job acquisition for all tenants");
+    }
+
+    protected void acquireForTenant(CommandExecutor commandExecutor, TenantAcquisitionState tenantState) {
+        tenantInfoHolder.setCurrentTenantId(tenantState.getTenantId());
+        try {
+            long now = System.currentTimeMillis();
+
+            if (asyncExecutor.isTimerJobAcquisitionEnabled() && tenantState.getNextTimerJobAcquisitionTime() <= now) {
+                acquireTimerJobs(commandExecutor, tenantState, now);
+            }
+
+            if (asyncExecutor.isAsyncJobAcquisitionEnabled() && !asyncExecutor.isMessageQueueMode() && tenantState.getNextAsyncJobAcquisitionTime() <= now) {
+                acquireAsyncJobs(commandExecutor, tenantState, now);
+            }
+
+            if (asyncExecutor.isResetExpiredJobEnabled() && tenantState.getNextResetExpiredJobsTime() <= now) {
+                resetExpiredJobs(commandExecutor, tenantState, now);
+            }
+
+        } finally {
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
+
+    protected void acquireTimerJobs(CommandExecutor commandExecutor, TenantAcquisitionState tenantState, long now) {
+        long millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        try {
+            final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+            if (acquiredJobs.size() > 0) {
+                final JobManager jobManager = asyncExecutor.getJobServiceConfiguration().getJobManager();
+                commandExecutor.execute(commandContext -> {
+                    for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                        jobManager.moveTimerJobToExecutableJob(job);
+                    }
+                    return null;
+                });
+            }
+
+            if (acquiredJobs.size() >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                millisToWait = 0L;
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            LOGGER.debug("Optimistic locking exception during timer job acquisition for tenant {}: {}", tenantState.getTenantId(), optimisticLockingException.getMessage());
+        } catch (Throwable e) {
+            LOGGER.error("exception during timer job acquisition for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+
+        // Timers are not backed off: their due date is known and needs to be respected
+        tenantState.setNextTimerJobAcquisitionTime(now + millisToWait);
+    }
+
+    protected void acquireAsyncJobs(CommandExecutor commandExecutor, TenantAcquisitionState tenantState, long now) {
+        JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager = asyncExecutor.getJobServiceConfiguration().getJobEntityManager();
+        int maxPerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+
+        int totalAcquired = 0;
+        boolean moreJobsAvailable = false;
+        try {
+            for (int acquisition = 0; acquisition < Math.max(1, tenantState.getWeight()); acquisition++) {
+                int executorCapacity = asyncExecutor.getRemainingCapacity();
+                if (executorCapacity <= 0) {
+                    tenantState.setNextAsyncJobAcquisitionTime(now + asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+                    return;
+                }
+
+                int tenantQuota = tenantState.getRemainingQuota();
+                if (tenantQuota <= 0) {
+                    // Woken up again as soon as one of the jobs of this tenant finishes
+                    tenantState.setQuotaExhausted(true);
+                    tenantState.setNextAsyncJobAcquisitionTime(now + asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+                    return;
+                }
+
+                int capacity = Math.min(executorCapacity, tenantQuota);
+                AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, capacity, jobEntityManager));
+
+                boolean rejected = false;
+                for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                    if (!asyncExecutor.executeAsyncJob(job)) {
+                        rejected = true;
+                    }
+                }
+
+                totalAcquired += acquiredJobs.size();
+                if (rejected) {
+                    tenantState.setNextAsyncJobAcquisitionTime(now + asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis());
+                    return;
+                }
+
+                moreJobsAvailable = acquiredJobs.size() >= Math.min(capacity, maxPerAcquisition);
+                if (!moreJobsAvailable) {
+                    break;
+                }
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            LOGGER.debug("Optimistic locking exception during async job acquisition for tenant {}: {}", tenantState.getTenantId(), optimisticLockingException.getMessage());
+        } catch (Throwable e) {
+            LOGGER.error("exception during async job acquisition for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+
+        if (totalAcquired > 0) {
+            tenantState.setConsecutiveEmptyAcquisitions(0);
+            tenantState.setNextAsyncJobAcquisitionTime(moreJobsAvailable ? now : now + asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+
+        } else {
+            int emptyAcquisitions = tenantState.getConsecutiveEmptyAcquisitions();
+            tenantState.setConsecutiveEmptyAcquisitions(emptyAcquisitions + 1);
+            tenantState.setNextAsyncJobAcquisitionTime(now + determineBackoffMillis(emptyAcquisitions));
+        }
+    }
+
+    protected long determineBackoffMillis(int emptyAcquisitions) {
+        long waitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        long maxWaitTime = Math.max(waitTime, asyncExecutor.getTenantIdleMaxWaitTimeInMillis());
+        for (int i = 0; i < emptyAcquisitions && waitTime < maxWaitTime; i++) {
+            waitTime = waitTime * 2;
+        }
+        return Math.min(waitTime, maxWaitTime);
+    }
+
+    protected void resetExpiredJobs(CommandExecutor commandExecutor, TenantAcquisitionState tenantState, long now) {
+        try {
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager = asyncExecutor.getJobServiceConfiguration().getJobEntityManager();
+            List<? extends JobInfoEntity> expiredJobs = commandExecutor.execute(new FindExpiredJobsCmd(asyncExecutor.getResetExpiredJobsPageSize(), jobEntityManager));
+
+            List<String> expiredJobIds = new ArrayList<>(expiredJobs.size());
+            for (JobInfoEntity expiredJob : expiredJobs) {
+                expiredJobIds.add(expiredJob.getId());
+            }
+
+            if (expiredJobIds.size() > 0) {
+                commandExecutor.execute(new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager));
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            LOGGER.debug("Optimistic lock exception while resetting locked jobs for tenant {}", tenantState.getTenantId(), optimisticLockingException);
+        } catch (Throwable e) {
+            LOGGER.error("exception during resetting expired jobs for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+
+        tenantState.setNextResetExpiredJobsTime(now + asyncExecutor.getResetExpiredJobsInterval());
+    }
+
+    protected long determineMillisToWait(List<TenantAcquisitionState> tenantStates) {
+        long nextTime = Long.MAX_VALUE;
+        for (TenantAcquisitionState tenantState : tenantStates) {
+            if (asyncExecutor.isTimerJobAcquisitionEnabled()) {
+                nextTime = Math.min(nextTime, tenantState.getNextTimerJobAcquisitionTime());
+            }
+            if (asyncExecutor.isAsyncJobAcquisitionEnabled() && !asyncExecutor.isMessageQueueMode()) {
+                nextTime = Math.min(nextTime, tenantState.getNextAsyncJobAcquisitionTime());
+            }
+            if (asyncExecutor.isResetExpiredJobEnabled()) {
+                nextTime = Math.min(nextTime, tenantState.getNextResetExpiredJobsTime());
+            }
+        }
+
+        if (nextTime == Long.MAX_VALUE) {
+            // No tenants (yet): adding one wakes up the loop
+            return asyncExecutor.getTenantIdleMaxWaitTimeInMillis();
+        }
+        return nextTime - System.currentTimeMillis();
+    }
+
+    /**
+     * Makes the acquisition loop start a new round immediately, for example when a tenant was added or a tenant quota got a free slot.
+     */
+    public void wakeUp() {
+        synchronized (MONITOR) {
+            wakeUpRequested = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    protected void sleep(long millisToWait) {
+        if (millisToWait > 0) {
+            try {
+                synchronized (MONITOR) {
+                    if (!isInterrupted && !wakeUpRequested) {
+                        isWaiting.set(true);
+                        MONITOR.wait(millisToWait);
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("multiplexed job acquisition wait interrupted");
+                }
+            } finally {
+                isWaiting.set(false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi tenant {@link AsyncExecutor} that uses one acquisition thread for all tenants (instead of three threads per tenant, like the
+ * {@link SharedExecutorServiceAsyncExecutor} and {@link ExecutorPerTenantAsyncExecutor}) and one shared thread pool for executing the jobs.
+ * 
+ * The tenants are visited in weighted round-robin order by a {@link MultiplexedTenantAcquisitionRunnable}: a tenant with weight n gets at most n
+ * acquisitions per round, and never has more jobs queued or executing than its maximum concurrent jobs. Tenants without backlog are polled less often.
+ */
+public class MultiplexedTenantAsyncExecutor extends DefaultAsyncJobExecutor implements TenantAwareAsyncExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiplexedTenantAsyncExecutor.class);
+
+    protected TenantInfoHolder tenantInfoHolder;
+
+    protected Map<String, TenantAcquisitionState> tenantAcquisitionStates = new ConcurrentHashMap<>();
+
+    protected Map<String, Integer> tenantWeights = new ConcurrentHashMap<>();
+    protected Map<String, Integer> tenantMaxConcurrentJobs = new ConcurrentHashMap<>();
+
+    /**
+     * The weight of tenants without an explicit weight.
+     */
+    protected int defaultTenantWeight = 1;
+
+    /**
+     * The maximum number of queued or executing jobs of tenants without an explicit value. 0 or less means no limit.
+     */
+    protected int defaultTenantMaxConcurrentJobs;
+
+    /**
+     * The maximum time between two async job acquisitions for a tenant for which no jobs were found in the previous acquisitions.
+     */
+    protected int tenantIdleMaxWaitTimeInMillis = 60 * 1000;
+
+    protected MultiplexedTenantAcquisitionRunnable acquisitionRunnable;
+    protected Thread acquisitionThread;
+
+    public MultiplexedTenantAsyncExecutor(TenantInfoHolder tenantInfoHolder) {
+        this.tenantInfoHolder = tenantInfoHolder;
+
+        setExecuteAsyncRunnableFactory(new ExecuteAsyncRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(JobInfo job, JobServiceConfiguration jobServiceConfiguration) {
+                final String tenantId = MultiplexedTenantAsyncExecutor.this.tenantInfoHolder.getCurrentTenantId();
+                return new TenantAwareExecuteAsyncRunnable(job, jobServiceConfiguration, MultiplexedTenantAsyncExecutor.this.tenantInfoHolder, tenantId) {
+
+                    @Override
+                    public void run() {
+                        try {
+                            super.run();
+                        } finally {
+                            jobFinished(tenantId);
+                        }
+                    }
+
+                };
+            }
+
+        });
+    }
+
+    @Override
+    public Set<String> getTenantIds() {
+        return tenantAcquisitionStates.keySet();
+    }
+
+    @Override
+    public void addTenantAsyncExecutor(String tenantId, boolean startExecutor) {
+        tenantAcquisitionStates.put(tenantId, new TenantAcquisitionState(tenantId,
+                tenantWeights.getOrDefault(tenantId, defaultTenantWeight),
+                tenantMaxConcurrentJobs.getOrDefault(tenantId, defaultTenantMaxConcurrentJobs)));
+
+        // The single acquisition thread picks up the new tenant in its next round
+        if (acquisitionRunnable != null) {
+            acquisitionRunnable.wakeUp();
+        }
+    }
+
+    @Override
+    public AsyncExecutor getTenantAsyncExecutor(String tenantId) {
+        return this;
+    }
+
+    @Override
+    public void removeTenantAsyncExecutor(String tenantId) {
+        tenantAcquisitionStates.remove(tenantId);
+    }
+
+    public Collection<TenantAcquisitionState> getTenantAcquisitionStates() {
+        return tenantAcquisitionStates.values();
+    }
+
+    public TenantAcquisitionState getTenantAcquisitionState(String tenantId) {
+        return tenantAcquisitionStates.get(tenantId);
+    }
+
+    @Override
+    protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+        TenantAcquisitionState tenantState = null;
+        String tenantId = tenantInfoHolder.getCurrentTenantId();
+        if (tenantId != null) {
+            tenantState = tenantAcquisitionStates.get(tenantId);
+        }
+
+        if (tenantState != null) {
+            tenantState.jobStarted();
+        }
+
+        boolean offered = super.executeAsyncJob(job, runnable);
+        if (!offered && tenantState != null) {
+            tenantState.jobFinished();
+        }
+        return offered;
+    }
+
+    protected void jobFinished(String tenantId) {
+        TenantAcquisitionState tenantState = tenantId != null ? tenantAcquisitionStates.get(tenantId) : null;
+        if (tenantState != null && tenantState.jobFinished() && acquisitionRunnable != null) {
+            acquisitionRunnable.wakeUp();
+        }
+    }
+
+    @Override
+    protected void initializeRunnables() {
+        // No per-type runnables: the multiplexed acquisition runnable does timer, async and expired job handling
+    }
+
+    @Override
+    protected void unlockOwnedJobs() {
+        for (String tenantId : tenantAcquisitionStates.keySet()) {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+            jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
+
+    @Override
+    protected void startAdditionalComponents() {
+        if (!isMessageQueueMode) {
+            initAsyncJobExecutionThreadPool();
+        }
+
+        if (unlockOwnedJobs) {
+            unlockOwnedJobs();
+        }
+
+        acquisitionRunnable = new MultiplexedTenantAcquisitionRunnable(this, tenantInfoHolder);
+        acquisitionThread = new Thread(acquisitionRunnable);
+        acquisitionThread.start();
+    }
+
+    @Override
+    protected void shutdownAdditionalComponents() {
+        if (acquisitionRunnable != null) {
+            acquisitionRunnable.stop();
+            try {
+                acquisitionThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the multiplexed job acquisition thread to terminate", e);
+            }
+            acquisitionRunnable = null;
+            acquisitionThread = null;
+        }
+
+        stopExecutingAsyncJobs();
+    }
+
+    public void setTenantWeight(String tenantId, int weight) {
+        tenantWeights.put(tenantId, weight);
+        TenantAcquisitionState tenantState = tenantAcquisitionStates.get(tenantId);
+        if (tenantState != null) {
+            tenantState.setWeight(weight);
+        }
+    }
+
+    public void setTenantMaxConcurrentJobs(String tenantId, int maxConcurrentJobs) {
+        tenantMaxConcurrentJobs.put(tenantId, maxConcurrentJobs);
+        TenantAcquisitionState tenantState = tenantAcquisitionStates.get(tenantId);
+        if (tenantState != null) {
+            tenantState.setMaxConcurrentJobs(maxConcurrentJobs);
+        }
+    }
+
+    public int getDefaultTenantWeight() {
+        return defaultTenantWeight;
+    }
+
+    public void setDefaultTenantWeight(int defaultTenantWeight) {
+        this.defaultTenantWeight = defaultTenantWeight;
+    }
+
+    public int getDefaultTenantMaxConcurrentJobs() {
+        return defaultTenantMaxConcurrentJobs;
+    }
+
+    public void setDefaultTenantMaxConcurrentJobs(int defaultTenantMaxConcurrentJobs) {
+        this.defaultTenantMaxConcurrentJobs = defaultTenantMaxConcurrentJobs;
+    }
+
+    public int getTenantIdleMaxWaitTimeInMillis() {
+        return tenantIdleMaxWaitTimeInMillis;
+    }
+
+    public void setTenantIdleMaxWaitTimeInMillis(int tenantIdleMaxWaitTimeInMillis) {
+        this.tenantIdleMaxWaitTimeInMillis = tenantIdleMaxWaitTimeInMillis;
+    }
+
+    public Thread getAcquisitionThread() {
+        return acquisitionThread;
+    }
+
+}
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.multitenant;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Acquisition bookkeeping for one tenant of a {@link MultiplexedTenantAsyncExecutor}:
+ * its weight and concurrency quota, the number of its jobs currently queued or executing
+ * and the moments at which the multiplexed acquisition loop should look at the tenant again.
+ */
+public class TenantAcquisitionState {
+
+    protected final String tenantId;
+
+    /**
+     * The maximum number of acquisitions done for this tenant in one round of the acquisition loop.
+     */
+    protected volatile int weight;
+
+    /**
+     * The maximum number of jobs of this tenant that can be queued or executing at the same time. 0 or less means no limit.
+     */
+    protected volatile int maxConcurrentJobs;
+
+    protected final AtomicInteger activeJobs = new AtomicInteger();
+
+    protected volatile boolean quotaExhausted;
+
+    protected volatile long nextAsyncJobAcquisitionTime;
+    protected volatile long nextTimerJobAcquisitionTime;
+    protected volatile long nextResetExpiredJobsTime;
+
+    protected volatile int consecutiveEmptyAcquisitions;
+
+    public TenantAcquisitionState(String tenantId, int weight, int maxConcurrentJobs) {
+        this.tenantId = tenantId;
+        this.weight = weight;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * @return The number of jobs that can still be handed to the executor for this tenant, {@link Integer#MAX_VALUE} when there is no quota.
+     */
+    public int getRemainingQuota() {
+        if (maxConcurrentJobs <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(0, maxConcurrentJobs - activeJobs.get());
+    }
+
+    public void jobStarted() {
+        activeJobs.incrementAndGet();
+    }
+
+    /**
+     * @return true if the tenant was waiting for a free slot in its quota, meaning the acquisition loop can be woken up.
+     */
+    public boolean jobFinished() {
+        activeJobs.decrementAndGet();
+        if (quotaExhausted) {
+            quotaExhausted = false;
+            return true;
+        }
+        return false;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getActiveJobs() {
+        return activeJobs.get();
+    }
+
+    public boolean isQuotaExhausted() {
+        return quotaExhausted;
+    }
+
+    public void setQuotaExhausted(boolean quotaExhausted) {
+        this.quotaExhausted = quotaExhausted;
+    }
+
+    public long getNextAsyncJobAcquisitionTime() {
+        return nextAsyncJobAcquisitionTime;
+    }
+
+    public void setNextAsyncJobAcquisitionTime(long nextAsyncJobAcquisitionTime) {
+        this.nextAsyncJobAcquisitionTime = nextAsyncJobAcquisitionTime;
+    }
+
+    public long getNextTimerJobAcquisitionTime() {
+        return nextTimerJobAcquisitionTime;
+    }
+
+    public void setNextTimerJobAcquisitionTime(long nextTimerJobAcquisitionTime) {
+        this.nextTimerJobAcquisitionTime = nextTimerJobAcquisitionTime;
+    }
+
+    public long getNextResetExpiredJobsTime() {
+        return nextResetExpiredJobsTime;
+    }
+
+    public void setNextResetExpiredJobsTime(long nextResetExpiredJobsTime) {
+        this.nextResetExpiredJobsTime = nextResetExpiredJobsTime;
+    }
+
+    public int getConsecutiveEmptyAcquisitions() {
+        return consecutiveEmptyAcquisitions;
+    }
+
+    public void setConsecutiveEmptyAcquisitions(int consecutiveEmptyAcquisitions) {
+        this.consecutiveEmptyAcquisitions = consecutiveEmptyAcquisitions;
+    }
+
+}
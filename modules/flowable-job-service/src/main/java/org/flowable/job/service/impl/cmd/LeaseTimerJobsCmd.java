@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Acquires the timer jobs that are due within the lookahead window of the async executor. 
+ * The lock of a leased timer job expires the timer lock time after its due date, 
+ * so another async executor can pick it up when the executor that leased it is gone.
+ */
+public class LeaseTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
+
+    protected final AsyncExecutor asyncExecutor;
+
+    public LeaseTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+        Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+        Date dueBefore = new Date(now.getTime() + asyncExecutor.getTimerLookaheadInMillis());
+
+        AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
+                .findTimerJobsToLease(dueBefore, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+        for (TimerJobEntity job : timerJobs) {
+            // This will trigger an optimistic locking exception when two concurrent executors try to lease the same timer
+            long leaseStart = job.getDuedate() != null ? Math.max(job.getDuedate().getTime(), now.getTime()) : now.getTime();
+            job.setLockOwner(asyncExecutor.getLockOwner());
+            job.setLockExpirationTime(new Date(leaseStart + asyncExecutor.getTimerLockTimeInMillis()));
+            acquiredJobs.addJob(job);
+        }
+
+        return acquiredJobs;
+    }
+}
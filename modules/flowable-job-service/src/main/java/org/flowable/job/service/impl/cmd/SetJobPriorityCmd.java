@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+public class SetJobPriorityCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final String jobId;
+    protected final int priority;
+
+    public SetJobPriorityCmd(String jobId, int priority) {
+        if (jobId == null || jobId.length() < 1) {
+            throw new FlowableIllegalArgumentException("The job id is mandatory, but '" + jobId + "' has been provided.");
+        }
+        this.jobId = jobId;
+        this.priority = priority;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        CommandContextUtil.getJobServiceConfiguration(commandContext).getJobService().setJobPriority(jobId, priority);
+        return null;
+    }
+}
@@ -73,6 +73,21 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Processes history json that wasn't stored in a history job, for example when replaying a history event log.
+     * A (not persisted) history job is passed to the transformers.
+     */
+    public void processHistoryJson(CommandContext commandContext, JsonNode historyNode) {
+        HistoryJobEntity job = CommandContextUtil.getJobServiceConfiguration(commandContext).getHistoryJobEntityManager().create();
+        if (historyNode.isArray()) {
+            for (JsonNode jsonNode : historyNode) {
+                processHistoryJson(commandContext, job, jsonNode);
+            }
+        } else {
+            processHistoryJson(commandContext, job, historyNode);
+        }
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
@@ -0,0 +1,294 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of history events, stored in a directory as a sequence of memory-mapped segment files.
+ *
+ * Each record is framed as its length (4 bytes), the CRC32 checksum of the payload (4 bytes) and the payload itself.
+ * A length of zero marks the end of the records in a segment (a new segment file is zero-filled when mapped).
+ * When a record doesn't fit in the current segment anymore, the log rotates to a new segment.
+ * Reading stops at the first record that is incomplete or has a wrong checksum, which is what remains of a write that was interrupted by a crash.
+ *
+ * Segments are named with an increasing sequence number, so their file names sort in the order they were written.
+ * The sequence of an empty directory starts at the current time in milliseconds, so the numbers keep increasing
+ * when the log is reopened after all its segments were replayed and deleted.
+ */
+public class HistoryEventLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventLog.class);
+
+    public static final String SEGMENT_FILE_PREFIX = "history-";
+    public static final String SEGMENT_FILE_SUFFIX = ".log";
+
+    protected static final int RECORD_HEADER_SIZE = 8;
+
+    protected File directory;
+    protected int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * When true, every append forces the written record to the storage device.
+     * Otherwise, flushing the mapped segment is left to the operating system, which survives a crash of the JVM but not of the machine.
+     */
+    protected boolean forceOnAppend;
+
+    protected long currentSegmentNumber;
+    protected File currentSegmentFile;
+    protected MappedByteBuffer currentSegment;
+
+    public HistoryEventLog(File directory) {
+        this.directory = directory;
+    }
+
+    public HistoryEventLog(File directory, int segmentSize) {
+        this(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the log for appending, continuing after the last valid record of the last segment.
+     */
+    public synchronized void open() {
+        if (currentSegment != null) {
+            return;
+        }
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new FlowableException("Could not create history event log directory " + directory);
+        }
+
+        List<File> segmentFiles = getSegmentFiles();
+        if (segmentFiles.isEmpty()) {
+            openSegment(System.currentTimeMillis(), 0);
+
+        } else {
+            File lastSegmentFile = segmentFiles.get(segmentFiles.size() - 1);
+            openSegment(getSegmentNumber(lastSegmentFile), 0);
+
+            // Skip the valid records and clear whatever is left of an interrupted write
+            int position = skipValidRecords(currentSegment);
+            currentSegment.position(position);
+            while (currentSegment.hasRemaining()) {
+                currentSegment.put((byte) 0);
+            }
+            currentSegment.position(position);
+        }
+    }
+
+    /**
+     * Appends the payload as one record, rotating to a new segment when the current one is full.
+     */
+    public synchronized void append(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new FlowableIllegalArgumentException("An empty payload can't be appended to the history event log");
+        }
+
+        if (currentSegment == null) {
+            open();
+        }
+
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (currentSegment.remaining() < recordSize) {
+            // A record larger than the segment size gets a segment of its own
+            long segmentNumber = currentSegment.position() > 0 ? currentSegmentNumber + 1 : currentSegmentNumber;
+            closeCurrentSegment();
+            openSegment(segmentNumber, recordSize);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        int position = currentSegment.position();
+        currentSegment.position(position + 4);
+        currentSegment.putInt((int) crc.getValue());
+        currentSegment.put(payload);
+
+        // The length is written last, so a reader never sees a record of which the payload isn't written yet
+        currentSegment.putInt(position, payload.length);
+
+        if (forceOnAppend) {
+            currentSegment.force();
+        }
+    }
+
+    /**
+     * Seals the current segment and continues appending in a new one.
+     * Records of sealed segments don't change anymore, see {@link #getSealedSegmentFiles()}.
+     */
+    public synchronized void rotate() {
+        if (currentSegment == null) {
+            open();
+        }
+        if (currentSegment.position() == 0) {
+            return; // Nothing written to the current segment yet
+        }
+
+        closeCurrentSegment();
+        openSegment(currentSegmentNumber + 1, 0);
+    }
+
+    public synchronized void close() {
+        if (currentSegment != null) {
+            closeCurrentSegment();
+        }
+    }
+
+    /**
+     * @return all segment files, in the order they were written
+     */
+    public List<File> getSegmentFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_FILE_PREFIX) && name.endsWith(SEGMENT_FILE_SUFFIX));
+        if (files == null) {
+            return new ArrayList<>();
+        }
+
+        Arrays.sort(files);
+        return new ArrayList<>(Arrays.asList(files));
+    }
+
+    /**
+     * @return the segment files that aren't appended to anymore, in the order they were written
+     */
+    public synchronized List<File> getSealedSegmentFiles() {
+        List<File> segmentFiles = getSegmentFiles();
+        if (currentSegmentFile != null) {
+            segmentFiles.remove(currentSegmentFile);
+        }
+        return segmentFiles;
+    }
+
+    /**
+     * Passes the payload of every valid record of the segment file to the consumer, in the order the records were appended.
+     *
+     * @return the number of records read
+     */
+    public static int readSegment(File segmentFile, Consumer<byte[]> payloadConsumer) {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(segmentFile, "r"); FileChannel channel = randomAccessFile.getChannel()) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            int recordCount = 0;
+            byte[] payload = readRecord(segment);
+            while (payload != null) {
+                payloadConsumer.accept(payload);
+                recordCount++;
+                payload = readRecord(segment);
+            }
+            return recordCount;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history event log segment " + segmentFile, e);
+        }
+    }
+
+    protected static int skipValidRecords(ByteBuffer segment) {
+        segment.position(0);
+        int position = 0;
+        while (readRecord(segment) != null) {
+            position = segment.position();
+        }
+        return position;
+    }
+
+    /**
+     * @return the payload of the record at the current position of the buffer, or null when there's no (valid) record anymore
+     */
+    protected static byte[] readRecord(ByteBuffer segment) {
+        if (segment.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        int position = segment.position();
+        int length = segment.getInt();
+        int checksum = segment.getInt();
+        if (length <= 0 || length > segment.remaining()) {
+            segment.position(position);
+            return null;
+        }
+
+        byte[] payload = new byte[length];
+        segment.get(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            LOGGER.warn("Invalid checksum for history event log record at position {}, ignoring the remainder of the segment", position);
+            segment.position(position);
+            return null;
+        }
+
+        return payload;
+    }
+
+    protected void openSegment(long segmentNumber, int minimumSize) {
+        File segmentFile = new File(directory, String.format("%s%020d%s", SEGMENT_FILE_PREFIX, segmentNumber, SEGMENT_FILE_SUFFIX));
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(segmentFile, "rw"); FileChannel channel = randomAccessFile.getChannel()) {
+            // The mapping stays valid after the channel is closed
+            long size = Math.max(channel.size(), Math.max(segmentSize, minimumSize));
+            currentSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            currentSegmentFile = segmentFile;
+            currentSegmentNumber = segmentNumber;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not open history event log segment " + segmentFile, e);
+        }
+    }
+
+    protected void closeCurrentSegment() {
+        currentSegment.force();
+        currentSegment = null;
+        currentSegmentFile = null;
+    }
+
+    public long getSegmentNumber(File segmentFile) {
+        String name = segmentFile.getName();
+        return Long.parseLong(name.substring(SEGMENT_FILE_PREFIX.length(), name.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public boolean isForceOnAppend() {
+        return forceOnAppend;
+    }
+
+    public void setForceOnAppend(boolean forceOnAppend) {
+        this.forceOnAppend = forceOnAppend;
+    }
+
+}
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link AsyncHistoryListener} that appends the historical data of a transaction to a {@link HistoryEventLog},
+ * instead of storing it as history jobs in the database. The data is appended when the transaction has committed,
+ * as one record containing a json array of the history events (the same json as a grouped async history job).
+ *
+ * Appending after the commit means the log never contains history of a transaction that was rolled back.
+ * The other side of that choice is a crash window: when the JVM stops between the commit of the transaction and the append,
+ * the history of that transaction is lost, as the log is the only place it was going to be stored.
+ * Use the regular async history (history jobs stored in the same transaction) when history may never be lost.
+ * With {@link HistoryEventLog#setForceOnAppend(boolean)}, an appended record also survives a crash of the machine.
+ *
+ * The log can be loaded into the history tables (or any other destination) later on using a {@link HistoryEventLogReplayer}.
+ * The async history executor doesn't need to be activated when using this listener.
+ */
+public class HistoryEventLogAsyncHistoryListener implements AsyncHistoryListener {
+
+    protected HistoryEventLog historyEventLog;
+
+    public HistoryEventLogAsyncHistoryListener(HistoryEventLog historyEventLog) {
+        this.historyEventLog = historyEventLog;
+    }
+
+    @Override
+    public List<HistoryJobEntity> historyDataGenerated(JobServiceConfiguration jobServiceConfiguration, List<ObjectNode> historyObjectNodes) {
+        ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
+        arrayNode.addAll(historyObjectNodes);
+
+        byte[] payload;
+        try {
+            payload = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(arrayNode);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize historic data for the history event log", e);
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> historyEventLog.append(payload));
+        } else {
+            historyEventLog.append(payload);
+        }
+
+        return Collections.emptyList();
+    }
+
+    public HistoryEventLog getHistoryEventLog() {
+        return historyEventLog;
+    }
+
+    public void setHistoryEventLog(HistoryEventLog historyEventLog) {
+        this.historyEventLog = historyEventLog;
+    }
+
+}
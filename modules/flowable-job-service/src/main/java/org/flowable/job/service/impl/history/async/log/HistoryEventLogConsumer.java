@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Receives the records of a {@link HistoryEventLog} when it is replayed by a {@link HistoryEventLogReplayer}.
+ */
+public interface HistoryEventLogConsumer {
+
+    /**
+     * Returns the position up to which records were consumed by earlier replays, or null when nothing was consumed yet.
+     * A replay skips the records before that position, so a replay that failed half-way can be retried.
+     */
+    HistoryEventLogPosition getConsumedPosition();
+
+    /**
+     * @param historyNodes a batch of records, in the order they were appended. Each record is the json array of history events of one transaction.
+     * @param position the position after the last record of the batch. It needs to be stored atomically with the consumed records
+     *          (e.g. in the same transaction) and returned by {@link #getConsumedPosition()}, so every record is consumed exactly once.
+     */
+    void consume(List<JsonNode> historyNodes, HistoryEventLogPosition position);
+
+}
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * A position in a {@link HistoryEventLog}: the number of records of a segment that come before it.
+ * Stored by a {@link HistoryEventLogConsumer} to know which records it has already consumed.
+ */
+public class HistoryEventLogPosition {
+
+    protected long segmentNumber;
+    protected int recordCount;
+
+    public HistoryEventLogPosition(long segmentNumber, int recordCount) {
+        this.segmentNumber = segmentNumber;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Parses a position formatted with {@link #toString()}.
+     */
+    public static HistoryEventLogPosition parse(String value) {
+        int separatorIndex = value.indexOf(':');
+        if (separatorIndex < 0) {
+            throw new FlowableIllegalArgumentException("Invalid history event log position " + value);
+        }
+        try {
+            return new HistoryEventLogPosition(Long.parseLong(value.substring(0, separatorIndex)), Integer.parseInt(value.substring(separatorIndex + 1)));
+        } catch (NumberFormatException e) {
+            throw new FlowableIllegalArgumentException("Invalid history event log position " + value, e);
+        }
+    }
+
+    public long getSegmentNumber() {
+        return segmentNumber;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public String toString() {
+        return segmentNumber + ":" + recordCount;
+    }
+
+}
@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Replays the sealed segments of a {@link HistoryEventLog} to a {@link HistoryEventLogConsumer}, in batches of records.
+ * A segment is deleted once all its records have been consumed, unless {@link #setDeleteReplayedSegments(boolean)} is set to false.
+ *
+ * Every batch is passed with the position after its last record, which the consumer stores together with the batch.
+ * A replay starts after the position returned by the consumer, so records consumed by a replay that failed half-way
+ * (or of a segment that couldn't be deleted) are not consumed again.
+ *
+ * To also replay the records that were appended to the current segment, {@link HistoryEventLog#rotate()} the log first.
+ */
+public class HistoryEventLogReplayer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventLogReplayer.class);
+
+    protected HistoryEventLog historyEventLog;
+    protected ObjectMapper objectMapper;
+    protected int batchSize = 100;
+    protected boolean deleteReplayedSegments = true;
+
+    public HistoryEventLogReplayer(HistoryEventLog historyEventLog, ObjectMapper objectMapper) {
+        this.historyEventLog = historyEventLog;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the number of replayed records
+     */
+    public long replay(HistoryEventLogConsumer consumer) {
+        HistoryEventLogPosition consumedPosition = consumer.getConsumedPosition();
+
+        long recordCount = 0;
+        for (File segmentFile : historyEventLog.getSealedSegmentFiles()) {
+            long segmentNumber = historyEventLog.getSegmentNumber(segmentFile);
+            if (consumedPosition == null || segmentNumber > consumedPosition.getSegmentNumber()) {
+                recordCount += replaySegment(segmentFile, segmentNumber, 0, consumer);
+            } else if (segmentNumber == consumedPosition.getSegmentNumber()) {
+                recordCount += replaySegment(segmentFile, segmentNumber, consumedPosition.getRecordCount(), consumer);
+            } else {
+                LOGGER.debug("History event log segment {} was already replayed", segmentFile);
+            }
+
+            if (deleteReplayedSegments && !segmentFile.delete()) {
+                LOGGER.warn("Could not delete replayed history event log segment {}", segmentFile);
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * @return the number of replayed records, not counting the skipped ones
+     */
+    protected int replaySegment(File segmentFile, long segmentNumber, int skippedRecordCount, HistoryEventLogConsumer consumer) {
+        LOGGER.debug("Replaying history event log segment {} from record {}", segmentFile, skippedRecordCount);
+
+        List<JsonNode> batch = new ArrayList<>(batchSize);
+        int[] recordIndex = new int[1];
+        int recordCount = HistoryEventLog.readSegment(segmentFile, payload -> {
+            recordIndex[0]++;
+            if (recordIndex[0] <= skippedRecordCount) {
+                return;
+            }
+
+            batch.add(readJson(segmentFile, payload));
+            if (batch.size() >= batchSize) {
+                consumer.consume(batch, new HistoryEventLogPosition(segmentNumber, recordIndex[0]));
+                batch.clear();
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            consumer.consume(batch, new HistoryEventLogPosition(segmentNumber, recordCount));
+        }
+        return Math.max(0, recordCount - skippedRecordCount);
+    }
+
+    protected JsonNode readJson(File segmentFile, byte[] payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history json from history event log segment " + segmentFile, e);
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isDeleteReplayedSegments() {
+        return deleteReplayedSegments;
+    }
+
+    public void setDeleteReplayedSegments(boolean deleteReplayedSegments) {
+        this.deleteReplayedSegments = deleteReplayedSegments;
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.log;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link HistoryEventLogConsumer} that loads the replayed history events into the history tables,
+ * using the same json transformers as the async history executor. Each batch is stored in one transaction,
+ * together with the position in the log after the batch (as a property in ACT_GE_PROPERTY).
+ *
+ * Every node has its own log, so every node needs its own {@link #positionPropertyName}.
+ */
+public class HistoryTablesHistoryEventLogConsumer implements HistoryEventLogConsumer {
+
+    public static final String DEFAULT_POSITION_PROPERTY_NAME = "history.event.log.position";
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected String positionPropertyName;
+
+    public HistoryTablesHistoryEventLogConsumer(JobServiceConfiguration jobServiceConfiguration) {
+        this(jobServiceConfiguration, DEFAULT_POSITION_PROPERTY_NAME);
+    }
+
+    public HistoryTablesHistoryEventLogConsumer(JobServiceConfiguration jobServiceConfiguration, String positionPropertyName) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.positionPropertyName = positionPropertyName;
+    }
+
+    @Override
+    public HistoryEventLogPosition getConsumedPosition() {
+        String value = jobServiceConfiguration.getCommandExecutor().execute(commandContext ->
+                (String) CommandContextUtil.getDbSqlSession(commandContext).selectOne("selectHistoryEventLogPosition", positionPropertyName));
+        return value != null ? HistoryEventLogPosition.parse(value) : null;
+    }
+
+    @Override
+    public void consume(List<JsonNode> historyNodes, HistoryEventLogPosition position) {
+        HistoryJobHandler historyJobHandler = jobServiceConfiguration.getHistoryJobHandlers().get(jobServiceConfiguration.getJobTypeAsyncHistory());
+        if (!(historyJobHandler instanceof AbstractAsyncHistoryJobHandler)) {
+            throw new FlowableException("No async history job handler found for job type " + jobServiceConfiguration.getJobTypeAsyncHistory());
+        }
+
+        AbstractAsyncHistoryJobHandler asyncHistoryJobHandler = (AbstractAsyncHistoryJobHandler) historyJobHandler;
+        jobServiceConfiguration.getCommandExecutor().execute(commandContext -> {
+            for (JsonNode historyNode : historyNodes) {
+                asyncHistoryJobHandler.processHistoryJson(commandContext, historyNode);
+            }
+            storePosition(commandContext, position);
+            return null;
+        });
+    }
+
+    protected void storePosition(CommandContext commandContext, HistoryEventLogPosition position) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("name", positionPropertyName);
+        parameters.put("value", position.toString());
+
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        if (dbSqlSession.update("updateHistoryEventLogPosition", parameters) == 0) {
+            dbSqlSession.update("insertHistoryEventLogPosition", parameters);
+        }
+    }
+
+    public String getPositionPropertyName() {
+        return positionPropertyName;
+    }
+
+    public void setPositionPropertyName(String positionPropertyName) {
+        this.positionPropertyName = positionPropertyName;
+    }
+
+}
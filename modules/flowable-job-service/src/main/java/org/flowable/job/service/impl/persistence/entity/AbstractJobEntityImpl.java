@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntity;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 
@@ -26,7 +28,7 @@ import org.flowable.job.service.JobServiceConfiguration;
  *
  * @author Tijs Rademakers
  */
-public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, Serializable {
+public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, IndexedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +46,8 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     protected boolean isExclusive = DEFAULT_EXCLUSIVE;
 
+    protected int priority = DEFAULT_PRIORITY;
+
     protected int retries;
 
     protected int maxIterations;
@@ -64,6 +68,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     public Object getPersistentState() {
         Map<String, Object> persistentState = new HashMap<>();
         persistentState.put("retries", retries);
+        persistentState.put("priority", priority);
         persistentState.put("createTime", createTime);
         persistentState.put("duedate", duedate);
         persistentState.put("exceptionMessage", exceptionMessage);
@@ -111,6 +116,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        indexedPropertyChanged();
     }
 
     @Override
@@ -131,6 +137,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        indexedPropertyChanged();
     }
 
     @Override
@@ -143,6 +150,16 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         this.isExclusive = isExclusive;
     }
 
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
     @Override
     public String getProcessDefinitionId() {
         return processDefinitionId;
@@ -161,6 +178,19 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        indexedPropertyChanged();
+    }
+
+    @Override
+    public String getIndexValue(String indexName) {
+        if (CachedEntityIndex.EXECUTION_ID.equals(indexName)) {
+            return executionId;
+        } else if (CachedEntityIndex.PROCESS_INSTANCE_ID.equals(indexName)) {
+            return processInstanceId;
+        } else if (CachedEntityIndex.SCOPE_ID.equals(indexName)) {
+            return scopeId;
+        }
+        return null;
     }
 
     @Override
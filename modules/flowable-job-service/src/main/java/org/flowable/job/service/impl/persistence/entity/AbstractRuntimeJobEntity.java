@@ -49,6 +49,8 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
 
     void setExclusive(boolean isExclusive);
 
+    void setPriority(int priority);
+
     String getRepeat();
 
     void setRepeat(String repeat);
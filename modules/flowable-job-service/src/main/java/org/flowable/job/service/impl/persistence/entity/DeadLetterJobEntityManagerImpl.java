@@ -93,6 +93,7 @@ public class DeadLetterJobEntityManagerImpl extends AbstractEntityManager<DeadLe
         newJobEntity.setCustomValues(job.getCustomValues());
         newJobEntity.setJobHandlerType(job.getJobHandlerType());
         newJobEntity.setExclusive(job.isExclusive());
+        newJobEntity.setPriority(job.getPriority());
         newJobEntity.setRepeat(job.getRepeat());
         newJobEntity.setRetries(job.getRetries());
         newJobEntity.setEndDate(job.getEndDate());
@@ -20,4 +20,11 @@ package org.flowable.job.service.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The partition of an exclusive job when {@link org.flowable.job.service.impl.asyncexecutor.ExclusiveJobAffinity} is used, null otherwise.
+     */
+    Integer getPartition();
+
+    void setPartition(Integer partition);
+
 }
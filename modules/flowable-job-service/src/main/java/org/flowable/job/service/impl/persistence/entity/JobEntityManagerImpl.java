@@ -22,6 +22,7 @@ import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.ExclusiveJobAffinity;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
 
 /**
@@ -60,6 +61,12 @@ public class JobEntityManagerImpl extends JobInfoEntityManagerImpl<JobEntity> im
         }
 
         jobEntity.setCreateTime(getJobServiceConfiguration().getClock().getCurrentTime());
+
+        ExclusiveJobAffinity exclusiveJobAffinity = ExclusiveJobAffinity.getExclusiveJobAffinity(getJobServiceConfiguration().getAsyncExecutor());
+        if (exclusiveJobAffinity != null) {
+            exclusiveJobAffinity.assignPartition(jobEntity);
+        }
+
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -93,6 +93,7 @@ public class SuspendedJobEntityManagerImpl extends AbstractEntityManager<Suspend
         newSuspendedJobEntity.setCustomValues(job.getCustomValues());
         newSuspendedJobEntity.setJobHandlerType(job.getJobHandlerType());
         newSuspendedJobEntity.setExclusive(job.isExclusive());
+        newSuspendedJobEntity.setPriority(job.getPriority());
         newSuspendedJobEntity.setRepeat(job.getRepeat());
         newSuspendedJobEntity.setRetries(job.getRetries());
         newSuspendedJobEntity.setEndDate(job.getEndDate());
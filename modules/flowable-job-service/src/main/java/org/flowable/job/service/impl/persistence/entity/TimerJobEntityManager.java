@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +41,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the {@link TimerJobEntity} instances with a due date before the given date that are not locked, 
+     * or of which the lock has expired. Used when timers are leased ahead of their due date.
+     */
+    List<TimerJobEntity> findTimerJobsToLease(Date dueBefore, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
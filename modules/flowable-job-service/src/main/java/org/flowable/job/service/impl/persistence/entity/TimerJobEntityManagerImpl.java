@@ -66,6 +66,11 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsToLease(Date dueBefore, Page page) {
+        return jobDataManager.findTimerJobsToLease(dueBefore, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -159,6 +164,7 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         newTimerEntity.setCustomValues(te.getCustomValues());
         newTimerEntity.setJobHandlerType(te.getJobHandlerType());
         newTimerEntity.setExclusive(te.isExclusive());
+        newTimerEntity.setPriority(te.getPriority());
         newTimerEntity.setRepeat(te.getRepeat());
         newTimerEntity.setRetries(te.getRetries());
         newTimerEntity.setEndDate(te.getEndDate());
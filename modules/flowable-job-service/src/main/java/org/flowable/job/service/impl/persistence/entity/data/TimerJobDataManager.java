@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -28,6 +29,8 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
 
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    List<TimerJobEntity> findTimerJobsToLease(Date dueBefore, Page page);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
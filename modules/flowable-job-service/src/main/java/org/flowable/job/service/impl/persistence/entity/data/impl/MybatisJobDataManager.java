@@ -20,10 +20,12 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.ExclusiveJobAffinity;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
@@ -62,8 +64,18 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     public List<JobEntity> findJobsToExecute(Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
-        
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+
+        // With exclusive job affinity, only the partitions owned by this node (and the jobs without partition) are acquired
+        ExclusiveJobAffinity exclusiveJobAffinity = ExclusiveJobAffinity.getExclusiveJobAffinity(jobServiceConfiguration.getAsyncExecutor());
+        if (exclusiveJobAffinity != null) {
+            params.put("partitionLowerBound", exclusiveJobAffinity.getOwnedPartitionLowerBound());
+            params.put("partitionUpperBound", exclusiveJobAffinity.getOwnedPartitionUpperBound());
+        }
+
+        // Jobs with a higher priority are acquired first
+        ListQueryParameterObject parameter = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        parameter.setOrderByColumns("RES.PRIORITY_ desc, RES.ID_ asc");
+        return getDbSqlSession().selectList("selectJobsToExecute", parameter);
     }
 
     @Override
@@ -20,6 +20,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -82,6 +83,20 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsToLease(Date dueBefore, Page page) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        params.put("dueBefore", dueBefore);
+
+        // The timers that are due first are leased first, so a full page never pushes an earlier timer to the next acquisition
+        ListQueryParameterObject parameter = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        parameter.setOrderByColumns("RES.DUEDATE_ asc, RES.ID_ asc");
+        return getDbSqlSession().selectList("selectTimerJobsToLease", parameter);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 
@@ -25,4 +26,14 @@ public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapt
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
+}
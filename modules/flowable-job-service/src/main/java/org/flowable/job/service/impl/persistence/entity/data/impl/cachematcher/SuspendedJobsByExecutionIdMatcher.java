@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 
@@ -25,4 +26,14 @@ public class SuspendedJobsByExecutionIdMatcher extends CachedEntityMatcherAdapte
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
+}
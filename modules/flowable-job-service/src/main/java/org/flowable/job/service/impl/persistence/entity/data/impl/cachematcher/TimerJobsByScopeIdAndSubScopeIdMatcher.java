@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
@@ -31,4 +32,15 @@ public class TimerJobsByScopeIdAndSubScopeIdMatcher extends CachedEntityMatcherA
             && timerJobEntity.getSubScopeId() != null && timerJobEntity.getSubScopeId().equals(subScopeId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.SCOPE_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("scopeId");
+    }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+
+/**
+ * Applies the job priority configured on a model element (for example the flowable:jobPriority attribute of a BPMN activity or CMMN task) to a job.
+ */
+public class JobPriorityUtil {
+
+    /**
+     * @param jobPriority a number or an expression resolving to a number. Nothing is done when empty.
+     */
+    public static void applyJobPriority(AbstractRuntimeJobEntity job, String jobPriority, ExpressionManager expressionManager, VariableContainer variableContainer) {
+        if (StringUtils.isEmpty(jobPriority)) {
+            return;
+        }
+
+        Object value = jobPriority;
+        if (expressionManager != null && variableContainer != null && (jobPriority.contains("${") || jobPriority.contains("#{"))) {
+            value = expressionManager.createExpression(jobPriority).getValue(variableContainer);
+        }
+
+        if (value instanceof Number) {
+            job.setPriority(((Number) value).intValue());
+
+        } else if (value != null) {
+            try {
+                job.setPriority(Integer.parseInt(value.toString().trim()));
+            } catch (NumberFormatException e) {
+                throw new FlowableIllegalArgumentException("Job priority '" + jobPriority + "' does not resolve to an integer value: " + value, e);
+            }
+        }
+    }
+
+}
@@ -15,6 +15,8 @@ create table ACT_RU_JOB (
     RETRIES_ int,
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
+    PRIORITY_ int,
+    PARTITION_ int,
     DUEDATE_ datetime NULL,
     REPEAT_ nvarchar(255),
     HANDLER_TYPE_ nvarchar(255),
@@ -42,6 +44,7 @@ create table ACT_RU_TIMER_JOB (
     RETRIES_ int,
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
+    PRIORITY_ int,
     DUEDATE_ datetime NULL,
     REPEAT_ nvarchar(255),
     HANDLER_TYPE_ nvarchar(255),
@@ -67,6 +70,7 @@ create table ACT_RU_SUSPENDED_JOB (
     RETRIES_ int,
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
+    PRIORITY_ int,
     DUEDATE_ datetime NULL,
     REPEAT_ nvarchar(255),
     HANDLER_TYPE_ nvarchar(255),
@@ -91,6 +95,7 @@ create table ACT_RU_DEADLETTER_JOB (
     SCOPE_DEFINITION_ID_ nvarchar(255),
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
+    PRIORITY_ int,
     DUEDATE_ datetime NULL,
     REPEAT_ nvarchar(255),
     HANDLER_TYPE_ nvarchar(255),
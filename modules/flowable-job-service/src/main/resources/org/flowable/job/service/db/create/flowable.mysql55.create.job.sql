@@ -15,6 +15,8 @@ create table ACT_RU_JOB (
     RETRIES_ integer,
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
+    PRIORITY_ integer,
+    PARTITION_ integer,
     DUEDATE_ timestamp NULL,
     REPEAT_ varchar(255),
     HANDLER_TYPE_ varchar(255),
@@ -42,6 +44,7 @@ create table ACT_RU_TIMER_JOB (
     RETRIES_ integer,
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
+    PRIORITY_ integer,
     DUEDATE_ timestamp NULL,
     REPEAT_ varchar(255),
     HANDLER_TYPE_ varchar(255),
@@ -67,6 +70,7 @@ create table ACT_RU_SUSPENDED_JOB (
     RETRIES_ integer,
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
+    PRIORITY_ integer,
     DUEDATE_ timestamp NULL,
     REPEAT_ varchar(255),
     HANDLER_TYPE_ varchar(255),
@@ -91,6 +95,7 @@ create table ACT_RU_DEADLETTER_JOB (
     SCOPE_DEFINITION_ID_ varchar(255),
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
+    PRIORITY_ integer,
     DUEDATE_ timestamp NULL,
     REPEAT_ varchar(255),
     HANDLER_TYPE_ varchar(255),
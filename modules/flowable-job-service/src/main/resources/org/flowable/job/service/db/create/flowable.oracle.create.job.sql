@@ -15,6 +15,8 @@ create table ACT_RU_JOB (
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
+    PRIORITY_ INTEGER,
+    PARTITION_ INTEGER,
     DUEDATE_ TIMESTAMP(6),
     REPEAT_ NVARCHAR2(255),
     HANDLER_TYPE_ NVARCHAR2(255),
@@ -42,6 +44,7 @@ create table ACT_RU_TIMER_JOB (
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
+    PRIORITY_ INTEGER,
     DUEDATE_ TIMESTAMP(6),
     REPEAT_ NVARCHAR2(255),
     HANDLER_TYPE_ NVARCHAR2(255),
@@ -67,6 +70,7 @@ create table ACT_RU_SUSPENDED_JOB (
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
+    PRIORITY_ INTEGER,
     DUEDATE_ TIMESTAMP(6),
     REPEAT_ NVARCHAR2(255),
     HANDLER_TYPE_ NVARCHAR2(255),
@@ -91,6 +95,7 @@ create table ACT_RU_DEADLETTER_JOB (
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
+    PRIORITY_ INTEGER,
     DUEDATE_ TIMESTAMP(6),
     REPEAT_ NVARCHAR2(255),
     HANDLER_TYPE_ NVARCHAR2(255),
@@ -1 +1,7 @@
+alter table ACT_RU_JOB add PRIORITY_ integer;
+alter table ACT_RU_TIMER_JOB add PRIORITY_ integer;
+alter table ACT_RU_SUSPENDED_JOB add PRIORITY_ integer;
+alter table ACT_RU_DEADLETTER_JOB add PRIORITY_ integer;
+alter table ACT_RU_JOB add PARTITION_ integer;
+
 update ACT_GE_PROPERTY set VALUE_ = '6.5.0.0' where NAME_ = 'job.schema.version';
\ No newline at end of file
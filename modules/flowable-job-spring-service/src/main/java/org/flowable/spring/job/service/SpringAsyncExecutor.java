@@ -90,6 +90,21 @@ public class SpringAsyncExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    public boolean executeTask(Runnable task) {
+        if (taskExecutor == null) {
+            task.run();
+            return true;
+        }
+
+        try {
+            taskExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
     @Override
     protected void initAsyncJobExecutionThreadPool() {
         // Do nothing, using the Spring taskExecutor
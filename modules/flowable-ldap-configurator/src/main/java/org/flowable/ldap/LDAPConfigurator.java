@@ -57,10 +57,16 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
             }
         }
         
+        LDAPUserCache ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPUserCache(ldapConfiguration.getUserCacheSize(),
+                    ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration.getClock());
+        }
+        
         super.configure(engineConfiguration);
         
         getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, ldapUserCache));
     }
 
     // Getters and Setters //////////////////////////////////////////////////
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.ldap;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.impl.util.EngineServiceUtil;
+import org.flowable.idm.api.User;
+import org.flowable.ldap.LDAPConnectionPool;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.flowable.ldap.LDAPUserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration("classpath:flowable-context-ldap-pool.xml")
+public class LdapConnectionPoolTest extends LDAPTestCase {
+
+    protected LDAPIdentityServiceImpl ldapIdentityService;
+
+    @BeforeEach
+    protected void setUp() {
+        ldapIdentityService = (LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration);
+        ldapIdentityService.getLdapUserCache().clear();
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception {
+        LDAPConnectionPool connectionPool = ldapIdentityService.getLdapConfigurator().getConnectionPool();
+
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        assertEquals(0, connectionPool.getNumberOfActiveContexts());
+        assertEquals(1, connectionPool.getNumberOfIdleContexts());
+
+        // More concurrent calls than the pool size: calls wait for a free connection
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executorService.submit(() -> taskService.createTaskQuery().taskCandidateUser("pepe").count()));
+        }
+        for (Future<Long> future : futures) {
+            assertEquals(0L, future.get().longValue());
+        }
+        executorService.shutdown();
+
+        assertEquals(0, connectionPool.getNumberOfActiveContexts());
+        assertTrue(connectionPool.getNumberOfIdleContexts() <= 2);
+
+        // Password checks bind as the user and are not influenced by the pooled connections
+        assertTrue(identityService.checkPassword("kermit", "pass"));
+        assertFalse(identityService.checkPassword("kermit", "blah"));
+    }
+
+    @Test
+    public void testUserQueriesAreCached() {
+        LDAPUserCache userCache = ldapIdentityService.getLdapUserCache();
+
+        User user = identityService.createUserQuery().userId("fozzie").singleResult();
+        assertEquals("Fozzie", user.getFirstName());
+        assertEquals(1, userCache.size());
+        assertNotNull(userCache.get("id:fozzie"));
+
+        assertEquals("Fozzie", identityService.createUserQuery().userId("fozzie").singleResult().getFirstName());
+        assertEquals(1, userCache.size());
+
+        assertTrue(identityService.createUserQuery().list().size() > 1);
+        assertEquals(2, userCache.size());
+
+        // Entries expire after 30 minutes
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (45 * 60 * 1000)));
+        try {
+            assertNull(userCache.get("id:fozzie"));
+            assertEquals("Fozzie", identityService.createUserQuery().userId("fozzie").singleResult().getFirstName());
+            assertNotNull(userCache.get("id:fozzie"));
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+}
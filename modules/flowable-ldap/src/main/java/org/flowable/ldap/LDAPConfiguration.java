@@ -80,6 +80,18 @@ public class LDAPConfiguration {
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
 
+    // User query caching
+    protected int userCacheSize = -1;
+    protected long userCacheExpirationTime = 300000L; // default: five minutes
+
+    // Connection pooling
+    protected boolean connectionPoolEnabled;
+    protected int connectionPoolMaxSize = 8;
+    protected long connectionPoolMaxWaitTime = 5000L;
+    protected long connectionPoolIdleTimeout = 300000L;
+    protected boolean connectionPoolValidateOnBorrow = true;
+    protected LDAPConnectionPool connectionPool;
+
     // Getters and Setters //////////////////////////////////////////////////
 
     public String getServer() {
@@ -454,4 +466,102 @@ public class LDAPConfiguration {
         this.groupCacheListener = groupCacheListener;
     }
 
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    /**
+     * Allows to set the size of the {@link LDAPUserCache}, which caches the results of user queries (by id, by name and all users).
+     * <p>
+     * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+     */
+    public void setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
+
+    public long getUserCacheExpirationTime() {
+        return userCacheExpirationTime;
+    }
+
+    /**
+     * Sets the time in milliseconds the result of a user query is kept in the {@link LDAPUserCache} (see {@link #setUserCacheSize(int)}).
+     * <p>
+     * By default set to five minutes.
+     */
+    public void setUserCacheExpirationTime(long userCacheExpirationTime) {
+        this.userCacheExpirationTime = userCacheExpirationTime;
+    }
+
+    public boolean isConnectionPoolEnabled() {
+        return connectionPoolEnabled;
+    }
+
+    /**
+     * When enabled, the {@link LDAPTemplate} reuses directory contexts (bound with the configured user) through a {@link LDAPConnectionPool},
+     * instead of opening and binding a new connection for every LDAP call. Disabled by default.
+     * <p>
+     * Password checks always bind with a new connection for the user that is checked.
+     */
+    public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+        this.connectionPoolEnabled = connectionPoolEnabled;
+    }
+
+    public int getConnectionPoolMaxSize() {
+        return connectionPoolMaxSize;
+    }
+
+    /**
+     * The maximum number of directory contexts that are in use or idle at the same time. By default 8.
+     */
+    public void setConnectionPoolMaxSize(int connectionPoolMaxSize) {
+        this.connectionPoolMaxSize = connectionPoolMaxSize;
+    }
+
+    public long getConnectionPoolMaxWaitTime() {
+        return connectionPoolMaxWaitTime;
+    }
+
+    /**
+     * The time in milliseconds to wait for a directory context when all contexts of the pool are in use. By default 5 seconds.
+     */
+    public void setConnectionPoolMaxWaitTime(long connectionPoolMaxWaitTime) {
+        this.connectionPoolMaxWaitTime = connectionPoolMaxWaitTime;
+    }
+
+    public long getConnectionPoolIdleTimeout() {
+        return connectionPoolIdleTimeout;
+    }
+
+    /**
+     * The time in milliseconds after which an idle directory context is closed instead of being reused. By default 5 minutes.
+     */
+    public void setConnectionPoolIdleTimeout(long connectionPoolIdleTimeout) {
+        this.connectionPoolIdleTimeout = connectionPoolIdleTimeout;
+    }
+
+    public boolean isConnectionPoolValidateOnBorrow() {
+        return connectionPoolValidateOnBorrow;
+    }
+
+    /**
+     * When true (the default), an idle directory context is checked with a lightweight read of the root DSE before it is reused.
+     */
+    public void setConnectionPoolValidateOnBorrow(boolean connectionPoolValidateOnBorrow) {
+        this.connectionPoolValidateOnBorrow = connectionPoolValidateOnBorrow;
+    }
+
+    /**
+     * Returns the {@link LDAPConnectionPool} for this configuration, creating it when first needed.
+     */
+    public synchronized LDAPConnectionPool getConnectionPool() {
+        if (connectionPool == null) {
+            connectionPool = new LDAPConnectionPool(this);
+        }
+        return connectionPool;
+    }
+
+    public synchronized void setConnectionPool(LDAPConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
 }
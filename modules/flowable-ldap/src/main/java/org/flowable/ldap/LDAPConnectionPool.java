@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.NamingException;
+import javax.naming.directory.InitialDirContext;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small pool of {@link InitialDirContext} instances bound with the user of the {@link LDAPConfiguration}, used by the {@link LDAPTemplate}
+ * when {@link LDAPConfiguration#isConnectionPoolEnabled()} is true.
+ * 
+ * The amount of contexts (in use and idle) is limited by {@link LDAPConfiguration#getConnectionPoolMaxSize()}. Idle contexts are closed when they
+ * were not used for longer than {@link LDAPConfiguration#getConnectionPoolIdleTimeout()} and are optionally validated before being reused.
+ */
+public class LDAPConnectionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionPool.class);
+
+    protected final LDAPConfiguration ldapConfiguration;
+    protected final Semaphore permits;
+    protected final Deque<PooledContext> idleContexts = new ArrayDeque<>();
+    protected volatile boolean closed;
+
+    public LDAPConnectionPool(LDAPConfiguration ldapConfiguration) {
+        this.ldapConfiguration = ldapConfiguration;
+        this.permits = new Semaphore(Math.max(1, ldapConfiguration.getConnectionPoolMaxSize()), true);
+    }
+
+    /**
+     * Returns an idle context or creates a new one. Every borrowed context must be given back through {@link #returnContext(InitialDirContext, boolean)}.
+     */
+    public InitialDirContext borrowContext() {
+        if (closed) {
+            throw new FlowableException("LDAP connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(ldapConfiguration.getConnectionPoolMaxWaitTime(), TimeUnit.MILLISECONDS)) {
+                throw new FlowableException("Timeout while waiting for an LDAP connection, all " + ldapConfiguration.getConnectionPoolMaxSize() + " connections are in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for an LDAP connection", e);
+        }
+
+        try {
+            PooledContext pooledContext;
+            while ((pooledContext = pollIdleContext()) != null) {
+                if (System.currentTimeMillis() - pooledContext.lastUsed > ldapConfiguration.getConnectionPoolIdleTimeout()) {
+                    LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+
+                } else if (ldapConfiguration.isConnectionPoolValidateOnBorrow() && !isValid(pooledContext.context)) {
+                    LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+
+                } else {
+                    return pooledContext.context;
+                }
+            }
+
+            return LDAPConnectionUtil.creatDirectoryContext(ldapConfiguration);
+
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives back a context that was borrowed. Contexts that are not reusable (e.g. because an exception happened while using them) are closed.
+     */
+    public void returnContext(InitialDirContext context, boolean reusable) {
+        try {
+            if (reusable && !closed) {
+                synchronized (idleContexts) {
+                    idleContexts.push(new PooledContext(context, System.currentTimeMillis()));
+                }
+            } else {
+                LDAPConnectionUtil.closeDirectoryContext(context);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes all idle contexts. Contexts that are in use are closed when they are given back.
+     */
+    public void close() {
+        closed = true;
+        PooledContext pooledContext;
+        while ((pooledContext = pollIdleContext()) != null) {
+            LDAPConnectionUtil.closeDirectoryContext(pooledContext.context);
+        }
+    }
+
+    public int getNumberOfIdleContexts() {
+        synchronized (idleContexts) {
+            return idleContexts.size();
+        }
+    }
+
+    public int getNumberOfActiveContexts() {
+        return Math.max(1, ldapConfiguration.getConnectionPoolMaxSize()) - permits.availablePermits();
+    }
+
+    protected PooledContext pollIdleContext() {
+        synchronized (idleContexts) {
+            return idleContexts.poll();
+        }
+    }
+
+    protected boolean isValid(InitialDirContext context) {
+        try {
+            context.getAttributes("", new String[] { "objectClass" });
+            return true;
+        } catch (NamingException e) {
+            LOGGER.debug("Pooled LDAP connection is no longer valid: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    protected static class PooledContext {
+
+        protected final InitialDirContext context;
+        protected final long lastUsed;
+
+        public PooledContext(InitialDirContext context, long lastUsed) {
+            this.context = context;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+}
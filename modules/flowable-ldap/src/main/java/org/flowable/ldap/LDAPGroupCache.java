@@ -27,6 +27,8 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache is safe to use from multiple threads: as the LRU bookkeeping changes the underlying map on every read, all access to it is serialized.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
@@ -37,7 +39,7 @@ public class LDAPGroupCache {
     protected Map<String, LDAPGroupCacheEntry> groupCache;
     protected long expirationTime;
 
-    protected LDAPGroupCacheListener ldapCacheListener;
+    protected volatile LDAPGroupCacheListener ldapCacheListener;
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this(cacheSize, expirationTime, () -> clockReader);
@@ -68,13 +70,26 @@ public class LDAPGroupCache {
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
+        LDAPGroupCacheEntry cacheEntry = new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups);
+        synchronized (this) {
+            this.groupCache.put(userId, cacheEntry);
+        }
     }
 
     public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+        long now = clockReader.get().getCurrentTime().getTime();
+        LDAPGroupCacheEntry cacheEntry;
+        boolean expired = false;
+        synchronized (this) {
+            cacheEntry = groupCache.get(userId);
+            if (cacheEntry != null && (now - cacheEntry.getTimestamp().getTime()) >= expirationTime) {
+                this.groupCache.remove(userId);
+                expired = true;
+            }
+        }
+
         if (cacheEntry != null) {
-            if ((clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
+            if (!expired) {
 
                 if (ldapCacheListener != null) {
                     ldapCacheListener.cacheHit(userId);
@@ -84,8 +99,6 @@ public class LDAPGroupCache {
 
             } else {
 
-                this.groupCache.remove(userId);
-
                 if (ldapCacheListener != null) {
                     ldapCacheListener.cacheExpired(userId);
                     ldapCacheListener.cacheEviction(userId);
@@ -101,7 +114,7 @@ public class LDAPGroupCache {
         return null;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         groupCache.clear();
     }
 
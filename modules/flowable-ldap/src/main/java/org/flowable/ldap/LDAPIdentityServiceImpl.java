@@ -43,15 +43,21 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     protected LDAPConfiguration ldapConfigurator;
     protected LDAPGroupCache ldapGroupCache;
+    protected LDAPUserCache ldapUserCache;
 
     public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache) {
         this.ldapConfigurator = ldapConfigurator;
         this.ldapGroupCache = ldapGroupCache;
     }
 
+    public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache, LDAPUserCache ldapUserCache) {
+        this(ldapConfigurator, ldapGroupCache);
+        this.ldapUserCache = ldapUserCache;
+    }
+
     @Override
     public UserQuery createUserQuery() {
-        return new LDAPUserQueryImpl(ldapConfigurator);
+        return new LDAPUserQueryImpl(ldapConfigurator, ldapUserCache);
     }
 
     @Override
@@ -205,6 +211,14 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
         return searchControls;
     }
 
+    public LDAPConfiguration getLdapConfigurator() {
+        return ldapConfigurator;
+    }
+
+    public void setLdapConfigurator(LDAPConfiguration ldapConfigurator) {
+        this.ldapConfigurator = ldapConfigurator;
+    }
+
     public LDAPGroupCache getLdapGroupCache() {
         return ldapGroupCache;
     }
@@ -212,4 +226,12 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
     public void setLdapGroupCache(LDAPGroupCache ldapGroupCache) {
         this.ldapGroupCache = ldapGroupCache;
     }
+
+    public LDAPUserCache getLdapUserCache() {
+        return ldapUserCache;
+    }
+
+    public void setLdapUserCache(LDAPUserCache ldapUserCache) {
+        this.ldapUserCache = ldapUserCache;
+    }
 }
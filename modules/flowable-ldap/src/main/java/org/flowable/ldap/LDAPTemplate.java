@@ -33,6 +33,10 @@ public class LDAPTemplate {
     }
 
     public <T> T execute(LDAPCallBack<T> ldapCallBack) {
+        if (ldapConfigurator.isConnectionPoolEnabled()) {
+            return executeWithPooledContext(ldapCallBack);
+        }
+
         InitialDirContext initialDirContext = null;
         try {
             initialDirContext = LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
@@ -44,6 +48,28 @@ public class LDAPTemplate {
         return result;
     }
 
+    protected <T> T executeWithPooledContext(LDAPCallBack<T> ldapCallBack) {
+        LDAPConnectionPool connectionPool = ldapConfigurator.getConnectionPool();
+        InitialDirContext initialDirContext = null;
+        try {
+            initialDirContext = connectionPool.borrowContext();
+        } catch (Exception e) {
+            LOGGER.info("Could not get LDAP connection from pool : {}", e.getMessage(), e);
+        }
+
+        boolean reusable = false;
+        try {
+            T result = ldapCallBack.executeInContext(initialDirContext);
+            reusable = true;
+            return result;
+
+        } finally {
+            if (initialDirContext != null) {
+                connectionPool.returnContext(initialDirContext, reusable);
+            }
+        }
+    }
+
     public LDAPConfiguration getLdapConfigurator() {
         return ldapConfigurator;
     }
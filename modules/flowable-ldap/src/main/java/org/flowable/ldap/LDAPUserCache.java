@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.User;
+
+/**
+ * Cache for the results of user queries executed against the LDAP system, for example when the user details are needed in task lists.
+ * Configured through the {@link LDAPConfiguration} (see {@link LDAPConfiguration#setUserCacheSize(int)}).
+ * 
+ * Cached entries expire after the configured expiration time. When the cache is full, expired entries are removed first, and an arbitrary entry otherwise.
+ * The cache is backed by a {@link ConcurrentHashMap} and can be used from multiple threads without locking.
+ */
+public class LDAPUserCache {
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final Map<String, LDAPUserCacheEntry> userCache = new ConcurrentHashMap<>();
+    protected int cacheSize;
+    protected long expirationTime;
+
+    public LDAPUserCache(int cacheSize, long expirationTime, ClockReader clockReader) {
+        this(cacheSize, expirationTime, () -> clockReader);
+    }
+
+    public LDAPUserCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+        this.clockReader = clockReader;
+    }
+
+    public void add(String queryKey, List<User> users) {
+        long now = clockReader.get().getCurrentTime().getTime();
+        if (userCache.size() >= cacheSize && !userCache.containsKey(queryKey)) {
+            makeRoom(now);
+        }
+        userCache.put(queryKey, new LDAPUserCacheEntry(now + expirationTime, users));
+    }
+
+    public List<User> get(String queryKey) {
+        LDAPUserCacheEntry cacheEntry = userCache.get(queryKey);
+        if (cacheEntry != null) {
+            if (clockReader.get().getCurrentTime().getTime() < cacheEntry.getExpirationTime()) {
+                return cacheEntry.getUsers();
+            }
+            userCache.remove(queryKey, cacheEntry);
+        }
+        return null;
+    }
+
+    public void remove(String queryKey) {
+        userCache.remove(queryKey);
+    }
+
+    public void clear() {
+        userCache.clear();
+    }
+
+    public int size() {
+        return userCache.size();
+    }
+
+    protected void makeRoom(long now) {
+        userCache.values().removeIf(cacheEntry -> cacheEntry.getExpirationTime() <= now);
+
+        Iterator<String> keyIterator = userCache.keySet().iterator();
+        while (userCache.size() >= cacheSize && keyIterator.hasNext()) {
+            keyIterator.next();
+            keyIterator.remove();
+        }
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    // Helper classes ////////////////////////////////////
+
+    static class LDAPUserCacheEntry {
+
+        protected final long expirationTime;
+        protected final List<User> users;
+
+        public LDAPUserCacheEntry(long expirationTime, List<User> users) {
+            this.expirationTime = expirationTime;
+            this.users = users;
+        }
+
+        public long getExpirationTime() {
+            return expirationTime;
+        }
+
+        public List<User> getUsers() {
+            return users;
+        }
+
+    }
+
+}
@@ -29,6 +29,7 @@ import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPTemplate;
+import org.flowable.ldap.LDAPUserCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,11 +40,17 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPUserQueryImpl.class);
 
     protected LDAPConfiguration ldapConfigurator;
+    protected LDAPUserCache ldapUserCache;
 
     public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator) {
         this.ldapConfigurator = ldapConfigurator;
     }
 
+    public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator, LDAPUserCache ldapUserCache) {
+        this.ldapConfigurator = ldapConfigurator;
+        this.ldapUserCache = ldapUserCache;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         return executeQuery().size();
@@ -55,6 +62,37 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     }
 
     protected List<User> executeQuery() {
+        if (ldapUserCache == null) {
+            return executeLdapQuery();
+        }
+
+        String cacheKey = getCacheKey();
+        List<User> users = ldapUserCache.get(cacheKey);
+        if (users == null) {
+            users = executeLdapQuery();
+            if (users == null) {
+                return null;
+            }
+            ldapUserCache.add(cacheKey, users);
+        }
+        return new ArrayList<>(users);
+    }
+
+    protected String getCacheKey() {
+        if (getId() != null) {
+            return "id:" + getId();
+        } else if (getIdIgnoreCase() != null) {
+            return "id:" + getIdIgnoreCase();
+        } else if (getFullNameLike() != null) {
+            return "name:" + getFullNameLike();
+        } else if (getFullNameLikeIgnoreCase() != null) {
+            return "name:" + getFullNameLikeIgnoreCase();
+        } else {
+            return "all";
+        }
+    }
+
+    protected List<User> executeLdapQuery() {
         if (getId() != null) {
             List<User> result = new ArrayList<>();
             result.add(findById(getId()));
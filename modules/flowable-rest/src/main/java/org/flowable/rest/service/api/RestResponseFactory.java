@@ -44,6 +44,8 @@ import org.flowable.engine.history.HistoricFormProperty;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricVariableUpdate;
 import org.flowable.engine.impl.bpmn.deployer.ResourceNameUtil;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.migration.ProcessMigrationBatch;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -91,6 +93,9 @@ import org.flowable.rest.service.api.repository.ProcessDefinitionResponse;
 import org.flowable.rest.service.api.runtime.process.EventSubscriptionResponse;
 import org.flowable.rest.service.api.runtime.process.ExecutionResponse;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceResponse;
+import org.flowable.rest.service.api.runtime.process.ProcessMigrationBatchPartResponse;
+import org.flowable.rest.service.api.runtime.process.ProcessMigrationBatchResponse;
+import org.flowable.rest.service.api.runtime.process.ProcessMigrationBatchResultResponse;
 import org.flowable.rest.service.api.runtime.task.TaskResponse;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -1104,6 +1109,47 @@ public class RestResponseFactory {
         return response;
     }
 
+    public ProcessMigrationBatchResponse createProcessMigrationBatchResponse(ProcessMigrationBatch batch) {
+        ProcessMigrationBatchResponse response = new ProcessMigrationBatchResponse();
+        initializeProcessMigrationBatchResponse(response, batch, createUrlBuilder());
+        return response;
+    }
+
+    public ProcessMigrationBatchResultResponse createProcessMigrationBatchResultResponse(ProcessInstanceBatchMigrationResult batchResult) {
+        RestUrlBuilder urlBuilder = createUrlBuilder();
+        ProcessMigrationBatchResultResponse response = new ProcessMigrationBatchResultResponse();
+        initializeProcessMigrationBatchResponse(response, batchResult.getBatch(), urlBuilder);
+        response.setWaitingCount(batchResult.getWaitingCount());
+        response.setSuccessCount(batchResult.getSuccessCount());
+        response.setFailedCount(batchResult.getFailedCount());
+
+        for (ProcessMigrationBatch failedPart : batchResult.getFailedParts()) {
+            ProcessMigrationBatchPartResponse partResponse = new ProcessMigrationBatchPartResponse();
+            partResponse.setId(failedPart.getId());
+            partResponse.setProcessInstanceId(failedPart.getProcessInstanceId());
+            partResponse.setProcessInstanceUrl(urlBuilder.buildUrl(RestUrls.URL_PROCESS_INSTANCE, failedPart.getProcessInstanceId()));
+            partResponse.setStatus(failedPart.getStatus());
+            partResponse.setResult(failedPart.getResult());
+            partResponse.setCompleteTime(failedPart.getCompleteTime());
+            response.getFailedParts().add(partResponse);
+        }
+
+        return response;
+    }
+
+    protected void initializeProcessMigrationBatchResponse(ProcessMigrationBatchResponse response, ProcessMigrationBatch batch, RestUrlBuilder urlBuilder) {
+        response.setId(batch.getId());
+        response.setUrl(urlBuilder.buildUrl(RestUrls.URL_PROCESS_MIGRATION_BATCH, batch.getId()));
+        response.setSourceProcessDefinitionId(batch.getSourceProcessDefinitionId());
+        response.setSourceProcessDefinitionUrl(urlBuilder.buildUrl(RestUrls.URL_PROCESS_DEFINITION, batch.getSourceProcessDefinitionId()));
+        response.setTargetProcessDefinitionId(batch.getTargetProcessDefinitionId());
+        response.setTargetProcessDefinitionUrl(urlBuilder.buildUrl(RestUrls.URL_PROCESS_DEFINITION, batch.getTargetProcessDefinitionId()));
+        response.setStatus(batch.getStatus());
+        response.setCreateTime(batch.getCreateTime());
+        response.setCompleteTime(batch.getCompleteTime());
+        response.setTenantId(batch.getTenantId());
+    }
+
     public List<UserResponse> createUserResponseList(List<User> users) {
         return createUserResponseList(users, false);
     }
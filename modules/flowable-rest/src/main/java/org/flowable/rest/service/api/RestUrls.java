@@ -43,6 +43,7 @@ public final class RestUrls {
     public static final String SEGMENT_PROCESS_INSTANCE_RESOURCE = "process-instances";
     public static final String SEGMENT_VARIABLES = "variables";
     public static final String SEGMENT_EVENT_SUBSCRIPTIONS = "event-subscriptions";
+    public static final String SEGMENT_PROCESS_MIGRATION_BATCHES = "process-migration-batches";
     public static final String SEGMENT_SUBTASKS = "subtasks";
     public static final String SEGMENT_IDENTITYLINKS = "identitylinks";
     public static final String SEGMENT_FORM = "form";
@@ -86,6 +87,7 @@ public final class RestUrls {
     public static final String SEGMENT_START_FORM = "start-form";
     public static final String SEGMENT_DECISION_TABLES = "decision-tables";
     public static final String SEGMENT_FORM_DEFINITIONS = "form-definitions";
+    public static final String SEGMENT_BULK = "bulk";
 
     /**
      * URL template for the deployment collection: <i>repository/deployments</i>
@@ -162,6 +164,11 @@ public final class RestUrls {
      */
     public static final String[] URL_PROCESS_DEFINITION_FORM_DEFINITIONS_COLLECTION = { SEGMENT_REPOSITORY_RESOURCES, SEGMENT_PROCESS_DEFINITION_RESOURCE, "{0}", SEGMENT_FORM_DEFINITIONS };
 
+    /**
+     * URL template for the batch migration of the process instances of a process definition: <i>repository/process-definitions/{0:processDefinitionId}/batch-migrate</i>
+     */
+    public static final String[] URL_PROCESS_DEFINITION_BATCH_MIGRATE = { SEGMENT_REPOSITORY_RESOURCES, SEGMENT_PROCESS_DEFINITION_RESOURCE, "{0}", "batch-migrate" };
+
     /**
      * URL template for the model collection: <i>repository/models</i>
      */
@@ -192,6 +199,11 @@ public final class RestUrls {
      */
     public static final String[] URL_TASK_QUERY = { SEGMENT_QUERY_RESOURCES, SEGMENT_TASK_RESOURCE };
 
+    /**
+     * URL template for an action on a collection of tasks: <i>runtime/tasks/bulk</i>
+     */
+    public static final String[] URL_TASK_BULK_ACTION = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_TASK_RESOURCE, SEGMENT_BULK };
+
     /**
      * URL template for a single task: <i>runtime/tasks/{0:taskId}</i>
      */
@@ -554,6 +566,11 @@ public final class RestUrls {
      */
     public static final String[] URL_EVENT_SUBSCRIPTION_COLLECTION = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_EVENT_SUBSCRIPTIONS };
 
+    /**
+     * URL template for a single process migration batch: <i>runtime/process-migration-batches/{0:batchId}</i>
+     */
+    public static final String[] URL_PROCESS_MIGRATION_BATCH = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_PROCESS_MIGRATION_BATCHES, "{0}" };
+
     /**
      * URL template for the collection of properties: <i>management/properties</i>
      */
@@ -67,6 +67,39 @@ public class HistoricProcessInstanceBaseResource {
     protected BpmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricProcessInstanceResponse> getQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+
+        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
+                restResponseFactory::createHistoricProcessInstanceResponseList);
+        
+        Set<String> processDefinitionIds = new HashSet<String>();
+        List<HistoricProcessInstanceResponse> processInstanceList = responseList.getData();
+        for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
+            if (!processDefinitionIds.contains(processInstanceResponse.getProcessDefinitionId())) {
+                processDefinitionIds.add(processInstanceResponse.getProcessDefinitionId());
+            }
+        }
+        
+        if (processDefinitionIds.size() > 0) {
+            List<ProcessDefinition> processDefinitionList = repositoryService.createProcessDefinitionQuery().processDefinitionIds(processDefinitionIds).list();
+            Map<String, ProcessDefinition> processDefinitionMap = new HashMap<String, ProcessDefinition>();
+            for (ProcessDefinition processDefinition : processDefinitionList) {
+                processDefinitionMap.put(processDefinition.getId(), processDefinition);
+            }
+            
+            for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
+                if (processDefinitionMap.containsKey(processInstanceResponse.getProcessDefinitionId())) {
+                    ProcessDefinition processDefinition = processDefinitionMap.get(processInstanceResponse.getProcessDefinitionId());
+                    processInstanceResponse.setProcessDefinitionName(processDefinition.getName());
+                    processInstanceResponse.setProcessDefinitionDescription(processDefinition.getDescription());
+                }
+            }
+        }
+        
+        return responseList;
+    }
+
+    protected HistoricProcessInstanceQuery createQuery(HistoricProcessInstanceQueryRequest queryRequest) {
         HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
 
         // Populate query based on request
@@ -177,34 +210,7 @@ public class HistoricProcessInstanceBaseResource {
             restApiInterceptor.accessHistoryProcessInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
-                restResponseFactory::createHistoricProcessInstanceResponseList);
-        
-        Set<String> processDefinitionIds = new HashSet<String>();
-        List<HistoricProcessInstanceResponse> processInstanceList = responseList.getData();
-        for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
-            if (!processDefinitionIds.contains(processInstanceResponse.getProcessDefinitionId())) {
-                processDefinitionIds.add(processInstanceResponse.getProcessDefinitionId());
-            }
-        }
-        
-        if (processDefinitionIds.size() > 0) {
-            List<ProcessDefinition> processDefinitionList = repositoryService.createProcessDefinitionQuery().processDefinitionIds(processDefinitionIds).list();
-            Map<String, ProcessDefinition> processDefinitionMap = new HashMap<String, ProcessDefinition>();
-            for (ProcessDefinition processDefinition : processDefinitionList) {
-                processDefinitionMap.put(processDefinition.getId(), processDefinition);
-            }
-            
-            for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
-                if (processDefinitionMap.containsKey(processInstanceResponse.getProcessDefinitionId())) {
-                    ProcessDefinition processDefinition = processDefinitionMap.get(processInstanceResponse.getProcessDefinitionId());
-                    processInstanceResponse.setProcessDefinitionName(processDefinition.getName());
-                    processInstanceResponse.setProcessDefinitionDescription(processDefinition.getDescription());
-                }
-            }
-        }
-        
-        return responseList;
+        return query;
     }
     
     protected HistoricProcessInstance getHistoricProcessInstanceFromRequest(String processInstanceId) {
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "History Process" }, description = "Manage History Process Instances", authorizations = { @Authorization(value = "basicAuth") })
+public class HistoricProcessInstanceExportResource extends HistoricProcessInstanceBaseResource {
+
+    protected static final int DEFAULT_EXPORT_BATCH_SIZE = 500;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @ApiOperation(value = "Export historic process instances", tags = { "History Process", "Query" }, nickname = "exportHistoricProcessInstances",
+            notes = "Accepts the same JSON body as the historic process instance query, but streams all matching historic process instances as a JSON array instead of returning a page. "
+                    + "Including process variables is not supported.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the historic process instances are streamed"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @PostMapping(value = "/query/historic-process-instances/export", produces = "application/json")
+    public void exportProcessInstances(@RequestBody HistoricProcessInstanceQueryRequest queryRequest,
+            @ApiParam(name = "batchSize") @RequestParam(value = "batchSize", required = false) Integer batchSize, HttpServletResponse response) {
+
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+        query.orderByProcessInstanceId().asc();
+
+        response.setContentType("application/json");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            query.forEach(batchSize != null ? batchSize : DEFAULT_EXPORT_BATCH_SIZE, processInstance -> {
+                try {
+                    generator.writeObject(restResponseFactory.createHistoricProcessInstanceResponse(processInstance));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+
+        } catch (IOException | UncheckedIOException e) {
+            throw new FlowableException("Could not export historic process instances", e);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
 
@@ -67,7 +68,7 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
         if (pde != null && pde.hasGraphicalNotation()) {
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+            InputStream resource = diagramGenerator.generateDiagram(pde.getId(), bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
                     processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
                     processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0,processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI());
 
@@ -83,4 +84,37 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
             throw new FlowableIllegalArgumentException("Process instance with id '" + processInstance.getId() + "' has no graphical notation defined.");
         }
     }
+
+    @ApiOperation(value = "Get diagram for a process instance as svg", tags = { "Process Instances" }, nickname = "getProcessInstanceDiagramSvg",
+            notes = "The diagram is streamed as svg, with the active activities highlighted as vector shapes on top of the cached process diagram.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned."),
+            @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process does not contain any graphical information (BPMN:DI) and no diagram can be created."),
+            @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
+    })
+    @GetMapping(value = "/runtime/process-instances/{processInstanceId}/diagram", params = "format=svg", produces = "image/svg+xml")
+    public void getProcessInstanceDiagramSvg(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+        ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
+
+        ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
+
+        if (pde != null && pde.hasGraphicalNotation()) {
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
+            ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
+
+            response.setContentType("image/svg+xml");
+            try {
+                diagramGenerator.generateSvgDiagram(pde.getId(), bpmnModel, runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+                        processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
+                        processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0, processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI(),
+                        response.getOutputStream());
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new FlowableIllegalArgumentException("Error exporting diagram", e);
+            }
+
+        } else {
+            throw new FlowableIllegalArgumentException("Process instance with id '" + processInstance.getId() + "' has no graphical notation defined.");
+        }
+    }
 }
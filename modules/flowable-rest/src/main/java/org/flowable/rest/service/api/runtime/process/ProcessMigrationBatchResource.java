@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.runtime.process;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocumentConverter;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.rest.service.api.BpmnRestApiInterceptor;
+import org.flowable.rest.service.api.RestResponseFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Process Instances" }, description = "Manage Process Instances", authorizations = { @Authorization(value = "basicAuth") })
+public class ProcessMigrationBatchResource {
+
+    @Autowired
+    protected RestResponseFactory restResponseFactory;
+
+    @Autowired
+    protected RuntimeService runtimeService;
+
+    @Autowired
+    protected RepositoryService repositoryService;
+
+    @Autowired(required = false)
+    protected BpmnRestApiInterceptor restApiInterceptor;
+
+    @ApiOperation(value = "Batch migrate all process instances of a process definition", tags = { "Process Instances" },
+            notes = "The process instances are migrated asynchronously in chunks. The returned batch can be used to follow up on the progress of the migration.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Indicates the batch migration was created."),
+            @ApiResponse(code = 404, message = "Indicates the requested process definition was not found.")
+    })
+    @PostMapping(value = "/repository/process-definitions/{processDefinitionId}/batch-migrate", produces = "application/json")
+    public ProcessMigrationBatchResponse batchMigrateProcessInstances(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId,
+            @RequestBody String migrationDocumentJson, HttpServletResponse response) {
+
+        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processDefinitionId);
+        if (processDefinition == null) {
+            throw new FlowableObjectNotFoundException("Could not find a process definition with id '" + processDefinitionId + "'.", ProcessDefinition.class);
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessProcessDefinitionById(processDefinition);
+        }
+
+        ProcessInstanceMigrationDocument migrationDocument = ProcessInstanceMigrationDocumentConverter.convertFromJson(migrationDocumentJson);
+        ProcessMigrationBatch batch = runtimeService.batchMigrateProcessInstancesOfProcessDefinition(processDefinition.getId(), migrationDocument);
+
+        response.setStatus(HttpStatus.CREATED.value());
+        return restResponseFactory.createProcessMigrationBatchResponse(batch);
+    }
+
+    @ApiOperation(value = "Get the progress of a batch migration", tags = { "Process Instances" })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the batch migration was found and its progress is returned."),
+            @ApiResponse(code = 404, message = "Indicates the requested batch migration was not found.")
+    })
+    @GetMapping(value = "/runtime/process-migration-batches/{batchId}", produces = "application/json")
+    public ProcessMigrationBatchResultResponse getProcessMigrationBatch(@ApiParam(name = "batchId") @PathVariable String batchId) {
+        return restResponseFactory.createProcessMigrationBatchResultResponse(getProcessMigrationBatchResultFromRequest(batchId));
+    }
+
+    @ApiOperation(value = "Delete a batch migration", tags = { "Process Instances" },
+            notes = "Chunks of the batch that weren't migrated yet are skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Indicates the batch migration was found and has been deleted. Response-body is intentionally empty."),
+            @ApiResponse(code = 404, message = "Indicates the requested batch migration was not found.")
+    })
+    @DeleteMapping(value = "/runtime/process-migration-batches/{batchId}")
+    public void deleteProcessMigrationBatch(@ApiParam(name = "batchId") @PathVariable String batchId, HttpServletResponse response) {
+        getProcessMigrationBatchResultFromRequest(batchId);
+        runtimeService.deleteProcessMigrationBatch(batchId);
+        response.setStatus(HttpStatus.NO_CONTENT.value());
+    }
+
+    protected ProcessInstanceBatchMigrationResult getProcessMigrationBatchResultFromRequest(String batchId) {
+        // Fails with a 404 when the batch doesn't exist
+        ProcessInstanceBatchMigrationResult result = runtimeService.getProcessInstanceBatchMigrationResult(batchId);
+
+        if (restApiInterceptor != null) {
+            // Access to a batch is access to the process definition its process instances are migrated from
+            ProcessDefinition processDefinition = repositoryService.getProcessDefinition(result.getBatch().getSourceProcessDefinitionId());
+            restApiInterceptor.accessProcessDefinitionById(processDefinition);
+        }
+
+        return result;
+    }
+}
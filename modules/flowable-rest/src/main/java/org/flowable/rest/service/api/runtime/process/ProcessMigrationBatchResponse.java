@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.runtime.process;
+
+import java.util.Date;
+
+import org.flowable.common.rest.util.DateToStringSerializer;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+public class ProcessMigrationBatchResponse {
+
+    protected String id;
+    protected String url;
+    protected String sourceProcessDefinitionId;
+    protected String sourceProcessDefinitionUrl;
+    protected String targetProcessDefinitionId;
+    protected String targetProcessDefinitionUrl;
+    protected String status;
+    @JsonSerialize(using = DateToStringSerializer.class, as = Date.class)
+    protected Date createTime;
+    @JsonSerialize(using = DateToStringSerializer.class, as = Date.class)
+    protected Date completeTime;
+    protected String tenantId;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getSourceProcessDefinitionId() {
+        return sourceProcessDefinitionId;
+    }
+
+    public void setSourceProcessDefinitionId(String sourceProcessDefinitionId) {
+        this.sourceProcessDefinitionId = sourceProcessDefinitionId;
+    }
+
+    public String getSourceProcessDefinitionUrl() {
+        return sourceProcessDefinitionUrl;
+    }
+
+    public void setSourceProcessDefinitionUrl(String sourceProcessDefinitionUrl) {
+        this.sourceProcessDefinitionUrl = sourceProcessDefinitionUrl;
+    }
+
+    public String getTargetProcessDefinitionId() {
+        return targetProcessDefinitionId;
+    }
+
+    public void setTargetProcessDefinitionId(String targetProcessDefinitionId) {
+        this.targetProcessDefinitionId = targetProcessDefinitionId;
+    }
+
+    public String getTargetProcessDefinitionUrl() {
+        return targetProcessDefinitionUrl;
+    }
+
+    public void setTargetProcessDefinitionUrl(String targetProcessDefinitionUrl) {
+        this.targetProcessDefinitionUrl = targetProcessDefinitionUrl;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getCompleteTime() {
+        return completeTime;
+    }
+
+    public void setCompleteTime(Date completeTime) {
+        this.completeTime = completeTime;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+}
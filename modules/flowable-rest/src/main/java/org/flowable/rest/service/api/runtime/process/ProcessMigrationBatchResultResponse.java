@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.runtime.process;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProcessMigrationBatchResultResponse extends ProcessMigrationBatchResponse {
+
+    protected long waitingCount;
+    protected long successCount;
+    protected long failedCount;
+    protected List<ProcessMigrationBatchPartResponse> failedParts = new ArrayList<>();
+
+    public long getWaitingCount() {
+        return waitingCount;
+    }
+
+    public void setWaitingCount(long waitingCount) {
+        this.waitingCount = waitingCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(long successCount) {
+        this.successCount = successCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<ProcessMigrationBatchPartResponse> getFailedParts() {
+        return failedParts;
+    }
+
+    public void setFailedParts(List<ProcessMigrationBatchPartResponse> failedParts) {
+        this.failedParts = failedParts;
+    }
+}
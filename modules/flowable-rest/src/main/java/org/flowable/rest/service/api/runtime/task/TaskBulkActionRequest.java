@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class TaskBulkActionRequest extends TaskActionRequest {
+
+    public static final String ACTION_SET_VARIABLES = "setVariables";
+
+    protected List<String> taskIds;
+
+    @ApiModelProperty(value = "The ids of the tasks to execute the action on", required = true)
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<String> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    @Override
+    @ApiModelProperty(value = "Action to perform: Either complete, claim or setVariables", example = "complete", required = true)
+    public String getAction() {
+        return super.getAction();
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.task.BulkTaskResult;
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+import org.flowable.task.api.Task;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Tasks" }, description = "Manage Tasks", authorizations = { @Authorization(value = "basicAuth") })
+public class TaskBulkActionResource extends TaskBaseResource {
+
+    @ApiOperation(value = "Claim, complete or set variables on a collection of tasks", tags = { "Tasks" }, nickname = "executeTaskBulkAction",
+            notes = "The tasks are handled in chunks, every chunk in its own transaction. A task for which the action fails doesn't make the other tasks fail: "
+                    + "the response contains the result for every task. Completing a task with a form or with transient variables is not supported.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the action was executed and the result of every task is returned."),
+            @ApiResponse(code = 400, message = "When the body contains an invalid value or when the task ids are missing.")
+    })
+    @PostMapping(value = "/runtime/tasks/bulk", produces = "application/json")
+    public List<TaskBulkActionResultResponse> executeTaskBulkAction(@RequestBody TaskBulkActionRequest actionRequest) {
+        if (actionRequest == null) {
+            throw new FlowableException("A request body was expected when executing a task bulk action.");
+        }
+        if (actionRequest.getTaskIds() == null || actionRequest.getTaskIds().isEmpty()) {
+            throw new FlowableIllegalArgumentException("The taskIds are required.");
+        }
+        if (actionRequest.getFormDefinitionId() != null || actionRequest.getTransientVariables() != null) {
+            throw new FlowableIllegalArgumentException("A form definition or transient variables are not supported for a task bulk action.");
+        }
+
+        if (restApiInterceptor != null) {
+            for (String taskId : actionRequest.getTaskIds()) {
+                // Unknown tasks are reported in the result of the task by the engine
+                Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+                if (task != null) {
+                    restApiInterceptor.executeTaskAction(task, actionRequest);
+                }
+            }
+        }
+
+        List<BulkTaskResult> results;
+        if (TaskActionRequest.ACTION_COMPLETE.equals(actionRequest.getAction())) {
+            results = taskService.bulkComplete(actionRequest.getTaskIds(), getVariablesToSet(actionRequest));
+
+        } else if (TaskActionRequest.ACTION_CLAIM.equals(actionRequest.getAction())) {
+            results = taskService.bulkClaim(actionRequest.getTaskIds(), actionRequest.getAssignee());
+
+        } else if (TaskBulkActionRequest.ACTION_SET_VARIABLES.equals(actionRequest.getAction())) {
+            Map<String, Object> variablesToSet = getVariablesToSet(actionRequest);
+            if (variablesToSet == null) {
+                throw new FlowableIllegalArgumentException("Variables are required when setting variables on tasks.");
+            }
+            results = taskService.bulkSetVariables(actionRequest.getTaskIds(), variablesToSet);
+
+        } else {
+            throw new FlowableIllegalArgumentException("Invalid action: '" + actionRequest.getAction() + "'.");
+        }
+
+        List<TaskBulkActionResultResponse> responses = new ArrayList<>(results.size());
+        for (BulkTaskResult result : results) {
+            responses.add(new TaskBulkActionResultResponse(result));
+        }
+        return responses;
+    }
+
+    protected Map<String, Object> getVariablesToSet(TaskActionRequest actionRequest) {
+        if (actionRequest.getVariables() == null) {
+            return null;
+        }
+
+        Map<String, Object> variablesToSet = new HashMap<>();
+        for (RestVariable var : actionRequest.getVariables()) {
+            if (var.getName() == null) {
+                throw new FlowableIllegalArgumentException("Variable name is required");
+            }
+
+            Object actualVariableValue = restResponseFactory.getVariableValue(var);
+            variablesToSet.put(var.getName(), actualVariableValue);
+        }
+        return variablesToSet;
+    }
+
+}
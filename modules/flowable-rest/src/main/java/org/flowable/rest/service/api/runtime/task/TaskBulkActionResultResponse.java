@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import org.flowable.engine.task.BulkTaskResult;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class TaskBulkActionResultResponse {
+
+    protected String taskId;
+    protected boolean successful;
+    protected String errorMessage;
+
+    public TaskBulkActionResultResponse() {
+    }
+
+    public TaskBulkActionResultResponse(BulkTaskResult result) {
+        this.taskId = result.getTaskId();
+        this.successful = result.isSuccessful();
+        this.errorMessage = result.getErrorMessage();
+    }
+
+    @ApiModelProperty(example = "8")
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    @ApiModelProperty(value = "Whether the action was executed for the task")
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+
+    @ApiModelProperty(value = "Reason why the action failed for the task, null when it was successful")
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.flowable.engine.test.Deployment;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.flowable.rest.service.api.RestUrls;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for REST-operation exporting historic process instances.
+ */
+public class HistoricProcessInstanceExportResourceTest extends BaseSpringRestTestCase {
+
+    /**
+     * Test exporting historic process instances. POST query/historic-process-instances/export
+     */
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/oneTaskProcess.bpmn20.xml")
+    public void testExportProcessInstances() throws Exception {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i).getId());
+        }
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", "other");
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("processDefinitionKey", "oneTaskProcess");
+        ArrayNode processInstanceIdsNode = requestNode.putArray("processInstanceIds");
+        processInstanceIds.forEach(processInstanceIdsNode::add);
+
+        // A batch size smaller than the result makes the export fetch several batches
+        JsonNode responseNode = executeExport(requestNode, "?batchSize=2");
+        assertThat(responseNode.isArray()).isTrue();
+        List<String> exportedIds = new ArrayList<>();
+        for (JsonNode processInstanceNode : responseNode) {
+            exportedIds.add(processInstanceNode.get("id").textValue());
+            assertThat(processInstanceNode.get("processDefinitionId").textValue()).isNotNull();
+        }
+        assertThat(exportedIds).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+        requestNode.put("processDefinitionKey", "unknown");
+        assertThat(executeExport(requestNode, "")).isEmpty();
+    }
+
+    protected JsonNode executeExport(ObjectNode requestNode, String queryString) throws Exception {
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_PROCESS_INSTANCE_QUERY) + "/export" + queryString;
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + url);
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        return responseNode;
+    }
+
+}
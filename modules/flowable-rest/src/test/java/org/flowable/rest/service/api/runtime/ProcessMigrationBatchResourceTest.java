@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPrepareJobHandler;
+import org.flowable.engine.migration.ProcessMigrationBatch;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.flowable.rest.service.api.RestUrls;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for all REST-operations related to batch migrations of process instances.
+ */
+public class ProcessMigrationBatchResourceTest extends BaseSpringRestTestCase {
+
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceResourceTest.process-one.bpmn20.xml" })
+    public void testBatchMigrateProcessInstances() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("processOne");
+        String processDefinitionId = processInstance.getProcessDefinitionId();
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("toProcessDefinitionId", processDefinitionId);
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_DEFINITION_BATCH_MIGRATE, processDefinitionId));
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_CREATED);
+
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        String batchId = responseNode.get("id").textValue();
+        assertEquals(processDefinitionId, responseNode.get("sourceProcessDefinitionId").textValue());
+        assertEquals(ProcessMigrationBatch.STATUS_PREPARING, responseNode.get("status").textValue());
+
+        Job prepareJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPrepareJobHandler.TYPE).singleResult();
+        managementService.executeJob(prepareJob.getId());
+        Job chunkJob = managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchJobHandler.TYPE).singleResult();
+        managementService.executeJob(chunkJob.getId());
+
+        String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_MIGRATION_BATCH, batchId);
+        response = executeRequest(new HttpGet(url), HttpStatus.SC_OK);
+        responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertEquals(batchId, responseNode.get("id").textValue());
+        assertEquals(ProcessMigrationBatch.STATUS_COMPLETED, responseNode.get("status").textValue());
+        assertEquals(1, responseNode.get("successCount").longValue());
+        assertEquals(0, responseNode.get("waitingCount").longValue());
+        assertEquals(0, responseNode.get("failedCount").longValue());
+
+        closeResponse(executeRequest(new HttpDelete(url), HttpStatus.SC_NO_CONTENT));
+        closeResponse(executeRequest(new HttpGet(url), HttpStatus.SC_NOT_FOUND));
+    }
+
+    @Test
+    public void testGetUnexistingProcessMigrationBatch() throws Exception {
+        String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_MIGRATION_BATCH, "unexisting");
+        closeResponse(executeRequest(new HttpGet(url), HttpStatus.SC_NOT_FOUND));
+        closeResponse(executeRequest(new HttpDelete(url), HttpStatus.SC_NOT_FOUND));
+    }
+}
@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.flowable.engine.test.Deployment;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.flowable.rest.service.api.RestUrls;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the REST-operation executing an action on a collection of tasks.
+ */
+public class TaskBulkActionResourceTest extends BaseSpringRestTestCase {
+
+    /**
+     * Test completing tasks with a variable. POST runtime/tasks/bulk
+     */
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkCompleteTasks() throws Exception {
+        List<String> taskIds = startProcessInstances(3);
+
+        ObjectNode requestNode = createRequestNode("complete", taskIds);
+        ObjectNode variableNode = requestNode.putArray("variables").addObject();
+        variableNode.put("name", "approved");
+        variableNode.put("value", true);
+
+        JsonNode responseNode = executeBulkAction(requestNode);
+        assertThatJson(responseNode)
+                .isEqualTo("["
+                        + "{ taskId: '" + taskIds.get(0) + "', successful: true, errorMessage: null },"
+                        + "{ taskId: '" + taskIds.get(1) + "', successful: true, errorMessage: null },"
+                        + "{ taskId: '" + taskIds.get(2) + "', successful: true, errorMessage: null }"
+                        + "]");
+
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    /**
+     * Test claiming tasks where one task is already claimed. POST runtime/tasks/bulk
+     */
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimTasks() throws Exception {
+        List<String> taskIds = startProcessInstances(3);
+        taskService.claim(taskIds.get(2), "otherUser");
+
+        ObjectNode requestNode = createRequestNode("claim", taskIds);
+        requestNode.put("assignee", "kermit");
+
+        JsonNode responseNode = executeBulkAction(requestNode);
+        assertThat(responseNode).hasSize(3);
+        assertThat(responseNode.get(0).get("successful").booleanValue()).isTrue();
+        assertThat(responseNode.get(1).get("successful").booleanValue()).isTrue();
+        assertThat(responseNode.get(2).get("successful").booleanValue()).isFalse();
+        assertThat(responseNode.get(2).get("errorMessage").textValue()).isNotEmpty();
+
+        assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(2);
+        assertThat(taskService.createTaskQuery().taskAssignee("otherUser").count()).isEqualTo(1);
+    }
+
+    /**
+     * Test setting variables on tasks. POST runtime/tasks/bulk
+     */
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkSetTaskVariables() throws Exception {
+        List<String> taskIds = startProcessInstances(2);
+
+        ObjectNode requestNode = createRequestNode("setVariables", taskIds);
+        ObjectNode variableNode = requestNode.putArray("variables").addObject();
+        variableNode.put("name", "reviewed");
+        variableNode.put("value", "yes");
+
+        executeBulkAction(requestNode);
+
+        assertThat(taskService.getVariable(taskIds.get(0), "reviewed")).isEqualTo("yes");
+        assertThat(taskService.getVariable(taskIds.get(1), "reviewed")).isEqualTo("yes");
+    }
+
+    /**
+     * Test invalid bulk actions. POST runtime/tasks/bulk
+     */
+    @Test
+    public void testInvalidBulkAction() throws Exception {
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_BULK_ACTION));
+        httpPost.setEntity(new StringEntity(createRequestNode("complete", new ArrayList<>()).toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+        List<String> taskIds = new ArrayList<>();
+        taskIds.add("unknown");
+        httpPost.setEntity(new StringEntity(createRequestNode("delegate", taskIds).toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+    }
+
+    protected List<String> startProcessInstances(int count) {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            taskIds.add(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+        return taskIds;
+    }
+
+    protected ObjectNode createRequestNode(String action, List<String> taskIds) {
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("action", action);
+        ArrayNode taskIdsNode = requestNode.putArray("taskIds");
+        for (String taskId : taskIds) {
+            taskIdsNode.add(taskId);
+        }
+        return requestNode;
+    }
+
+    protected JsonNode executeBulkAction(ObjectNode requestNode) throws Exception {
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_BULK_ACTION));
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        return responseNode;
+    }
+
+}
@@ -18,6 +18,7 @@ import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
 import org.flowable.ldap.LDAPQueryBuilder;
+import org.flowable.ldap.LDAPUserCache;
 import org.flowable.spring.boot.EngineConfigurationConfigurer;
 import org.flowable.spring.boot.FlowableSecurityAutoConfiguration;
 import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
@@ -85,7 +86,8 @@ public class FlowableLdapAutoConfiguration {
     @Bean
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
         return idmEngineConfiguration -> idmEngineConfiguration
-            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration)));
+            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration),
+                createUserCache(idmEngineConfiguration, ldapConfiguration)));
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
@@ -113,4 +115,13 @@ public class FlowableLdapAutoConfiguration {
         return ldapGroupCache;
     }
 
+    protected LDAPUserCache createUserCache(SpringIdmEngineConfiguration engineConfiguration, LDAPConfiguration ldapConfiguration) {
+        LDAPUserCache ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPUserCache(ldapConfiguration.getUserCacheSize(),
+                ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration::getClock);
+        }
+        return ldapUserCache;
+    }
+
 }
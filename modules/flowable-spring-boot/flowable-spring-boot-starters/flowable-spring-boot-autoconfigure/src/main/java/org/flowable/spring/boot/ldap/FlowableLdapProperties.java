@@ -110,6 +110,12 @@ public class FlowableLdapProperties {
     @NestedConfigurationProperty
     private final Cache cache = new Cache();
 
+    /**
+     * Configuration for the LDAP connection pool.
+     */
+    @NestedConfigurationProperty
+    private final Pool pool = new Pool();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -218,6 +224,10 @@ public class FlowableLdapProperties {
         return cache;
     }
 
+    public Pool getPool() {
+        return pool;
+    }
+
     public void customize(LDAPConfiguration configuration) {
         configuration.setServer(getServer());
         configuration.setPort(getPort());
@@ -233,6 +243,7 @@ public class FlowableLdapProperties {
         query.customize(configuration);
         attribute.customize(configuration);
         cache.customize(configuration);
+        pool.customize(configuration);
     }
 
     public static class Query {
@@ -509,6 +520,18 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Allows to set the size of the {@link org.flowable.ldap.LDAPUserCache}, which caches the results of user queries.
+         * <p>
+         * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+         */
+        private int userSize = -1;
+
+        /**
+         * Sets the expiration time of the {@link org.flowable.ldap.LDAPUserCache} in milliseconds. By default set to five minutes.
+         */
+        private long userExpiration = Duration.of(5, ChronoUnit.MINUTES).toMillis();
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +548,103 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public int getUserSize() {
+            return userSize;
+        }
+
+        public void setUserSize(int userSize) {
+            this.userSize = userSize;
+        }
+
+        public long getUserExpiration() {
+            return userExpiration;
+        }
+
+        public void setUserExpiration(long userExpiration) {
+            this.userExpiration = userExpiration;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setUserCacheSize(getUserSize());
+            configuration.setUserCacheExpirationTime(getUserExpiration());
+        }
+    }
+
+    public static class Pool {
+
+        /**
+         * Whether the LDAP connections (bound with the configured user) should be pooled instead of opening a new connection for every LDAP call.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of pooled connections.
+         */
+        private int maxSize = 8;
+
+        /**
+         * The time in milliseconds to wait for a connection when all connections of the pool are in use.
+         */
+        private long maxWait = Duration.of(5, ChronoUnit.SECONDS).toMillis();
+
+        /**
+         * The time in milliseconds after which an idle connection is closed.
+         */
+        private long idleTimeout = Duration.of(5, ChronoUnit.MINUTES).toMillis();
+
+        /**
+         * Whether an idle connection should be validated before it is reused.
+         */
+        private boolean validateOnBorrow = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(long maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public long getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public boolean isValidateOnBorrow() {
+            return validateOnBorrow;
+        }
+
+        public void setValidateOnBorrow(boolean validateOnBorrow) {
+            this.validateOnBorrow = validateOnBorrow;
+        }
+
+        public void customize(LDAPConfiguration configuration) {
+            configuration.setConnectionPoolEnabled(isEnabled());
+            configuration.setConnectionPoolMaxSize(getMaxSize());
+            configuration.setConnectionPoolMaxWaitTime(getMaxWait());
+            configuration.setConnectionPoolIdleTimeout(getIdleTimeout());
+            configuration.setConnectionPoolValidateOnBorrow(isValidateOnBorrow());
         }
     }
 }
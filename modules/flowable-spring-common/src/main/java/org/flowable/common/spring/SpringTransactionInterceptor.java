@@ -53,6 +53,7 @@ public class SpringTransactionInterceptor extends AbstractCommandInterceptor {
         } else {
             TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
             transactionTemplate.setPropagationBehavior(transactionPropagation);
+            transactionTemplate.setReadOnly(config.isReadOnly());
             return transactionTemplate.execute(status -> next.execute(config, command));
 
         }
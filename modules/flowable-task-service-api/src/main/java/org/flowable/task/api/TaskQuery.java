@@ -13,6 +13,7 @@
 package org.flowable.task.api;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Allows programmatic querying of {@link Task}s;
@@ -48,4 +49,12 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * Executes the query and passes every result to the given consumer, without loading the complete result list in memory.
+     * The results are read through a database cursor and are not registered in the entity cache, hence they should be treated as read-only.
+     *
+     * @param batchSize the number of rows fetched from the database at once (used as JDBC fetch size hint)
+     */
+    void forEach(int batchSize, Consumer<Task> consumer);
 }
@@ -14,6 +14,7 @@
 package org.flowable.task.api.history;
 
 import java.util.Date;
+import java.util.function.Consumer;
 
 import org.flowable.task.api.TaskInfoQuery;
 
@@ -98,4 +99,12 @@ public interface HistoricTaskInstanceQuery extends TaskInfoQuery<HistoricTaskIns
      */
     HistoricTaskInstanceQuery orderByDeleteReason();
 
+    /**
+     * Executes the query and passes every result to the given consumer, without loading the complete result list in memory.
+     * The results are read through a database cursor and are not registered in the entity cache, hence they should be treated as read-only.
+     *
+     * @param batchSize the number of rows fetched from the database at once (used as JDBC fetch size hint)
+     */
+    void forEach(int batchSize, Consumer<HistoricTaskInstance> consumer);
+
 }
@@ -73,6 +73,12 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     protected int taskQueryLimit;
     protected int historicTaskQueryLimit;
 
+    /**
+     * Whether the engine links tasks with the compact entity link hierarchy (a single link to the direct parent, carrying the root scope and
+     * hierarchy path). The task queries only match on the root scope and hierarchy path columns when this is enabled.
+     */
+    protected boolean enableCompactEntityLinkHierarchy;
+
     protected TaskPostProcessor taskPostProcessor;
 
     // Events
@@ -281,6 +287,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableCompactEntityLinkHierarchy() {
+        return enableCompactEntityLinkHierarchy;
+    }
+
+    public TaskServiceConfiguration setEnableCompactEntityLinkHierarchy(boolean enableCompactEntityLinkHierarchy) {
+        this.enableCompactEntityLinkHierarchy = enableCompactEntityLinkHierarchy;
+        return this;
+    }
+
     public boolean isEnableHistoricTaskLogging() {
         return enableHistoricTaskLogging;
     }
@@ -15,8 +15,11 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -66,6 +69,9 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected String scopeDefinitionId;
     protected String processInstanceIdWithChildren;
     protected String caseInstanceIdWithChildren;
+    protected boolean compactEntityLinkHierarchy;
+    protected String processInstanceIdWithChildrenHierarchyPathLike;
+    protected String caseInstanceIdWithChildrenHierarchyPathLike;
     protected String taskId;
     protected String taskName;
     protected String taskNameLike;
@@ -144,6 +150,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         checkQueryOk();
         
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
         if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
             taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
         }
@@ -158,6 +165,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         List<HistoricTaskInstance> tasks = null;
         
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
         if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
             taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
         }
@@ -181,6 +189,64 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    public void forEach(int batchSize, Consumer<HistoricTaskInstance> consumer) {
+        forEachResult(batchSize, consumer);
+    }
+
+    @Override
+    protected void executeForEach(CommandContext commandContext, int fetchSize, Consumer<HistoricTaskInstance> consumer) {
+        ensureVariablesInitialized();
+        checkQueryOk();
+
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
+        if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
+        }
+
+        // Related entities (variables and identity links) are fetched with an outer join and can't be streamed row by row
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Including variables or identity links is not supported when streaming historic task query results");
+        }
+
+        if (taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
+            CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).forEachHistoricTaskInstanceByQueryCriteria(this, fetchSize, task -> {
+                taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+                consumer.accept(task);
+            });
+        } else {
+            CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).forEachHistoricTaskInstanceByQueryCriteria(this, fetchSize, consumer);
+        }
+    }
+
+    protected void resolveEntityLinkHierarchyPaths(CommandContext commandContext, boolean compactEntityLinkHierarchy) {
+        this.compactEntityLinkHierarchy = compactEntityLinkHierarchy;
+        if (compactEntityLinkHierarchy) {
+            processInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, processInstanceIdWithChildren, ScopeTypes.BPMN);
+            caseInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, caseInstanceIdWithChildren, ScopeTypes.CMMN);
+        }
+        for (HistoricTaskInstanceQueryImpl orQueryObject : orQueryObjects) {
+            orQueryObject.resolveEntityLinkHierarchyPaths(commandContext, compactEntityLinkHierarchy);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected String resolveHierarchyPathLike(CommandContext commandContext, String scopeId, String scopeType) {
+        if (scopeId == null) {
+            return null;
+        }
+
+        // The links below the scope have a hierarchy path that starts with the path of the scope itself,
+        // which makes it an anchored prefix match. A scope without a path of its own is the root of the hierarchy.
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("scopeId", scopeId);
+        parameters.put("scopeType", scopeType);
+        List<String> hierarchyPaths = CommandContextUtil.getDbSqlSession(commandContext).selectList("selectHistoricEntityLinkHierarchyPathsByReferenceScope", parameters);
+        String scopeHierarchyPath = hierarchyPaths.isEmpty() ? "/" : hierarchyPaths.get(0);
+        return scopeHierarchyPath + scopeId + "/%";
+    }
+
     @Override
     public HistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
         if (inOrStatement) {
@@ -1720,6 +1786,18 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return caseInstanceIdWithChildren;
     }
 
+    public boolean isCompactEntityLinkHierarchy() {
+        return compactEntityLinkHierarchy;
+    }
+
+    public String getProcessInstanceIdWithChildrenHierarchyPathLike() {
+        return processInstanceIdWithChildrenHierarchyPathLike;
+    }
+
+    public String getCaseInstanceIdWithChildrenHierarchyPathLike() {
+        return caseInstanceIdWithChildrenHierarchyPathLike;
+    }
+
     public Integer getTaskPriority() {
         return taskPriority;
     }
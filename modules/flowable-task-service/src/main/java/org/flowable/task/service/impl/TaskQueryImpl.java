@@ -14,8 +14,11 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -85,6 +88,9 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected String scopeDefinitionId;
     protected String processInstanceIdWithChildren;
     protected String caseInstanceIdWithChildren;
+    protected boolean compactEntityLinkHierarchy;
+    protected String processInstanceIdWithChildrenHierarchyPathLike;
+    protected String caseInstanceIdWithChildrenHierarchyPathLike;
     protected Date createTime;
     protected Date createTimeBefore;
     protected Date createTimeAfter;
@@ -1606,6 +1612,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         checkQueryOk();
         List<Task> tasks = null;
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
         if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
             taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
         }
@@ -1629,12 +1636,43 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    public void forEach(int batchSize, Consumer<Task> consumer) {
+        forEachResult(batchSize, consumer);
+    }
+
+    @Override
+    protected void executeForEach(CommandContext commandContext, int fetchSize, Consumer<Task> consumer) {
+        ensureVariablesInitialized();
+        checkQueryOk();
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
+        }
+
+        // Related entities (variables and identity links) are fetched with an outer join and can't be streamed row by row
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Including variables or identity links is not supported when streaming task query results");
+        }
+
+        if (taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
+            CommandContextUtil.getTaskEntityManager(commandContext).forEachTaskByQueryCriteria(this, fetchSize, task -> {
+                taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+                consumer.accept(task);
+            });
+        } else {
+            CommandContextUtil.getTaskEntityManager(commandContext).forEachTaskByQueryCriteria(this, fetchSize, consumer);
+        }
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
         checkQueryOk();
         
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        resolveEntityLinkHierarchyPaths(commandContext, taskServiceConfiguration.isEnableCompactEntityLinkHierarchy());
         if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
             taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
         }
@@ -1642,6 +1680,33 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return CommandContextUtil.getTaskEntityManager(commandContext).findTaskCountByQueryCriteria(this);
     }
 
+    protected void resolveEntityLinkHierarchyPaths(CommandContext commandContext, boolean compactEntityLinkHierarchy) {
+        this.compactEntityLinkHierarchy = compactEntityLinkHierarchy;
+        if (compactEntityLinkHierarchy) {
+            processInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, processInstanceIdWithChildren, ScopeTypes.BPMN);
+            caseInstanceIdWithChildrenHierarchyPathLike = resolveHierarchyPathLike(commandContext, caseInstanceIdWithChildren, ScopeTypes.CMMN);
+        }
+        for (TaskQueryImpl orQueryObject : orQueryObjects) {
+            orQueryObject.resolveEntityLinkHierarchyPaths(commandContext, compactEntityLinkHierarchy);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected String resolveHierarchyPathLike(CommandContext commandContext, String scopeId, String scopeType) {
+        if (scopeId == null) {
+            return null;
+        }
+
+        // The links below the scope have a hierarchy path that starts with the path of the scope itself,
+        // which makes it an anchored prefix match. A scope without a path of its own is the root of the hierarchy.
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("scopeId", scopeId);
+        parameters.put("scopeType", scopeType);
+        List<String> hierarchyPaths = CommandContextUtil.getDbSqlSession(commandContext).selectList("selectEntityLinkHierarchyPathsByReferenceScope", parameters);
+        String scopeHierarchyPath = hierarchyPaths.isEmpty() ? "/" : hierarchyPaths.get(0);
+        return scopeHierarchyPath + scopeId + "/%";
+    }
+
     // getters ////////////////////////////////////////////////////////////////
 
     public String getName() {
@@ -1784,6 +1849,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return caseInstanceIdWithChildren;
     }
 
+    public boolean isCompactEntityLinkHierarchy() {
+        return compactEntityLinkHierarchy;
+    }
+
+    public String getProcessInstanceIdWithChildrenHierarchyPathLike() {
+        return processInstanceIdWithChildrenHierarchyPathLike;
+    }
+
+    public String getCaseInstanceIdWithChildrenHierarchyPathLike() {
+        return caseInstanceIdWithChildrenHierarchyPathLike;
+    }
+
     public boolean getExcludeSubtasks() {
         return excludeSubtasks;
     }
@@ -14,6 +14,7 @@ package org.flowable.task.service.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -34,6 +35,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    void forEachHistoricTaskInstanceByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, int fetchSize, Consumer<HistoricTaskInstance> consumer);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -16,6 +16,7 @@ package org.flowable.task.service.impl.persistence.entity;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -73,6 +74,13 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public void forEachHistoricTaskInstanceByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, int fetchSize, Consumer<HistoricTaskInstance> consumer) {
+        if (taskServiceConfiguration.isHistoryEnabled()) {
+            historicTaskInstanceDataManager.forEachHistoricTaskInstanceByQueryCriteria(historicTaskInstanceQuery, fetchSize, consumer);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -184,6 +185,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         return taskDataManager.findTasksByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public void forEachTaskByQueryCriteria(TaskQueryImpl taskQuery, int fetchSize, Consumer<Task> consumer) {
+        taskDataManager.forEachTaskByQueryCriteria(taskQuery, fetchSize, consumer);
+    }
+
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
         return taskDataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
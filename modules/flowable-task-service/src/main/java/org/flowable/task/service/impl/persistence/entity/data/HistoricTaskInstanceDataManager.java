@@ -14,6 +14,7 @@ package org.flowable.task.service.impl.persistence.entity.data;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -36,6 +37,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    void forEachHistoricTaskInstanceByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, int fetchSize, Consumer<HistoricTaskInstance> consumer);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -15,6 +15,7 @@ package org.flowable.task.service.impl.persistence.entity.data.impl;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -68,6 +69,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery);
     }
 
+    @Override
+    public void forEachHistoricTaskInstanceByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery, int fetchSize, Consumer<HistoricTaskInstance> consumer) {
+        getDbSqlSession().selectCursor("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery, fetchSize, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
@@ -102,6 +103,11 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList(query, taskQuery);
     }
 
+    @Override
+    public void forEachTaskByQueryCriteria(TaskQueryImpl taskQuery, int fetchSize, Consumer<Task> consumer) {
+        getDbSqlSession().selectCursor("selectTaskByQueryCriteria", taskQuery, fetchSize, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
@@ -37,6 +37,12 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Returns the variables of the execution. The first call within a command context fetches the variables of all executions
+     * of the process instance in one query, so that the variables of the other executions in the same process instance are served from the cache.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> taskNames);
@@ -70,6 +76,18 @@ public interface VariableService {
 
     void deleteVariableInstance(VariableInstanceEntity variable);
 
+    /**
+     * Atomically increments the value of a persisted integer, long or short variable instance in the database and returns the new value.
+     * The given entity is refreshed with the new value and the update is recorded in the history, but the revision of the
+     * variable instance is not changed. This is only meant for counters that are concurrently incremented by multiple transactions,
+     * like the nrOfCompletedInstances of a parallel multi instance: the transactions serialize on the row lock instead of
+     * failing with optimistic locking exceptions.
+     *
+     * @param variableInstance a variable instance that is already persisted
+     * @return the value of the counter after incrementing
+     */
+    long incrementVariableInstanceLongValue(VariableInstanceEntity variableInstance);
+
     void deleteVariablesByExecutionId(String executionId);
     
     void deleteVariablesByTaskId(String taskId);
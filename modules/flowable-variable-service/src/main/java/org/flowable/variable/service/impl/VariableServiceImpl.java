@@ -53,6 +53,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionId(executionId);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId) {
+        return getVariableInstanceEntityManager().findVariableInstancesByExecutionIdWithProcessInstanceFetch(executionId, processInstanceId);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
@@ -128,6 +133,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         getVariableInstanceEntityManager().delete(variable);
     }
 
+    @Override
+    public long incrementVariableInstanceLongValue(VariableInstanceEntity variableInstance) {
+        return getVariableInstanceEntityManager().incrementLongValue(variableInstance);
+    }
+
     @Override
     public void deleteVariablesByExecutionId(String executionId) {
         getVariableInstanceEntityManager().deleteVariablesByExecutionId(executionId);
@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -25,7 +27,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, IndexedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -87,6 +89,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        indexedPropertyChanged();
     }
 
     @Override
@@ -212,6 +215,17 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        indexedPropertyChanged();
+    }
+
+    @Override
+    public String getIndexValue(String indexName) {
+        if (CachedEntityIndex.EXECUTION_ID.equals(indexName)) {
+            return executionId;
+        } else if (CachedEntityIndex.SCOPE_ID.equals(indexName)) {
+            return scopeId;
+        }
+        return null;
     }
     
     @Override
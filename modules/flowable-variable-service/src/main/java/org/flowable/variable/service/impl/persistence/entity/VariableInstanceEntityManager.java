@@ -34,6 +34,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -54,6 +56,13 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
     
     List<VariableInstanceEntity> findVariableInstancesBySubScopeIdAndScopeTypeAndNames(String subScopeId, String scopeType, Collection<String> variableNames);
 
+    long incrementLongValue(VariableInstanceEntity variableInstance);
+
+    /**
+     * @return the number of variable instances inserted in the current command context, however they were inserted.
+     */
+    int getInsertedVariableInstanceCount();
+
     void deleteVariablesByTaskId(String taskId);
 
     void deleteVariablesByExecutionId(String executionId);
@@ -17,10 +17,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.LongType;
+import org.flowable.variable.service.impl.types.ShortType;
 
 /**
  * @author Tom Baeyens
@@ -29,6 +34,8 @@ import org.flowable.variable.service.impl.persistence.entity.data.VariableInstan
  */
 public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<VariableInstanceEntity> implements VariableInstanceEntityManager {
 
+    protected static final String INSERTED_VARIABLE_INSTANCE_COUNT_ATTRIBUTE = "insertedVariableInstanceCount";
+
     protected VariableInstanceDataManager variableInstanceDataManager;
 
     public VariableInstanceEntityManagerImpl(VariableServiceConfiguration variableServiceConfiguration, VariableInstanceDataManager variableInstanceDataManager) {
@@ -51,6 +58,28 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstance;
     }
 
+    @Override
+    public void insert(VariableInstanceEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        CommandContext commandContext = getCommandContext();
+        if (commandContext != null) {
+            commandContext.addAttribute(INSERTED_VARIABLE_INSTANCE_COUNT_ATTRIBUTE, getInsertedVariableInstanceCount() + 1);
+        }
+    }
+
+    @Override
+    public int getInsertedVariableInstanceCount() {
+        CommandContext commandContext = getCommandContext();
+        if (commandContext != null) {
+            Integer insertedVariableInstanceCount = (Integer) commandContext.getAttribute(INSERTED_VARIABLE_INSTANCE_COUNT_ATTRIBUTE);
+            if (insertedVariableInstanceCount != null) {
+                return insertedVariableInstanceCount;
+            }
+        }
+        return 0;
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByTaskId(String taskId) {
         return variableInstanceDataManager.findVariableInstancesByTaskId(taskId);
@@ -66,6 +95,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByExecutionId(executionId);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId) {
+        return variableInstanceDataManager.findVariableInstancesByExecutionIdWithProcessInstanceFetch(executionId, processInstanceId);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
         return variableInstanceDataManager.findVariableInstancesByExecutionIds(executionIds);
@@ -136,6 +170,23 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         variableInstanceDataManager.deleteVariablesByTaskId(taskId);
     }
     
+    @Override
+    public long incrementLongValue(VariableInstanceEntity variableInstance) {
+        String typeName = variableInstance.getTypeName();
+        if (!IntegerType.TYPE_NAME.equals(typeName) && !LongType.TYPE_NAME.equals(typeName) && !ShortType.TYPE_NAME.equals(typeName)) {
+            throw new FlowableIllegalArgumentException("Only integer, long and short variables can be incremented, variable "
+                    + variableInstance.getName() + " is of type " + typeName);
+        }
+
+        long value = variableInstanceDataManager.incrementLongValue(variableInstance);
+
+        // The historic variable is read after the increment, so it is serialized by the row lock on the runtime variable as well
+        if (variableServiceConfiguration.getInternalHistoryVariableManager() != null) {
+            variableServiceConfiguration.getInternalHistoryVariableManager().recordVariableUpdate(variableInstance);
+        }
+        return value;
+    }
+
     @Override
     public void deleteVariablesByExecutionId(String executionId) {
         variableInstanceDataManager.deleteVariablesByExecutionId(executionId);
@@ -52,6 +52,12 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     // The cache is used when fetching/setting specific variables
     protected Map<String, VariableInstanceEntity> usedVariablesCache = new HashMap<>();
 
+    // Names of variables that were prefetched, but don't exist on this scope (only relevant as long as variableInstances is null)
+    protected Set<String> missingPrefetchedVariableNames;
+
+    // The number of variable instances inserted in the command context when missingPrefetchedVariableNames was last brought up to date
+    protected int missingPrefetchedVariablesInsertCount;
+
     protected Map<String, VariableInstance> transientVariabes;
 
     protected ELContext cachedElContext;
@@ -287,10 +293,12 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
 
         if (fetchAllVariables) {
-            ensureVariableInstancesInitialized();
-            VariableInstanceEntity variableInstance = variableInstances.get(variableName);
-            if (variableInstance != null) {
-                return variableInstance;
+            if (!isMissingPrefetchedVariable(variableName)) {
+                ensureVariableInstancesInitialized();
+                VariableInstanceEntity variableInstance = variableInstances.get(variableName);
+                if (variableInstance != null) {
+                    return variableInstance;
+                }
             }
 
             // Go up the hierarchy
@@ -307,7 +315,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 return variableInstances.get(variableName);
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = isMissingPrefetchedVariable(variableName) ? null : getSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -429,6 +437,14 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (transientVariabes != null && transientVariabes.containsKey(variableName)) {
             return true;
         }
+        if (variableInstances == null) {
+            VariableInstanceEntity usedVariableInstance = usedVariablesCache.get(variableName);
+            if (usedVariableInstance != null && !usedVariableInstance.isDeleted()) {
+                return true;
+            } else if (isMissingPrefetchedVariable(variableName)) {
+                return false;
+            }
+        }
         ensureVariableInstancesInitialized();
         return variableInstances.containsKey(variableName);
     }
@@ -590,6 +606,81 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         return usedVariablesCache;
     }
 
+    /**
+     * Fetches the given variables for this scope and its parent scopes, with at most one query per scope, and keeps them in the used variables cache
+     * of the scope they belong to. Variables that don't exist on a scope are remembered, so looking them up later on goes to the parent scope directly,
+     * instead of fetching all variables of the scope.
+     */
+    public void prefetchVariables(Collection<String> variableNames) {
+        Set<String> variableNamesToFetch = new HashSet<>(variableNames);
+        VariableScopeImpl variableScope = this;
+        while (variableScope != null && !variableNamesToFetch.isEmpty()) {
+            variableNamesToFetch = variableScope.prefetchVariablesLocal(variableNamesToFetch);
+            variableScope = variableScope.getParentVariableScope();
+        }
+    }
+
+    /**
+     * @return the names of the variables that don't exist on this scope
+     */
+    protected Set<String> prefetchVariablesLocal(Set<String> variableNames) {
+        Set<String> missingVariableNames = new HashSet<>();
+        List<String> variableNamesToFetch = new ArrayList<>();
+        for (String variableName : variableNames) {
+            if ((transientVariabes != null && transientVariabes.containsKey(variableName)) || usedVariablesCache.containsKey(variableName)) {
+                continue;
+            }
+
+            if (variableInstances != null) {
+                if (!variableInstances.containsKey(variableName)) {
+                    missingVariableNames.add(variableName);
+                }
+            } else if (isMissingPrefetchedVariable(variableName)) {
+                missingVariableNames.add(variableName);
+            } else {
+                variableNamesToFetch.add(variableName);
+            }
+        }
+
+        if (!variableNamesToFetch.isEmpty()) {
+            for (VariableInstanceEntity variableInstance : getSpecificVariables(variableNamesToFetch)) {
+                usedVariablesCache.put(variableInstance.getName(), variableInstance);
+            }
+
+            for (String variableName : variableNamesToFetch) {
+                if (!usedVariablesCache.containsKey(variableName)) {
+                    if (missingPrefetchedVariableNames == null) {
+                        missingPrefetchedVariableNames = new HashSet<>();
+                        missingPrefetchedVariablesInsertCount = getInsertedVariableInstanceCount();
+                    }
+                    missingPrefetchedVariableNames.add(variableName);
+                    missingVariableNames.add(variableName);
+                }
+            }
+        }
+
+        return missingVariableNames;
+    }
+
+    protected boolean isMissingPrefetchedVariable(String variableName) {
+        if (variableInstances != null || missingPrefetchedVariableNames == null) {
+            return false;
+        }
+
+        // A variable can be inserted without going through this scope (e.g. directly through the variable service).
+        // The missing names can't be trusted anymore then, so they are dropped and the variables are looked up as usual.
+        if (missingPrefetchedVariablesInsertCount != getInsertedVariableInstanceCount()) {
+            missingPrefetchedVariableNames = null;
+            return false;
+        }
+
+        return missingPrefetchedVariableNames.contains(variableName);
+    }
+
+    protected int getInsertedVariableInstanceCount() {
+        return CommandContextUtil.getVariableInstanceEntityManager().getInsertedVariableInstanceCount();
+    }
+
     public void createVariablesLocal(Map<String, ? extends Object> variables) {
         if (variables != null) {
             for (Map.Entry<String, ? extends Object> entry : variables.entrySet()) {
@@ -886,11 +977,21 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         VariableInstanceEntityManager variableInstanceEntityManager = CommandContextUtil.getVariableInstanceEntityManager();
         VariableInstanceEntity variableInstance = variableInstanceEntityManager.create(variableName, type, value);
         initializeVariableInstanceBackPointer(variableInstance);
+
+        // This insert is known, so the missing names only need to forget this variable, as long as they were up to date before it
+        boolean missingPrefetchedVariablesUpToDate = missingPrefetchedVariableNames != null
+                && missingPrefetchedVariablesInsertCount == variableInstanceEntityManager.getInsertedVariableInstanceCount();
         variableInstanceEntityManager.insert(variableInstance);
 
         if (variableInstances != null) {
             variableInstances.put(variableName, variableInstance);
         }
+        if (missingPrefetchedVariablesUpToDate) {
+            missingPrefetchedVariableNames.remove(variableName);
+            missingPrefetchedVariablesInsertCount = variableInstanceEntityManager.getInsertedVariableInstanceCount();
+        } else {
+            missingPrefetchedVariableNames = null;
+        }
 
         VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
         if (isPropagateToHistoricVariable()) {
@@ -32,6 +32,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -52,6 +54,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
     
     List<VariableInstanceEntity> findVariableInstancesBySubScopeIdAndScopeTypeAndNames(String subScopeId, String scopeType, Collection<String> variableNames);
 
+    long incrementLongValue(VariableInstanceEntity variableInstance);
+
     void deleteVariablesByTaskId(String taskId);
     
     void deleteVariablesByExecutionId(String executionId);
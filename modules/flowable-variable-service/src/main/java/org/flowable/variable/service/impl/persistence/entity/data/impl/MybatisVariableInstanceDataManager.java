@@ -14,8 +14,10 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -39,6 +41,8 @@ import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematc
  */
 public class MybatisVariableInstanceDataManager extends AbstractDataManager<VariableInstanceEntity> implements VariableInstanceDataManager {
 
+    protected static final String PROCESS_INSTANCE_VARIABLES_FETCHED_ATTRIBUTE = "processInstanceVariablesFetched";
+
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByExecutionIdMatcher 
         = new VariableInstanceByExecutionIdMatcher();
     
@@ -87,6 +91,23 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getList("selectVariablesByExecutionId", executionId, variableInstanceByExecutionIdMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdWithProcessInstanceFetch(String executionId, String processInstanceId) {
+        Set<String> fetchedProcessInstanceIds = (Set<String>) getCommandContext().getAttribute(PROCESS_INSTANCE_VARIABLES_FETCHED_ATTRIBUTE);
+        if (fetchedProcessInstanceIds == null) {
+            fetchedProcessInstanceIds = new HashSet<>();
+            getCommandContext().addAttribute(PROCESS_INSTANCE_VARIABLES_FETCHED_ATTRIBUTE, fetchedProcessInstanceIds);
+        }
+
+        // The fetched variables are stored in the entity cache, which is used for all the following fetches of the process instance
+        if (fetchedProcessInstanceIds.add(processInstanceId)) {
+            getDbSqlSession().selectList("selectVariablesByProcessInstanceId", processInstanceId);
+        }
+
+        return getListFromCache(variableInstanceByExecutionIdMatcher, executionId);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
@@ -189,6 +210,26 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         }
     }
     
+    @Override
+    public long incrementLongValue(VariableInstanceEntity variableInstance) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        dbSqlSession.update("incrementVariableInstanceLongValue", variableInstance.getId());
+        long value = (Long) dbSqlSession.selectOne("selectVariableInstanceLongValue", variableInstance.getId());
+
+        // The entity is refreshed as if it was loaded with the new value. It must not become dirty: its update would check
+        // the revision, which the increment doesn't change, and fail when another transaction incremented the value as well.
+        // Changes made before the increment are kept, so such an entity is still updated (with the revision check).
+        boolean unchanged = Objects.equals(variableInstance.getPersistentState(), variableInstance.getOriginalPersistentState());
+        variableInstance.setLongValue(value);
+        variableInstance.setTextValue(String.valueOf(value));
+        variableInstance.setCachedValue(null);
+        if (unchanged) {
+            getEntityCache().refreshPersistentState(variableInstance);
+        }
+
+        return value;
+    }
+
     @Override
     public void deleteVariablesByExecutionId(String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -26,4 +27,14 @@ public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAda
                 && variableInstanceEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl.cachemat
 import java.util.Collection;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -32,4 +33,15 @@ public class VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher extend
                 && variableNames.contains(variableInstanceEntity.getName());
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.SCOPE_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("scopeId");
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl.cachemat
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -29,4 +30,15 @@ public class VariableInstanceByScopeIdAndScopeTypeMatcher extends CachedEntityMa
                 && map.get("scopeType").equals(variableInstanceEntity.getScopeType());
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexName() {
+        return CachedEntityIndex.SCOPE_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, ?>) parameter).get("scopeId");
+    }
+
+}
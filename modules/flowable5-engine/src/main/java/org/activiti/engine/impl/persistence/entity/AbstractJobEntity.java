@@ -307,6 +307,12 @@ public abstract class AbstractJobEntity implements Job, PersistentObject, HasRev
         return jobType;
     }
 
+    @Override
+    public int getPriority() {
+        // Jobs of the v5 engine don't have a priority
+        return DEFAULT_PRIORITY;
+    }
+
     public void setJobType(String jobType) {
         this.jobType = jobType;
     }